@@ -38,12 +38,14 @@ import org.eclipse.lsp4j.debug.ThreadEventArguments;
 import org.eclipse.lsp4j.jsonrpc.ProtocolSince;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
 
 /**
  * Declaration of client notifications for the
  * <a href="https://microsoft.github.io/debug-adapter-protocol/">Debug Adapter
  * Protocol</a>
  */
+@RemoteStub
 public interface IDebugProtocolClient {
 	/**
 	 * Version of Debug Protocol
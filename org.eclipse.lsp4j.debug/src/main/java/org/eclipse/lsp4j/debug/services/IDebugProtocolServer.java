@@ -84,12 +84,14 @@ import org.eclipse.lsp4j.debug.WriteMemoryArguments;
 import org.eclipse.lsp4j.debug.WriteMemoryResponse;
 import org.eclipse.lsp4j.jsonrpc.ProtocolSince;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
 
 /**
  * Declaration of server requests for the
  * <a href="https://microsoft.github.io/debug-adapter-protocol/">Debug Adapter
  * Protocol</a>
  */
+@RemoteStub
 public interface IDebugProtocolServer {
 	/**
 	 * Version of Debug Protocol
@@ -0,0 +1,84 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.debug.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.debug.InitializeRequestArguments;
+import org.eclipse.lsp4j.debug.OutputEventArguments;
+import org.eclipse.lsp4j.debug.launch.DSPLauncher;
+import org.eclipse.lsp4j.debug.services.IDebugProtocolClient;
+import org.eclipse.lsp4j.debug.services.IDebugProtocolServer;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.services.EndpointStub;
+import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.junit.Test;
+
+/**
+ * Checks that the {@code RemoteStubProcessor} has generated stubs for the debug protocol interfaces, since
+ * {@link ServiceEndpoints} falls back to a proxy without notice if a stub is missing.
+ */
+public class RemoteStubTest {
+
+	private static class RecordingEndpoint implements Endpoint {
+
+		final List<String> methods = new ArrayList<>();
+
+		@Override
+		public CompletableFuture<?> request(String method, Object parameter) {
+			methods.add(method);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		@Override
+		public void notify(String method, Object parameter) {
+			methods.add(method);
+		}
+	}
+
+	@Test
+	public void testDebugProtocolClientStub() {
+		RecordingEndpoint endpoint = new RecordingEndpoint();
+		IDebugProtocolClient client = ServiceEndpoints.toServiceObject(endpoint, IDebugProtocolClient.class);
+		assertTrue(client instanceof EndpointStub);
+
+		client.output(new OutputEventArguments());
+		assertEquals(Arrays.asList("output"), endpoint.methods);
+	}
+
+	@Test
+	public void testDebugProtocolServerStub() {
+		RecordingEndpoint endpoint = new RecordingEndpoint();
+		IDebugProtocolServer server = ServiceEndpoints.toServiceObject(endpoint, IDebugProtocolServer.class);
+		assertTrue(server instanceof EndpointStub);
+
+		server.initialize(new InitializeRequestArguments());
+		assertEquals(Arrays.asList("initialize"), endpoint.methods);
+	}
+
+	@Test
+	public void testLauncherRemoteProxies() {
+		var in = new ByteArrayInputStream(new byte[0]);
+		var out = new ByteArrayOutputStream();
+		assertTrue(DSPLauncher.createServerLauncher(new TestDebugServer(), in, out).getRemoteProxy() instanceof EndpointStub);
+		assertTrue(DSPLauncher.createClientLauncher(new IDebugProtocolClient() {}, in, out).getRemoteProxy() instanceof EndpointStub);
+	}
+
+}
@@ -12,21 +12,60 @@
 package org.eclipse.lsp4j.generator
 
 import com.google.gson.annotations.JsonAdapter
+import com.google.gson.annotations.SerializedName
+import java.io.IOException
 import java.lang.annotation.Documented
+import java.util.List
+import java.util.Set
 import org.eclipse.lsp4j.jsonrpc.validation.NonNull
 import org.eclipse.xtend.lib.annotations.AccessorsProcessor
 import org.eclipse.xtend.lib.annotations.EqualsHashCodeProcessor
 import org.eclipse.xtend.lib.macro.AbstractClassProcessor
+import org.eclipse.xtend.lib.macro.RegisterGlobalsContext
 import org.eclipse.xtend.lib.macro.TransformationContext
+import org.eclipse.xtend.lib.macro.declaration.AnnotationTarget
 import org.eclipse.xtend.lib.macro.declaration.ClassDeclaration
 import org.eclipse.xtend.lib.macro.declaration.CompilationStrategy.CompilationContext
+import org.eclipse.xtend.lib.macro.declaration.EnumerationTypeDeclaration
+import org.eclipse.xtend.lib.macro.declaration.FieldDeclaration
 import org.eclipse.xtend.lib.macro.declaration.MutableClassDeclaration
 import org.eclipse.xtend.lib.macro.declaration.MutableFieldDeclaration
 import org.eclipse.xtend.lib.macro.declaration.Type
 import org.eclipse.xtend.lib.macro.declaration.Visibility
+import org.eclipse.xtend2.lib.StringConcatenationClient
 
 class JsonRpcDataProcessor extends AbstractClassProcessor {
 
+	static val TYPE_ADAPTER_SUFFIX = '.GsonTypeAdapter'
+	static val TYPE_ADAPTER_FACTORY_SUFFIX = '.GsonTypeAdapterFactory'
+
+	override doRegisterGlobals(ClassDeclaration annotatedClass, extension RegisterGlobalsContext context) {
+		// Registered types cannot be removed again, so only classes whose declaration qualifies get an adapter
+		if (isTypeAdapterCandidate(annotatedClass)) {
+			registerClass(annotatedClass.qualifiedName + TYPE_ADAPTER_SUFFIX)
+			registerClass(annotatedClass.qualifiedName + TYPE_ADAPTER_FACTORY_SUFFIX)
+		}
+	}
+
+	override doTransform(List<? extends MutableClassDeclaration> annotatedClasses, extension TransformationContext context) {
+		val dataClassNames = annotatedClasses.map[qualifiedName].toSet
+		for (annotatedClass : annotatedClasses) {
+			doTransform(annotatedClass, context)
+			val adapter = findClass(annotatedClass.qualifiedName + TYPE_ADAPTER_SUFFIX)
+			val factory = findClass(annotatedClass.qualifiedName + TYPE_ADAPTER_FACTORY_SUFFIX)
+			if (adapter !== null && factory !== null) {
+				if (isTypeAdapterSupported(annotatedClass, dataClassNames, context)) {
+					generateTypeAdapter(adapter, annotatedClass, context)
+					generateTypeAdapterFactory(factory, adapter, annotatedClass, context)
+				} else {
+					// The resolved types rule out a type adapter, so the registered classes are left empty
+					adapter.visibility = Visibility.PRIVATE
+					factory.visibility = Visibility.PRIVATE
+				}
+			}
+		}
+	}
+
 	override doTransform(MutableClassDeclaration annotatedClass, TransformationContext context) {
 		generateImpl(annotatedClass, context)
 	}
@@ -176,6 +215,197 @@ class JsonRpcDataProcessor extends AbstractClassProcessor {
 		]
 	}
 	
+	/**
+	 * Whether the declaration of the class, as far as it is known before the types are resolved, allows to
+	 * generate a type adapter. The remaining conditions are checked by {@link #isTypeAdapterSupported}.
+	 */
+	protected def boolean isTypeAdapterCandidate(ClassDeclaration impl) {
+		if (impl.abstract || !impl.typeParameters.empty || impl.hasAnnotation(JsonAdapter))
+			return false
+		if (!impl.declaredConstructors.empty && !impl.declaredConstructors.exists[parameters.empty])
+			return false
+		val fields = impl.declaredFields.filter[!static && !transient]
+		if (fields.exists[type === null || type.inferred || hasAnnotation(SerializedName)])
+			return false
+		val superClass = impl.extendedClass
+		if (superClass === null || superClass.type === null || superClass.type.qualifiedName == Object.name)
+			return true
+		val superType = superClass.type
+		return superClass.actualTypeArguments.empty && superType instanceof ClassDeclaration
+			&& (superType as ClassDeclaration).hasAnnotation(JsonRpcData)
+			&& isTypeAdapterCandidate(superType as ClassDeclaration)
+	}
+
+	private def boolean hasAnnotation(AnnotationTarget target, Class<?> annotationType) {
+		target.annotations.exists[annotationTypeDeclaration?.qualifiedName == annotationType.name]
+	}
+
+	/**
+	 * A type adapter is generated if the class can be instantiated and all its fields, including inherited ones,
+	 * can be read and written in the same way as by the reflective type adapter of Gson. Other classes are left
+	 * to the reflective type adapter.
+	 */
+	protected def boolean isTypeAdapterSupported(ClassDeclaration impl, Set<String> dataClassNames,
+			extension TransformationContext context) {
+		if (impl.abstract || !impl.typeParameters.empty || impl.findAnnotation(JsonAdapter.newTypeReference.type) !== null)
+			return false
+		if (!impl.declaredConstructors.empty && !impl.declaredConstructors.exists[parameters.empty])
+			return false
+		val objectType = Object.newTypeReference.type
+		var typeRef = impl.extendedClass
+		while (typeRef.type != objectType) {
+			// Inherited fields are accessed through the getters and setters of the data class declaring them
+			if (!dataClassNames.contains(typeRef.type.qualifiedName) || !typeRef.actualTypeArguments.empty)
+				return false
+			typeRef = (typeRef.type as ClassDeclaration).extendedClass
+		}
+		val fields = getSerializedFields(impl, context)
+		if (fields.map[simpleName].toSet.size !== fields.size)
+			return false
+		return fields.forall[!type.inferred && findAnnotation(SerializedName.newTypeReference.type) === null]
+	}
+
+	protected def generateTypeAdapter(MutableClassDeclaration adapter, MutableClassDeclaration impl,
+			extension TransformationContext context) {
+		val fields = getSerializedFields(impl, context)
+		val accessorsUtil = new AccessorsProcessor.Util(context)
+		adapter.extendedClass = newTypeReference('org.eclipse.lsp4j.jsonrpc.json.adapters.GeneratedTypeAdapter',
+			newTypeReference(impl))
+		for (field : fields.filter[!type.actualTypeArguments.empty]) {
+			adapter.addField(field.simpleName.toUpperCase + '_TYPE_TOKEN') [
+				final = true
+				static = true
+				type = newTypeReference('com.google.gson.reflect.TypeToken', field.type)
+				initializer = '''new TypeToken<«field.type»>() {}'''
+			]
+		}
+		for (field : fields) {
+			adapter.addField(field.simpleName + 'Adapter') [
+				final = true
+				type = newTypeReference('com.google.gson.TypeAdapter', field.type.wrapperIfPrimitive)
+			]
+		}
+
+		adapter.addConstructor [
+			addParameter('gson', newTypeReference('com.google.gson.Gson'))
+			body = '''
+				super(gson);
+				«FOR field : fields»
+					«field.simpleName»Adapter = getPropertyAdapter(«getPropertyAdapterArguments(field, context)»);
+				«ENDFOR»
+			'''
+		]
+
+		adapter.addMethod('createInstance') [
+			visibility = Visibility.PROTECTED
+			addAnnotation(newAnnotationReference(Override))
+			returnType = newTypeReference(impl)
+			body = '''
+				return new «impl»();
+			'''
+		]
+
+		adapter.addMethod('readProperty') [
+			visibility = Visibility.PROTECTED
+			addAnnotation(newAnnotationReference(Override))
+			addParameter('in', newTypeReference('com.google.gson.stream.JsonReader'))
+			addParameter('name', string)
+			addParameter('result', newTypeReference(impl))
+			exceptions = newTypeReference(IOException)
+			returnType = primitiveBoolean
+			body = '''
+				switch (name) {
+				«FOR field : fields»
+					«IF field.declaringType == impl && !field.type.primitive»
+						case "«field.simpleName»":
+							result.«field.simpleName» = «field.simpleName»Adapter.read(in);
+							return true;
+					«ELSE»
+						case "«field.simpleName»": {
+							final «field.type.wrapperIfPrimitive» value = «field.simpleName»Adapter.read(in);
+							if (value != null)
+								«IF field.declaringType == impl»result.«field.simpleName» = value;«ELSE»result.«accessorsUtil.getSetterName(field)»(value);«ENDIF»
+							return true;
+						}
+					«ENDIF»
+				«ENDFOR»
+				default:
+					return false;
+				}
+			'''
+		]
+
+		adapter.addMethod('writeProperties') [
+			visibility = Visibility.PROTECTED
+			addAnnotation(newAnnotationReference(Override))
+			addParameter('out', newTypeReference('com.google.gson.stream.JsonWriter'))
+			addParameter('value', newTypeReference(impl))
+			exceptions = newTypeReference(IOException)
+			body = '''
+				«FOR field : fields»
+					writeProperty(out, "«field.simpleName»", «IF field.declaringType == impl»value.«field.simpleName»«ELSE»value.«
+						accessorsUtil.getGetterName(field)»()«ENDIF», «field.simpleName»Adapter«IF isWrittenWithRuntimeType(field, context)», «field.type».class«ENDIF»);
+				«ENDFOR»
+			'''
+		]
+		return adapter
+	}
+
+	protected def generateTypeAdapterFactory(MutableClassDeclaration factory, MutableClassDeclaration adapter,
+			MutableClassDeclaration impl, extension TransformationContext context) {
+		factory.implementedInterfaces = #[newTypeReference('com.google.gson.TypeAdapterFactory')]
+		factory.addMethod('create') [
+			val t = addTypeParameter('T')
+			addParameter('gson', newTypeReference('com.google.gson.Gson'))
+			addParameter('typeToken', newTypeReference('com.google.gson.reflect.TypeToken', newTypeReference(t)))
+			returnType = newTypeReference('com.google.gson.TypeAdapter', newTypeReference(t))
+			body = '''
+				if (typeToken.getRawType() != «impl».class || !«newTypeReference('org.eclipse.lsp4j.jsonrpc.json.adapters.GeneratedTypeAdapter')».isEnabled(gson)) {
+					return null;
+				}
+				return (TypeAdapter<T>) new «adapter»(gson);
+			'''
+		]
+		// The annotation is not inherited, so subclasses that are not data classes are still handled by Gson.
+		// The generated adapter handles null values itself.
+		impl.addAnnotation(newAnnotationReference(JsonAdapter) [
+			setClassValue('value', newTypeReference(factory))
+			setBooleanValue('nullSafe', false)
+		])
+		return factory
+	}
+
+	/**
+	 * The non-static, non-transient fields of the class and its superclasses, in the order in which Gson writes them.
+	 */
+	private def List<FieldDeclaration> getSerializedFields(ClassDeclaration impl, extension TransformationContext context) {
+		val objectType = Object.newTypeReference.type
+		val fields = <FieldDeclaration>newArrayList
+		var ClassDeclaration c = impl
+		while (c !== null && c != objectType) {
+			fields += c.declaredFields.filter[!static && !transient]
+			c = c.extendedClass?.type as ClassDeclaration
+		}
+		return fields
+	}
+
+	private def StringConcatenationClient getPropertyAdapterArguments(FieldDeclaration field,
+			extension TransformationContext context) {
+		val jsonAdapter = field.findAnnotation(JsonAdapter.newTypeReference.type)
+		return '''«IF field.type.actualTypeArguments.empty»«newTypeReference('com.google.gson.reflect.TypeToken')».get(«
+			field.type.wrapperIfPrimitive».class)«ELSE»«field.simpleName.toUpperCase»_TYPE_TOKEN«ENDIF»«IF jsonAdapter !== null», «
+			jsonAdapter.getClassValue('value')».class, «jsonAdapter.getBooleanValue('nullSafe')»«ENDIF»'''
+	}
+
+	/**
+	 * Like Gson, values are written with the adapter of their runtime class if the field type is a class
+	 * without type arguments and the field has no {@link JsonAdapter}.
+	 */
+	private def boolean isWrittenWithRuntimeType(FieldDeclaration field, extension TransformationContext context) {
+		!field.type.primitive && field.type.actualTypeArguments.empty && !(field.type.type instanceof EnumerationTypeDeclaration)
+			&& field.findAnnotation(JsonAdapter.newTypeReference.type) === null
+	}
+
 	private def getPreconditionsUtil(Type type, extension TransformationContext context) {
 		newTypeReference('org.eclipse.lsp4j.jsonrpc.util.Preconditions')
 	}
@@ -0,0 +1,304 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import org.eclipse.lsp4j.jsonrpc.services.JsonDelegate;
+import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
+
+/**
+ * Generates the stub classes of service interfaces annotated with {@link RemoteStub}. A stub calls
+ * {@code Endpoint.request} or {@code Endpoint.notify} with the constant name of each {@link JsonRequest} and
+ * {@link JsonNotification} method, and returns the stubs of {@link JsonDelegate} methods, which are created
+ * once. The method names are computed like {@code AnnotationUtil} does for the proxies that are used otherwise.
+ * <p>
+ * Interfaces that cannot be implemented this way, e.g. because they have type parameters or abstract methods
+ * that are not JSON-RPC methods, are reported with a warning and keep using proxies.
+ */
+@SupportedAnnotationTypes("org.eclipse.lsp4j.jsonrpc.services.RemoteStub")
+public class RemoteStubProcessor extends AbstractProcessor {
+
+	private static final String ENDPOINT = "org.eclipse.lsp4j.jsonrpc.Endpoint";
+	private static final String ENDPOINT_STUB = "org.eclipse.lsp4j.jsonrpc.services.EndpointStub";
+	private static final String SERVICE_ENDPOINTS = "org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints";
+
+	private static class RpcMethod {
+		ExecutableElement method;
+		String name;
+		boolean isNotification;
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(RemoteStub.class)) {
+			if (element.getKind() != ElementKind.INTERFACE) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"@RemoteStub is only supported on interfaces", element);
+				continue;
+			}
+			generateStub((TypeElement) element);
+		}
+		return true;
+	}
+
+	protected void generateStub(TypeElement type) {
+		if (!type.getTypeParameters().isEmpty()) {
+			warning("No stub is generated for an interface with type parameters", type);
+			return;
+		}
+		Map<String, RpcMethod> rpcMethods = new LinkedHashMap<>();
+		Map<String, ExecutableElement> delegateMethods = new LinkedHashMap<>();
+		if (!findMethods(type, new HashSet<>(), rpcMethods, delegateMethods))
+			return;
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			if (method.getModifiers().contains(Modifier.ABSTRACT) && !isEndpointMethod(method)) {
+				String name = method.getSimpleName().toString();
+				if (!rpcMethods.containsKey(name) && !delegateMethods.containsKey(name)) {
+					warning("No stub is generated because '" + method + "' is not a JSON-RPC method", type);
+					return;
+				}
+			}
+		}
+
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String stubName = getStubName(type);
+		DeclaredType declaredType = (DeclaredType) type.asType();
+
+		StringBuilder members = new StringBuilder();
+		StringBuilder constructor = new StringBuilder();
+		for (Map.Entry<String, ExecutableElement> entry : delegateMethods.entrySet()) {
+			ExecutableElement method = entry.getValue();
+			TypeMirror returnType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, method)).getReturnType();
+			String erasure = processingEnv.getTypeUtils().erasure(returnType).toString();
+			String field = entry.getKey() + "Stub";
+			members.append("\tprivate final ").append(returnType).append(' ').append(field).append(";\n");
+			constructor.append("\t\tthis.").append(field).append(" = ");
+			if (!erasure.equals(returnType.toString()))
+				constructor.append('(').append(returnType).append(") ");
+			constructor.append(SERVICE_ENDPOINTS).append(".toServiceObject(delegate, ").append(erasure).append(".class);\n");
+		}
+		StringBuilder methods = new StringBuilder();
+		for (ExecutableElement method : delegateMethods.values()) {
+			TypeMirror returnType = ((ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, method)).getReturnType();
+			methods.append("\n\t@Override\n");
+			methods.append("\tpublic ").append(returnType).append(' ').append(method.getSimpleName()).append("() {\n");
+			methods.append("\t\treturn this.").append(method.getSimpleName()).append("Stub;\n");
+			methods.append("\t}\n");
+		}
+		for (RpcMethod rpcMethod : rpcMethods.values()) {
+			if (!appendRpcMethod(methods, declaredType, rpcMethod)) {
+				warning("No stub is generated because '" + rpcMethod.method + "' cannot be implemented", type);
+				return;
+			}
+		}
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty())
+			source.append("package ").append(packageName).append(";\n\n");
+		source.append("/**\n");
+		source.append(" * Calls the JSON-RPC methods of {@link ").append(type.getQualifiedName()).append("} on an endpoint.\n");
+		source.append(" */\n");
+		source.append("@SuppressWarnings({ \"unchecked\", \"deprecation\" })\n");
+		source.append("public final class ").append(stubName).append(" extends ").append(ENDPOINT_STUB)
+				.append(" implements ").append(type.getQualifiedName()).append(" {\n");
+		if (members.length() > 0)
+			source.append('\n').append(members);
+		source.append('\n');
+		source.append("\tpublic ").append(stubName).append('(').append(ENDPOINT).append(" delegate) {\n");
+		source.append("\t\tsuper(delegate);\n");
+		source.append(constructor);
+		source.append("\t}\n");
+		source.append(methods);
+		source.append("\n}\n");
+
+		String qualifiedName = packageName.isEmpty() ? stubName : packageName + "." + stubName;
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+			writer.write(source.toString());
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Failed to write the stub " + qualifiedName + ": " + e.getMessage(), type);
+		}
+	}
+
+	/**
+	 * The simple name of the stub class, see {@code ServiceEndpoints.getStubClassName(Class)}.
+	 */
+	protected String getStubName(TypeElement type) {
+		StringBuilder name = new StringBuilder(type.getSimpleName());
+		Element enclosing = type.getEnclosingElement();
+		while (enclosing instanceof TypeElement) {
+			name.insert(0, '_').insert(0, enclosing.getSimpleName());
+			enclosing = enclosing.getEnclosingElement();
+		}
+		return name.append("RemoteStub").toString();
+	}
+
+	/**
+	 * Depth first search for annotated methods in the hierarchy, like {@code AnnotationUtil.findRpcMethods}
+	 * and {@code AnnotationUtil.findDelegateSegments}.
+	 *
+	 * @return {@code false} if a method name is used more than once
+	 */
+	private boolean findMethods(TypeElement type, Set<TypeElement> visited, Map<String, RpcMethod> rpcMethods,
+			Map<String, ExecutableElement> delegateMethods) {
+		if (!visited.add(type))
+			return true;
+		for (TypeMirror interf : type.getInterfaces()) {
+			if (!findMethods((TypeElement) ((DeclaredType) interf).asElement(), visited, rpcMethods, delegateMethods))
+				return false;
+		}
+		JsonSegment jsonSegment = type.getAnnotation(JsonSegment.class);
+		String segment = jsonSegment == null ? "" : jsonSegment.value() + "/";
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			if (method.getModifiers().contains(Modifier.STATIC))
+				continue;
+			String javaName = method.getSimpleName().toString();
+			RpcMethod rpcMethod = null;
+			JsonRequest jsonRequest = method.getAnnotation(JsonRequest.class);
+			JsonNotification jsonNotification = method.getAnnotation(JsonNotification.class);
+			if (jsonRequest != null) {
+				rpcMethod = new RpcMethod();
+				rpcMethod.name = getMethodName(javaName, jsonRequest.useSegment(), segment, jsonRequest.value());
+			} else if (jsonNotification != null) {
+				rpcMethod = new RpcMethod();
+				rpcMethod.name = getMethodName(javaName, jsonNotification.useSegment(), segment, jsonNotification.value());
+				rpcMethod.isNotification = true;
+			}
+			if (rpcMethod != null) {
+				rpcMethod.method = method;
+				if (rpcMethods.put(javaName, rpcMethod) != null || delegateMethods.containsKey(javaName)) {
+					warning("No stub is generated because of the duplicate RPC method '" + javaName + "'", method);
+					return false;
+				}
+			} else if (method.getAnnotation(JsonDelegate.class) != null) {
+				if (!method.getParameters().isEmpty() || !isInterface(method.getReturnType())) {
+					warning("No stub is generated because '" + method + "' is not a proper @JsonDelegate method", method);
+					return false;
+				}
+				if (delegateMethods.put(javaName, method) != null || rpcMethods.containsKey(javaName)) {
+					warning("No stub is generated because of the duplicate RPC method '" + javaName + "'", method);
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private String getMethodName(String javaName, boolean useSegment, String segment, String value) {
+		String name = value != null && value.length() > 0 ? value : javaName;
+		return useSegment ? segment + name : name;
+	}
+
+	/**
+	 * Append the implementation of a request or notification method.
+	 *
+	 * @return {@code false} if the method cannot be implemented
+	 */
+	private boolean appendRpcMethod(StringBuilder methods, DeclaredType declaredType, RpcMethod rpcMethod) {
+		ExecutableElement method = rpcMethod.method;
+		if (!method.getTypeParameters().isEmpty())
+			return false;
+		ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, method);
+		TypeMirror returnType = methodType.getReturnType();
+		boolean isVoid = returnType.getKind() == TypeKind.VOID;
+		if (returnType.getKind().isPrimitive())
+			return false;
+
+		List<String> parameterNames = new ArrayList<>();
+		StringBuilder parameters = new StringBuilder();
+		List<? extends VariableElement> parameterElements = method.getParameters();
+		List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+		for (int i = 0; i < parameterElements.size(); i++) {
+			String parameterName = parameterElements.get(i).getSimpleName().toString();
+			parameterNames.add(parameterName);
+			if (i > 0)
+				parameters.append(", ");
+			parameters.append(parameterTypes.get(i)).append(' ').append(parameterName);
+		}
+		String params;
+		if (parameterNames.isEmpty())
+			params = "null";
+		else if (parameterNames.size() == 1)
+			params = parameterNames.get(0);
+		else
+			params = "java.util.Arrays.asList(" + String.join(", ", parameterNames) + ")";
+
+		methods.append("\n\t@Override\n");
+		methods.append("\tpublic ").append(returnType).append(' ').append(method.getSimpleName())
+				.append('(').append(parameters).append(") {\n");
+		if (rpcMethod.isNotification) {
+			methods.append("\t\tthis.delegate.notify(\"").append(escape(rpcMethod.name)).append("\", ").append(params).append(");\n");
+			if (!isVoid)
+				methods.append("\t\treturn null;\n");
+		} else {
+			methods.append("\t\t");
+			if (!isVoid)
+				methods.append("return (").append(returnType).append(") ");
+			methods.append("this.delegate.request(\"").append(escape(rpcMethod.name)).append("\", ").append(params).append(");\n");
+		}
+		methods.append("\t}\n");
+		return true;
+	}
+
+	private boolean isEndpointMethod(ExecutableElement method) {
+		Element enclosing = method.getEnclosingElement();
+		return enclosing instanceof TypeElement && ((TypeElement) enclosing).getQualifiedName().contentEquals(ENDPOINT);
+	}
+
+	private boolean isInterface(TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getKind() == ElementKind.INTERFACE;
+	}
+
+	private String escape(String name) {
+		return name.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private void warning(String message, Element element) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+	}
+
+}
@@ -26,7 +26,6 @@ import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
 import org.eclipse.lsp4j.jsonrpc.debug.json.DebugMessageJsonHandler;
 import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
-import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
 import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
 import org.eclipse.lsp4j.jsonrpc.validation.ReflectiveMessageValidator;
 
@@ -208,8 +207,9 @@ public final class DebugLauncher {
 
 		@Override
 		protected RemoteEndpoint createRemoteEndpoint(MessageJsonHandler jsonHandler) {
-			MessageConsumer outgoingMessageStream = new StreamMessageConsumer(output, jsonHandler);
+			MessageConsumer outgoingMessageStream = createOutgoingMessageStream(jsonHandler);
 			outgoingMessageStream = wrapMessageConsumer(outgoingMessageStream);
+			outgoingMessageStream = wrapNotificationCoalescing(outgoingMessageStream);
 			Endpoint localEndpoint = ServiceEndpoints.toEndpoint(localServices);
 			RemoteEndpoint remoteEndpoint;
 			if (exceptionHandler == null)
@@ -13,15 +13,13 @@ package org.eclipse.lsp4j.jsonrpc.debug.adapters;
 
 import java.io.EOFException;
 import java.io.IOException;
-import java.lang.reflect.Type;
 
 import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
 import org.eclipse.lsp4j.jsonrpc.debug.messages.DebugNotificationMessage;
 import org.eclipse.lsp4j.jsonrpc.debug.messages.DebugRequestMessage;
 import org.eclipse.lsp4j.jsonrpc.debug.messages.DebugResponseMessage;
-import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethodAdapters;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
-import org.eclipse.lsp4j.jsonrpc.json.MethodProvider;
 import org.eclipse.lsp4j.jsonrpc.json.adapters.MessageTypeAdapter;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
@@ -377,24 +375,9 @@ public class DebugMessageTypeAdapter extends MessageTypeAdapter {
 			} else {
 				if (body instanceof JsonElement) {
 					// Type of result could not be resolved - try again with the parsed JSON tree
-					MethodProvider methodProvider = handler.getMethodProvider();
-					if (methodProvider != null) {
-						String resolvedMethod = methodProvider.resolveMethod(Integer.toString(request_seq));
-						if (resolvedMethod != null) {
-							JsonRpcMethod jsonRpcMethod = handler.getJsonRpcMethod(resolvedMethod);
-							if (jsonRpcMethod != null) {
-								TypeAdapter<?> typeAdapter = null;
-								Type returnType = jsonRpcMethod.getReturnType();
-								if (jsonRpcMethod.getReturnTypeAdapterFactory() != null)
-									typeAdapter = jsonRpcMethod.getReturnTypeAdapterFactory().create(gson, TypeToken.get(returnType));
-								final var jsonElement = (JsonElement) body;
-								if (typeAdapter != null)
-									body = typeAdapter.fromJsonTree(jsonElement);
-								else
-									body = fromJson(jsonElement, returnType);
-							}
-						}
-					}
+					JsonRpcMethodAdapters adapters = getResponseMethodAdapters(Integer.toString(request_seq));
+					if (adapters != null)
+						body = fromJson((JsonElement) body, adapters.getReturnTypeAdapter());
 				}
 				message.setResult(body);
 			}
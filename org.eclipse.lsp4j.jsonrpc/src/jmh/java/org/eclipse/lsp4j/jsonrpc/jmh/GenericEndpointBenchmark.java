@@ -0,0 +1,122 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.services.GenericEndpoint;
+import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dispatch of incoming messages by {@link GenericEndpoint} to the annotated methods of a service
+ * with generated invokers, and with the reflective invocation that is used when a subclass overrides
+ * {@code getArguments}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GenericEndpointBenchmark {
+
+	public static class Service {
+
+		private final CompletableFuture<Object> result = CompletableFuture.completedFuture("result");
+		public int notificationCount;
+
+		@JsonRequest
+		public CompletableFuture<Object> shutdown() {
+			return result;
+		}
+
+		@JsonRequest
+		public CompletableFuture<Object> hover(String params) {
+			return result;
+		}
+
+		@JsonRequest
+		public CompletableFuture<Object> rename(String uri, String newName) {
+			return result;
+		}
+
+		@JsonNotification
+		public void didChange(String params) {
+			notificationCount++;
+		}
+
+	}
+
+	/**
+	 * An endpoint that calls the service methods reflectively, because it overrides {@code getArguments}.
+	 */
+	static class ReflectiveEndpoint extends GenericEndpoint {
+
+		ReflectiveEndpoint(Object delegate) {
+			super(delegate);
+		}
+
+		@Override
+		protected Object[] getArguments(Method method, Object arg) {
+			return super.getArguments(method, arg);
+		}
+
+	}
+
+	@Param({ "generated", "reflective" })
+	public String invoker;
+
+	private GenericEndpoint endpoint;
+	private final List<String> renameParams = List.of("file:///a.txt", "b");
+
+	@Setup
+	public void setup() {
+		Service service = new Service();
+		endpoint = "reflective".equals(invoker) ? new ReflectiveEndpoint(service) : new GenericEndpoint(service);
+	}
+
+	@Benchmark
+	public Object requestWithoutParams() {
+		return endpoint.request("shutdown", null);
+	}
+
+	@Benchmark
+	public Object requestWithParams() {
+		return endpoint.request("hover", "params");
+	}
+
+	@Benchmark
+	public Object requestWithTwoParams() {
+		return endpoint.request("rename", renameParams);
+	}
+
+	@Benchmark
+	public void notification() {
+		endpoint.notify("didChange", "params");
+	}
+
+}
@@ -0,0 +1,102 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.IntArrayListTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.util.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.annotations.JsonAdapter;
+
+/**
+ * Compares reading and writing semantic token data as a list of boxed integers, which uses the generic
+ * collection adapter, with the {@link IntArrayListTypeAdapter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntArrayListBenchmark {
+
+	public static class BoxedTokens {
+		public List<Integer> data;
+	}
+
+	public static class PrimitiveTokens {
+		@JsonAdapter(IntArrayListTypeAdapter.class)
+		public List<Integer> data;
+	}
+
+	/**
+	 * Number of integers in the token data; each token is encoded with five integers.
+	 */
+	@Param({ "100000" })
+	public int size;
+
+	private Gson gson;
+
+	private String json;
+
+	private BoxedTokens boxed;
+
+	private PrimitiveTokens primitive;
+
+	@Setup
+	public void setup() {
+		gson = new MessageJsonHandler(Collections.emptyMap()).getGson();
+		final var data = new IntArrayList(size);
+		for (int i = 0; i < size; i++) {
+			data.addInt(i % 5 == 0 ? i / 5 % 3 : i % 97);
+		}
+		json = "{\"data\":" + gson.toJson(data) + "}";
+		boxed = gson.fromJson(json, BoxedTokens.class);
+		primitive = gson.fromJson(json, PrimitiveTokens.class);
+	}
+
+	@Benchmark
+	public BoxedTokens readBoxed() {
+		return gson.fromJson(json, BoxedTokens.class);
+	}
+
+	@Benchmark
+	public PrimitiveTokens readPrimitive() {
+		return gson.fromJson(json, PrimitiveTokens.class);
+	}
+
+	@Benchmark
+	public String writeBoxed() {
+		return gson.toJson(boxed);
+	}
+
+	@Benchmark
+	public String writePrimitive() {
+		return gson.toJson(primitive);
+	}
+}
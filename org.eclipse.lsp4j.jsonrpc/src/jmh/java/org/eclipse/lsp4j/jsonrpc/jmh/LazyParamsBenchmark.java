@@ -0,0 +1,107 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing a message whose parameters are converted right away with parsing the same message
+ * with lazy parameters, which are only located and copied, and with converting the lazy parameters afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyParamsBenchmark {
+
+	public static class Position {
+		public int line;
+		public int character;
+	}
+
+	public static class Range {
+		public Position start;
+		public Position end;
+	}
+
+	public static class Location {
+		public String uri;
+		public Range range;
+	}
+
+	public static class LocationsParams {
+		public List<Location> locations;
+	}
+
+	/**
+	 * Number of locations in the parameters of the parsed message.
+	 */
+	@Param({ "1", "100" })
+	public int locationCount;
+
+	private String message;
+
+	private MessageJsonHandler eagerHandler;
+	private MessageJsonHandler lazyHandler;
+
+	@Setup
+	public void setup() {
+		Map<String, JsonRpcMethod> methods = Map.of("foo", JsonRpcMethod.notification("foo", LocationsParams.class));
+		eagerHandler = new MessageJsonHandler(methods);
+		lazyHandler = new MessageJsonHandler(methods);
+		lazyHandler.setDecodeParamsLazily(true);
+
+		List<String> locations = new ArrayList<>();
+		for (int i = 0; i < locationCount; i++) {
+			locations.add("{\"uri\":\"file:///workspace/src/File" + i + ".java\","
+					+ "\"range\":{\"start\":{\"line\":" + i + ",\"character\":4},\"end\":{\"line\":" + i + ",\"character\":12}}}");
+		}
+		message = "{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{\"locations\":[" + String.join(",", locations) + "]}}";
+	}
+
+	@Benchmark
+	public Message eager() {
+		return eagerHandler.parseMessage(new StringReader(message));
+	}
+
+	@Benchmark
+	public Message lazyDropped() {
+		return lazyHandler.parseMessage(new StringReader(message));
+	}
+
+	@Benchmark
+	public Object lazyConverted() {
+		return ((NotificationMessage) lazyHandler.parseMessage(new StringReader(message))).getParams();
+	}
+}
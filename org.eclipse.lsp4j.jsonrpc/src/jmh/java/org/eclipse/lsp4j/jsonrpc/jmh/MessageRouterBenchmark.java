@@ -0,0 +1,117 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.MessageRouter;
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.PassthroughMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares forwarding messages from one stream to another by parsing them into protocol types and serializing
+ * them again with forwarding them through a {@link MessageRouter}, which copies their content.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageRouterBenchmark {
+
+	public static class Position {
+		public int line;
+		public int character;
+	}
+
+	public static class Range {
+		public Position start;
+		public Position end;
+	}
+
+	public static class Location {
+		public String uri;
+		public Range range;
+	}
+
+	public static class LocationsParams {
+		public List<Location> locations;
+	}
+
+	/**
+	 * Number of locations in the parameters of each forwarded message.
+	 */
+	@Param({ "1", "100" })
+	public int locationCount;
+
+	private ByteArrayInputStream input;
+
+	private StreamMessageProducer parsingProducer;
+	private StreamMessageConsumer parsingConsumer;
+
+	private PassthroughMessageProducer passthroughProducer;
+	private MessageRouter.Connection connection;
+
+	@Setup
+	public void setup() {
+		List<String> locations = new ArrayList<>();
+		for (int i = 0; i < locationCount; i++) {
+			locations.add("{\"uri\":\"file:///workspace/src/File" + i + ".java\","
+					+ "\"range\":{\"start\":{\"line\":" + i + ",\"character\":4},\"end\":{\"line\":" + i + ",\"character\":12}}}");
+		}
+		String content = "{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{\"locations\":[" + String.join(",", locations) + "]}}";
+		byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+		input = new ByteArrayInputStream(("Content-Length: " + contentBytes.length + "\r\n\r\n" + content).getBytes(StandardCharsets.UTF_8));
+
+		OutputStream output = OutputStream.nullOutputStream();
+		MessageJsonHandler jsonHandler = new MessageJsonHandler(Map.of("foo", JsonRpcMethod.notification("foo", LocationsParams.class)));
+		parsingProducer = new StreamMessageProducer(input, jsonHandler);
+		parsingConsumer = new StreamMessageConsumer(output, jsonHandler);
+
+		passthroughProducer = new PassthroughMessageProducer(input);
+		MessageRouter router = new MessageRouter(new StreamMessageConsumer(output, null));
+		connection = router.connect(message -> {});
+	}
+
+	@Benchmark
+	public void parsed() {
+		input.reset();
+		parsingProducer.listen(parsingConsumer);
+	}
+
+	@Benchmark
+	public void passthrough() {
+		input.reset();
+		passthroughProducer.listen(connection);
+	}
+}
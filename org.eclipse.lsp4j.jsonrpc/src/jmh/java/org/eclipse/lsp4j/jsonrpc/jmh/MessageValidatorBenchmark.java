@@ -0,0 +1,199 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.validation.NonNull;
+import org.eclipse.lsp4j.jsonrpc.validation.ReflectiveMessageValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the validation of a notification whose parameters contain a list of diagnostics, modeled after
+ * {@code textDocument/publishDiagnostics}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageValidatorBenchmark {
+
+	public static class Position {
+		private int line;
+		private int character;
+
+		public Position(int line, int character) {
+			this.line = line;
+			this.character = character;
+		}
+
+		public int getLine() {
+			return line;
+		}
+
+		public int getCharacter() {
+			return character;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Position))
+				return false;
+			Position other = (Position) obj;
+			return line == other.line && character == other.character;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(line, character);
+		}
+	}
+
+	public static class Range {
+		private Position start;
+		private Position end;
+
+		public Range(Position start, Position end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@NonNull
+		public Position getStart() {
+			return start;
+		}
+
+		@NonNull
+		public Position getEnd() {
+			return end;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Range))
+				return false;
+			Range other = (Range) obj;
+			return Objects.equals(start, other.start) && Objects.equals(end, other.end);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(start, end);
+		}
+	}
+
+	public static class Diagnostic {
+		private Range range;
+		private String message;
+		private String source;
+		private Integer severity;
+
+		public Diagnostic(Range range, String message) {
+			this.range = range;
+			this.message = message;
+		}
+
+		@NonNull
+		public Range getRange() {
+			return range;
+		}
+
+		@NonNull
+		public String getMessage() {
+			return message;
+		}
+
+		public String getSource() {
+			return source;
+		}
+
+		public Integer getSeverity() {
+			return severity;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Diagnostic))
+				return false;
+			Diagnostic other = (Diagnostic) obj;
+			return Objects.equals(range, other.range) && Objects.equals(message, other.message)
+					&& Objects.equals(source, other.source) && Objects.equals(severity, other.severity);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(range, message, source, severity);
+		}
+	}
+
+	public static class PublishDiagnosticsParams {
+		private String uri;
+		private List<Diagnostic> diagnostics;
+
+		public PublishDiagnosticsParams(String uri, List<Diagnostic> diagnostics) {
+			this.uri = uri;
+			this.diagnostics = diagnostics;
+		}
+
+		@NonNull
+		public String getUri() {
+			return uri;
+		}
+
+		@NonNull
+		public List<Diagnostic> getDiagnostics() {
+			return diagnostics;
+		}
+	}
+
+	/**
+	 * Number of diagnostics in the parameters of the validated message.
+	 */
+	@Param({ "1", "100" })
+	public int diagnosticCount;
+
+	private ReflectiveMessageValidator validator;
+	private NotificationMessage message;
+
+	@Setup
+	public void setup() {
+		validator = new ReflectiveMessageValidator();
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		for (int i = 0; i < diagnosticCount; i++) {
+			diagnostics.add(new Diagnostic(new Range(new Position(i, 4), new Position(i, 12)), "Problem " + i));
+		}
+		message = new NotificationMessage();
+		message.setMethod("textDocument/publishDiagnostics");
+		message.setParams(new PublishDiagnosticsParams("file:///workspace/src/File.java", diagnostics));
+	}
+
+	@Benchmark
+	public boolean validate() {
+		return validator.isValid(message);
+	}
+}
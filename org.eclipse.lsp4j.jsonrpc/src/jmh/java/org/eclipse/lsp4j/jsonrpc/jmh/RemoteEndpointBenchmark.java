@@ -0,0 +1,80 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bookkeeping of {@link RemoteEndpoint} for a request sent to the remote endpoint: registering
+ * the pending request, resolving its method when the response is parsed, and completing it with the response.
+ * Several threads share one endpoint, as the threads of a language client do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RemoteEndpointBenchmark {
+
+	private static final ThreadLocal<RequestMessage> lastRequest = new ThreadLocal<>();
+
+	private RemoteEndpoint endpoint;
+
+	@Setup
+	public void setup() {
+		Endpoint localEndpoint = new Endpoint() {
+			@Override
+			public CompletableFuture<?> request(String method, Object parameter) {
+				return CompletableFuture.completedFuture(null);
+			}
+
+			@Override
+			public void notify(String method, Object parameter) {
+			}
+		};
+		endpoint = new RemoteEndpoint(message -> {
+			if (message instanceof RequestMessage)
+				lastRequest.set((RequestMessage) message);
+		}, localEndpoint);
+	}
+
+	@Benchmark
+	public Object requestAndResponse() {
+		CompletableFuture<Object> future = endpoint.request("foo", null);
+		RequestMessage request = lastRequest.get();
+		String method = endpoint.resolveMethod(request.getId());
+		final var response = new ResponseMessage();
+		response.setRawId(request.getRawId());
+		response.setResult(method);
+		endpoint.consume(response);
+		return future.getNow(null);
+	}
+}
@@ -0,0 +1,130 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.services.EndpointStub;
+import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures calls of a remote service through a proxy created by {@link ServiceEndpoints}, and through a stub
+ * like the ones generated for {@link org.eclipse.lsp4j.jsonrpc.services.RemoteStub} interfaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RemoteStubBenchmark {
+
+	@JsonSegment("textDocument")
+	public interface Service {
+
+		@JsonRequest
+		CompletableFuture<Object> hover(String params);
+
+		@JsonNotification
+		void didChange(String params);
+
+		@JsonNotification
+		void didRename(String uri, String newName);
+
+	}
+
+	/**
+	 * The stub that the generator emits for {@link Service}.
+	 */
+	public static final class ServiceStub extends EndpointStub implements Service {
+
+		public ServiceStub(Endpoint delegate) {
+			super(delegate);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public CompletableFuture<Object> hover(String params) {
+			return (CompletableFuture<Object>) this.delegate.request("textDocument/hover", params);
+		}
+
+		@Override
+		public void didChange(String params) {
+			this.delegate.notify("textDocument/didChange", params);
+		}
+
+		@Override
+		public void didRename(String uri, String newName) {
+			this.delegate.notify("textDocument/didRename", java.util.Arrays.asList(uri, newName));
+		}
+
+	}
+
+	@Param({ "stub", "proxy" })
+	public String remote;
+
+	private Service service;
+
+	@Setup
+	public void setup(Blackhole blackhole) {
+		CompletableFuture<Object> result = CompletableFuture.completedFuture("result");
+		Endpoint endpoint = new Endpoint() {
+
+			@Override
+			public CompletableFuture<?> request(String method, Object parameter) {
+				blackhole.consume(method);
+				blackhole.consume(parameter);
+				return result;
+			}
+
+			@Override
+			public void notify(String method, Object parameter) {
+				blackhole.consume(method);
+				blackhole.consume(parameter);
+			}
+		};
+		service = "proxy".equals(remote) ? ServiceEndpoints.toServiceObject(endpoint, Service.class) : new ServiceStub(endpoint);
+	}
+
+	@Benchmark
+	public Object request() {
+		return service.hover("params");
+	}
+
+	@Benchmark
+	public void notification() {
+		service.didChange("params");
+	}
+
+	@Benchmark
+	public void notificationWithTwoParams() {
+		service.didRename("file:///a.txt", "b");
+	}
+
+}
@@ -0,0 +1,152 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethodAdapters;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.CollectionTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.EitherTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.EitherTypeAdapter.PropertyChecker;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.MessageTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Measures parsing of a response whose result is read by a return type adapter factory, modeled after
+ * {@code textDocument/documentSymbol}. The type adapters resolved by the message JSON handler are compared
+ * with adapters that are created again for every message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseParsingBenchmark {
+
+	public static class Position {
+		public int line;
+		public int character;
+	}
+
+	public static class Range {
+		public Position start;
+		public Position end;
+	}
+
+	public static class Location {
+		public String uri;
+		public Range range;
+	}
+
+	public static class SymbolInformation {
+		public String name;
+		public int kind;
+		public Location location;
+	}
+
+	public static class DocumentSymbol {
+		public String name;
+		public int kind;
+		public Range range;
+		public Range selectionRange;
+		public List<DocumentSymbol> children;
+	}
+
+	public static class DocumentSymbolResponseAdapter implements TypeAdapterFactory {
+
+		private static final TypeToken<Either<SymbolInformation, DocumentSymbol>> ELEMENT_TYPE
+				= new TypeToken<>() {};
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+			final var leftChecker = new PropertyChecker("location");
+			final var rightChecker = new PropertyChecker("range");
+			final var elementTypeAdapter = new EitherTypeAdapter<>(gson, ELEMENT_TYPE, leftChecker, rightChecker);
+			return (TypeAdapter<T>) new CollectionTypeAdapter<>(gson, ELEMENT_TYPE.getType(), elementTypeAdapter, ArrayList::new);
+		}
+
+	}
+
+	private static final String METHOD = "textDocument/documentSymbol";
+
+	/**
+	 * Number of symbols in the result of the parsed response.
+	 */
+	@Param({ "1", "50" })
+	public int symbolCount;
+
+	private String response;
+
+	private MessageTypeAdapter resolvedAdapters;
+	private MessageTypeAdapter createdAdapters;
+
+	@Setup
+	public void setup() {
+		var jsonRpcMethod = JsonRpcMethod.request(METHOD,
+				new TypeToken<List<Either<SymbolInformation, DocumentSymbol>>>() {}.getType(),
+				new DocumentSymbolResponseAdapter(), Object.class);
+		var handler = new MessageJsonHandler(Map.of(METHOD, jsonRpcMethod));
+		handler.setMethodProvider(id -> METHOD);
+		resolvedAdapters = new MessageTypeAdapter(handler, handler.getGson());
+		createdAdapters = new MessageTypeAdapter(handler, handler.getGson()) {
+			@Override
+			protected JsonRpcMethodAdapters getResponseMethodAdapters(String id) {
+				// Create the adapters for every message, as if they were not kept by the handler
+				return new JsonRpcMethodAdapters(jsonRpcMethod, handler.getGson());
+			}
+		};
+
+		List<String> symbols = new ArrayList<>();
+		for (int i = 0; i < symbolCount; i++) {
+			String range = "{\"start\":{\"line\":" + i + ",\"character\":4},\"end\":{\"line\":" + (i + 1) + ",\"character\":5}}";
+			symbols.add("{\"name\":\"symbol" + i + "\",\"kind\":12,\"range\":" + range + ",\"selectionRange\":" + range + "}");
+		}
+		response = "{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"result\":[" + String.join(",", symbols) + "]}";
+	}
+
+	@Benchmark
+	public Message resolvedAdapters() throws IOException {
+		return resolvedAdapters.read(new JsonReader(new StringReader(response)));
+	}
+
+	@Benchmark
+	public Message createdAdapters() throws IOException {
+		return createdAdapters.read(new JsonReader(new StringReader(response)));
+	}
+}
@@ -29,6 +29,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -43,6 +44,12 @@ import org.openjdk.jmh.infra.Blackhole;
 @State(Scope.Benchmark)
 public class StreamMessageProducerBenchmark {
 
+	/**
+	 * Number of framed messages in the input stream that is consumed by a single benchmark operation.
+	 */
+	@Param({ "1", "100" })
+	public int messageCount;
+
 	private StreamMessageProducer messageProducer;
 	private ByteArrayInputStream bais;
 
@@ -58,7 +65,9 @@ public class StreamMessageProducerBenchmark {
 			map.put(String.valueOf(i), "X".repeat(i));
 		}
 		message.setParams(map);
-		consumer.consume(message);
+		for (int i = 0; i < messageCount; i++) {
+			consumer.consume(message);
+		}
 		byte[]  byteArray = baos.toByteArray();
 		bais = new ByteArrayInputStream(byteArray);
 		messageProducer = new StreamMessageProducer(bais, new MessageJsonHandler(emptyMap()));
@@ -0,0 +1,145 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.io.StringReader;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.StringPoolTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.util.StringPool;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.annotations.JsonAdapter;
+
+/**
+ * Measures parsing messages whose locations repeat a few URIs, with and without a {@link StringPool}.
+ * Besides the parsing time, the heap retained by a parsed message is measured after each iteration and
+ * reported as the {@code retainedBytesPerMessage} counter, which JMH sums up over the measurement iterations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringPoolBenchmark {
+
+	public static class Position {
+		public int line;
+		public int character;
+	}
+
+	public static class Range {
+		public Position start;
+		public Position end;
+	}
+
+	public static class Location {
+		@JsonAdapter(StringPoolTypeAdapter.Factory.class)
+		public String uri;
+		public Range range;
+	}
+
+	public static class LocationsParams {
+		public List<Location> locations;
+	}
+
+	/**
+	 * Number of messages whose retained heap is measured.
+	 */
+	private static final int RETAINED_MESSAGE_COUNT = 100;
+
+	@Param({ "false", "true" })
+	public boolean pooled;
+
+	/**
+	 * Number of locations in each message, which are spread over ten URIs.
+	 */
+	@Param({ "1000" })
+	public int locationCount;
+
+	private String message;
+
+	private MessageJsonHandler handler;
+
+	@Setup
+	public void setup() {
+		Map<String, JsonRpcMethod> methods = Map.of("foo", JsonRpcMethod.notification("foo", LocationsParams.class));
+		if (pooled)
+			handler = new MessageJsonHandler(methods, gsonBuilder -> StringPoolTypeAdapter.registerStringPool(gsonBuilder, new StringPool()));
+		else
+			handler = new MessageJsonHandler(methods);
+
+		List<String> locations = new ArrayList<>();
+		for (int i = 0; i < locationCount; i++) {
+			locations.add("{\"uri\":\"file:///workspace/project/src/main/java/org/example/File" + (i % 10) + ".java\","
+					+ "\"range\":{\"start\":{\"line\":" + i + ",\"character\":4},\"end\":{\"line\":" + i + ",\"character\":12}}}");
+		}
+		message = "{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{\"locations\":[" + String.join(",", locations) + "]}}";
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+
+		public long retainedBytesPerMessage;
+
+		@TearDown(Level.Iteration)
+		public void measure(StringPoolBenchmark benchmark) {
+			long before = usedHeap();
+			List<Message> retained = new ArrayList<>();
+			for (int i = 0; i < RETAINED_MESSAGE_COUNT; i++) {
+				retained.add(benchmark.parse());
+			}
+			long after = usedHeap();
+			Reference.reachabilityFence(retained);
+			retainedBytesPerMessage = (after - before) / RETAINED_MESSAGE_COUNT;
+		}
+
+		private static long usedHeap() {
+			Runtime runtime = Runtime.getRuntime();
+			for (int i = 0; i < 3; i++) {
+				System.gc();
+			}
+			return runtime.totalMemory() - runtime.freeMemory();
+		}
+	}
+
+	@Benchmark
+	public Message parse(Footprint footprint) {
+		return parse();
+	}
+
+	private Message parse() {
+		return handler.parseMessage(new StringReader(message));
+	}
+}
@@ -0,0 +1,116 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.jmh;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.eclipse.lsp4j.jsonrpc.util.VirtualThreads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to answer a burst of incoming requests whose handlers block for a millisecond,
+ * when the handlers run in platform threads or in virtual threads. The virtual variant requires the
+ * multi-release JAR on Java 21 or later.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+
+	private static final long BLOCKING_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	/**
+	 * Number of concurrent requests that are answered by a single benchmark operation.
+	 */
+	@Param({ "100", "1000" })
+	public int requestCount;
+
+	@Param({ "platform", "virtual" })
+	public String threads;
+
+	private ExecutorService executor;
+	private RemoteEndpoint remoteEndpoint;
+	private RequestMessage[] requests;
+	private volatile CountDownLatch responses;
+
+	@Setup
+	public void setup() {
+		if ("virtual".equals(threads)) {
+			if (!VirtualThreads.isAvailable())
+				throw new IllegalStateException("Virtual threads require Java 21 or later.");
+			executor = VirtualThreads.newThreadPerTaskExecutor("Benchmark Virtual Thread");
+		} else {
+			executor = Executors.newCachedThreadPool();
+		}
+		Endpoint blockingEndpoint = new Endpoint() {
+			@Override
+			public CompletableFuture<?> request(String method, Object parameter) {
+				LockSupport.parkNanos(BLOCKING_NANOS);
+				return CompletableFuture.completedFuture(parameter);
+			}
+
+			@Override
+			public void notify(String method, Object parameter) {
+			}
+		};
+		remoteEndpoint = new RemoteEndpoint(message -> {
+			if (message instanceof ResponseMessage)
+				responses.countDown();
+		}, blockingEndpoint);
+		remoteEndpoint.setRequestExecutor(executor);
+		requests = new RequestMessage[requestCount];
+		for (int i = 0; i < requestCount; i++) {
+			RequestMessage request = new RequestMessage();
+			request.setId(i);
+			request.setMethod("foo");
+			request.setParams("bar");
+			requests[i] = request;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public void measure() throws InterruptedException {
+		responses = new CountDownLatch(requestCount);
+		for (RequestMessage request : requests) {
+			remoteEndpoint.consume(request);
+		}
+		responses.await();
+	}
+}
@@ -0,0 +1,197 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+
+/**
+ * Limits the number of incoming requests that {@link RemoteEndpoint} handles at the same time, overall and per
+ * method, so the latency of accepted requests stays bounded when the local service is overloaded.
+ * <p>
+ * A request that would exceed a limit is either rejected right away, or admitted after the oldest pending
+ * request of the same method, or of any method if the overall limit is reached, has been cancelled. In both cases
+ * the remote endpoint receives an error response with the {@linkplain #setRejectionCode(ResponseErrorCode)
+ * rejection code}.
+ */
+public class AdmissionControl {
+
+	public enum OverloadPolicy {
+		/**
+		 * Reject the new request.
+		 */
+		REJECT_NEWEST,
+
+		/**
+		 * Cancel the oldest pending request to make room for the new request.
+		 */
+		DROP_OLDEST
+	}
+
+	private final int maxRequests;
+	private final Map<String, Integer> maxMethodRequests = new HashMap<>();
+	private OverloadPolicy overloadPolicy = OverloadPolicy.REJECT_NEWEST;
+	private ResponseErrorCode rejectionCode = ResponseErrorCode.ServerCancelled;
+
+	/**
+	 * The methods of the pending requests by their id, in the order in which they were admitted.
+	 */
+	private final LinkedHashMap<String, String> pendingRequests = new LinkedHashMap<>();
+	private final Map<String, Integer> pendingMethodCounts = new HashMap<>();
+	private long rejectedCount;
+	private long droppedCount;
+
+	/**
+	 * @param maxRequests - the maximal number of pending requests of all methods, or 0 for no overall limit
+	 */
+	public AdmissionControl(int maxRequests) {
+		if (maxRequests < 0)
+			throw new IllegalArgumentException("Maximal number of requests must not be negative: " + maxRequests);
+		this.maxRequests = maxRequests;
+	}
+
+	/**
+	 * Limit the number of pending requests of the given method.
+	 *
+	 * @param maxRequests - the maximal number of pending requests of the method, or 0 for no limit
+	 */
+	public synchronized AdmissionControl setMaxRequests(String method, int maxRequests) {
+		if (maxRequests < 0)
+			throw new IllegalArgumentException("Maximal number of requests must not be negative: " + maxRequests);
+		if (maxRequests == 0)
+			maxMethodRequests.remove(method);
+		else
+			maxMethodRequests.put(method, maxRequests);
+		return this;
+	}
+
+	/**
+	 * Set what happens to a request that would exceed a limit. The default is {@link OverloadPolicy#REJECT_NEWEST}.
+	 */
+	public synchronized AdmissionControl setOverloadPolicy(OverloadPolicy overloadPolicy) {
+		if (overloadPolicy == null)
+			throw new NullPointerException("overloadPolicy");
+		this.overloadPolicy = overloadPolicy;
+		return this;
+	}
+
+	/**
+	 * Set the error code of the responses to rejected and dropped requests. The default is
+	 * {@link ResponseErrorCode#ServerCancelled}, which tells the client that it may send the request again.
+	 * {@link ResponseErrorCode#ContentModified} is an alternative for clients that do not support it.
+	 */
+	public synchronized AdmissionControl setRejectionCode(ResponseErrorCode rejectionCode) {
+		if (rejectionCode == null)
+			throw new NullPointerException("rejectionCode");
+		this.rejectionCode = rejectionCode;
+		return this;
+	}
+
+	public synchronized ResponseErrorCode getRejectionCode() {
+		return rejectionCode;
+	}
+
+	/**
+	 * The number of requests that have been rejected because they would have exceeded a limit.
+	 */
+	public synchronized long getRejectedCount() {
+		return rejectedCount;
+	}
+
+	/**
+	 * The number of pending requests that have been cancelled to make room for newer requests.
+	 */
+	public synchronized long getDroppedCount() {
+		return droppedCount;
+	}
+
+	/**
+	 * The number of requests that have been admitted and are not complete yet.
+	 */
+	public synchronized int getPendingCount() {
+		return pendingRequests.size();
+	}
+
+	/**
+	 * The number of requests of the given method that have been admitted and are not complete yet.
+	 */
+	public synchronized int getPendingCount(String method) {
+		return pendingMethodCounts.getOrDefault(method, 0);
+	}
+
+	/**
+	 * Decide whether an incoming request is handled.
+	 *
+	 * @param droppedRequestIds - receives the ids of pending requests that must be cancelled to make room
+	 * @return {@code true} if the request has been admitted, {@code false} if it must be rejected because it would
+	 *         exceed a limit or because a request with the same id is pending
+	 */
+	synchronized boolean admit(String id, String method, List<String> droppedRequestIds) {
+		if (pendingRequests.containsKey(id)) {
+			// Admitting it would replace the pending request, whose admission could then not be released
+			return false;
+		}
+		Integer maxMethodCount = maxMethodRequests.get(method);
+		while (true) {
+			boolean methodLimitReached = maxMethodCount != null && getPendingCount(method) >= maxMethodCount;
+			if (!methodLimitReached && (maxRequests == 0 || pendingRequests.size() < maxRequests))
+				break;
+			String dropped = overloadPolicy == OverloadPolicy.DROP_OLDEST ? removeOldest(methodLimitReached ? method : null) : null;
+			if (dropped == null) {
+				rejectedCount++;
+				return false;
+			}
+			droppedCount++;
+			droppedRequestIds.add(dropped);
+		}
+		pendingRequests.put(id, method);
+		pendingMethodCounts.merge(method, 1, Integer::sum);
+		return true;
+	}
+
+	/**
+	 * Release the admission of a request that is complete.
+	 */
+	synchronized void release(String id) {
+		String method = pendingRequests.remove(id);
+		if (method != null)
+			decrementMethodCount(method);
+	}
+
+	/**
+	 * Remove the oldest pending request of the given method, or of any method if it is {@code null}.
+	 *
+	 * @return the id of the removed request, or {@code null} if there is none
+	 */
+	private String removeOldest(String method) {
+		Iterator<Map.Entry<String, String>> iterator = pendingRequests.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, String> entry = iterator.next();
+			if (method == null || method.equals(entry.getValue())) {
+				iterator.remove();
+				decrementMethodCount(entry.getValue());
+				return entry.getKey();
+			}
+		}
+		return null;
+	}
+
+	private void decrementMethodCount(String method) {
+		pendingMethodCounts.computeIfPresent(method, (key, count) -> count > 1 ? count - 1 : null);
+	}
+
+}
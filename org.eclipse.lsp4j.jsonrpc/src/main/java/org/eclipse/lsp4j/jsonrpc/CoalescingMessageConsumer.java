@@ -0,0 +1,147 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.util.HashedWheelTimer;
+
+/**
+ * A message consumer that holds back outgoing notifications for a short time window, so a newer notification
+ * with the same key replaces an older one that has not been sent yet. Only the latest state of, for example,
+ * the diagnostics of a document is then sent to the remote endpoint.
+ * <p>
+ * The key of a notification is given by a function, which returns {@code null} for notifications that must
+ * not be coalesced. Held back notifications are passed to the wrapped consumer when the window has elapsed,
+ * or before any other message, so the order relative to requests, responses and other notifications is kept.
+ * The window is measured by the {@link HashedWheelTimer#getDefault() default timer}, so it may be extended by
+ * up to one tick of the timer.
+ */
+public class CoalescingMessageConsumer implements MessageConsumer, Closeable {
+
+	private static final Logger LOG = Logger.getLogger(CoalescingMessageConsumer.class.getName());
+
+	private final MessageConsumer delegate;
+	private final Function<NotificationMessage, Object> keyFunction;
+	private final long windowNanos;
+
+	private final Object lock = new Object();
+	private final Map<Object, NotificationMessage> pending = new LinkedHashMap<>();
+	private HashedWheelTimer.Timeout flushTimeout;
+	private long coalescedCount;
+	private boolean closed;
+
+	/**
+	 * @param delegate - the consumer that receives the messages
+	 * @param keyFunction - returns the key of a notification, or {@code null} if it must not be coalesced
+	 * @param window - the time for which notifications are held back
+	 */
+	public CoalescingMessageConsumer(MessageConsumer delegate, Function<NotificationMessage, Object> keyFunction, Duration window) {
+		if (delegate == null)
+			throw new NullPointerException("delegate");
+		if (keyFunction == null)
+			throw new NullPointerException("keyFunction");
+		if (window.isNegative() || window.isZero())
+			throw new IllegalArgumentException("Window must be positive: " + window);
+		this.delegate = delegate;
+		this.keyFunction = keyFunction;
+		this.windowNanos = window.toNanos();
+	}
+
+	@Override
+	public void consume(Message message) throws MessageIssueException, JsonRpcException {
+		Object key = message instanceof NotificationMessage ? keyFunction.apply((NotificationMessage) message) : null;
+		synchronized (lock) {
+			if (key != null && !closed) {
+				if (pending.replace(key, (NotificationMessage) message) != null) {
+					coalescedCount++;
+				} else {
+					pending.put(key, (NotificationMessage) message);
+					if (flushTimeout == null)
+						flushTimeout = HashedWheelTimer.getDefault().schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+				}
+				return;
+			}
+			sendPending();
+			delegate.consume(message);
+		}
+	}
+
+	/**
+	 * Pass all held back notifications to the wrapped consumer.
+	 */
+	public void flush() {
+		synchronized (lock) {
+			sendPending();
+		}
+	}
+
+	/**
+	 * Pass all held back notifications to the wrapped consumer, and pass subsequent messages on immediately.
+	 */
+	@Override
+	public void close() {
+		synchronized (lock) {
+			closed = true;
+			sendPending();
+		}
+	}
+
+	/**
+	 * The number of notifications that have been replaced by newer ones before they were sent.
+	 */
+	public long getCoalescedCount() {
+		synchronized (lock) {
+			return coalescedCount;
+		}
+	}
+
+	/**
+	 * The number of notifications that are currently held back.
+	 */
+	public int getPendingCount() {
+		synchronized (lock) {
+			return pending.size();
+		}
+	}
+
+	private void sendPending() {
+		if (flushTimeout != null) {
+			flushTimeout.cancel();
+			flushTimeout = null;
+		}
+		if (pending.isEmpty())
+			return;
+		List<NotificationMessage> notifications = new ArrayList<>(pending.values());
+		pending.clear();
+		for (NotificationMessage notification : notifications) {
+			try {
+				delegate.consume(notification);
+			} catch (Exception exception) {
+				Level logLevel = JsonRpcException.indicatesStreamClosed(exception) ? Level.INFO : Level.WARNING;
+				LOG.log(logLevel, "Failed to send notification message.", exception);
+			}
+		}
+	}
+
+}
@@ -15,10 +15,33 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public final class CompletableFutures {
 	private CompletableFutures() {}
 
+	/**
+	 * The executor for {@link #computeAsync(Function)} while a local service method is called for a request,
+	 * see {@link RemoteEndpoint#setRequestExecutor(Executor)}.
+	 */
+	private static final ThreadLocal<Executor> requestExecutor = new ThreadLocal<>();
+
+	/**
+	 * Call the given code with {@link #computeAsync(Function)} running in the given executor in the current thread.
+	 */
+	static <T> T callWithExecutor(Executor executor, Supplier<T> code) {
+		Executor previous = requestExecutor.get();
+		requestExecutor.set(executor);
+		try {
+			return code.get();
+		} finally {
+			if (previous == null)
+				requestExecutor.remove();
+			else
+				requestExecutor.set(previous);
+		}
+	}
+
 	/**
 	 * A utility method to cancel the JSON-RPC request associated with the given future.
 	 * <p>
@@ -47,11 +70,17 @@ public final class CompletableFutures {
 
 	/**
 	 * A utility method to create a {@link CompletableFuture} with cancellation support.
+	 * <p>
+	 * When called by a local service method for a request, the code runs in the request executor
+	 * of the remote endpoint, if it has one, see {@link RemoteEndpoint#setRequestExecutor(Executor)}.
 	 *
 	 * @param code a function that accepts a {@link CancelChecker} and returns the to be computed value
 	 * @return a future
 	 */
 	public static <R> CompletableFuture<R> computeAsync(Function<CancelChecker, R> code) {
+		Executor executor = requestExecutor.get();
+		if (executor != null)
+			return computeAsync(executor, code);
 		final var start = new CompletableFuture<CancelChecker>();
 		CompletableFuture<R> result = start.thenApplyAsync(code);
 		start.complete(new FutureCancelChecker(result));
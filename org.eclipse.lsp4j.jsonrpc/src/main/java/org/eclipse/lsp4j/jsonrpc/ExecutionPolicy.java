@@ -0,0 +1,126 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc;
+
+import java.util.Objects;
+
+import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+
+/**
+ * Determines the thread in which {@link RemoteEndpoint} calls the local service method for an incoming
+ * request or notification. A policy is declared with the {@code execution} and {@code executor} attributes of
+ * {@link JsonRequest} and {@link JsonNotification}, or set for a method with
+ * {@link Launcher.Builder#setExecutionPolicy(String, ExecutionPolicy)}.
+ */
+public final class ExecutionPolicy {
+
+	public enum Kind {
+		/**
+		 * The method is called in the thread that reads the incoming messages, so messages that follow are
+		 * not handled before the method returns. This is the default.
+		 */
+		INLINE,
+
+		/**
+		 * The method is called in a thread of a named pool with a bounded number of threads. Calls of
+		 * pooled methods may run in parallel.
+		 */
+		POOLED,
+
+		/**
+		 * The method is called in a named lane that runs one call at a time, in the order in which the messages
+		 * were received, but does not hold up messages for other lanes.
+		 */
+		SEQUENTIAL
+	}
+
+	private static final ExecutionPolicy INLINE = new ExecutionPolicy(Kind.INLINE, "");
+
+	/**
+	 * Call the method in the thread that reads the incoming messages.
+	 */
+	public static ExecutionPolicy inline() {
+		return INLINE;
+	}
+
+	/**
+	 * Call the method in a thread of the pool with the given name.
+	 *
+	 * @see MethodExecutors#setPool(String, java.util.concurrent.Executor)
+	 */
+	public static ExecutionPolicy pooled(String executor) {
+		return new ExecutionPolicy(Kind.POOLED, executor);
+	}
+
+	/**
+	 * Call the method in the sequential lane with the given name.
+	 */
+	public static ExecutionPolicy sequential(String executor) {
+		return new ExecutionPolicy(Kind.SEQUENTIAL, executor);
+	}
+
+	/**
+	 * Create a policy from the attributes of a {@link JsonRequest} or {@link JsonNotification} annotation.
+	 */
+	public static ExecutionPolicy of(Kind kind, String executor) {
+		if (kind == Kind.INLINE)
+			return INLINE;
+		return new ExecutionPolicy(kind, executor);
+	}
+
+	private final Kind kind;
+	private final String executor;
+
+	private ExecutionPolicy(Kind kind, String executor) {
+		this.kind = Objects.requireNonNull(kind, "kind");
+		this.executor = Objects.requireNonNull(executor, "executor");
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * The name of the pool or sequential lane. Methods with the same name share the pool or lane.
+	 */
+	public String getExecutor() {
+		return executor;
+	}
+
+	public boolean isInline() {
+		return kind == Kind.INLINE;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof ExecutionPolicy))
+			return false;
+		ExecutionPolicy other = (ExecutionPolicy) obj;
+		return kind == other.kind && executor.equals(other.executor);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * kind.hashCode() + executor.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		if (kind == Kind.INLINE)
+			return "inline";
+		return kind.name().toLowerCase() + " '" + executor + "'";
+	}
+
+}
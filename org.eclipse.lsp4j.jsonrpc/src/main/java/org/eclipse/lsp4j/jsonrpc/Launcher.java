@@ -14,24 +14,45 @@ package org.eclipse.lsp4j.jsonrpc;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.logging.Logger;
 
+import org.eclipse.lsp4j.jsonrpc.json.AsynchronousChannelMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.AsynchronousChannelMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.AsynchronousMessageProcessor;
+import org.eclipse.lsp4j.jsonrpc.json.ChannelMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.ChannelMessageProducer;
 import org.eclipse.lsp4j.jsonrpc.json.ConcurrentMessageProcessor;
 import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
 import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethodProvider;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.ParallelDecodingMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.PriorityMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.QueuedMessageConsumer;
 import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
 import org.eclipse.lsp4j.jsonrpc.json.StreamMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.GeneratedTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.StringPoolTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
 import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.eclipse.lsp4j.jsonrpc.util.StringPool;
+import org.eclipse.lsp4j.jsonrpc.util.VirtualThreads;
 import org.eclipse.lsp4j.jsonrpc.validation.ReflectiveMessageValidator;
 
 import com.google.gson.GsonBuilder;
@@ -225,10 +246,14 @@ public interface Launcher<T> {
 	 */
 	public static class Builder<T> {
 
+		private static final Logger LOG = Logger.getLogger(Launcher.class.getName());
+
 		protected Collection<Object> localServices;
 		protected Collection<Class<? extends T>> remoteInterfaces;
 		protected InputStream input;
 		protected OutputStream output;
+		protected ByteChannel channel;
+		protected AsynchronousByteChannel asynchronousChannel;
 		protected ExecutorService executorService;
 		protected Function<MessageConsumer, MessageConsumer> messageWrapper;
 		protected Function<Throwable, ResponseError> exceptionHandler;
@@ -236,6 +261,28 @@ public interface Launcher<T> {
 		protected Consumer<GsonBuilder> configureGson;
 		protected ClassLoader classLoader;
 		protected MessageTracer messageTracer;
+		protected int outgoingMessageQueueCapacity;
+		protected int outgoingMessageStarvationLimit;
+		protected Set<String> lowPriorityMethods = PriorityMessageConsumer.DEFAULT_LOW_PRIORITY_METHODS;
+		protected int decodingWorkerCount;
+		protected boolean decodeParamsLazily;
+		protected StringPool stringPool;
+		protected boolean useGeneratedTypeAdapters;
+		protected Duration requestTimeout;
+		protected Map<String, Duration> methodRequestTimeouts;
+		protected Map<String, ExecutionPolicy> executionPolicies;
+		protected Map<String, Executor> executionPools;
+		protected MessageScheduler messageScheduler;
+		protected SupersessionPolicy supersessionPolicy;
+		protected AdmissionControl admissionControl;
+		protected Duration notificationCoalescingWindow;
+		protected Function<NotificationMessage, Object> notificationKeyFunction;
+		protected boolean useVirtualThreads;
+		private ExecutorService virtualThreadExecutor;
+		/** The queued consumer of outgoing messages of the launcher that is being created */
+		private QueuedMessageConsumer outgoingMessageQueue;
+		/** The asynchronous channel consumer of outgoing messages of the launcher that is being created */
+		private AsynchronousChannelMessageConsumer outgoingChannelQueue;
 
 		public Builder<T> setLocalService(Object localService) {
 			this.localServices = Collections.singletonList(localService);
@@ -267,6 +314,32 @@ public interface Launcher<T> {
 			return this;
 		}
 
+		/**
+		 * Use a channel in blocking mode, e.g. a {@link java.nio.channels.SocketChannel}, for incoming and outgoing
+		 * messages instead of an input and an output stream. Messages are read and written with direct byte buffers.
+		 */
+		public Builder<T> setChannel(ByteChannel channel) {
+			this.channel = channel;
+			return this;
+		}
+
+		/**
+		 * Use an asynchronous channel, e.g. an {@link java.nio.channels.AsynchronousSocketChannel}, for incoming
+		 * and outgoing messages instead of an input and an output stream. No thread is blocked while waiting for
+		 * incoming messages: they are processed in the threads that complete the channel's read operations,
+		 * and outgoing messages are queued and written without waiting for the channel.
+		 * <p>
+		 * The capacity of the queue of outgoing messages is given by {@link #queueOutgoingMessages(int)}, or the
+		 * default capacity if it is not set. An asynchronous channel cannot be combined with
+		 * {@link #prioritizeOutgoingMessages(int)} or {@link #decodeMessagesInParallel(int)}.
+		 *
+		 * @see AsynchronousChannelMessageConsumer
+		 */
+		public Builder<T> setChannel(AsynchronousByteChannel channel) {
+			this.asynchronousChannel = channel;
+			return this;
+		}
+
 		public Builder<T> setExecutorService(ExecutorService executorService) {
 			this.executorService = executorService;
 			return this;
@@ -304,16 +377,251 @@ public interface Launcher<T> {
 			return this;
 		}
 
+		/**
+		 * Write outgoing messages in a dedicated thread instead of the thread that sends them.
+		 * Messages are queued and written in batches with a single flush per batch, which reduces the
+		 * number of system calls when many messages are sent in a short time.
+		 * <p>
+		 * The writer thread stops when listening for incoming messages ends. Since messages are written
+		 * asynchronously, a request whose message cannot be written does not fail when it is sent; instead, all
+		 * pending requests fail with the cause when writing fails.
+		 * <p>
+		 * With an asynchronous channel, see {@link #setChannel(AsynchronousByteChannel)}, outgoing messages are
+		 * always queued, and the given capacity replaces the default capacity of its queue.
+		 *
+		 * @param queueCapacity - the maximal number of queued messages, or 0 to write messages directly
+		 * @see QueuedMessageConsumer
+		 */
+		public Builder<T> queueOutgoingMessages(int queueCapacity) {
+			if (queueCapacity < 0)
+				throw new IllegalArgumentException("Queue capacity must not be negative: " + queueCapacity);
+			this.outgoingMessageQueueCapacity = queueCapacity;
+			return this;
+		}
+
+		/**
+		 * Write outgoing messages in a dedicated thread by priority, so other messages may overtake bulk
+		 * notifications such as log messages and telemetry events that have been sent earlier. All other
+		 * messages keep their order. The capacity of the queue of each priority is given by
+		 * {@link #queueOutgoingMessages(int)}, or the default capacity if it is not set.
+		 * <p>
+		 * This is not supported with an asynchronous channel, see {@link #setChannel(AsynchronousByteChannel)}.
+		 *
+		 * @param starvationLimit - the number of messages with higher priority that are written in a row before
+		 *			a waiting message of lower priority is written, or 0 to keep the order of outgoing messages
+		 * @see PriorityMessageConsumer
+		 */
+		public Builder<T> prioritizeOutgoingMessages(int starvationLimit) {
+			return prioritizeOutgoingMessages(starvationLimit, PriorityMessageConsumer.DEFAULT_LOW_PRIORITY_METHODS);
+		}
+
+		/**
+		 * Write outgoing messages in a dedicated thread by priority, so other messages may overtake the
+		 * notifications of the given methods that have been sent earlier, e.g. {@code textDocument/publishDiagnostics}.
+		 * No later message may depend on these notifications. All other messages keep their order.
+		 *
+		 * @param starvationLimit - the number of messages with higher priority that are written in a row before
+		 *			a waiting message of lower priority is written, or 0 to keep the order of outgoing messages
+		 * @param lowPriorityMethods - the methods of notifications that may be overtaken by later messages
+		 * @see #prioritizeOutgoingMessages(int)
+		 */
+		public Builder<T> prioritizeOutgoingMessages(int starvationLimit, Set<String> lowPriorityMethods) {
+			if (starvationLimit < 0)
+				throw new IllegalArgumentException("Starvation limit must not be negative: " + starvationLimit);
+			this.outgoingMessageStarvationLimit = starvationLimit;
+			this.lowPriorityMethods = Set.copyOf(lowPriorityMethods);
+			return this;
+		}
+
+		/**
+		 * Parse incoming messages in a pool of worker threads instead of the thread that reads them, so that
+		 * parsing a large message does not hold up the messages that follow it. Messages referring to the same
+		 * document and cancellations of requests are still passed to the local services in their original order.
+		 * <p>
+		 * This is not supported with an asynchronous channel, see {@link #setChannel(AsynchronousByteChannel)}.
+		 *
+		 * @param workerCount - the number of worker threads, or 0 to parse messages in the reading thread
+		 * @see ParallelDecodingMessageProducer
+		 */
+		public Builder<T> decodeMessagesInParallel(int workerCount) {
+			if (workerCount < 0)
+				throw new IllegalArgumentException("Worker count must not be negative: " + workerCount);
+			this.decodingWorkerCount = workerCount;
+			return this;
+		}
+
+		/**
+		 * Convert the parameters of incoming requests and notifications to the parameter types of their method
+		 * only when they are first accessed, typically in the thread that calls the local service method.
+		 * Messages that are dropped before, e.g. requests that are cancelled while they wait for an executor,
+		 * are not converted at all. Parameters are still converted when the message is read if they are needed
+		 * earlier, e.g. for validation or by a {@link MessageScheduler}.
+		 *
+		 * @see MessageJsonHandler#setDecodeParamsLazily(boolean)
+		 */
+		public Builder<T> decodeParamsLazily(boolean decodeParamsLazily) {
+			this.decodeParamsLazily = decodeParamsLazily;
+			return this;
+		}
+
+		/**
+		 * Read string fields whose values are typically repeated, e.g. URIs, through the given pool, so equal
+		 * strings of received messages share one instance. Only fields that are annotated with
+		 * {@code @JsonAdapter(StringPoolTypeAdapter.Factory.class)} are affected.
+		 *
+		 * @see StringPoolTypeAdapter#registerStringPool(GsonBuilder, StringPool)
+		 */
+		public Builder<T> deduplicateStrings(StringPool stringPool) {
+			this.stringPool = stringPool;
+			return this;
+		}
+
+		/**
+		 * Serialize protocol classes with the type adapters that have been generated for them instead of Gson's
+		 * reflective type adapter. The generated adapters ignore exclusion strategies, {@code @Expose},
+		 * {@code @Since} and {@code @Until}, so this must not be enabled if {@link #configureGson(Consumer)}
+		 * configures any of them.
+		 *
+		 * @see GeneratedTypeAdapter#enableGeneratedTypeAdapters(GsonBuilder)
+		 */
+		public Builder<T> useGeneratedTypeAdapters(boolean useGeneratedTypeAdapters) {
+			this.useGeneratedTypeAdapters = useGeneratedTypeAdapters;
+			return this;
+		}
+
+		/**
+		 * Fail requests sent to the remote endpoint with a {@link java.util.concurrent.TimeoutException} if no
+		 * response has been received within the given time. The remote endpoint is notified that they have been
+		 * cancelled.
+		 *
+		 * @param timeout - the timeout for requests whose method has no timeout of its own
+		 * @see RemoteEndpoint#setRequestTimeout(Duration)
+		 */
+		public Builder<T> setRequestTimeout(Duration timeout) {
+			this.requestTimeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Set the timeout for requests of the given method, overriding the timeout set with
+		 * {@link #setRequestTimeout(Duration)}.
+		 *
+		 * @see RemoteEndpoint#setRequestTimeout(String, Duration)
+		 */
+		public Builder<T> setRequestTimeout(String method, Duration timeout) {
+			if (methodRequestTimeouts == null)
+				methodRequestTimeouts = new LinkedHashMap<>();
+			methodRequestTimeouts.put(method, timeout);
+			return this;
+		}
+
+		/**
+		 * Set how the local service method for incoming messages of the given method is called, overriding the
+		 * policy declared by the {@code execution} attribute of its annotation. For example, a sequential lane
+		 * keeps document changes in order, while a pool lets requests that only read run in parallel.
+		 *
+		 * @see ExecutionPolicy
+		 */
+		public Builder<T> setExecutionPolicy(String method, ExecutionPolicy policy) {
+			if (executionPolicies == null)
+				executionPolicies = new LinkedHashMap<>();
+			executionPolicies.put(method, policy);
+			return this;
+		}
+
+		/**
+		 * Use the given executor for the pool with the given name. Pools that are not set here get one thread
+		 * per available processor.
+		 *
+		 * @see ExecutionPolicy#pooled(String)
+		 */
+		public Builder<T> setExecutionPool(String name, Executor executor) {
+			if (executionPools == null)
+				executionPools = new LinkedHashMap<>();
+			executionPools.put(name, executor);
+			return this;
+		}
+
+		/**
+		 * Set the scheduler that chooses the executor for incoming messages whose method has no execution policy
+		 * of its own, for example based on the document that their parameters refer to.
+		 *
+		 * @see MessageScheduler
+		 */
+		public Builder<T> setMessageScheduler(MessageScheduler scheduler) {
+			this.messageScheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Set the policy that decides which incoming requests are cancelled because newer messages have made
+		 * them stale, for example a newer request for the same document.
+		 *
+		 * @see SupersessionPolicy
+		 */
+		public Builder<T> setSupersessionPolicy(SupersessionPolicy policy) {
+			this.supersessionPolicy = policy;
+			return this;
+		}
+
+		/**
+		 * Limit the number of incoming requests that are handled at the same time. Requests that would exceed
+		 * a limit are rejected, or pending requests are cancelled to make room for them.
+		 *
+		 * @see AdmissionControl
+		 */
+		public Builder<T> setAdmissionControl(AdmissionControl admissionControl) {
+			this.admissionControl = admissionControl;
+			return this;
+		}
+
+		/**
+		 * Hold back outgoing notifications for the given time window, so a newer notification with the same key
+		 * replaces an older one that has not been sent yet. The order relative to other messages is kept.
+		 *
+		 * @param window - the time for which notifications are held back, or {@code null} to send them immediately
+		 * @param keyFunction - returns the key of a notification, or {@code null} if it must not be coalesced
+		 * @see CoalescingMessageConsumer
+		 */
+		public Builder<T> coalesceNotifications(Duration window, Function<NotificationMessage, Object> keyFunction) {
+			if (window != null && keyFunction == null)
+				throw new NullPointerException("keyFunction");
+			this.notificationCoalescingWindow = window;
+			this.notificationKeyFunction = keyFunction;
+			return this;
+		}
+
+		/**
+		 * Run the local service methods for incoming requests, the sequential lanes of execution policies and
+		 * {@link CompletableFutures#computeAsync(java.util.function.Function)} calls of the request handlers in
+		 * virtual threads, so request handlers that block, for example on I/O, do not need a platform thread each.
+		 * {@code computeAsync} calls outside of the request handlers of this launcher are not affected, see
+		 * {@link RemoteEndpoint#setRequestExecutor(Executor)}. Incoming requests then no longer wait for each
+		 * other, while notifications are still handled in the thread that reads the incoming messages, unless
+		 * their execution policy says otherwise.
+		 * <p>
+		 * Virtual threads are available on Java 21 and later. On older runtimes this option has no effect.
+		 */
+		public Builder<T> useVirtualThreads(boolean useVirtualThreads) {
+			this.useVirtualThreads = useVirtualThreads;
+			return this;
+		}
+
 		public Launcher<T> create() {
 			// Validate input
-			if (input == null)
+			boolean hasChannel = channel != null || asynchronousChannel != null;
+			if (input == null && !hasChannel)
 				throw new IllegalStateException("Input stream must be configured.");
-			if (output == null)
+			if (output == null && !hasChannel)
 				throw new IllegalStateException("Output stream must be configured.");
 			if (localServices == null)
 				throw new IllegalStateException("Local service must be configured.");
 			if (remoteInterfaces == null)
 				throw new IllegalStateException("Remote interface must be configured.");
+			if (asynchronousChannel != null && outgoingMessageStarvationLimit > 0)
+				throw new IllegalStateException("Outgoing messages cannot be prioritized with an asynchronous channel.");
+			if (asynchronousChannel != null && decodingWorkerCount > 0)
+				throw new IllegalStateException("Incoming messages cannot be decoded in parallel with an asynchronous channel.");
 
 			// Create the JSON handler, remote endpoint and remote proxy
 			MessageJsonHandler jsonHandler = createJsonHandler();
@@ -321,13 +629,31 @@ public interface Launcher<T> {
 				messageTracer.setJsonHandler(jsonHandler);
 			}
 			RemoteEndpoint remoteEndpoint = createRemoteEndpoint(jsonHandler);
+			configureRemoteEndpoint(remoteEndpoint);
 			T remoteProxy = createProxy(remoteEndpoint);
 
 			// Create the message processor
-			final var reader = new StreamMessageProducer(input, jsonHandler, remoteEndpoint);
+			MessageProducer reader = createMessageProducer(jsonHandler, remoteEndpoint);
 			MessageConsumer messageConsumer = wrapMessageConsumer(remoteEndpoint);
 			ConcurrentMessageProcessor msgProcessor = createMessageProcessor(reader, messageConsumer, remoteProxy);
-			ExecutorService execService = executorService != null ? executorService : Executors.newCachedThreadPool();
+			QueuedMessageConsumer queuedConsumer = outgoingMessageQueue;
+			outgoingMessageQueue = null;
+			if (queuedConsumer != null) {
+				// Stop the writer thread when listening ends, and fail the requests that will not be answered if writing fails
+				queuedConsumer.setFailureHandler(remoteEndpoint::failPendingRequests);
+				msgProcessor.closeOnProcessingEnd(queuedConsumer);
+			}
+			AsynchronousChannelMessageConsumer channelConsumer = outgoingChannelQueue;
+			outgoingChannelQueue = null;
+			if (channelConsumer != null) {
+				channelConsumer.setFailureHandler(remoteEndpoint::failPendingRequests);
+				msgProcessor.closeOnProcessingEnd(channelConsumer);
+			}
+			ExecutorService execService = executorService;
+			if (execService == null)
+				execService = getVirtualThreadExecutor();
+			if (execService == null)
+				execService = Executors.newCachedThreadPool();
 			return createLauncher(execService, remoteProxy, remoteEndpoint, msgProcessor);
 		}
 
@@ -336,17 +662,31 @@ public interface Launcher<T> {
 		 */
 		protected MessageJsonHandler createJsonHandler() {
 			Map<String, JsonRpcMethod> supportedMethods = getSupportedMethods();
-			if (configureGson != null)
-				return new MessageJsonHandler(supportedMethods, configureGson);
-			return new MessageJsonHandler(supportedMethods);
+			MessageJsonHandler jsonHandler;
+			if (stringPool != null || useGeneratedTypeAdapters) {
+				jsonHandler = new MessageJsonHandler(supportedMethods, gsonBuilder -> {
+					if (stringPool != null)
+						StringPoolTypeAdapter.registerStringPool(gsonBuilder, stringPool);
+					if (useGeneratedTypeAdapters)
+						GeneratedTypeAdapter.enableGeneratedTypeAdapters(gsonBuilder);
+					if (configureGson != null)
+						configureGson.accept(gsonBuilder);
+				});
+			} else if (configureGson != null)
+				jsonHandler = new MessageJsonHandler(supportedMethods, configureGson);
+			else
+				jsonHandler = new MessageJsonHandler(supportedMethods);
+			jsonHandler.setDecodeParamsLazily(decodeParamsLazily);
+			return jsonHandler;
 		}
 
 		/**
 		 * Create the remote endpoint that communicates with the local services.
 		 */
 		protected RemoteEndpoint createRemoteEndpoint(MessageJsonHandler jsonHandler) {
-			MessageConsumer outgoingMessageStream = new StreamMessageConsumer(output, jsonHandler);
+			MessageConsumer outgoingMessageStream = createOutgoingMessageStream(jsonHandler);
 			outgoingMessageStream = wrapMessageConsumer(outgoingMessageStream);
+			outgoingMessageStream = wrapNotificationCoalescing(outgoingMessageStream);
 			Endpoint localEndpoint = ServiceEndpoints.toEndpoint(localServices);
 			RemoteEndpoint remoteEndpoint;
 			if (exceptionHandler == null)
@@ -358,6 +698,57 @@ public interface Launcher<T> {
 			return remoteEndpoint;
 		}
 
+		/**
+		 * Hold back outgoing notifications in a {@link CoalescingMessageConsumer} if notification coalescing
+		 * has been configured.
+		 */
+		protected MessageConsumer wrapNotificationCoalescing(MessageConsumer outgoingMessageStream) {
+			if (notificationCoalescingWindow == null)
+				return outgoingMessageStream;
+			return new CoalescingMessageConsumer(outgoingMessageStream, notificationKeyFunction, notificationCoalescingWindow);
+		}
+
+		/**
+		 * Create the message consumer that writes outgoing messages to the output stream or channel.
+		 */
+		protected MessageConsumer createOutgoingMessageStream(MessageJsonHandler jsonHandler) {
+			if (asynchronousChannel != null) {
+				int queueCapacity = outgoingMessageQueueCapacity > 0 ? outgoingMessageQueueCapacity : AsynchronousChannelMessageConsumer.DEFAULT_QUEUE_CAPACITY;
+				outgoingChannelQueue = new AsynchronousChannelMessageConsumer(asynchronousChannel, jsonHandler, queueCapacity);
+				return outgoingChannelQueue;
+			}
+			if (outgoingMessageStarvationLimit > 0) {
+				OutputStream out = channel != null ? Channels.newOutputStream(channel) : output;
+				int queueCapacity = outgoingMessageQueueCapacity > 0 ? outgoingMessageQueueCapacity : PriorityMessageConsumer.DEFAULT_QUEUE_CAPACITY;
+				outgoingMessageQueue = new PriorityMessageConsumer(out, StandardCharsets.UTF_8.name(), jsonHandler, queueCapacity,
+						outgoingMessageStarvationLimit, lowPriorityMethods);
+				return outgoingMessageQueue;
+			}
+			if (outgoingMessageQueueCapacity > 0) {
+				OutputStream out = channel != null ? Channels.newOutputStream(channel) : output;
+				outgoingMessageQueue = new QueuedMessageConsumer(out, jsonHandler, outgoingMessageQueueCapacity);
+				return outgoingMessageQueue;
+			}
+			if (channel != null)
+				return new ChannelMessageConsumer(channel, jsonHandler);
+			return new StreamMessageConsumer(output, jsonHandler);
+		}
+
+		/**
+		 * Create the message producer that reads incoming messages from the input stream or channel.
+		 */
+		protected MessageProducer createMessageProducer(MessageJsonHandler jsonHandler, RemoteEndpoint remoteEndpoint) {
+			if (asynchronousChannel != null)
+				return new AsynchronousChannelMessageProducer(asynchronousChannel, jsonHandler, remoteEndpoint);
+			if (decodingWorkerCount > 0) {
+				InputStream in = channel != null ? Channels.newInputStream(channel) : input;
+				return new ParallelDecodingMessageProducer(in, jsonHandler, remoteEndpoint, decodingWorkerCount);
+			}
+			if (channel != null)
+				return new ChannelMessageProducer(channel, jsonHandler, remoteEndpoint);
+			return new StreamMessageProducer(input, jsonHandler, remoteEndpoint);
+		}
+
 		/**
 		 * Create the proxy for calling methods on the remote service.
 		 */
@@ -369,11 +760,53 @@ public interface Launcher<T> {
 			return (T) ServiceEndpoints.toServiceObject(remoteEndpoint, (Collection<Class<?>>) (Object) remoteInterfaces, classLoader);
 		}
 
+		/**
+		 * Apply the configured request timeouts, execution policies, message scheduler, supersession policy and
+		 * admission control to the remote endpoint.
+		 */
+		protected void configureRemoteEndpoint(RemoteEndpoint remoteEndpoint) {
+			ExecutorService virtualThreads = getVirtualThreadExecutor();
+			if (virtualThreads != null) {
+				remoteEndpoint.setRequestExecutor(virtualThreads);
+				remoteEndpoint.setMethodExecutors(new MethodExecutors(virtualThreads));
+			} else if (useVirtualThreads) {
+				LOG.info("Virtual threads require Java 21 or later, platform threads are used instead.");
+			}
+			if (requestTimeout != null)
+				remoteEndpoint.setRequestTimeout(requestTimeout);
+			if (methodRequestTimeouts != null)
+				methodRequestTimeouts.forEach(remoteEndpoint::setRequestTimeout);
+			if (executionPolicies != null)
+				executionPolicies.forEach(remoteEndpoint::setExecutionPolicy);
+			if (executionPools != null)
+				executionPools.forEach(remoteEndpoint.getMethodExecutors()::setPool);
+			if (messageScheduler != null)
+				remoteEndpoint.setMessageScheduler(messageScheduler);
+			if (supersessionPolicy != null)
+				remoteEndpoint.setSupersessionPolicy(supersessionPolicy);
+			if (admissionControl != null)
+				remoteEndpoint.setAdmissionControl(admissionControl);
+		}
+
+		/**
+		 * The executor that starts a virtual thread for each task if virtual threads have been enabled with
+		 * {@link #useVirtualThreads(boolean)} and are available, otherwise {@code null}.
+		 */
+		protected ExecutorService getVirtualThreadExecutor() {
+			if (!useVirtualThreads || !VirtualThreads.isAvailable())
+				return null;
+			if (virtualThreadExecutor == null)
+				virtualThreadExecutor = VirtualThreads.newThreadPerTaskExecutor("LSP4J Virtual Thread");
+			return virtualThreadExecutor;
+		}
+
 		/**
 		 * Create the message processor that listens to the input stream.
 		 */
 		protected ConcurrentMessageProcessor createMessageProcessor(MessageProducer reader,
 				MessageConsumer messageConsumer, T remoteProxy) {
+			if (reader instanceof AsynchronousChannelMessageProducer)
+				return new AsynchronousMessageProcessor((AsynchronousChannelMessageProducer) reader, messageConsumer);
 			return new ConcurrentMessageProcessor(reader, messageConsumer);
 		}
 
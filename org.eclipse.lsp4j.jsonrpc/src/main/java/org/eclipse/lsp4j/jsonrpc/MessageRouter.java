@@ -0,0 +1,291 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageConstants;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.PassthroughMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.RawMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+/**
+ * Routes messages between several client connections and a single server connection without converting
+ * them to protocol types. Messages are read with a {@link PassthroughMessageProducer} and sent with
+ * a {@link StreamMessageConsumer}, so their content is copied unchanged except for the ids that are rewritten.
+ * <p>
+ * Messages received from the server are passed to {@link #consume(Message)}, messages received from a client
+ * are passed to the {@link Connection} returned by {@link #connect(MessageConsumer)} for that client.
+ * <ul>
+ * <li>Requests of clients are forwarded to the server with ids assigned by the router, so requests of different
+ * clients cannot collide. The response of the server is forwarded to the client that sent the request, with the
+ * original id restored. {@code $/cancelRequest} notifications of clients are rewritten accordingly.
+ * <li>Requests of the server are forwarded to the client selected by {@link #selectRequestTarget(RawMessage)} with
+ * their original id, and the response of that client is forwarded to the server.
+ * <li>Notifications of the server are forwarded to the clients selected by
+ * {@link #selectNotificationTargets(RawMessage)}.
+ * </ul>
+ * When a connection is closed, its pending requests are cancelled at the server, and pending requests of the
+ * server are answered with an error.
+ */
+public class MessageRouter implements MessageConsumer {
+
+	private static final Logger LOG = Logger.getLogger(MessageRouter.class.getName());
+
+	private static final class PendingRequest {
+		final Connection connection;
+		final Either<String, Number> originalId;
+
+		PendingRequest(Connection connection, Either<String, Number> originalId) {
+			this.connection = connection;
+			this.originalId = originalId;
+		}
+	}
+
+	private final MessageConsumer server;
+
+	private final AtomicInteger nextRequestId = new AtomicInteger();
+
+	/** Requests sent to the server, keyed by the id assigned by the router */
+	private final RequestIdMap<PendingRequest> clientRequests = new RequestIdMap<>();
+
+	/** Requests received from the server, keyed by their original id */
+	private final RequestIdMap<Connection> serverRequests = new RequestIdMap<>();
+
+	private final List<Connection> connections = new CopyOnWriteArrayList<>();
+
+	/**
+	 * @param server - the consumer that sends messages to the server
+	 */
+	public MessageRouter(MessageConsumer server) {
+		this.server = server;
+	}
+
+	/**
+	 * Add a client connection.
+	 *
+	 * @param client - the consumer that sends messages to the client
+	 * @return the consumer for messages received from the client
+	 */
+	public Connection connect(MessageConsumer client) {
+		final var connection = new Connection(client);
+		connections.add(connection);
+		return connection;
+	}
+
+	/**
+	 * The client connections that have not been closed, in the order they have been added.
+	 */
+	public List<Connection> getConnections() {
+		return new ArrayList<>(connections);
+	}
+
+	/**
+	 * Route a message that has been received from the server.
+	 */
+	@Override
+	public void consume(Message message) throws MessageIssueException, JsonRpcException {
+		RawMessage rawMessage = toRawMessage(message);
+		if (rawMessage.isResponse()) {
+			String id = rawMessage.getId();
+			PendingRequest request = id != null ? clientRequests.remove(id) : null;
+			if (request == null) {
+				LOG.warning("Unmatched response message: " + rawMessage);
+				return;
+			}
+			request.connection.pendingRequests.remove(toString(request.originalId));
+			request.connection.client.consume(rawMessage.withId(request.originalId));
+		} else if (rawMessage.isRequest()) {
+			Connection target = selectRequestTarget(rawMessage);
+			if (target == null) {
+				server.consume(createErrorResponse(rawMessage.getRawId(), ResponseErrorCode.RequestFailed,
+						"No client connection for request: " + rawMessage.getMethod()));
+				return;
+			}
+			Either<String, Number> id = rawMessage.getRawId();
+			if (id != null) {
+				serverRequests.put(toString(id), target);
+				target.serverRequests.put(toString(id), id);
+			}
+			target.client.consume(rawMessage);
+		} else if (isCancellation(rawMessage)) {
+			Connection target = serverRequests.get(rawMessage.getCancelledId());
+			if (target != null)
+				target.client.consume(rawMessage);
+		} else {
+			for (Connection target : selectNotificationTargets(rawMessage)) {
+				target.client.consume(rawMessage);
+			}
+		}
+	}
+
+	/**
+	 * Select the client connection that receives the given request of the server. This implementation
+	 * selects the connection that has been added first.
+	 *
+	 * @return the selected connection, or {@code null} if the request should be answered with an error
+	 */
+	protected Connection selectRequestTarget(RawMessage request) {
+		return connections.isEmpty() ? null : connections.get(0);
+	}
+
+	/**
+	 * Select the client connections that receive the given notification of the server. This implementation
+	 * selects all connections.
+	 */
+	protected Iterable<Connection> selectNotificationTargets(RawMessage notification) {
+		return connections;
+	}
+
+	/**
+	 * Route a message that has been received from the given client connection.
+	 */
+	protected void route(Connection connection, Message message) {
+		RawMessage rawMessage = toRawMessage(message);
+		Either<String, Number> originalId = rawMessage.getRawId();
+		if (rawMessage.isRequest() && originalId != null) {
+			int id = nextRequestId.incrementAndGet();
+			clientRequests.put(Integer.toString(id), new PendingRequest(connection, originalId));
+			connection.pendingRequests.put(toString(originalId), id);
+			server.consume(rawMessage.withId(Either.forRight(id)));
+		} else if (rawMessage.isResponse()) {
+			String id = rawMessage.getId();
+			Connection target = id != null ? serverRequests.get(id) : null;
+			if (target != connection) {
+				LOG.warning("Unmatched response message: " + rawMessage);
+				return;
+			}
+			serverRequests.remove(id);
+			connection.serverRequests.remove(id);
+			server.consume(rawMessage);
+		} else if (isCancellation(rawMessage)) {
+			Integer id = connection.pendingRequests.get(rawMessage.getCancelledId());
+			if (id != null)
+				server.consume(rawMessage.withCancelledId(Either.forRight(id)));
+		} else {
+			server.consume(rawMessage);
+		}
+	}
+
+	/**
+	 * Remove the given client connection. Its pending requests are cancelled, and pending requests of the server
+	 * that have been forwarded to it are answered with an error.
+	 */
+	protected void disconnect(Connection connection) {
+		if (!connections.remove(connection))
+			return;
+		for (Integer id : connection.pendingRequests.values()) {
+			if (clientRequests.remove(id.toString()) != null) {
+				final var params = new JsonObject();
+				params.addProperty("id", id);
+				final var notification = new JsonObject();
+				notification.addProperty("jsonrpc", MessageConstants.JSONRPC_VERSION);
+				notification.addProperty("method", MessageJsonHandler.CANCEL_METHOD.getMethodName());
+				notification.add("params", params);
+				server.consume(toRawMessage(notification));
+			}
+		}
+		connection.pendingRequests.clear();
+		for (Map.Entry<String, Either<String, Number>> entry : connection.serverRequests.entrySet()) {
+			if (serverRequests.remove(entry.getKey()) != null) {
+				server.consume(createErrorResponse(entry.getValue(), ResponseErrorCode.RequestCancelled,
+						"The client connection has been closed."));
+			}
+		}
+		connection.serverRequests.clear();
+	}
+
+	private static boolean isCancellation(RawMessage message) {
+		return message.isNotification() && message.getCancelledId() != null;
+	}
+
+	private static RawMessage createErrorResponse(Either<String, Number> id, ResponseErrorCode code, String message) {
+		final var error = new JsonObject();
+		error.addProperty("code", code.getValue());
+		error.addProperty("message", message);
+		final var response = new JsonObject();
+		response.addProperty("jsonrpc", MessageConstants.JSONRPC_VERSION);
+		response.add("id", JsonNull.INSTANCE);
+		response.add("error", error);
+		return toRawMessage(response).withId(id);
+	}
+
+	private static RawMessage toRawMessage(JsonObject content) {
+		byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+		return RawMessage.parse(bytes, 0, bytes.length);
+	}
+
+	private static RawMessage toRawMessage(Message message) {
+		if (!(message instanceof RawMessage))
+			throw new IllegalArgumentException("Only raw messages can be routed, but got " + message.getClass().getName());
+		return (RawMessage) message;
+	}
+
+	private static String toString(Either<String, Number> id) {
+		if (id == null)
+			return null;
+		return id.isLeft() ? id.getLeft() : id.getRight().toString();
+	}
+
+	/**
+	 * A client connection of a {@link MessageRouter}, which consumes the messages received from the client.
+	 */
+	public class Connection implements MessageConsumer {
+
+		private final MessageConsumer client;
+
+		/** Ids assigned by the router to the pending requests of this client, keyed by their original id */
+		private final Map<String, Integer> pendingRequests = new ConcurrentHashMap<>();
+
+		/** Original ids of the pending requests of the server that have been forwarded to this client */
+		private final Map<String, Either<String, Number>> serverRequests = new ConcurrentHashMap<>();
+
+		Connection(MessageConsumer client) {
+			this.client = client;
+		}
+
+		@Override
+		public void consume(Message message) throws MessageIssueException, JsonRpcException {
+			route(this, message);
+		}
+
+		/**
+		 * Remove this connection from the router.
+		 */
+		public void close() {
+			disconnect(this);
+		}
+
+		/**
+		 * The number of requests of this client that have not been answered by the server yet.
+		 */
+		public int getPendingRequestCount() {
+			return pendingRequests.size();
+		}
+
+	}
+
+}
@@ -0,0 +1,29 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Chooses the executor in which {@link RemoteEndpoint} calls the local service method for an incoming
+ * request or notification, based on its method and parameters. A scheduler is asked for messages whose method
+ * has an inline {@link ExecutionPolicy}.
+ */
+public interface MessageScheduler {
+
+	/**
+	 * @return the executor for the given message, or {@code null} to call the local service method in the
+	 *			thread that reads the incoming messages
+	 */
+	Executor getExecutor(String method, Object parameter);
+
+}
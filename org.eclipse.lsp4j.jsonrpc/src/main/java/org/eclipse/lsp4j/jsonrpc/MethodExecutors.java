@@ -0,0 +1,124 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.jsonrpc.util.SerialExecutor;
+
+/**
+ * The executors of the pools and sequential lanes named by {@link ExecutionPolicy}s.
+ * <p>
+ * A pool that has not been set explicitly is created when it is first used, with one thread per available
+ * processor and a bounded queue of waiting tasks. When the queue is full, the pool rejects further tasks
+ * with a {@link RejectedExecutionException}, and the remote endpoint answers the rejected request with
+ * {@link org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode#ServerCancelled}. Sequential lanes run in the threads of a shared executor, which by default creates threads on
+ * demand. Threads created here are daemon threads and terminate when they have been idle for a minute.
+ */
+public class MethodExecutors {
+
+	public static final int DEFAULT_POOL_QUEUE_CAPACITY = 1024;
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private final Map<String, Executor> pools = new ConcurrentHashMap<>();
+	private final Map<String, SerialExecutor> lanes = new ConcurrentHashMap<>();
+	private final Executor laneExecutor;
+	private final int defaultPoolSize;
+	private final int poolQueueCapacity;
+
+	public MethodExecutors() {
+		this(null);
+	}
+
+	/**
+	 * @param laneExecutor - the executor that runs the sequential lanes, or {@code null} to create threads on demand
+	 */
+	public MethodExecutors(Executor laneExecutor) {
+		this(laneExecutor, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param laneExecutor - the executor that runs the sequential lanes, or {@code null} to create threads on demand
+	 * @param defaultPoolSize - the number of threads of pools that are not set explicitly
+	 */
+	public MethodExecutors(Executor laneExecutor, int defaultPoolSize) {
+		this(laneExecutor, defaultPoolSize, DEFAULT_POOL_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * @param laneExecutor - the executor that runs the sequential lanes, or {@code null} to create threads on demand
+	 * @param defaultPoolSize - the number of threads of pools that are not set explicitly
+	 * @param poolQueueCapacity - the number of tasks that wait for a thread of a pool that is not set explicitly
+	 *			before further tasks are rejected
+	 */
+	public MethodExecutors(Executor laneExecutor, int defaultPoolSize, int poolQueueCapacity) {
+		if (defaultPoolSize <= 0)
+			throw new IllegalArgumentException("defaultPoolSize must be positive: " + defaultPoolSize);
+		if (poolQueueCapacity <= 0)
+			throw new IllegalArgumentException("poolQueueCapacity must be positive: " + poolQueueCapacity);
+		this.laneExecutor = laneExecutor != null ? laneExecutor : Executors.newCachedThreadPool(threadFactory("LSP4J Sequential Lane"));
+		this.defaultPoolSize = defaultPoolSize;
+		this.poolQueueCapacity = poolQueueCapacity;
+	}
+
+	/**
+	 * Use the given executor for the pool with the given name.
+	 */
+	public void setPool(String name, Executor executor) {
+		if (executor == null)
+			pools.remove(name);
+		else
+			pools.put(name, executor);
+	}
+
+	/**
+	 * Return the executor for the given policy, or {@code null} for an inline policy.
+	 */
+	public Executor getExecutor(ExecutionPolicy policy) {
+		switch (policy.getKind()) {
+		case POOLED:
+			return pools.computeIfAbsent(policy.getExecutor(), this::createPool);
+		case SEQUENTIAL:
+			return lanes.computeIfAbsent(policy.getExecutor(), name -> new SerialExecutor(laneExecutor));
+		default:
+			return null;
+		}
+	}
+
+	protected Executor createPool(String name) {
+		final var pool = new ThreadPoolExecutor(defaultPoolSize, defaultPoolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(poolQueueCapacity), threadFactory("LSP4J Pool '" + name + "'"),
+				new ThreadPoolExecutor.AbortPolicy());
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+
+	private static ThreadFactory threadFactory(String name) {
+		final var threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + " " + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+}
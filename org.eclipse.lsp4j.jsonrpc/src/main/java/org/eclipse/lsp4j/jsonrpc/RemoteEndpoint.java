@@ -14,20 +14,31 @@ package org.eclipse.lsp4j.jsonrpc;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.jsonrpc.json.MessageConstants;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
 import org.eclipse.lsp4j.jsonrpc.json.MethodProvider;
+import org.eclipse.lsp4j.jsonrpc.messages.BatchMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.CancelParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
@@ -37,6 +48,8 @@ import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.eclipse.lsp4j.jsonrpc.services.GenericEndpoint;
+import org.eclipse.lsp4j.jsonrpc.util.HashedWheelTimer;
 
 /**
  * An endpoint that can be used to send messages to a given {@link MessageConsumer} by calling
@@ -77,8 +90,26 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 	private MessageJsonHandler jsonHandler;
 
 	private final AtomicInteger nextRequestId = new AtomicInteger();
-	private final Map<String, PendingRequestInfo> sentRequestMap = new LinkedHashMap<>();
-	private final Map<String, CompletableFuture<?>> receivedRequestMap = new LinkedHashMap<>();
+	private final RequestIdMap<PendingRequestInfo> sentRequestMap = new RequestIdMap<>();
+	private final RequestIdMap<CompletableFuture<?>> receivedRequestMap = new RequestIdMap<>();
+
+	private volatile Duration defaultRequestTimeout;
+	private final Map<String, Duration> methodRequestTimeouts = new ConcurrentHashMap<>();
+	private final AtomicLong expiredRequestCount = new AtomicLong();
+
+	private final Map<String, ExecutionPolicy> executionPolicies = new ConcurrentHashMap<>();
+	private volatile MethodExecutors methodExecutors;
+	private volatile MessageScheduler messageScheduler;
+	private volatile Executor requestExecutor;
+
+	private volatile SupersessionPolicy supersessionPolicy;
+	private final Map<Object, Map<String, String>> supersedableRequests = new ConcurrentHashMap<>();
+	private final AtomicLong supersededRequestCount = new AtomicLong();
+
+	private volatile AdmissionControl admissionControl;
+	private final Map<String, ResponseErrorCode> droppedRequests = new ConcurrentHashMap<>();
+
+	private final Map<String, BatchResponse> batchedRequests = new ConcurrentHashMap<>();
 
 	/**
 	 * Information about requests that have been sent and for which no response has been received yet.
@@ -90,6 +121,41 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 		}
 		RequestMessage requestMessage;
 		CompletableFuture<Object> future;
+		volatile HashedWheelTimer.Timeout timeout;
+
+		void cancelTimeout() {
+			HashedWheelTimer.Timeout t = timeout;
+			if (t != null)
+				t.cancel();
+		}
+	}
+
+	/**
+	 * The responses to the requests of a batch received from the remote endpoint. They are sent in a single
+	 * batch message as soon as all of them are available.
+	 */
+	private class BatchResponse {
+		private final BatchMessage batchMessage = new BatchMessage();
+		private int expectedCount;
+
+		BatchResponse() {
+			batchMessage.setJsonHandler(getJsonHandler());
+		}
+
+		/**
+		 * @return {@code false} if the batch response has already been sent
+		 */
+		boolean add(ResponseMessage responseMessage) {
+			synchronized (this) {
+				if (expectedCount == 0)
+					return false;
+				batchMessage.getMessages().add(responseMessage);
+				if (--expectedCount > 0)
+					return true;
+			}
+			out.consume(batchMessage);
+			return true;
+		}
 	}
 
 	/**
@@ -149,27 +215,359 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 	}
 
 	/**
-	 * Send a request to the remote endpoint.
+	 * Set the time after which requests sent to the remote endpoint fail with a {@link TimeoutException}
+	 * if no response has been received. The remote endpoint is notified that the request has been cancelled.
+	 *
+	 * @param timeout - the timeout for requests without a timeout for their method, or {@code null} for no timeout
+	 */
+	public void setRequestTimeout(Duration timeout) {
+		this.defaultRequestTimeout = timeout;
+	}
+
+	/**
+	 * Set the timeout for requests of the given method, overriding the timeout set with {@link #setRequestTimeout(Duration)}.
+	 *
+	 * @param timeout - the timeout for requests of the method, or {@code null} to use the default timeout
+	 */
+	public void setRequestTimeout(String method, Duration timeout) {
+		if (timeout == null)
+			methodRequestTimeouts.remove(method);
+		else
+			methodRequestTimeouts.put(method, timeout);
+	}
+
+	/**
+	 * The timeout for requests of the given method, or {@code null} if they do not time out.
+	 */
+	public Duration getRequestTimeout(String method) {
+		Duration timeout = methodRequestTimeouts.get(method);
+		return timeout != null ? timeout : defaultRequestTimeout;
+	}
+
+	/**
+	 * Set how the local service method for incoming messages of the given method is called, overriding the
+	 * policy declared by its annotation.
+	 *
+	 * @param policy - the execution policy, or {@code null} to use the declared policy
+	 */
+	public void setExecutionPolicy(String method, ExecutionPolicy policy) {
+		if (policy == null)
+			executionPolicies.remove(method);
+		else
+			executionPolicies.put(method, policy);
+	}
+
+	/**
+	 * The execution policy for incoming messages of the given method. Unless a policy has been set with
+	 * {@link #setExecutionPolicy(String, ExecutionPolicy)}, this is the policy declared by the annotation of
+	 * the local service method.
+	 */
+	public ExecutionPolicy getExecutionPolicy(String method) {
+		ExecutionPolicy policy = executionPolicies.get(method);
+		if (policy != null)
+			return policy;
+		if (localEndpoint instanceof GenericEndpoint)
+			return ((GenericEndpoint) localEndpoint).getExecutionPolicy(method);
+		return ExecutionPolicy.inline();
+	}
+
+	/**
+	 * Set the executors for the pools and sequential lanes of execution policies.
+	 */
+	public void setMethodExecutors(MethodExecutors methodExecutors) {
+		this.methodExecutors = methodExecutors;
+	}
+
+	/**
+	 * The executors for the pools and sequential lanes of execution policies. They are created when first
+	 * needed unless they have been set with {@link #setMethodExecutors(MethodExecutors)}.
+	 */
+	public MethodExecutors getMethodExecutors() {
+		MethodExecutors executors = methodExecutors;
+		if (executors == null) {
+			synchronized (this) {
+				executors = methodExecutors;
+				if (executors == null) {
+					executors = new MethodExecutors();
+					methodExecutors = executors;
+				}
+			}
+		}
+		return executors;
+	}
+
+	/**
+	 * Set the scheduler that chooses the executor for incoming messages whose method has an inline execution policy.
+	 */
+	public void setMessageScheduler(MessageScheduler messageScheduler) {
+		this.messageScheduler = messageScheduler;
+	}
+
+	public MessageScheduler getMessageScheduler() {
+		return messageScheduler;
+	}
+
+	/**
+	 * Set the executor for incoming requests that are neither assigned to an executor by their execution policy
+	 * nor by the message scheduler. Such requests are otherwise handled in the thread that reads the incoming
+	 * messages. With an executor, the local service methods for these requests may run in parallel.
+	 * {@link CompletableFutures#computeAsync(java.util.function.Function)} called by the local service method
+	 * of any incoming request also runs its code in this executor.
+	 *
+	 * @param executor - the executor, or {@code null} to handle requests in the thread that reads the incoming messages
+	 */
+	public void setRequestExecutor(Executor executor) {
+		this.requestExecutor = executor;
+	}
+
+	public Executor getRequestExecutor() {
+		return requestExecutor;
+	}
+
+	/**
+	 * Set the policy that decides which incoming requests are cancelled because newer messages have made them stale.
+	 * The remote endpoint receives a {@link ResponseErrorCode#ContentModified} error for a cancelled request.
+	 *
+	 * @param policy - the supersession policy, or {@code null} to cancel requests only on request of the remote endpoint
+	 */
+	public void setSupersessionPolicy(SupersessionPolicy policy) {
+		this.supersessionPolicy = policy;
+	}
+
+	public SupersessionPolicy getSupersessionPolicy() {
+		return supersessionPolicy;
+	}
+
+	/**
+	 * The number of incoming requests that have been cancelled because they were superseded by newer messages.
+	 */
+	public long getSupersededRequestCount() {
+		return supersededRequestCount.get();
+	}
+
+	/**
+	 * Set the admission control that limits the number of incoming requests that are handled at the same time.
+	 *
+	 * @param admissionControl - the admission control, or {@code null} to handle all incoming requests
+	 */
+	public void setAdmissionControl(AdmissionControl admissionControl) {
+		this.admissionControl = admissionControl;
+	}
+
+	public AdmissionControl getAdmissionControl() {
+		return admissionControl;
+	}
+
+	/**
+	 * The executor in which the local service method for an incoming message is called,
+	 * or {@code null} if it is called in the current thread. The parameter is only requested
+	 * if a message scheduler is set, so lazy parameters are otherwise converted in the executor.
+	 */
+	protected Executor getExecutor(String method, Supplier<Object> parameter) {
+		ExecutionPolicy policy = getExecutionPolicy(method);
+		if (!policy.isInline())
+			return getMethodExecutors().getExecutor(policy);
+		MessageScheduler scheduler = messageScheduler;
+		if (scheduler != null)
+			return scheduler.getExecutor(method, getRoutingParams(parameter));
+		return null;
+	}
+
+	/**
+	 * The parameters of an incoming message for deciding how it is handled. Lazy parameters that cannot be
+	 * converted are reported when the local service method is called, so they are treated as missing here.
+	 */
+	private static Object getRoutingParams(Supplier<Object> parameter) {
+		try {
+			return parameter.get();
+		} catch (ResponseErrorException exception) {
+			return null;
+		}
+	}
+
+	/**
+	 * The number of requests sent to the remote endpoint that have failed because their timeout expired.
+	 */
+	public long getExpiredRequestCount() {
+		return expiredRequestCount.get();
+	}
+
+	/**
+	 * Send a request to the remote endpoint. The request times out after the timeout set for its method.
+	 *
+	 * @see #setRequestTimeout(Duration)
+	 * @see #setRequestTimeout(String, Duration)
 	 */
 	@Override
 	public JsonRpcRequestFuture<Object> request(String method, Object parameter) {
+		return request(method, parameter, getRequestTimeout(method));
+	}
+
+	/**
+	 * Send a request to the remote endpoint, which times out after the given time.
+	 *
+	 * @param timeout - the time after which the request fails with a {@link TimeoutException} if no response
+	 *			has been received, or {@code null} for no timeout
+	 */
+	public JsonRpcRequestFuture<Object> request(String method, Object parameter, Duration timeout) {
 		final RequestMessage requestMessage = createRequestMessage(method, parameter);
 		final var result = new JsonRpcRequestFuture<>(() -> sendCancelNotification(requestMessage.getRawId()));
-		synchronized(sentRequestMap) {
-			// Store request information so it can be handled when the response is received
-			sentRequestMap.put(requestMessage.getId(), new PendingRequestInfo(requestMessage, result));
-		}
+		// Store request information so it can be handled when the response is received
+		final var requestInfo = new PendingRequestInfo(requestMessage, result);
+		sentRequestMap.put(requestMessage.getId(), requestInfo);
 
 		try {
 			// Send the request to the remote service
 			out.consume(requestMessage);
 		} catch (Exception exception) {
 			// The message could not be sent, e.g. because the communication channel was closed
+			sentRequestMap.remove(requestMessage.getId());
 			result.completeExceptionally(exception);
+			return result;
 		}
+
+		scheduleTimeout(requestInfo, timeout);
 		return result;
 	}
 
+	private void scheduleTimeout(PendingRequestInfo requestInfo, Duration timeout) {
+		if (timeout != null && !timeout.isZero() && !timeout.isNegative()) {
+			final RequestMessage requestMessage = requestInfo.requestMessage;
+			requestInfo.timeout = HashedWheelTimer.getDefault().schedule(() -> handleRequestTimeout(requestMessage, timeout),
+					timeout.toNanos(), TimeUnit.NANOSECONDS);
+			// The response may have been received before the timeout was set
+			if (requestInfo.future.isDone())
+				requestInfo.cancelTimeout();
+		}
+	}
+
+	/**
+	 * Create a batch of requests and notifications that are sent to the remote endpoint in a single message.
+	 */
+	public Batch newBatch() {
+		return new Batch();
+	}
+
+	/**
+	 * A batch of requests and notifications that are sent to the remote endpoint in a single message when
+	 * {@link #send()} is called. The remote endpoint replies to the requests of the batch with a single batch
+	 * of responses. A batch is meant to be filled and sent by a single thread.
+	 */
+	public class Batch {
+		private final List<Message> messages = new ArrayList<>();
+		private final Map<String, Duration> timeouts = new LinkedHashMap<>();
+		private final Map<String, PendingRequestInfo> requests = new HashMap<>();
+		private boolean sent;
+
+		protected Batch() {
+		}
+
+		/**
+		 * Add a request to the batch. The request times out after the timeout set for its method,
+		 * counted from the time the batch is sent.
+		 */
+		public JsonRpcRequestFuture<Object> request(String method, Object parameter) {
+			checkNotSent();
+			final RequestMessage requestMessage = createRequestMessage(method, parameter);
+			final var result = new JsonRpcRequestFuture<>(() -> {
+				if (sent)
+					sendCancelNotification(requestMessage.getRawId());
+			});
+			messages.add(requestMessage);
+			requests.put(requestMessage.getId(), new PendingRequestInfo(requestMessage, result));
+			timeouts.put(requestMessage.getId(), getRequestTimeout(method));
+			return result;
+		}
+
+		/**
+		 * Add a notification to the batch.
+		 */
+		public void notify(String method, Object parameter) {
+			checkNotSent();
+			messages.add(createNotificationMessage(method, parameter));
+		}
+
+		/**
+		 * The number of requests and notifications in the batch.
+		 */
+		public int size() {
+			return messages.size();
+		}
+
+		/**
+		 * Send the batch to the remote endpoint. Requests that have been cancelled in the meantime are left out.
+		 *
+		 * @throws IllegalStateException if the batch has already been sent
+		 */
+		public void send() {
+			checkNotSent();
+			sent = true;
+			final var batchMessage = new BatchMessage();
+			batchMessage.setJsonHandler(getJsonHandler());
+			for (Message message : messages) {
+				if (message instanceof RequestMessage) {
+					PendingRequestInfo requestInfo = requests.get(((RequestMessage) message).getId());
+					if (requestInfo.future.isDone())
+						continue;
+					sentRequestMap.put(requestInfo.requestMessage.getId(), requestInfo);
+				}
+				batchMessage.getMessages().add(message);
+			}
+			if (batchMessage.getMessages().isEmpty())
+				return;
+
+			try {
+				out.consume(batchMessage);
+			} catch (Exception exception) {
+				// The message could not be sent, e.g. because the communication channel was closed
+				for (PendingRequestInfo requestInfo : requests.values()) {
+					if (sentRequestMap.remove(requestInfo.requestMessage.getId()) != null)
+						requestInfo.future.completeExceptionally(exception);
+				}
+				return;
+			}
+			timeouts.forEach((id, timeout) -> {
+				PendingRequestInfo requestInfo = requests.get(id);
+				if (sentRequestMap.get(id) == requestInfo)
+					scheduleTimeout(requestInfo, timeout);
+			});
+		}
+
+		private void checkNotSent() {
+			if (sent)
+				throw new IllegalStateException("The batch has already been sent.");
+		}
+	}
+
+	/**
+	 * Fail a request whose timeout has expired and notify the remote endpoint that it has been cancelled.
+	 */
+	protected void handleRequestTimeout(RequestMessage requestMessage, Duration timeout) {
+		PendingRequestInfo requestInfo = sentRequestMap.remove(requestMessage.getId());
+		if (requestInfo == null || requestInfo.future.isDone()) {
+			// The response has been received in the meantime, or the request has been cancelled
+			return;
+		}
+		expiredRequestCount.incrementAndGet();
+		String message = "The request (id: " + requestMessage.getId() + ", method: '" + requestMessage.getMethod()
+				+ "') has not received a response within " + timeout.toMillis() + " ms";
+		if (requestInfo.future.completeExceptionally(new TimeoutException(message))) {
+			sendCancelNotification(requestMessage.getRawId());
+		}
+	}
+
+	/**
+	 * Fail all requests that have been sent, but not yet answered, e.g. because writing to the remote endpoint
+	 * has failed after the requests had been queued for sending.
+	 */
+	public void failPendingRequests(Throwable cause) {
+		Throwable error = cause instanceof RuntimeException ? cause : new JsonRpcException(cause);
+		for (PendingRequestInfo requestInfo : sentRequestMap.removeAll()) {
+			requestInfo.cancelTimeout();
+			requestInfo.future.completeExceptionally(error);
+		}
+	}
+
 	protected RequestMessage createRequestMessage(String method, Object parameter) {
 		final var requestMessage = new RequestMessage();
 		requestMessage.setJsonHandler(getJsonHandler());
@@ -187,7 +585,10 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 
 	@Override
 	public void consume(Message message) {
-		if (message instanceof NotificationMessage) {
+		if (message instanceof BatchMessage) {
+			final var batchMessage = (BatchMessage) message;
+			handleBatch(batchMessage);
+		} else if (message instanceof NotificationMessage) {
 			final var notificationMessage = (NotificationMessage) message;
 			handleNotification(notificationMessage);
 		} else if (message instanceof RequestMessage) {
@@ -201,15 +602,68 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 		}
 	}
 
-	protected void handleResponse(ResponseMessage responseMessage) {
-		PendingRequestInfo requestInfo;
-		synchronized (sentRequestMap) {
-			requestInfo = sentRequestMap.remove(responseMessage.getId());
+	/**
+	 * Handle the messages of a batch received from the remote endpoint. The responses to its requests, including
+	 * the error responses to its invalid elements, are sent back in a single batch message.
+	 */
+	protected void handleBatch(BatchMessage batchMessage) {
+		final var batchResponse = new BatchResponse();
+		int expectedCount = 0;
+		for (Message message : batchMessage.getMessages()) {
+			if (message instanceof RequestMessage && registerBatchedRequest((RequestMessage) message, batchResponse))
+				expectedCount++;
 		}
+		final var anonymousResponses = new ArrayList<ResponseMessage>();
+		for (MessageIssueException issue : batchMessage.getIssues()) {
+			Message message = issue.getRpcMessage();
+			if (message == null) {
+				// The element could not be identified as a message, so its error response has no id
+				final var responseMessage = new ResponseMessage();
+				responseMessage.setJsonHandler(getJsonHandler());
+				responseMessage.setJsonrpc(MessageConstants.JSONRPC_VERSION);
+				responseMessage.setError(createIssuesError(null, issue.getIssues()));
+				anonymousResponses.add(responseMessage);
+				expectedCount++;
+			} else if (message instanceof RequestMessage && registerBatchedRequest((RequestMessage) message, batchResponse)) {
+				expectedCount++;
+			}
+		}
+		batchResponse.expectedCount = expectedCount;
+
+		anonymousResponses.forEach(batchResponse::add);
+		for (MessageIssueException issue : batchMessage.getIssues()) {
+			if (issue.getRpcMessage() != null)
+				handle(issue.getRpcMessage(), issue.getIssues());
+		}
+		for (Message message : batchMessage.getMessages()) {
+			consume(message);
+		}
+	}
+
+	private boolean registerBatchedRequest(RequestMessage requestMessage, BatchResponse batchResponse) {
+		return requestMessage.getId() != null && batchedRequests.putIfAbsent(requestMessage.getId(), batchResponse) == null;
+	}
+
+	/**
+	 * Send a response to a request received from the remote endpoint, either on its own or as part of the
+	 * response to the batch that contained the request.
+	 */
+	private void sendResponse(ResponseMessage responseMessage) {
+		String id = responseMessage.getId();
+		BatchResponse batchResponse = id != null ? batchedRequests.remove(id) : null;
+		if (batchResponse == null || !batchResponse.add(responseMessage))
+			out.consume(responseMessage);
+	}
+
+	protected void handleResponse(ResponseMessage responseMessage) {
+		PendingRequestInfo requestInfo = sentRequestMap.remove(responseMessage.getId());
 		if (requestInfo == null) {
 			// We have no pending request information that matches the id given in the response
 			LOG.log(Level.WARNING, "Unmatched response message: " + responseMessage);
-		} else if (responseMessage.getError() != null) {
+			return;
+		}
+		requestInfo.cancelTimeout();
+		if (responseMessage.getError() != null) {
 			// The remote service has replied with an error
 			requestInfo.future.completeExceptionally(new ResponseErrorException(responseMessage.getError()));
 		} else {
@@ -220,15 +674,29 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 
 	protected void handleNotification(NotificationMessage notificationMessage) {
 		if (!handleCancellation(notificationMessage)) {
-			// Forward the notification to the local endpoint
+			cancelInvalidatedRequests(notificationMessage);
+			Executor executor = getExecutor(notificationMessage.getMethod(), notificationMessage::getParams);
+			if (executor == null) {
+				notifyLocalEndpoint(notificationMessage);
+				return;
+			}
 			try {
-				localEndpoint.notify(notificationMessage.getMethod(), notificationMessage.getParams());
-			} catch (Exception exception) {
-				LOG.log(Level.WARNING, "Notification threw an exception: " + notificationMessage, exception);
+				executor.execute(() -> notifyLocalEndpoint(notificationMessage));
+			} catch (RejectedExecutionException exception) {
+				LOG.log(Level.WARNING, "Notification could not be executed: " + notificationMessage, exception);
 			}
 		}
 	}
 
+	private void notifyLocalEndpoint(NotificationMessage notificationMessage) {
+		// Forward the notification to the local endpoint
+		try {
+			localEndpoint.notify(notificationMessage.getMethod(), notificationMessage.getParams());
+		} catch (Exception exception) {
+			LOG.log(Level.WARNING, "Notification threw an exception: " + notificationMessage, exception);
+		}
+	}
+
 	/**
 	 * Cancellation is handled inside this class and not forwarded to the local endpoint.
 	 *
@@ -237,17 +705,15 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 	 */
 	protected boolean handleCancellation(NotificationMessage notificationMessage) {
 		if (MessageJsonHandler.CANCEL_METHOD.getMethodName().equals(notificationMessage.getMethod())) {
-			Object cancelParams = notificationMessage.getParams();
+			Object cancelParams = getRoutingParams(notificationMessage::getParams);
 			if (cancelParams != null) {
 				if (cancelParams instanceof CancelParams) {
-					synchronized (receivedRequestMap) {
-						String id = ((CancelParams) cancelParams).getId();
-						CompletableFuture<?> future = receivedRequestMap.get(id);
-						if (future != null)
-							future.cancel(true);
-						else
-							LOG.warning("Unmatched cancel notification for request id " + id);
-					}
+					String id = ((CancelParams) cancelParams).getId();
+					CompletableFuture<?> future = receivedRequestMap.get(id);
+					if (future != null)
+						future.cancel(true);
+					else
+						LOG.warning("Unmatched cancel notification for request id " + id);
 					return true;
 				}
 				LOG.warning("Cancellation support is disabled, since the '" + MessageJsonHandler.CANCEL_METHOD.getMethodName() + "' method has been registered explicitly.");
@@ -258,37 +724,206 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 		return false;
 	}
 
+	/**
+	 * Cancel the pending requests whose scope is invalidated by the given notification according to the
+	 * supersession policy.
+	 */
+	private void cancelInvalidatedRequests(NotificationMessage notificationMessage) {
+		SupersessionPolicy policy = supersessionPolicy;
+		if (policy == null)
+			return;
+		Object scope = policy.getInvalidatedScope(notificationMessage.getMethod(), getRoutingParams(notificationMessage::getParams));
+		if (scope == null)
+			return;
+		Map<String, String> requests = supersedableRequests.remove(scope);
+		if (requests != null)
+			requests.values().forEach(this::cancelSuperseded);
+	}
+
+	/**
+	 * Track an incoming request whose scope is given by the supersession policy, and cancel the pending
+	 * request with the same method and scope that it supersedes.
+	 */
+	private void supersedeRequest(RequestMessage requestMessage, CompletableFuture<?> future) {
+		SupersessionPolicy policy = supersessionPolicy;
+		if (policy == null)
+			return;
+		Object scope = policy.getRequestScope(requestMessage.getMethod(), getRoutingParams(requestMessage::getParams));
+		if (scope == null)
+			return;
+		final String method = requestMessage.getMethod();
+		final String messageId = requestMessage.getId();
+		final var superseded = new String[1];
+		supersedableRequests.compute(scope, (key, requests) -> {
+			if (requests == null)
+				requests = new HashMap<>();
+			superseded[0] = requests.put(method, messageId);
+			return requests;
+		});
+		future.whenComplete((result, throwable) -> supersedableRequests.computeIfPresent(scope, (key, requests) -> {
+			requests.remove(method, messageId);
+			return requests.isEmpty() ? null : requests;
+		}));
+		if (superseded[0] != null)
+			cancelSuperseded(superseded[0]);
+	}
+
+	/**
+	 * Cancel a superseded request. The remote endpoint receives a {@link ResponseErrorCode#ContentModified} error,
+	 * since the request has not been cancelled by the remote endpoint itself.
+	 */
+	private void cancelSuperseded(String requestId) {
+		CompletableFuture<?> future = receivedRequestMap.get(requestId);
+		if (future == null)
+			return;
+		droppedRequests.put(requestId, ResponseErrorCode.ContentModified);
+		if (future.cancel(true))
+			supersededRequestCount.incrementAndGet();
+		else
+			droppedRequests.remove(requestId);
+	}
+
 	protected void handleRequest(RequestMessage requestMessage) {
+		if (!admitRequest(requestMessage))
+			return;
+		Executor executor = getExecutor(requestMessage.getMethod(), requestMessage::getParams);
+		if (executor == null)
+			executor = requestExecutor;
+		if (executor != null) {
+			handleRequest(requestMessage, executor);
+			return;
+		}
+
 		CompletableFuture<?> future;
 		try {
 			// Forward the request to the local endpoint
-			future = localEndpoint.request(requestMessage.getMethod(), requestMessage.getParams());
-			if (future == null) {
-				throw new IllegalStateException("Local endpoint returned null from its request method, whereas an instance of CompletableFuture is expected");
-			}
+			future = requestLocalEndpoint(requestMessage);
 		} catch (Throwable throwable) {
 			// The local endpoint has failed handling the request - reply with an error response
 			ResponseError errorObject = exceptionHandler.apply(throwable);
 			if (errorObject == null) {
 				errorObject = fallbackResponseError("Internal error. Exception handler provided no error object", throwable);
 			}
-			out.consume(createErrorResponseMessage(requestMessage, errorObject));
+			sendResponse(createErrorResponseMessage(requestMessage, errorObject));
+			releaseAdmission(requestMessage.getId());
 			if (throwable instanceof Error)
 				throw (Error) throwable;
 			return;
 		}
+		replyWhenComplete(requestMessage, future);
+		supersedeRequest(requestMessage, future);
+	}
 
-		final String messageId = requestMessage.getId();
-		synchronized (receivedRequestMap) {
-			receivedRequestMap.put(messageId, future);
+	/**
+	 * Apply the admission control to an incoming request. Pending requests that have to make room for it
+	 * are cancelled, and if the request itself is rejected, the remote endpoint receives an error response.
+	 *
+	 * @return {@code true} if the request is to be handled
+	 */
+	private boolean admitRequest(RequestMessage requestMessage) {
+		AdmissionControl admission = admissionControl;
+		if (admission == null)
+			return true;
+		final var droppedIds = new ArrayList<String>(0);
+		boolean admitted = admission.admit(requestMessage.getId(), requestMessage.getMethod(), droppedIds);
+		for (String id : droppedIds) {
+			CompletableFuture<?> future = receivedRequestMap.get(id);
+			if (future != null) {
+				droppedRequests.put(id, admission.getRejectionCode());
+				if (!future.cancel(true))
+					droppedRequests.remove(id);
+			}
+		}
+		if (!admitted) {
+			String message = "The request (id: " + requestMessage.getId() + ", method: '" + requestMessage.getMethod()
+					+ "') has been rejected because ";
+			ResponseError error;
+			if (receivedRequestMap.get(requestMessage.getId()) != null)
+				error = new ResponseError(ResponseErrorCode.InvalidRequest, message + "a request with the same id is pending", null);
+			else
+				error = new ResponseError(admission.getRejectionCode(), message + "too many requests are pending", null);
+			sendResponse(createErrorResponseMessage(requestMessage, error));
+		}
+		return admitted;
+	}
+
+	private void releaseAdmission(String requestId) {
+		AdmissionControl admission = admissionControl;
+		if (admission != null)
+			admission.release(requestId);
+	}
+
+	/**
+	 * Forward the request to the local endpoint in a thread of the given executor. The request is registered
+	 * right away, so it can be cancelled while it waits for its turn.
+	 */
+	private void handleRequest(RequestMessage requestMessage, Executor executor) {
+		final var future = new CompletableFuture<Object>();
+		replyWhenComplete(requestMessage, future);
+		supersedeRequest(requestMessage, future);
+		try {
+			executor.execute(() -> {
+				if (future.isDone()) {
+					// The request has been cancelled before it was started
+					return;
+				}
+				CompletableFuture<?> result;
+				try {
+					result = requestLocalEndpoint(requestMessage);
+				} catch (Throwable throwable) {
+					future.completeExceptionally(throwable);
+					if (throwable instanceof Error)
+						throw (Error) throwable;
+					return;
+				}
+				future.whenComplete((value, t) -> {
+					if (future.isCancelled())
+						result.cancel(true);
+				});
+				result.whenComplete((value, t) -> {
+					if (t != null)
+						future.completeExceptionally(t);
+					else
+						future.complete(value);
+				});
+			});
+		} catch (RejectedExecutionException exception) {
+			// The executor is overloaded, so the client may send the request again later
+			final var error = new ResponseError(ResponseErrorCode.ServerCancelled, "The request could not be scheduled.", null);
+			future.completeExceptionally(new ResponseErrorException(error));
 		}
+	}
+
+	private CompletableFuture<?> requestLocalEndpoint(RequestMessage requestMessage) {
+		Executor executor = requestExecutor;
+		CompletableFuture<?> future = executor != null
+				? CompletableFutures.callWithExecutor(executor, () -> localEndpoint.request(requestMessage.getMethod(), requestMessage.getParams()))
+				: localEndpoint.request(requestMessage.getMethod(), requestMessage.getParams());
+		if (future == null) {
+			throw new IllegalStateException("Local endpoint returned null from its request method, whereas an instance of CompletableFuture is expected");
+		}
+		return future;
+	}
+
+	/**
+	 * Register the future of a request received from the remote endpoint, and reply when it is complete.
+	 */
+	private void replyWhenComplete(RequestMessage requestMessage, CompletableFuture<?> future) {
+		final String messageId = requestMessage.getId();
+		receivedRequestMap.put(messageId, future);
+		if (admissionControl != null)
+			future.whenComplete((result, t) -> releaseAdmission(messageId));
 		future.thenAccept(result -> {
 			// Reply with the result object that was computed by the local endpoint
-			out.consume(createResultResponseMessage(requestMessage, result));
+			sendResponse(createResultResponseMessage(requestMessage, result));
 		}).exceptionally((Throwable t) -> {
 			// The local endpoint has failed computing a result - reply with an error response
 			ResponseMessage responseMessage;
-			if (isCancellation(t)) {
+			ResponseErrorCode droppedCode = droppedRequests.remove(messageId);
+			if (droppedCode != null && isCancellation(t)) {
+				String message = "The request (id: " + messageId + ", method: '" + requestMessage.getMethod()  + "') has been cancelled by the server";
+				responseMessage = createErrorResponseMessage(requestMessage, new ResponseError(droppedCode, message, null));
+			} else if (isCancellation(t)) {
 				String message = "The request (id: " + messageId + ", method: '" + requestMessage.getMethod()  + "') has been cancelled";
 				final var errorObject = new ResponseError(ResponseErrorCode.RequestCancelled, message, null);
 				responseMessage = createErrorResponseMessage(requestMessage, errorObject);
@@ -299,12 +934,10 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 				}
 				responseMessage = createErrorResponseMessage(requestMessage, errorObject);
 			}
-			out.consume(responseMessage);
+			sendResponse(responseMessage);
 			return null;
 		}).thenApply(obj -> {
-			synchronized (receivedRequestMap) {
-				receivedRequestMap.remove(messageId);
-			}
+			receivedRequestMap.remove(messageId);
 			return null;
 		});
 	}
@@ -315,7 +948,10 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 			throw new IllegalArgumentException("The list of issues must not be empty.");
 		}
 
-		if (message instanceof RequestMessage) {
+		if (message instanceof BatchMessage) {
+			final var batchMessage = (BatchMessage) message;
+			handleBatchIssues(batchMessage, issues);
+		} else if (message instanceof RequestMessage) {
 			final var requestMessage = (RequestMessage) message;
 			handleRequestIssues(requestMessage, issues);
 		} else if (message instanceof ResponseMessage) {
@@ -334,6 +970,27 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 	}
 
 	protected void handleRequestIssues(RequestMessage requestMessage, List<MessageIssue> issues) {
+		ResponseError errorObject = createIssuesError(requestMessage.getMethod(), issues);
+		sendResponse(createErrorResponseMessage(requestMessage, errorObject));
+	}
+
+	/**
+	 * A batch whose elements have issues is still handled with its valid elements, and the invalid elements are
+	 * answered in the batch response. A batch without any elements is answered with a single error response.
+	 */
+	protected void handleBatchIssues(BatchMessage batchMessage, List<MessageIssue> issues) {
+		if (!batchMessage.getMessages().isEmpty() || !batchMessage.getIssues().isEmpty()) {
+			handleBatch(batchMessage);
+			return;
+		}
+		final var responseMessage = new ResponseMessage();
+		responseMessage.setJsonHandler(getJsonHandler());
+		responseMessage.setJsonrpc(MessageConstants.JSONRPC_VERSION);
+		responseMessage.setError(createIssuesError(null, issues));
+		out.consume(responseMessage);
+	}
+
+	private ResponseError createIssuesError(String method, List<MessageIssue> issues) {
 		final var errorObject = new ResponseError();
 		if (issues.size() == 1) {
 			MessageIssue issue = issues.get(0);
@@ -341,26 +998,24 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 			errorObject.setCode(issue.getIssueCode());
 			errorObject.setData(issue.getCause());
 		} else {
-			if (requestMessage.getMethod() != null)
-				errorObject.setMessage("Multiple issues were found in '" + requestMessage.getMethod() + "' request.");
+			if (method != null)
+				errorObject.setMessage("Multiple issues were found in '" + method + "' request.");
 			else
 				errorObject.setMessage("Multiple issues were found in request.");
 			errorObject.setCode(ResponseErrorCode.InvalidRequest);
 			errorObject.setData(issues);
 		}
-		out.consume(createErrorResponseMessage(requestMessage, errorObject));
+		return errorObject;
 	}
 
 	protected void handleResponseIssues(ResponseMessage responseMessage, List<MessageIssue> issues) {
-		PendingRequestInfo requestInfo;
-		synchronized (sentRequestMap) {
-			requestInfo = sentRequestMap.remove(responseMessage.getId());
-		}
+		PendingRequestInfo requestInfo = sentRequestMap.remove(responseMessage.getId());
 		if (requestInfo == null) {
 			// We have no pending request information that matches the id given in the response
 			LOG.log(Level.WARNING, "Unmatched response message: " + responseMessage);
 			logIssues(responseMessage, issues);
 		} else {
+			requestInfo.cancelTimeout();
 			requestInfo.future.completeExceptionally(new MessageIssueException(responseMessage, issues));
 		}
 	}
@@ -394,11 +1049,9 @@ public class RemoteEndpoint implements Endpoint, MessageConsumer, MessageIssueHa
 
 	@Override
 	public String resolveMethod(String requestId) {
-		synchronized (sentRequestMap) {
-			PendingRequestInfo requestInfo = sentRequestMap.get(requestId);
-			if (requestInfo != null) {
-				return requestInfo.requestMessage.getMethod();
-			}
+		PendingRequestInfo requestInfo = sentRequestMap.get(requestId);
+		if (requestInfo != null) {
+			return requestInfo.requestMessage.getMethod();
 		}
 		return null;
 	}
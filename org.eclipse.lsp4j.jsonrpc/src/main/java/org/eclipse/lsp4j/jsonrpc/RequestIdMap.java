@@ -0,0 +1,165 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A concurrent map from JSON-RPC request ids to the state of pending requests, which is accessed without locking.
+ * <p>
+ * Numeric ids, such as the ones created by {@link RemoteEndpoint}, are kept in an array of slots indexed by
+ * the id. As long as fewer requests than slots are pending, each request gets its own slot. Ids that are not
+ * numeric, or whose slot is taken by another pending request, are kept in a {@link ConcurrentHashMap}.
+ * A {@code null} id is accepted like any other id.
+ */
+public class RequestIdMap<V> {
+
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private static final Object NULL_ID = new Object();
+
+	private static final class Entry<V> {
+		final long id;
+		final V value;
+
+		Entry(long id, V value) {
+			this.id = id;
+			this.value = value;
+		}
+	}
+
+	private final AtomicReferenceArray<Entry<V>> slots;
+	private final int mask;
+	private final ConcurrentHashMap<Object, V> overflow = new ConcurrentHashMap<>();
+
+	public RequestIdMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity - the number of slots for numeric ids, rounded up to a power of two
+	 */
+	public RequestIdMap(int capacity) {
+		if (capacity <= 0)
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity)
+			size <<= 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Associate the given value with a request id, replacing any previous value.
+	 */
+	public void put(String id, V value) {
+		long numericId = parseId(id);
+		if (numericId >= 0) {
+			int index = (int) (numericId & mask);
+			Entry<V> entry = new Entry<>(numericId, value);
+			while (true) {
+				Entry<V> current = slots.get(index);
+				if (current != null && current.id != numericId)
+					break;
+				if (slots.compareAndSet(index, current, entry)) {
+					if (!overflow.isEmpty())
+						overflow.remove(key(id));
+					return;
+				}
+			}
+		}
+		overflow.put(key(id), value);
+	}
+
+	/**
+	 * Return the value for the given request id, or {@code null} if there is none.
+	 */
+	public V get(String id) {
+		long numericId = parseId(id);
+		if (numericId >= 0) {
+			Entry<V> entry = slots.get((int) (numericId & mask));
+			if (entry != null && entry.id == numericId)
+				return entry.value;
+		}
+		if (overflow.isEmpty())
+			return null;
+		return overflow.get(key(id));
+	}
+
+	/**
+	 * Remove and return the value for the given request id, or {@code null} if there is none.
+	 */
+	public V remove(String id) {
+		long numericId = parseId(id);
+		if (numericId >= 0) {
+			int index = (int) (numericId & mask);
+			while (true) {
+				Entry<V> entry = slots.get(index);
+				if (entry == null || entry.id != numericId)
+					break;
+				if (slots.compareAndSet(index, entry, null))
+					return entry.value;
+			}
+		}
+		if (overflow.isEmpty())
+			return null;
+		return overflow.remove(key(id));
+	}
+
+	/**
+	 * Remove all values and return them. Values that are put concurrently may or may not be included.
+	 */
+	public List<V> removeAll() {
+		List<V> result = new ArrayList<>();
+		for (int i = 0; i < slots.length(); i++) {
+			Entry<V> entry = slots.getAndSet(i, null);
+			if (entry != null)
+				result.add(entry.value);
+		}
+		for (Object key : overflow.keySet()) {
+			V value = overflow.remove(key);
+			if (value != null)
+				result.add(value);
+		}
+		return result;
+	}
+
+	private static Object key(String id) {
+		return id != null ? id : NULL_ID;
+	}
+
+	/**
+	 * Parse a request id in canonical decimal notation. Other ids, such as {@code "01"} or {@code "-1"},
+	 * are not numeric here, so they are not confused with the canonical notation of the same number.
+	 *
+	 * @return the numeric value of the id, or {@code -1} if the id is not a canonical non-negative number
+	 */
+	private static long parseId(String id) {
+		if (id == null)
+			return -1;
+		int length = id.length();
+		if (length == 0 || length > 18 || (length > 1 && id.charAt(0) == '0'))
+			return -1;
+		long result = 0;
+		for (int i = 0; i < length; i++) {
+			char c = id.charAt(i);
+			if (c < '0' || c > '9')
+				return -1;
+			result = result * 10 + (c - '0');
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,34 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc;
+
+/**
+ * Decides which incoming requests become stale when newer messages are received, so {@link RemoteEndpoint} can
+ * cancel them without waiting for a cancel notification of the remote endpoint.
+ * <p>
+ * A request is superseded by a newer request with the same method and scope, and by a notification that
+ * invalidates its scope. The scope is typically the document that a request refers to.
+ */
+public interface SupersessionPolicy {
+
+	/**
+	 * @return the scope of an incoming request, or {@code null} if the request is never superseded
+	 */
+	Object getRequestScope(String method, Object parameter);
+
+	/**
+	 * @return the scope whose pending requests become stale by an incoming notification, or {@code null}
+	 *			if the notification does not affect pending requests
+	 */
+	Object getInvalidatedScope(String method, Object parameter);
+
+}
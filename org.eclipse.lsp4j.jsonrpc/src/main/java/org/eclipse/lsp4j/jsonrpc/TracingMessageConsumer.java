@@ -12,11 +12,16 @@
 package org.eclipse.lsp4j.jsonrpc;
 
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.BatchMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.LazyParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
 
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
 import java.io.PrintWriter;
 import java.time.Clock;
 import java.time.Instant;
@@ -118,13 +123,21 @@ public class TracingMessageConsumer implements MessageConsumer {
 	}
 
 	private String consumeMessageSending(Message message, Instant now, String date) {
-		if (message instanceof RequestMessage) {
+		if (message instanceof BatchMessage) {
+			final var builder = new StringBuilder();
+			for (Message element : ((BatchMessage) message).getMessages()) {
+				String elementLog = consumeMessageSending(element, now, date);
+				if (elementLog != null)
+					builder.append(elementLog);
+			}
+			return builder.length() > 0 ? builder.toString() : null;
+		} else if (message instanceof RequestMessage) {
 			final var requestMessage = (RequestMessage) message;
 			String id = requestMessage.getId();
 			String method = requestMessage.getMethod();
 			final var requestMetadata = new RequestMetadata(method, now);
 			sentRequests.put(id, requestMetadata);
-			Object params = requestMessage.getParams();
+			Object params = requestMessage.rawParams();
 			String paramsJson = toString(params);
 			String format = "[Trace - %s] Sending request '%s - (%s)'\nParams: %s\n\n\n";
 			return String.format(format, date, method, id, paramsJson);
@@ -146,7 +159,7 @@ public class TracingMessageConsumer implements MessageConsumer {
 		} else if (message instanceof NotificationMessage) {
 			final var notificationMessage = (NotificationMessage) message;
 			String method = notificationMessage.getMethod();
-			Object params = notificationMessage.getParams();
+			Object params = notificationMessage.rawParams();
 			String paramsJson = toString(params);
 			String format = "[Trace - %s] Sending notification '%s'\nParams: %s\n\n\n";
 			return String.format(format, date, method, paramsJson);
@@ -157,13 +170,21 @@ public class TracingMessageConsumer implements MessageConsumer {
 	}
 
 	private String consumeMessageReceiving(Message message, Instant now, String date) {
-		if (message instanceof RequestMessage) {
+		if (message instanceof BatchMessage) {
+			final var builder = new StringBuilder();
+			for (Message element : ((BatchMessage) message).getMessages()) {
+				String elementLog = consumeMessageReceiving(element, now, date);
+				if (elementLog != null)
+					builder.append(elementLog);
+			}
+			return builder.length() > 0 ? builder.toString() : null;
+		} else if (message instanceof RequestMessage) {
 			final var requestMessage = (RequestMessage) message;
 			String method = requestMessage.getMethod();
 			String id = requestMessage.getId();
 			final var requestMetadata = new RequestMetadata(method, now);
 			receivedRequests.put(id, requestMetadata);
-			Object params = requestMessage.getParams();
+			Object params = requestMessage.rawParams();
 			String paramsJson = toString(params);
 			String format = "[Trace - %s] Received request '%s - (%s)'\nParams: %s\n\n\n";
 			return String.format(format, date, method, id, paramsJson);
@@ -186,7 +207,7 @@ public class TracingMessageConsumer implements MessageConsumer {
 		} else if (message instanceof NotificationMessage) {
 			final var notificationMessage = (NotificationMessage) message;
 			String method = notificationMessage.getMethod();
-			Object params = notificationMessage.getParams();
+			Object params = notificationMessage.rawParams();
 			String paramsJson = toString(params);
 			String format = "[Trace - %s] Received notification '%s'\nParams: %s\n\n\n";
 			return String.format(format, date, method, paramsJson);
@@ -197,6 +218,15 @@ public class TracingMessageConsumer implements MessageConsumer {
 	}
 
 	private String toString(Object object) {
+		if (object instanceof LazyParams && !((LazyParams) object).isDecoded()) {
+			// Lazy parameters are traced without converting them
+			String json = ((LazyParams) object).json();
+			try {
+				object = JsonParser.parseString(json);
+			} catch (JsonParseException exception) {
+				return json;
+			}
+		}
 		return jsonHandler != null ? jsonHandler.format(object) : MessageJsonHandler.toString(object);
 	}
 
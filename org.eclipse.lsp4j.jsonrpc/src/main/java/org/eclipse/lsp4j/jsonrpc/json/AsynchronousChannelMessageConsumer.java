@@ -0,0 +1,238 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+
+/**
+ * A message consumer that serializes messages to JSON and writes them to an asynchronous channel.
+ * <p>
+ * Messages are serialized in the calling thread and put into a bounded queue, so {@link #consume(Message)}
+ * returns without waiting for the channel. Only one write operation is pending at a time; when it completes,
+ * all messages that have been queued in the meantime are copied into a direct byte buffer and written together.
+ * When the queue is full, the calling thread waits until a write operation has made room.
+ * <p>
+ * If writing to the channel fails, all subsequent calls to {@link #consume(Message)} throw a
+ * {@link JsonRpcException} with the original cause. Since the message that failed was already accepted, the
+ * failure is reported to the handler set with {@link #setFailureHandler(Consumer)}. A launcher closes its
+ * consumer when listening for incoming messages ends, and fails the pending requests of its remote endpoint
+ * when writing fails.
+ */
+public class AsynchronousChannelMessageConsumer extends StreamMessageConsumer implements Closeable {
+
+	private static final Logger LOG = Logger.getLogger(AsynchronousChannelMessageConsumer.class.getName());
+
+	public static final int DEFAULT_QUEUE_CAPACITY = QueuedMessageConsumer.DEFAULT_QUEUE_CAPACITY;
+
+	private static final int BATCH_SIZE = 64 * 1024;
+
+	private static final long FULL_QUEUE_WAIT_NANOS = 100_000;
+
+	private final AsynchronousByteChannel channel;
+
+	private final MpscArrayQueue<MessageOutputBuffer> queue;
+	private final AtomicBoolean writing = new AtomicBoolean();
+	private volatile boolean closed;
+	private volatile Throwable failure;
+	private volatile Consumer<Throwable> failureHandler;
+
+	/** Only accessed by the thread that owns the {@link #writing} flag */
+	private ByteBuffer writeBuffer = ByteBuffer.allocateDirect(BATCH_SIZE);
+
+	/**
+	 * A message taken from the queue that did not fit into the previous write operation. Only accessed by the
+	 * thread that owns the {@link #writing} flag, or while holding the lock of the queue after a failure.
+	 */
+	private MessageOutputBuffer pending;
+
+	private final CompletionHandler<Integer, Void> writeHandler = new CompletionHandler<>() {
+
+		@Override
+		public void completed(Integer count, Void attachment) {
+			if (writeBuffer.hasRemaining())
+				channel.write(writeBuffer, null, this);
+			else
+				writeNext();
+		}
+
+		@Override
+		public void failed(Throwable exception, Void attachment) {
+			// The writing flag is not cleared, so no more write operations are started
+			failure = exception;
+			Level logLevel = JsonRpcException.indicatesStreamClosed(exception) ? Level.INFO : Level.SEVERE;
+			LOG.log(logLevel, "Failed to write messages.", exception);
+			discardQueuedMessages();
+			Consumer<Throwable> handler = failureHandler;
+			if (handler != null) {
+				try {
+					handler.accept(exception);
+				} catch (Exception handlerException) {
+					LOG.log(Level.SEVERE, "The failure handler of queued messages has failed.", handlerException);
+				}
+			}
+		}
+
+	};
+
+	public AsynchronousChannelMessageConsumer(AsynchronousByteChannel channel, MessageJsonHandler jsonHandler) {
+		this(channel, StandardCharsets.UTF_8.name(), jsonHandler, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public AsynchronousChannelMessageConsumer(AsynchronousByteChannel channel, MessageJsonHandler jsonHandler, int queueCapacity) {
+		this(channel, StandardCharsets.UTF_8.name(), jsonHandler, queueCapacity);
+	}
+
+	public AsynchronousChannelMessageConsumer(AsynchronousByteChannel channel, String encoding, MessageJsonHandler jsonHandler) {
+		this(channel, encoding, jsonHandler, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public AsynchronousChannelMessageConsumer(AsynchronousByteChannel channel, String encoding, MessageJsonHandler jsonHandler,
+			int queueCapacity) {
+		super(null, encoding, jsonHandler);
+		this.channel = channel;
+		this.queue = new MpscArrayQueue<>(queueCapacity);
+	}
+
+	public AsynchronousByteChannel getChannel() {
+		return channel;
+	}
+
+	/**
+	 * The number of messages that have been queued, but not yet passed to the channel.
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * The maximal number of messages that can be queued before callers of {@link #consume(Message)} have to wait.
+	 */
+	public int getQueueCapacity() {
+		return queue.capacity();
+	}
+
+	/**
+	 * Set a handler that is called when writing to the channel has failed. The messages that were queued at
+	 * that point are discarded.
+	 */
+	public void setFailureHandler(Consumer<Throwable> failureHandler) {
+		this.failureHandler = failureHandler;
+	}
+
+	@Override
+	public void consume(Message message) {
+		checkOpen();
+		MessageOutputBuffer buffer = serialize(message);
+		while (!queue.offer(buffer)) {
+			if (closed || failure != null) {
+				releaseBuffer(buffer);
+				checkOpen();
+			}
+			LockSupport.parkNanos(this, FULL_QUEUE_WAIT_NANOS);
+		}
+		if (failure != null) {
+			// The queue may have been drained by the failed write operation before the message was added
+			discardQueuedMessages();
+			checkOpen();
+		}
+		if (writing.compareAndSet(false, true))
+			writeNext();
+	}
+
+	/**
+	 * Stop accepting messages. Messages that have already been queued are still written to the channel.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	private void checkOpen() {
+		Throwable cause = failure;
+		if (cause != null)
+			throw new JsonRpcException(cause);
+		if (closed)
+			throw new JsonRpcException(new IOException("Stream closed"));
+	}
+
+	/**
+	 * Release the buffers of all queued messages after writing has failed. The queue lock is held because
+	 * the threads that call {@link #consume(Message)} may discard messages as well.
+	 */
+	private void discardQueuedMessages() {
+		synchronized (queue) {
+			if (pending != null) {
+				releaseBuffer(pending);
+				pending = null;
+			}
+			MessageOutputBuffer buffer;
+			while ((buffer = queue.poll()) != null) {
+				releaseBuffer(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Write all queued messages that fit into the write buffer. This method must only be called by the
+	 * thread that has set the {@link #writing} flag.
+	 */
+	private void writeNext() {
+		while (true) {
+			writeBuffer.clear();
+			MessageOutputBuffer buffer;
+			while ((buffer = pending != null ? pending : queue.poll()) != null) {
+				pending = null;
+				int frameLength = buffer.getFrameLength();
+				if (frameLength > writeBuffer.remaining()) {
+					if (writeBuffer.position() > 0) {
+						// Write the message with the next write operation
+						pending = buffer;
+						break;
+					}
+					// A single message that is larger than the batch size gets its own buffer
+					writeBuffer = ByteBuffer.allocateDirect(frameLength);
+				}
+				buffer.writeTo(writeBuffer);
+				releaseBuffer(buffer);
+			}
+			if (writeBuffer.position() > 0) {
+				writeBuffer.flip();
+				try {
+					channel.write(writeBuffer, null, writeHandler);
+				} catch (RuntimeException exception) {
+					writeHandler.failed(exception, null);
+				}
+				return;
+			}
+			if (writeBuffer.capacity() > BATCH_SIZE)
+				writeBuffer = ByteBuffer.allocateDirect(BATCH_SIZE);
+			writing.set(false);
+			// Another thread may have queued a message before the flag was cleared
+			if (queue.isEmpty() || !writing.compareAndSet(false, true))
+				return;
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.MessageIssueHandler;
+
+/**
+ * A message producer that reads from an asynchronous channel and parses messages from JSON.
+ * <p>
+ * Reading is driven by completion handlers, so no thread is blocked while waiting for input. Incoming
+ * messages are passed to the callback in the threads that complete the read operations, e.g. the threads
+ * of the {@link java.nio.channels.AsynchronousChannelGroup} of a socket channel. This allows a single
+ * process to serve many connections with a small thread pool.
+ */
+public class AsynchronousChannelMessageProducer extends ChannelMessageProducer {
+
+	private final AsynchronousByteChannel channel;
+
+	private volatile CompletableFuture<Void> result;
+
+	private final CompletionHandler<Integer, Void> readHandler = new CompletionHandler<>() {
+
+		@Override
+		public void completed(Integer count, Void attachment) {
+			try {
+				if (count < 0 || !processInput() || !isRunning()) {
+					// End of input has been reached or message handling has requested to stop
+					finish(null);
+				} else {
+					read();
+				}
+			} catch (Throwable t) {
+				finish(t);
+			}
+		}
+
+		@Override
+		public void failed(Throwable exception, Void attachment) {
+			if (JsonRpcException.indicatesStreamClosed(exception)) {
+				// Only log the error if we had intended to keep running
+				if (isRunning())
+					fireStreamClosed((Exception) exception);
+				finish(null);
+			} else {
+				finish(exception);
+			}
+		}
+
+	};
+
+	public AsynchronousChannelMessageProducer(AsynchronousByteChannel channel, MessageJsonHandler jsonHandler) {
+		this(channel, jsonHandler, null);
+	}
+
+	public AsynchronousChannelMessageProducer(AsynchronousByteChannel channel, MessageJsonHandler jsonHandler, MessageIssueHandler issueHandler) {
+		super(jsonHandler, issueHandler);
+		this.channel = channel;
+	}
+
+	/**
+	 * Start reading from the channel and return immediately.
+	 *
+	 * @return a future that is resolved when the end of input has been reached or the producer has been closed
+	 */
+	public CompletableFuture<Void> start(MessageConsumer callback) {
+		startListening(callback);
+		result = new CompletableFuture<>();
+		CompletableFuture<Void> future = result;
+		try {
+			read();
+		} catch (RuntimeException exception) {
+			finish(exception);
+		}
+		return future;
+	}
+
+	/**
+	 * Read from the channel until the end of input has been reached. The calling thread waits for the
+	 * asynchronous read operations, so prefer {@link #start(MessageConsumer)} to avoid blocking a thread.
+	 */
+	@Override
+	public void listen(MessageConsumer callback) {
+		try {
+			start(callback).get();
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			close();
+		} catch (ExecutionException exception) {
+			Throwable cause = exception.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new JsonRpcException(cause);
+		}
+	}
+
+	private void read() {
+		channel.read(prepareRead(), null, readHandler);
+	}
+
+	private void finish(Throwable failure) {
+		CompletableFuture<Void> future = result;
+		result = null;
+		stopListening();
+		if (future != null) {
+			if (failure == null) {
+				future.complete(null);
+			} else {
+				fireError(failure);
+				future.completeExceptionally(failure instanceof RuntimeException ? failure : new JsonRpcException(failure));
+			}
+		}
+	}
+
+}
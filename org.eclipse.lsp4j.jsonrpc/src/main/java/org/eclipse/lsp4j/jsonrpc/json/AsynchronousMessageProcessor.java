@@ -0,0 +1,52 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+
+/**
+ * A message processor that connects an {@link AsynchronousChannelMessageProducer} with a message consumer.
+ * In contrast to its superclass, no thread is occupied with listening for new messages.
+ */
+public class AsynchronousMessageProcessor extends ConcurrentMessageProcessor {
+
+	private final AsynchronousChannelMessageProducer messageProducer;
+	private final MessageConsumer messageConsumer;
+
+	public AsynchronousMessageProcessor(AsynchronousChannelMessageProducer messageProducer, MessageConsumer messageConsumer) {
+		super(messageProducer, messageConsumer);
+		this.messageProducer = messageProducer;
+		this.messageConsumer = messageConsumer;
+	}
+
+	/**
+	 * Start reading messages from the asynchronous channel. The executor service is not used, since
+	 * the channel's completion handlers are run by the threads of its channel group.
+	 *
+	 * @return a future that is resolved when the end of input has been reached or the producer has been closed
+	 */
+	@Override
+	public Future<Void> beginProcessing(ExecutorService executorService) {
+		processingStarted();
+		CompletableFuture<Void> result = messageProducer.start(messageConsumer);
+		result.whenComplete((r, t) -> {
+			closeResources();
+			processingEnded();
+		});
+		return wrapFuture(result, messageProducer, this::closeResources);
+	}
+
+}
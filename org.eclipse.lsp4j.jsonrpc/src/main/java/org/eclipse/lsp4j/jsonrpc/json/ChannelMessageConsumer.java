@@ -0,0 +1,84 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+
+/**
+ * A message consumer that serializes messages to JSON and writes them to a channel.
+ * <p>
+ * Each framed message is copied into a direct byte buffer, which the channel can write without an
+ * intermediate copy. The channel must be in blocking mode; use {@link AsynchronousChannelMessageConsumer}
+ * for writing without blocking a thread.
+ */
+public class ChannelMessageConsumer extends StreamMessageConsumer {
+
+	private static final int INITIAL_BUFFER_SIZE = 8192;
+
+	/**
+	 * Buffers that have been enlarged beyond this size for a single message are released afterwards.
+	 */
+	private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+	private final WritableByteChannel channel;
+
+	private final Object writeLock = new Object();
+
+	private ByteBuffer writeBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+
+	public ChannelMessageConsumer(WritableByteChannel channel, MessageJsonHandler jsonHandler) {
+		this(channel, StandardCharsets.UTF_8.name(), jsonHandler);
+	}
+
+	public ChannelMessageConsumer(WritableByteChannel channel, String encoding, MessageJsonHandler jsonHandler) {
+		super(null, encoding, jsonHandler);
+		if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking())
+			throw new IllegalArgumentException("The channel must be in blocking mode.");
+		this.channel = channel;
+	}
+
+	public WritableByteChannel getChannel() {
+		return channel;
+	}
+
+	@Override
+	public void consume(Message message) {
+		MessageOutputBuffer buffer = serialize(message);
+		try {
+			synchronized (writeLock) {
+				int frameLength = buffer.getFrameLength();
+				if (writeBuffer.capacity() < frameLength)
+					writeBuffer = ByteBuffer.allocateDirect(frameLength);
+				writeBuffer.clear();
+				buffer.writeTo(writeBuffer);
+				writeBuffer.flip();
+				while (writeBuffer.hasRemaining()) {
+					channel.write(writeBuffer);
+				}
+				if (writeBuffer.capacity() > MAX_RETAINED_BUFFER_SIZE)
+					writeBuffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+			}
+		} catch (IOException exception) {
+			throw new JsonRpcException(exception);
+		} finally {
+			releaseBuffer(buffer);
+		}
+	}
+
+}
@@ -0,0 +1,250 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.MessageIssueHandler;
+import org.eclipse.lsp4j.jsonrpc.MessageProducer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+
+/**
+ * A message producer that reads from a channel and parses messages from JSON.
+ * <p>
+ * The input is read into a direct byte buffer, and the content of each message is decoded from that
+ * buffer without copying it to the Java heap first. The channel must be in blocking mode; use
+ * {@link AsynchronousChannelMessageProducer} for reading without blocking a thread.
+ */
+public class ChannelMessageProducer implements MessageProducer, Closeable, MessageConstants {
+
+	private static final Logger LOG = Logger.getLogger(ChannelMessageProducer.class.getName());
+
+	private static final int INITIAL_BUFFER_SIZE = 8192;
+
+	/**
+	 * Buffers that have been enlarged beyond this size for a single message are released afterwards.
+	 */
+	private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * The largest buffer size that is supported by all virtual machines.
+	 */
+	private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+	private final ReadableByteChannel channel;
+	private final MessageJsonHandler jsonHandler;
+	private final MessageIssueHandler issueHandler;
+
+	private MessageConsumer callback;
+	private volatile boolean keepRunning;
+
+	/** The unprocessed input is located between {@link #start} and the buffer position. */
+	private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+	private int start;
+	/** Whether the buffer contains an incomplete message content */
+	private boolean awaitingContent;
+
+	private final MessageContentDecoder contentDecoder = new MessageContentDecoder();
+
+	public ChannelMessageProducer(ReadableByteChannel channel, MessageJsonHandler jsonHandler) {
+		this(channel, jsonHandler, null);
+	}
+
+	public ChannelMessageProducer(ReadableByteChannel channel, MessageJsonHandler jsonHandler, MessageIssueHandler issueHandler) {
+		if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking())
+			throw new IllegalArgumentException("The channel must be in blocking mode.");
+		this.channel = channel;
+		this.jsonHandler = jsonHandler;
+		this.issueHandler = issueHandler;
+	}
+
+	/**
+	 * Constructor for subclasses that read from a different kind of channel.
+	 */
+	ChannelMessageProducer(MessageJsonHandler jsonHandler, MessageIssueHandler issueHandler) {
+		this.channel = null;
+		this.jsonHandler = jsonHandler;
+		this.issueHandler = issueHandler;
+	}
+
+	protected static class Headers extends StreamMessageProducer.Headers {
+	}
+
+	@Override
+	public void listen(MessageConsumer callback) {
+		startListening(callback);
+		try {
+			while (keepRunning) {
+				int count = channel.read(prepareRead());
+				if (count < 0 || !processInput()) {
+					// End of input has been reached or message handling has requested to stop
+					keepRunning = false;
+				}
+			}
+		} catch (IOException exception) {
+			if (JsonRpcException.indicatesStreamClosed(exception)) {
+				// Only log the error if we had intended to keep running
+				if (keepRunning)
+					fireStreamClosed(exception);
+			} else
+				throw new JsonRpcException(exception);
+		} finally {
+			stopListening();
+		}
+	}
+
+	void startListening(MessageConsumer callback) {
+		if (keepRunning) {
+			throw new IllegalStateException("This " + getClass().getSimpleName() + " is already running.");
+		}
+		this.keepRunning = true;
+		this.callback = callback;
+	}
+
+	void stopListening() {
+		this.callback = null;
+		this.keepRunning = false;
+	}
+
+	boolean isRunning() {
+		return keepRunning;
+	}
+
+	/**
+	 * Make room for more input and return the buffer into which the next read operation must put it.
+	 */
+	ByteBuffer prepareRead() {
+		if (start > 0) {
+			buffer.limit(buffer.position()).position(start);
+			buffer.compact();
+			start = 0;
+		}
+		if (!buffer.hasRemaining()) {
+			// The buffer is enlarged as the content arrives, so its size does not depend on the Content-Length header alone
+			if (buffer.capacity() == MAX_BUFFER_SIZE)
+				throw new JsonRpcException(new IOException("Message exceeds the maximum buffer size of " + MAX_BUFFER_SIZE + " bytes."));
+			ByteBuffer target = ByteBuffer.allocateDirect((int) Math.min(2L * buffer.capacity(), MAX_BUFFER_SIZE));
+			buffer.flip();
+			target.put(buffer);
+			buffer = target;
+		}
+		return buffer;
+	}
+
+	/**
+	 * Parse and handle all complete messages that have been read into the buffer.
+	 *
+	 * @return {@code true} if we should continue reading from the channel, {@code false} if we should stop
+	 */
+	boolean processInput() {
+		awaitingContent = false;
+		while (keepRunning) {
+			int end = buffer.position();
+			int headerEnd = MessageProducerSupport.findHeaderEnd(buffer, start, end);
+			if (headerEnd < 0)
+				break;
+			Headers headers = new Headers();
+			MessageProducerSupport.parseHeaders(buffer, start, headerEnd, headers, line -> parseHeader(line, headers),
+					this::fireError);
+			if (headers.contentLength < 0) {
+				fireError(MessageProducerSupport.missingContentLength(buffer, start, headerEnd));
+				start = headerEnd;
+			} else if (end - headerEnd < headers.contentLength) {
+				// Wait for the rest of the content
+				awaitingContent = true;
+				break;
+			} else {
+				ByteBuffer content = buffer.duplicate();
+				content.limit(headerEnd + headers.contentLength).position(headerEnd);
+				start = headerEnd + headers.contentLength;
+				if (!handleMessage(content, headers))
+					return false;
+			}
+		}
+		releaseLargeBuffers();
+		return true;
+	}
+
+	/**
+	 * Drop buffers that have been enlarged for a single large message so they are not retained.
+	 */
+	private void releaseLargeBuffers() {
+		int remaining = buffer.position() - start;
+		if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE && !awaitingContent && remaining <= INITIAL_BUFFER_SIZE) {
+			ByteBuffer target = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+			buffer.limit(buffer.position()).position(start);
+			target.put(buffer);
+			buffer = target;
+			start = 0;
+		}
+		contentDecoder.releaseLargeBuffers();
+	}
+
+	/**
+	 * Log an error.
+	 */
+	protected void fireError(Throwable error) {
+		MessageProducerSupport.logError(LOG, error);
+	}
+
+	/**
+	 * Report that the channel was closed through an exception.
+	 */
+	protected void fireStreamClosed(Exception cause) {
+		MessageProducerSupport.logStreamClosed(LOG, cause, "The input channel was closed.");
+	}
+
+	/**
+	 * Parse a header attribute and set the corresponding data in the {@link Headers} fields.
+	 */
+	protected void parseHeader(String line, Headers headers) {
+		MessageProducerSupport.parseHeader(line, headers, this::fireError);
+	}
+
+	/**
+	 * Parse the JSON content part of a message and notify the callback. The content is given as a view
+	 * of the internal read buffer, which is reused after this method returns.
+	 *
+	 * @return {@code true} if we should continue reading from the channel, {@code false} if we should stop
+	 */
+	protected boolean handleMessage(ByteBuffer content, Headers headers) {
+		if (callback == null)
+			callback = message -> LOG.log(Level.INFO, "Received message: " + message);
+
+		MessageProducerSupport.handleMessage(() -> parseMessage(content, headers), callback, issueHandler, this::fireError);
+		return true;
+	}
+
+	/**
+	 * Parse the JSON content part of a message, which is given as a view of the internal read buffer.
+	 */
+	protected Message parseMessage(ByteBuffer content, Headers headers) throws IOException {
+		try (final Reader reader = contentDecoder.decode(content, headers.charset)) {
+			return jsonHandler.parseMessage(reader);
+		}
+	}
+
+	@Override
+	public void close() {
+		keepRunning = false;
+	}
+
+}
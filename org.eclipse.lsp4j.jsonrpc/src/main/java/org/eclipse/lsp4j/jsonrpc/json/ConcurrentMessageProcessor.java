@@ -13,6 +13,8 @@ package org.eclipse.lsp4j.jsonrpc.json;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -30,6 +32,10 @@ import org.eclipse.lsp4j.jsonrpc.MessageProducer;
 public class ConcurrentMessageProcessor implements Runnable {
 
 	public static Future<Void> wrapFuture(Future<?> result, MessageProducer messageProducer) {
+		return wrapFuture(result, messageProducer, null);
+	}
+
+	static Future<Void> wrapFuture(Future<?> result, MessageProducer messageProducer, Runnable onCancel) {
 		return new Future<>() {
 
 			@Override
@@ -57,6 +63,8 @@ public class ConcurrentMessageProcessor implements Runnable {
 						throw new RuntimeException(e);
 					}
 				}
+				if (mayInterruptIfRunning && onCancel != null)
+					onCancel.run();
 				return result.cancel(mayInterruptIfRunning);
 			}
 
@@ -74,6 +82,8 @@ public class ConcurrentMessageProcessor implements Runnable {
 	private final MessageProducer messageProducer;
 	private final MessageConsumer messageConsumer;
 
+	private final List<Closeable> closeOnEnd = new CopyOnWriteArrayList<>();
+
 	public ConcurrentMessageProcessor(MessageProducer messageProducer, MessageConsumer messageConsumer) {
 		this.messageProducer = messageProducer;
 		this.messageConsumer = messageConsumer;
@@ -87,7 +97,27 @@ public class ConcurrentMessageProcessor implements Runnable {
 	 */
 	public Future<Void> beginProcessing(ExecutorService executorService) {
 		final Future<?> result = executorService.submit(this);
-		return wrapFuture(result, messageProducer);
+		return wrapFuture(result, messageProducer, this::closeResources);
+	}
+
+	/**
+	 * Close the given resource when the processing ends, i.e. when the input has been closed or the future
+	 * returned by {@link #beginProcessing(ExecutorService)} has been cancelled. This is used to stop the writer
+	 * thread of a {@link QueuedMessageConsumer} and to stop accepting messages in an
+	 * {@link AsynchronousChannelMessageConsumer}.
+	 */
+	public void closeOnProcessingEnd(Closeable resource) {
+		closeOnEnd.add(resource);
+	}
+
+	void closeResources() {
+		for (Closeable resource : closeOnEnd) {
+			try {
+				resource.close();
+			} catch (Exception e) {
+				LOG.log(Level.WARNING, e.getMessage(), e);
+			}
+		}
 	}
 
 	@Override
@@ -98,6 +128,7 @@ public class ConcurrentMessageProcessor implements Runnable {
 		} catch (Exception e) {
 			LOG.log(Level.SEVERE, e.getMessage(), e);
 		} finally {
+			closeResources();
 			processingEnded();
 		}
 	}
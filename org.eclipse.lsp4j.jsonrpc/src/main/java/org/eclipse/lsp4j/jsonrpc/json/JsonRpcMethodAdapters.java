@@ -0,0 +1,97 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.lang.reflect.Type;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The type adapters for the parameters and the result of a {@link JsonRpcMethod}, resolved with the Gson
+ * instance of a {@link MessageJsonHandler}. The adapters are created on first use and kept, so parsing
+ * a message does not need to look them up again.
+ *
+ * @see MessageJsonHandler#getJsonRpcMethodAdapters(String)
+ */
+public class JsonRpcMethodAdapters {
+
+	private final JsonRpcMethod method;
+	private final Gson gson;
+
+	private volatile TypeAdapter<?>[] parameterTypeAdapters;
+	private volatile TypeAdapter<?> returnTypeAdapter;
+	private volatile boolean returnTypeAdapterResolved;
+
+	public JsonRpcMethodAdapters(JsonRpcMethod method, Gson gson) {
+		this.method = method;
+		this.gson = gson;
+	}
+
+	public JsonRpcMethod getMethod() {
+		return method;
+	}
+
+	public Type[] getParameterTypes() {
+		return method.getParameterTypes();
+	}
+
+	/**
+	 * The type adapter for the parameter at the given index, or {@code null} if the method has
+	 * no such parameter or its type is {@link Void}.
+	 */
+	public TypeAdapter<?> getParameterTypeAdapter(int index) {
+		TypeAdapter<?>[] adapters = parameterTypeAdapters;
+		if (adapters == null) {
+			Type[] parameterTypes = method.getParameterTypes();
+			adapters = new TypeAdapter<?>[parameterTypes.length];
+			for (int i = 0; i < parameterTypes.length; i++) {
+				adapters[i] = getAdapter(parameterTypes[i], null);
+			}
+			parameterTypeAdapters = adapters;
+		}
+		return index < adapters.length ? adapters[index] : null;
+	}
+
+	/**
+	 * The type adapter for the result of the method, or {@code null} if the method has no result.
+	 * If the method has a {@link JsonRpcMethod#getReturnTypeAdapterFactory() return type adapter factory},
+	 * the adapter is created by that factory.
+	 */
+	public TypeAdapter<?> getReturnTypeAdapter() {
+		if (!returnTypeAdapterResolved) {
+			returnTypeAdapter = getAdapter(method.getReturnType(), method.getReturnTypeAdapterFactory());
+			returnTypeAdapterResolved = true;
+		}
+		return returnTypeAdapter;
+	}
+
+	private TypeAdapter<?> getAdapter(Type type, TypeAdapterFactory factory) {
+		if (type == null || type == Void.class)
+			return null;
+		TypeToken<?> typeToken = TypeToken.get(type);
+		if (factory != null) {
+			TypeAdapter<?> adapter = factory.create(gson, typeToken);
+			if (adapter != null)
+				return adapter;
+		}
+		return gson.getAdapter(typeToken);
+	}
+
+	@Override
+	public String toString() {
+		return "JsonRpcMethodAdapters [" + method.getMethodName() + "]";
+	}
+
+}
@@ -0,0 +1,69 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.CharArrayReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decodes the content of incoming messages into a reusable character buffer. The decoder for the
+ * most recently used charset is cached, so consecutive messages with the same charset share it.
+ * Instances are not thread-safe.
+ */
+class MessageContentDecoder {
+
+	private static final int INITIAL_BUFFER_SIZE = 8192;
+
+	/**
+	 * Buffers that have been enlarged beyond this size for a single message are released afterwards.
+	 */
+	private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+	private CharsetDecoder decoder;
+	private String decoderCharset;
+	private CharBuffer charBuffer;
+
+	/**
+	 * Decode the remaining bytes of the given buffer and return a reader for the result. The reader is
+	 * only valid until the next call of this method.
+	 */
+	Reader decode(ByteBuffer content, String charset) {
+		if (decoder == null || !decoderCharset.equals(charset)) {
+			decoder = Charset.forName(charset).newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			decoderCharset = charset;
+		}
+		int maxChars = (int) Math.ceil(content.remaining() * (double) decoder.maxCharsPerByte());
+		if (charBuffer == null || charBuffer.capacity() < maxChars)
+			charBuffer = CharBuffer.allocate(Math.max(maxChars, INITIAL_BUFFER_SIZE));
+		charBuffer.clear();
+		decoder.reset();
+		decoder.decode(content, charBuffer, true);
+		decoder.flush(charBuffer);
+		return new CharArrayReader(charBuffer.array(), 0, charBuffer.position());
+	}
+
+	/**
+	 * Drop the character buffer if it has been enlarged for a single large message.
+	 */
+	void releaseLargeBuffers() {
+		if (charBuffer != null && charBuffer.capacity() > MAX_RETAINED_BUFFER_SIZE)
+			charBuffer = null;
+	}
+
+}
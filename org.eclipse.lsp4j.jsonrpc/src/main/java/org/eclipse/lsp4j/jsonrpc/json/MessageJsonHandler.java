@@ -11,13 +11,16 @@
  ******************************************************************************/
 package org.eclipse.lsp4j.jsonrpc.json;
 
+import java.io.CharArrayReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
@@ -28,8 +31,11 @@ import org.eclipse.lsp4j.jsonrpc.json.adapters.MessageTypeAdapter;
 import org.eclipse.lsp4j.jsonrpc.json.adapters.ThrowableTypeAdapter;
 import org.eclipse.lsp4j.jsonrpc.json.adapters.TupleTypeAdapters;
 import org.eclipse.lsp4j.jsonrpc.messages.CancelParams;
+import org.eclipse.lsp4j.jsonrpc.messages.LazyParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.MessageIssue;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 
 import com.google.gson.Gson;
@@ -37,6 +43,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
@@ -49,12 +56,18 @@ public class MessageJsonHandler {
 
 	public static final JsonRpcMethod CANCEL_METHOD = JsonRpcMethod.notification("$/cancelRequest", CancelParams.class);
 
+	private static final int INITIAL_BUFFER_SIZE = 1024;
+
 	private final Gson gson;
 
 	private final Map<String, JsonRpcMethod> supportedMethods;
 
+	private final Map<String, JsonRpcMethodAdapters> methodAdapters = new ConcurrentHashMap<>();
+
 	private MethodProvider methodProvider;
 
+	private volatile boolean decodeParamsLazily;
+
 	/**
 	 * @param supportedMethods - a map used to resolve RPC methods in {@link #getJsonRpcMethod(String)}
 	 */
@@ -103,6 +116,23 @@ public class MessageJsonHandler {
 		return null;
 	}
 
+	/**
+	 * Resolve the type adapters of an RPC method by name. The adapters are created once per method
+	 * and kept for the lifetime of this handler.
+	 */
+	public JsonRpcMethodAdapters getJsonRpcMethodAdapters(String name) {
+		if (name == null)
+			return null;
+		JsonRpcMethodAdapters result = methodAdapters.get(name);
+		if (result == null) {
+			JsonRpcMethod jsonRpcMethod = getJsonRpcMethod(name);
+			if (jsonRpcMethod == null)
+				return null;
+			result = methodAdapters.computeIfAbsent(name, key -> new JsonRpcMethodAdapters(jsonRpcMethod, gson));
+		}
+		return result;
+	}
+
 	public MethodProvider getMethodProvider() {
 		return methodProvider;
 	}
@@ -111,13 +141,32 @@ public class MessageJsonHandler {
 		this.methodProvider = methodProvider;
 	}
 
+	/**
+	 * Keep the parameters of parsed requests and notifications as {@link LazyParams}, which hold the JSON
+	 * text of the parameters and convert it to the parameter types of the method on first access. Parameters
+	 * that do not match these types are then reported with a {@link ResponseErrorCode#ParseError} response
+	 * instead of an issue of the parsed message.
+	 */
+	public void setDecodeParamsLazily(boolean decodeParamsLazily) {
+		this.decodeParamsLazily = decodeParamsLazily;
+	}
+
+	public boolean isDecodeParamsLazily() {
+		return decodeParamsLazily;
+	}
+
 	public Message parseMessage(CharSequence input) throws JsonParseException {
 		final var reader = new StringReader(input.toString());
 		return parseMessage(reader);
 	}
 
 	public Message parseMessage(Reader input) throws JsonParseException {
-		JsonReader jsonReader = new JsonReader(input);
+		if (decodeParamsLazily)
+			return parseMessageWithLazyParams(input);
+		return parseMessage(new JsonReader(input));
+	}
+
+	private Message parseMessage(JsonReader jsonReader) throws JsonParseException {
 		Message message = gson.fromJson(jsonReader, Message.class);
 
 		if (message != null) {
@@ -139,6 +188,56 @@ public class MessageJsonHandler {
 		return message;
 	}
 
+	/**
+	 * Parse a message whose parameters are left out and kept as {@link LazyParams}. The parameters are
+	 * located by a {@link RawParamsScanner} and replaced by {@code null} before the rest of the message is parsed.
+	 */
+	private Message parseMessageWithLazyParams(Reader input) throws JsonParseException {
+		char[] chars = new char[INITIAL_BUFFER_SIZE];
+		int length = 0;
+		try {
+			int count;
+			while ((count = input.read(chars, length, chars.length - length)) != -1) {
+				length += count;
+				if (length == chars.length)
+					chars = Arrays.copyOf(chars, 2 * length);
+			}
+		} catch (IOException e) {
+			throw new JsonIOException(e);
+		}
+		final var scanner = new RawParamsScanner(chars, length);
+		TypeAdapter<Message> adapter = gson.getAdapter(Message.class);
+		if (!(adapter instanceof MessageTypeAdapter) || !scanner.scan())
+			return parseMessage(new JsonReader(new CharArrayReader(chars, 0, length)));
+
+		String params = scanner.getValue();
+		chars = scanner.removeValue();
+		length = scanner.getLength();
+		Message message;
+		try {
+			message = parseMessage(new JsonReader(new CharArrayReader(chars, 0, length)));
+		} catch (MessageIssueException e) {
+			setLazyParams(e.getRpcMessage(), params, (MessageTypeAdapter) adapter);
+			throw e;
+		}
+		setLazyParams(message, params, (MessageTypeAdapter) adapter);
+		return message;
+	}
+
+	private void setLazyParams(Message message, String params, MessageTypeAdapter adapter) {
+		if (message instanceof RequestMessage) {
+			final var requestMessage = (RequestMessage) message;
+			requestMessage.setParams(createLazyParams(params, requestMessage.getMethod(), adapter));
+		} else if (message instanceof NotificationMessage) {
+			final var notificationMessage = (NotificationMessage) message;
+			notificationMessage.setParams(createLazyParams(params, notificationMessage.getMethod(), adapter));
+		}
+	}
+
+	private LazyParams createLazyParams(String params, String method, MessageTypeAdapter adapter) {
+		return new LazyParams(params, getJsonRpcMethod(method), () -> adapter.parseRawParams(params, method));
+	}
+
 	public String serialize(Message message) {
 		final var writer = new StringWriter();
 		serialize(message, writer);
@@ -0,0 +1,376 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer that holds one framed JSON-RPC message. The message content is written as
+ * characters through the {@link Writer} interface and encoded directly into the buffer. Header attributes
+ * are added afterwards with {@link #writeHeader(String, int)} and {@link #writeHeader(String, String)}.
+ * The header is placed in front of the content, so the whole frame can be sent with a single write operation.
+ * <p>
+ * A buffer can be reused for any number of messages by calling {@link #reset()}. Instances are not thread-safe.
+ */
+public class MessageOutputBuffer extends Writer implements MessageConstants {
+
+	/**
+	 * Space initially reserved in front of the content for the header, which is enough for
+	 * the {@code Content-Length} attribute and a {@code Content-Type} attribute with a charset.
+	 * A larger header is supported, but the content has to be moved to make room for it.
+	 */
+	private static final int HEADER_CAPACITY = 128;
+
+	private static final int INITIAL_CONTENT_CAPACITY = 1024;
+
+	private final Charset charset;
+	private final boolean utf8;
+	private CharsetEncoder encoder;
+
+	private byte[] bytes = new byte[HEADER_CAPACITY + INITIAL_CONTENT_CAPACITY];
+	/** The index of the content in {@link #bytes}, the space in front of it is reserved for the header */
+	private int contentStart = HEADER_CAPACITY;
+	private int count = HEADER_CAPACITY;
+	private char highSurrogate;
+
+	private byte[] header = new byte[HEADER_CAPACITY];
+	private int headerLength;
+
+	/** Characters collected for charsets other than UTF-8, which are encoded when the content is complete */
+	private char[] chars;
+	private int charCount;
+	private boolean encoded;
+
+	public MessageOutputBuffer() {
+		this(StandardCharsets.UTF_8);
+	}
+
+	public MessageOutputBuffer(Charset charset) {
+		this.charset = charset;
+		this.utf8 = StandardCharsets.UTF_8.equals(charset);
+	}
+
+	public Charset getCharset() {
+		return charset;
+	}
+
+	/**
+	 * Discard the content and the header so the buffer can be used for the next message.
+	 */
+	public void reset() {
+		count = contentStart;
+		highSurrogate = 0;
+		headerLength = 0;
+		charCount = 0;
+		encoded = false;
+	}
+
+	/**
+	 * The number of bytes allocated by this buffer, which can be used to decide whether it is worth reusing.
+	 */
+	public int capacity() {
+		return bytes.length + (chars != null ? 2 * chars.length : 0);
+	}
+
+	/**
+	 * The length of the encoded content in bytes. No more content must be written after calling this method.
+	 */
+	public int getContentLength() {
+		encodeChars();
+		return count - contentStart;
+	}
+
+	/**
+	 * The length of the header including the empty line that terminates it.
+	 */
+	public int getHeaderLength() {
+		return headerLength + CRLF.length();
+	}
+
+	/**
+	 * Add a header attribute with a non-negative numeric value.
+	 */
+	public void writeHeader(String name, int value) {
+		if (value < 0)
+			throw new IllegalArgumentException("Negative header value: " + value);
+		writeHeaderName(name);
+		int digits = 1;
+		for (int v = value / 10; v > 0; v /= 10)
+			digits++;
+		ensureHeaderCapacity(digits + CRLF.length());
+		for (int i = headerLength + digits - 1; i >= headerLength; i--) {
+			header[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		headerLength += digits;
+		writeHeaderChars(CRLF);
+	}
+
+	/**
+	 * Add a header attribute with a string value, which must consist of ASCII characters.
+	 */
+	public void writeHeader(String name, String value) {
+		writeHeaderName(name);
+		writeHeaderChars(value);
+		writeHeaderChars(CRLF);
+	}
+
+	private void writeHeaderName(String name) {
+		writeHeaderChars(name);
+		writeHeaderChars(": ");
+	}
+
+	/**
+	 * Add header lines that are already formatted. Each line must be terminated with {@code \r\n}
+	 * and consist of ASCII characters. The empty line that terminates the header is added by this buffer.
+	 */
+	public void writeHeaderLines(String lines) {
+		writeHeaderChars(lines);
+	}
+
+	private void writeHeaderChars(String s) {
+		ensureHeaderCapacity(s.length());
+		for (int i = 0; i < s.length(); i++)
+			header[headerLength++] = (byte) s.charAt(i);
+	}
+
+	private void ensureHeaderCapacity(int length) {
+		if (headerLength + length > header.length)
+			header = Arrays.copyOf(header, Math.max(header.length * 2, headerLength + length));
+	}
+
+	/**
+	 * The total length of the framed message, i.e. the header length plus the content length.
+	 */
+	public int getFrameLength() {
+		return getHeaderLength() + getContentLength();
+	}
+
+	/**
+	 * Write the header, the empty line that terminates it, and the content to the given output stream.
+	 */
+	public void writeTo(OutputStream output) throws IOException {
+		int start = prependHeader();
+		output.write(bytes, start, count - start);
+	}
+
+	/**
+	 * Copy the header, the empty line that terminates it, and the content into the given array.
+	 *
+	 * @return the number of bytes copied, which is equal to {@link #getFrameLength()}
+	 */
+	public int writeTo(byte[] target, int offset) {
+		int start = prependHeader();
+		int length = count - start;
+		System.arraycopy(bytes, start, target, offset, length);
+		return length;
+	}
+
+	/**
+	 * Put the header, the empty line that terminates it, and the content into the given buffer.
+	 *
+	 * @return the number of bytes put into the buffer, which is equal to {@link #getFrameLength()}
+	 */
+	public int writeTo(ByteBuffer target) {
+		int start = prependHeader();
+		int length = count - start;
+		target.put(bytes, start, length);
+		return length;
+	}
+
+	private int prependHeader() {
+		encodeChars();
+		int headerSize = getHeaderLength();
+		if (headerSize > contentStart) {
+			// Move the content to make room for the header, the larger space is kept when the buffer is reused
+			byte[] newBytes = new byte[bytes.length - contentStart + headerSize];
+			System.arraycopy(bytes, contentStart, newBytes, headerSize, count - contentStart);
+			count += headerSize - contentStart;
+			contentStart = headerSize;
+			bytes = newBytes;
+		}
+		int start = contentStart - headerSize;
+		System.arraycopy(header, 0, bytes, start, headerLength);
+		bytes[contentStart - 2] = '\r';
+		bytes[contentStart - 1] = '\n';
+		return start;
+	}
+
+	@Override
+	public void write(int c) {
+		if (utf8) {
+			ensureCapacity(4);
+			encodeUtf8((char) c);
+		} else {
+			ensureCharCapacity(1);
+			chars[charCount++] = (char) c;
+		}
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) {
+		if (utf8) {
+			ensureCapacity(3 * len + 1);
+			for (int i = off; i < off + len; i++) {
+				char c = cbuf[i];
+				if (c < 0x80 && highSurrogate == 0)
+					bytes[count++] = (byte) c;
+				else
+					encodeUtf8(c);
+			}
+		} else {
+			ensureCharCapacity(len);
+			System.arraycopy(cbuf, off, chars, charCount, len);
+			charCount += len;
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) {
+		if (utf8) {
+			ensureCapacity(3 * len + 1);
+			for (int i = off; i < off + len; i++) {
+				char c = str.charAt(i);
+				if (c < 0x80 && highSurrogate == 0)
+					bytes[count++] = (byte) c;
+				else
+					encodeUtf8(c);
+			}
+		} else {
+			ensureCharCapacity(len);
+			str.getChars(off, off + len, chars, charCount);
+			charCount += len;
+		}
+	}
+
+	@Override
+	public Writer append(CharSequence csq) {
+		String s = String.valueOf(csq);
+		write(s, 0, s.length());
+		return this;
+	}
+
+	@Override
+	public Writer append(char c) {
+		write(c);
+		return this;
+	}
+
+	/**
+	 * Write content that is already encoded as UTF-8. If this buffer uses UTF-8, the bytes are copied
+	 * without decoding them, otherwise they are decoded and written as characters.
+	 */
+	public void writeUtf8(byte[] content, int off, int len) {
+		if (utf8 && highSurrogate == 0) {
+			ensureCapacity(len);
+			System.arraycopy(content, off, bytes, count, len);
+			count += len;
+		} else {
+			String s = new String(content, off, len, StandardCharsets.UTF_8);
+			write(s, 0, s.length());
+		}
+	}
+
+	/**
+	 * Encode a single character as UTF-8. The buffer must have space for at least four more bytes.
+	 * Malformed surrogates are replaced with {@code '?'} like {@link String#getBytes(Charset)} does.
+	 */
+	private void encodeUtf8(char c) {
+		if (highSurrogate != 0) {
+			char high = highSurrogate;
+			highSurrogate = 0;
+			if (Character.isLowSurrogate(c)) {
+				int codePoint = Character.toCodePoint(high, c);
+				bytes[count++] = (byte) (0xF0 | (codePoint >> 18));
+				bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				bytes[count++] = (byte) (0x80 | (codePoint & 0x3F));
+				return;
+			}
+			bytes[count++] = '?';
+			ensureCapacity(4);
+		}
+		if (c < 0x80) {
+			bytes[count++] = (byte) c;
+		} else if (c < 0x800) {
+			bytes[count++] = (byte) (0xC0 | (c >> 6));
+			bytes[count++] = (byte) (0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			bytes[count++] = '?';
+		} else {
+			bytes[count++] = (byte) (0xE0 | (c >> 12));
+			bytes[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+			bytes[count++] = (byte) (0x80 | (c & 0x3F));
+		}
+	}
+
+	private void encodeChars() {
+		if (utf8) {
+			if (highSurrogate != 0) {
+				highSurrogate = 0;
+				ensureCapacity(1);
+				bytes[count++] = '?';
+			}
+		} else if (!encoded) {
+			if (encoder == null) {
+				encoder = charset.newEncoder()
+						.onMalformedInput(CodingErrorAction.REPLACE)
+						.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			}
+			ensureCapacity((int) Math.ceil(charCount * (double) encoder.maxBytesPerChar()));
+			ByteBuffer target = ByteBuffer.wrap(bytes, count, bytes.length - count);
+			encoder.reset();
+			encoder.encode(CharBuffer.wrap(chars != null ? chars : new char[0], 0, charCount), target, true);
+			encoder.flush(target);
+			count = target.position();
+			encoded = true;
+		}
+	}
+
+	private void ensureCapacity(int length) {
+		if (count + length > bytes.length) {
+			byte[] newBytes = new byte[Math.max(bytes.length * 2, count + length)];
+			System.arraycopy(bytes, 0, newBytes, 0, count);
+			bytes = newBytes;
+		}
+	}
+
+	private void ensureCharCapacity(int length) {
+		if (chars == null) {
+			chars = new char[Math.max(INITIAL_CONTENT_CAPACITY, length)];
+		} else if (charCount + length > chars.length) {
+			char[] newChars = new char[Math.max(chars.length * 2, charCount + length)];
+			System.arraycopy(chars, 0, newChars, 0, charCount);
+			chars = newChars;
+		}
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() {
+	}
+
+}
@@ -0,0 +1,203 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
+import org.eclipse.lsp4j.jsonrpc.MessageIssueHandler;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageProducer.Headers;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+
+/**
+ * Header parsing and error reporting shared by {@link StreamMessageProducer} and {@link ChannelMessageProducer}.
+ * Headers are parsed from the read buffer of the producer; errors are passed to the overridable
+ * {@code fireError} method of the producer.
+ */
+final class MessageProducerSupport implements MessageConstants {
+
+	private static final byte[] CONTENT_LENGTH_BYTES = CONTENT_LENGTH_HEADER.getBytes(StandardCharsets.US_ASCII);
+
+	private MessageProducerSupport() {
+	}
+
+	/**
+	 * Find the end of the header block that starts at the given buffer index. The header block is terminated by
+	 * two consecutive newlines.
+	 *
+	 * @return the buffer index after the header block, or -1 if the buffer range does not contain a complete header block
+	 */
+	static int findHeaderEnd(ByteBuffer buffer, int from, int to) {
+		boolean newLine = false;
+		for (int i = from; i < to; i++) {
+			byte b = buffer.get(i);
+			if (b == '\n') {
+				if (newLine)
+					return i + 1;
+				newLine = true;
+			} else if (b != '\r') {
+				newLine = false;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Parse the header lines in the given buffer range. The {@code Content-Length} header is parsed directly
+	 * from the buffer, all other non-empty header lines are passed to the given line parser.
+	 */
+	static void parseHeaders(ByteBuffer buffer, int start, int end, Headers headers, Consumer<String> lineParser,
+			Consumer<Throwable> errorHandler) {
+		int lineStart = start;
+		for (int i = start; i < end; i++) {
+			if (buffer.get(i) == '\n') {
+				int lineEnd = i;
+				while (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r')
+					lineEnd--;
+				if (lineEnd > lineStart && !parseContentLength(buffer, lineStart, lineEnd, headers, errorHandler))
+					lineParser.accept(getString(buffer, lineStart, lineEnd));
+				lineStart = i + 1;
+			}
+		}
+	}
+
+	/**
+	 * Parse the given header line if it is a {@code Content-Length} header.
+	 *
+	 * @return {@code true} if the line is a {@code Content-Length} header, {@code false} otherwise
+	 */
+	private static boolean parseContentLength(ByteBuffer buffer, int start, int end, Headers headers,
+			Consumer<Throwable> errorHandler) {
+		int index = start;
+		for (int i = 0; i < CONTENT_LENGTH_BYTES.length; i++, index++) {
+			if (index >= end || buffer.get(index) != CONTENT_LENGTH_BYTES[i])
+				return false;
+		}
+		while (index < end && buffer.get(index) == ' ')
+			index++;
+		if (index >= end || buffer.get(index) != ':')
+			return false;
+		index++;
+		while (index < end && buffer.get(index) <= ' ')
+			index++;
+		while (end > index && buffer.get(end - 1) <= ' ')
+			end--;
+		long value = 0;
+		for (int i = index; i < end && value <= Integer.MAX_VALUE; i++) {
+			int digit = buffer.get(i) - '0';
+			if (digit < 0 || digit > 9) {
+				value = -1;
+				break;
+			}
+			value = value * 10 + digit;
+		}
+		if (index == end || value < 0 || value > Integer.MAX_VALUE) {
+			errorHandler.accept(new NumberFormatException("For input string: \"" + getString(buffer, index, end) + "\""));
+		} else {
+			headers.contentLength = (int) value;
+		}
+		return true;
+	}
+
+	/**
+	 * Parse a header attribute and set the corresponding data in the {@link Headers} fields.
+	 */
+	static void parseHeader(String line, Headers headers, Consumer<Throwable> errorHandler) {
+		int sepIndex = line.indexOf(':');
+		if (sepIndex >= 0) {
+			String key = line.substring(0, sepIndex).trim();
+			switch (key) {
+			case CONTENT_LENGTH_HEADER:
+				try {
+					headers.contentLength = Integer.parseInt(line.substring(sepIndex + 1).trim());
+				} catch (NumberFormatException e) {
+					errorHandler.accept(e);
+				}
+				break;
+			case CONTENT_TYPE_HEADER: {
+				int charsetIndex = line.indexOf("charset=");
+				if (charsetIndex >= 0)
+					headers.charset = line.substring(charsetIndex + 8).trim();
+				break;
+			}
+			default:
+				// Other headers are ignored
+			}
+		}
+	}
+
+	/**
+	 * Create the error that is reported for a header block without {@code Content-Length} header.
+	 */
+	static IllegalStateException missingContentLength(ByteBuffer buffer, int start, int end) {
+		return new IllegalStateException("Missing header " + CONTENT_LENGTH_HEADER
+				+ " in input \"" + getString(buffer, start, end) + "\"");
+	}
+
+	private static String getString(ByteBuffer buffer, int start, int end) {
+		if (buffer.hasArray())
+			return new String(buffer.array(), buffer.arrayOffset() + start, end - start, StandardCharsets.ISO_8859_1);
+		byte[] bytes = new byte[end - start];
+		ByteBuffer range = buffer.duplicate();
+		range.limit(end).position(start);
+		range.get(bytes);
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Parse a message and notify the callback. Issues found while parsing or validating the message are passed
+	 * to the issue handler, if there is one, all other exceptions to the error handler.
+	 */
+	static void handleMessage(Callable<Message> parser, MessageConsumer callback, MessageIssueHandler issueHandler,
+			Consumer<Throwable> errorHandler) {
+		try {
+			try {
+				Message message = parser.call();
+				callback.consume(message);
+			} catch (MessageIssueException exception) {
+				// An issue was found while parsing or validating the message
+				if (issueHandler != null)
+					issueHandler.handle(exception.getRpcMessage(), exception.getIssues());
+				else
+					errorHandler.accept(exception);
+			}
+		} catch (Exception exception) {
+			// UnsupportedCharsetException can be thrown when decoding the content
+			// JsonParseException can be thrown by jsonHandler
+			// We also catch arbitrary exceptions that are thrown by message consumers in order to keep reading
+			errorHandler.accept(exception);
+		}
+	}
+
+	/**
+	 * Log an error.
+	 */
+	static void logError(Logger logger, Throwable error) {
+		String message = error.getMessage() != null ? error.getMessage() : "An error occurred while processing an incoming message.";
+		logger.log(Level.SEVERE, message, error);
+	}
+
+	/**
+	 * Log that the input was closed through an exception.
+	 */
+	static void logStreamClosed(Logger logger, Exception cause, String defaultMessage) {
+		String message = cause.getMessage() != null ? cause.getMessage() : defaultMessage;
+		logger.log(Level.INFO, message, cause);
+	}
+
+}
@@ -0,0 +1,99 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free queue for multiple producer threads and a single consumer thread.
+ * Producers claim a slot by incrementing the producer index and then publish their element into that slot.
+ * The consumer waits for a claimed slot to be published before it takes the element.
+ */
+class MpscArrayQueue<E> {
+
+	private final AtomicReferenceArray<E> elements;
+	private final int capacity;
+	private final int mask;
+
+	private final AtomicLong producerIndex = new AtomicLong();
+	private final AtomicLong consumerIndex = new AtomicLong();
+
+	MpscArrayQueue(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+		this.capacity = capacity;
+		int length = Integer.highestOneBit(capacity);
+		if (length < capacity)
+			length <<= 1;
+		this.elements = new AtomicReferenceArray<>(length);
+		this.mask = length - 1;
+	}
+
+	int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Add an element to the queue. This method may be called by any thread.
+	 *
+	 * @return {@code false} if the queue is full
+	 */
+	boolean offer(E element) {
+		if (element == null)
+			throw new NullPointerException("element");
+		long index;
+		do {
+			index = producerIndex.get();
+			if (index - consumerIndex.get() >= capacity)
+				return false;
+		} while (!producerIndex.compareAndSet(index, index + 1));
+		elements.lazySet((int) index & mask, element);
+		return true;
+	}
+
+	/**
+	 * Remove the head of the queue. This method must only be called by the consumer thread.
+	 *
+	 * @return the head element, or {@code null} if the queue is empty
+	 */
+	E poll() {
+		long index = consumerIndex.get();
+		int offset = (int) index & mask;
+		E element = elements.get(offset);
+		if (element == null) {
+			if (index == producerIndex.get())
+				return null;
+			// A producer has claimed the slot but not yet published its element
+			do {
+				Thread.onSpinWait();
+				element = elements.get(offset);
+			} while (element == null);
+		}
+		elements.lazySet(offset, null);
+		consumerIndex.lazySet(index + 1);
+		return element;
+	}
+
+	boolean isEmpty() {
+		return producerIndex.get() == consumerIndex.get();
+	}
+
+	/**
+	 * The number of elements in the queue. The result is only an estimate while other threads modify the queue.
+	 */
+	int size() {
+		long size = producerIndex.get() - consumerIndex.get();
+		return (int) Math.max(0, Math.min(size, capacity));
+	}
+
+}
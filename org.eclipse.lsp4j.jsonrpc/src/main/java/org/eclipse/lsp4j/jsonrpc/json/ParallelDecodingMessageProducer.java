@@ -0,0 +1,365 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
+import org.eclipse.lsp4j.jsonrpc.MessageIssueHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A message producer that reads messages from an input stream in one thread and parses them from JSON
+ * in a pool of worker threads, so large messages do not hold up the messages that follow them.
+ * <p>
+ * Parsed messages are passed to the callback one at a time, and their order is constrained as follows:
+ * <ul>
+ * <li>Messages that refer to the same {@code textDocument.uri} in their parameters are passed in the order in which they were read.</li>
+ * <li>A {@code $/cancelRequest} notification is never passed before the request it refers to.</li>
+ * <li>All other messages are passed in the order in which they were read, and they also keep their position
+ *   relative to all messages before and after them.</li>
+ * </ul>
+ * The ordering attributes are taken from the first few kilobytes of each message before it is parsed, so the
+ * {@code textDocument.uri} should precede large properties such as the text of a {@code didOpen} notification.
+ * If no uri is found there, the message keeps its position relative to all other messages.
+ */
+public class ParallelDecodingMessageProducer extends StreamMessageProducer {
+
+	/**
+	 * Number of bytes at the start of each message that are scanned for ordering attributes.
+	 */
+	private static final int SCAN_LIMIT = 4096;
+
+	/**
+	 * Ordering key shared by all cancellations and by all messages whose id may lie beyond the scanned part.
+	 */
+	private static final String CANCEL_KEY = "cancel";
+
+	private final MessageJsonHandler jsonHandler;
+	private final MessageIssueHandler issueHandler;
+	private final int workerCount;
+	private final int maxPendingMessages;
+
+	private final ThreadLocal<MessageContentDecoder> contentDecoders = ThreadLocal.withInitial(MessageContentDecoder::new);
+
+	/** Messages that have been read, but not yet taken for dispatching, in the order in which they were read */
+	private final Queue<PendingMessage> pendingMessages = new ArrayDeque<>();
+	/** Number of messages that have been read, but not yet passed to the callback; guarded by {@link #pendingMessages} */
+	private int undeliveredCount;
+
+	private final AtomicBoolean dispatching = new AtomicBoolean();
+	private volatile boolean dispatchRequested;
+
+	private ExecutorService workers;
+	private MessageConsumer callback;
+
+	private static class PendingMessage {
+		/** The ordering keys, or {@code null} if this message is ordered with respect to all other messages */
+		final Set<String> orderingKeys;
+		boolean parsed;
+		Message message;
+		MessageIssueException issue;
+		Exception error;
+
+		PendingMessage(Set<String> orderingKeys) {
+			this.orderingKeys = orderingKeys;
+		}
+	}
+
+	/** The attributes of a message that determine its ordering constraints */
+	private static class OrderingAttributes {
+		String method;
+		String id;
+		String paramsId;
+		String uri;
+		/** Whether the whole message was scanned */
+		boolean complete;
+	}
+
+	public ParallelDecodingMessageProducer(InputStream input, MessageJsonHandler jsonHandler, int workerCount) {
+		this(input, jsonHandler, null, workerCount);
+	}
+
+	public ParallelDecodingMessageProducer(InputStream input, MessageJsonHandler jsonHandler, MessageIssueHandler issueHandler,
+			int workerCount) {
+		super(input, jsonHandler, issueHandler);
+		if (workerCount < 1)
+			throw new IllegalArgumentException("The number of workers must be positive: " + workerCount);
+		this.jsonHandler = jsonHandler;
+		this.issueHandler = issueHandler;
+		this.workerCount = workerCount;
+		this.maxPendingMessages = 16 * workerCount;
+	}
+
+	@Override
+	public void listen(MessageConsumer callback) {
+		if (workers != null) {
+			throw new IllegalStateException("This " + getClass().getSimpleName() + " is already running.");
+		}
+		this.callback = callback;
+		this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+			Thread thread = new Thread(runnable, "LSP4J Message Decoder");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			super.listen(callback);
+		} finally {
+			awaitDelivery();
+			workers.shutdown();
+			workers = null;
+			this.callback = null;
+		}
+	}
+
+	/**
+	 * Determine the ordering constraints of the given message and hand it over to a worker thread for parsing.
+	 * The content is copied, since the read buffer is reused for the next message.
+	 */
+	@Override
+	protected boolean handleMessage(byte[] content, int offset, int length, Headers headers) {
+		byte[] bytes = Arrays.copyOfRange(content, offset, offset + length);
+		String charset = headers.charset;
+		PendingMessage pending = new PendingMessage(getOrderingKeys(bytes, charset));
+		synchronized (pendingMessages) {
+			try {
+				while (undeliveredCount >= maxPendingMessages) {
+					pendingMessages.wait();
+				}
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			pendingMessages.add(pending);
+			undeliveredCount++;
+		}
+		workers.execute(() -> parse(pending, bytes, charset));
+		return true;
+	}
+
+	/**
+	 * Scan the start of the message content for the attributes that determine its ordering constraints.
+	 *
+	 * @return the ordering keys, or {@code null} if the message must keep its position relative to all other messages
+	 */
+	protected Set<String> getOrderingKeys(byte[] content, String charset) {
+		final var attributes = new OrderingAttributes();
+		try (JsonReader reader = new JsonReader(new StringReader(new String(content, 0, Math.min(content.length, SCAN_LIMIT), charset)))) {
+			reader.beginObject();
+			while (reader.hasNext()) {
+				switch (reader.nextName()) {
+				case "method":
+					attributes.method = reader.nextString();
+					break;
+				case "id":
+					attributes.id = reader.nextString();
+					break;
+				case "params":
+					if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+						reader.skipValue();
+						break;
+					}
+					reader.beginObject();
+					while (reader.hasNext()) {
+						switch (reader.nextName()) {
+						case "id":
+							attributes.paramsId = reader.nextString();
+							break;
+						case "textDocument":
+							readUri(reader, attributes);
+							break;
+						default:
+							reader.skipValue();
+						}
+					}
+					reader.endObject();
+					break;
+				default:
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+			attributes.complete = true;
+		} catch (IOException | RuntimeException exception) {
+			// The scanned part ends within the message or the message is malformed, so use what has been found so far
+		}
+		if (MessageJsonHandler.CANCEL_METHOD.getMethodName().equals(attributes.method))
+			return attributes.paramsId != null ? Set.of("id:" + attributes.paramsId, CANCEL_KEY) : null;
+		if (attributes.uri == null)
+			return null;
+		if (attributes.id != null)
+			return Set.of("uri:" + attributes.uri, "id:" + attributes.id);
+		if (attributes.complete)
+			return Set.of("uri:" + attributes.uri);
+		// The message may be a request with an id beyond the scanned part, so no cancellation may overtake it
+		return Set.of("uri:" + attributes.uri, CANCEL_KEY);
+	}
+
+	/**
+	 * Read the {@code uri} property of a text document. The uri is recorded as soon as it is read, so it is
+	 * also used if the scanned part ends within the text document, e.g. in the text of a {@code didOpen} notification.
+	 */
+	private void readUri(JsonReader reader, OrderingAttributes attributes) throws IOException {
+		if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+			reader.skipValue();
+			return;
+		}
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if ("uri".equals(reader.nextName()))
+				attributes.uri = reader.nextString();
+			else
+				reader.skipValue();
+		}
+		reader.endObject();
+	}
+
+	/**
+	 * Parse a message in a worker thread and dispatch all messages that are ready afterwards.
+	 */
+	private void parse(PendingMessage pending, byte[] content, String charset) {
+		MessageContentDecoder contentDecoder = contentDecoders.get();
+		Message message = null;
+		MessageIssueException issue = null;
+		Exception error = null;
+		try (Reader reader = contentDecoder.decode(ByteBuffer.wrap(content), charset)) {
+			message = jsonHandler.parseMessage(reader);
+		} catch (MessageIssueException exception) {
+			issue = exception;
+		} catch (Exception exception) {
+			error = exception;
+		}
+		contentDecoder.releaseLargeBuffers();
+		synchronized (pendingMessages) {
+			pending.message = message;
+			pending.issue = issue;
+			pending.error = error;
+			pending.parsed = true;
+		}
+		dispatchRequested = true;
+		dispatch();
+	}
+
+	/**
+	 * Pass all messages that are ready to the callback. Only one thread dispatches at a time; other threads
+	 * leave their messages to that thread.
+	 */
+	private void dispatch() {
+		do {
+			if (!dispatching.compareAndSet(false, true))
+				return;
+			try {
+				do {
+					dispatchRequested = false;
+					List<PendingMessage> ready;
+					while (!(ready = takeReadyMessages()).isEmpty()) {
+						for (PendingMessage pending : ready) {
+							deliver(pending);
+						}
+						synchronized (pendingMessages) {
+							undeliveredCount -= ready.size();
+							pendingMessages.notifyAll();
+						}
+					}
+				} while (dispatchRequested);
+			} finally {
+				dispatching.set(false);
+			}
+			// Another thread may have finished parsing after the last check, but before the flag was cleared
+		} while (dispatchRequested);
+	}
+
+	/**
+	 * Remove all parsed messages from the pending queue that do not have to wait for an earlier message.
+	 */
+	private List<PendingMessage> takeReadyMessages() {
+		List<PendingMessage> ready = new ArrayList<>();
+		synchronized (pendingMessages) {
+			Set<String> blockedKeys = Collections.emptySet();
+			boolean first = true;
+			for (Iterator<PendingMessage> iterator = pendingMessages.iterator(); iterator.hasNext();) {
+				PendingMessage pending = iterator.next();
+				if (pending.orderingKeys == null) {
+					// This message waits for all earlier messages, and all later messages wait for it
+					if (!first || !pending.parsed)
+						break;
+					iterator.remove();
+					ready.add(pending);
+				} else if (pending.parsed && Collections.disjoint(blockedKeys, pending.orderingKeys)) {
+					iterator.remove();
+					ready.add(pending);
+				} else {
+					if (blockedKeys.isEmpty())
+						blockedKeys = new HashSet<>();
+					blockedKeys.addAll(pending.orderingKeys);
+					first = false;
+				}
+			}
+		}
+		return ready;
+	}
+
+	private void deliver(PendingMessage pending) {
+		try {
+			if (pending.message != null) {
+				callback.consume(pending.message);
+			} else if (pending.issue != null) {
+				// An issue was found while parsing or validating the message
+				if (issueHandler != null)
+					issueHandler.handle(pending.issue.getRpcMessage(), pending.issue.getIssues());
+				else
+					fireError(pending.issue);
+			} else if (pending.error != null) {
+				fireError(pending.error);
+			}
+		} catch (Exception exception) {
+			// We catch arbitrary exceptions that are thrown by message consumers in order to keep dispatching
+			fireError(exception);
+		}
+	}
+
+	/**
+	 * Wait until all messages that have been read are passed to the callback.
+	 */
+	private void awaitDelivery() {
+		synchronized (pendingMessages) {
+			try {
+				while (undeliveredCount > 0) {
+					pendingMessages.wait();
+				}
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.RawMessage;
+
+/**
+ * A message producer that reads messages from an input stream without parsing their content. Each message
+ * is passed on as a {@link RawMessage}, which only reads the properties needed for routing it. Messages can
+ * be sent unchanged with a {@link StreamMessageConsumer}, which does not need a {@link MessageJsonHandler}
+ * for raw messages.
+ */
+public class PassthroughMessageProducer extends StreamMessageProducer {
+
+	public PassthroughMessageProducer(InputStream input) {
+		super(input, null);
+	}
+
+	@Override
+	protected Message parseMessage(byte[] content, int offset, int length, Headers headers) {
+		Charset charset = Charset.forName(headers.charset);
+		if (StandardCharsets.UTF_8.equals(charset))
+			return RawMessage.parse(content, offset, length);
+		byte[] utf8 = new String(content, offset, length, charset).getBytes(StandardCharsets.UTF_8);
+		return RawMessage.parse(utf8, 0, utf8.length);
+	}
+
+}
@@ -0,0 +1,216 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.lsp4j.jsonrpc.messages.BatchMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+
+/**
+ * A queued message consumer that lets other messages overtake bulk notifications such as log messages or
+ * telemetry events, so responses, requests and cancellations are not held up by a flood of them.
+ * <p>
+ * Only notifications whose method is one of the given low priority methods are demoted. All other messages
+ * are written in the order in which they were consumed, since a message may depend on an earlier one, e.g.
+ * a request on a preceding document change, or a cancellation on the request it cancels.
+ * <p>
+ * Each {@link Priority} has its own queue of the given capacity, and the writer thread always takes the next
+ * message from the queue with the highest priority. To prevent starvation, a waiting message of lower priority
+ * is written after the given number of messages with higher priority have been written in a row. Messages of the
+ * same priority keep their order.
+ */
+public class PriorityMessageConsumer extends QueuedMessageConsumer {
+
+	/**
+	 * The classes of outgoing messages, from highest to lowest priority.
+	 */
+	public enum Priority {
+		/** Requests, responses and notifications that are written in their original order. */
+		NORMAL,
+		/** Notifications of the low priority methods, which may be overtaken by later messages. */
+		LOW
+	}
+
+	public static final int DEFAULT_STARVATION_LIMIT = 32;
+
+	/**
+	 * The notifications that are demoted by default: log messages, log traces and telemetry events.
+	 */
+	public static final Set<String> DEFAULT_LOW_PRIORITY_METHODS = Set.of("window/logMessage", "$/logTrace", "telemetry/event");
+
+	private static final Priority[] PRIORITIES = Priority.values();
+
+	/**
+	 * The queues for all priorities except {@link Priority#NORMAL}, which uses the queue of the superclass.
+	 */
+	private final MpscArrayQueue<MessageOutputBuffer>[] queues;
+	private final int starvationLimit;
+	private final Set<String> lowPriorityMethods;
+
+	// Accessed by the writer thread only
+	private final int[] skipCounts = new int[PRIORITIES.length];
+
+	private final AtomicLongArray writtenCounts = new AtomicLongArray(PRIORITIES.length);
+	private final AtomicLongArray promotedCounts = new AtomicLongArray(PRIORITIES.length);
+
+	public PriorityMessageConsumer(OutputStream output, MessageJsonHandler jsonHandler) {
+		this(output, StandardCharsets.UTF_8.name(), jsonHandler, DEFAULT_QUEUE_CAPACITY, DEFAULT_STARVATION_LIMIT,
+				DEFAULT_LOW_PRIORITY_METHODS);
+	}
+
+	public PriorityMessageConsumer(OutputStream output, MessageJsonHandler jsonHandler, int queueCapacity, int starvationLimit) {
+		this(output, StandardCharsets.UTF_8.name(), jsonHandler, queueCapacity, starvationLimit, DEFAULT_LOW_PRIORITY_METHODS);
+	}
+
+	/**
+	 * @param queueCapacity - the capacity of the queue of each priority
+	 * @param starvationLimit - the number of messages with higher priority that are written in a row before
+	 *			a waiting message of lower priority is written
+	 * @param lowPriorityMethods - the methods of notifications that may be overtaken by later messages
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public PriorityMessageConsumer(OutputStream output, String encoding, MessageJsonHandler jsonHandler,
+			int queueCapacity, int starvationLimit, Set<String> lowPriorityMethods) {
+		super(output, encoding, jsonHandler, queueCapacity);
+		if (starvationLimit <= 0)
+			throw new IllegalArgumentException("Starvation limit must be positive: " + starvationLimit);
+		this.starvationLimit = starvationLimit;
+		this.lowPriorityMethods = Set.copyOf(lowPriorityMethods);
+		this.queues = new MpscArrayQueue[PRIORITIES.length];
+		for (int i = 1; i < PRIORITIES.length; i++) {
+			queues[i] = new MpscArrayQueue<>(queueCapacity);
+		}
+	}
+
+	/**
+	 * Determine the priority of an outgoing message. Subclasses that demote further messages must make sure
+	 * that no later message depends on them.
+	 */
+	protected Priority getPriority(Message message) {
+		if (message instanceof BatchMessage) {
+			// A batch is only demoted if all of its elements are
+			for (Message element : ((BatchMessage) message).getMessages()) {
+				if (getPriority(element) == Priority.NORMAL)
+					return Priority.NORMAL;
+			}
+			return ((BatchMessage) message).getMessages().isEmpty() ? Priority.NORMAL : Priority.LOW;
+		}
+		if (message instanceof NotificationMessage && lowPriorityMethods.contains(((NotificationMessage) message).getMethod()))
+			return Priority.LOW;
+		return Priority.NORMAL;
+	}
+
+	/**
+	 * The methods of notifications that may be overtaken by later messages.
+	 */
+	public Set<String> getLowPriorityMethods() {
+		return lowPriorityMethods;
+	}
+
+	@Override
+	protected boolean offer(Message message, MessageOutputBuffer buffer) {
+		int priority = getPriority(message).ordinal();
+		if (priority == 0)
+			return super.offer(message, buffer);
+		return queues[priority].offer(buffer);
+	}
+
+	@Override
+	protected MessageOutputBuffer poll() {
+		int next = -1;
+		// A waiting message that has been passed over too often is written first
+		for (int i = PRIORITIES.length - 1; i > 0; i--) {
+			if (skipCounts[i] >= starvationLimit && !isEmpty(i)) {
+				next = i;
+				break;
+			}
+		}
+		int highest = -1;
+		for (int i = 0; i < PRIORITIES.length; i++) {
+			if (!isEmpty(i)) {
+				highest = i;
+				break;
+			}
+		}
+		if (next < 0 || next == highest)
+			next = highest;
+		else
+			promotedCounts.incrementAndGet(next);
+		if (next < 0)
+			return null;
+		MessageOutputBuffer buffer = next == 0 ? super.poll() : queues[next].poll();
+		if (buffer == null)
+			return null;
+		skipCounts[next] = 0;
+		for (int i = next + 1; i < PRIORITIES.length; i++) {
+			if (!isEmpty(i))
+				skipCounts[i]++;
+		}
+		writtenCounts.incrementAndGet(next);
+		return buffer;
+	}
+
+	@Override
+	protected boolean isQueueEmpty() {
+		for (int i = 0; i < PRIORITIES.length; i++) {
+			if (!isEmpty(i))
+				return false;
+		}
+		return true;
+	}
+
+	private boolean isEmpty(int priority) {
+		return priority == 0 ? super.isQueueEmpty() : queues[priority].isEmpty();
+	}
+
+	@Override
+	public int getQueueDepth() {
+		int depth = super.getQueueDepth();
+		for (int i = 1; i < PRIORITIES.length; i++) {
+			depth += queues[i].size();
+		}
+		return depth;
+	}
+
+	/**
+	 * The number of messages of the given priority that have been queued, but not yet written to the output stream.
+	 */
+	public int getQueueDepth(Priority priority) {
+		int i = priority.ordinal();
+		return i == 0 ? super.getQueueDepth() : queues[i].size();
+	}
+
+	/**
+	 * The number of messages of the given priority that have been taken from the queue to be written.
+	 */
+	public long getWrittenCount(Priority priority) {
+		return writtenCounts.get(priority.ordinal());
+	}
+
+	/**
+	 * The number of messages of the given priority that have been written ahead of messages with higher
+	 * priority because the starvation limit was reached.
+	 */
+	public long getPromotedCount(Priority priority) {
+		return promotedCounts.get(priority.ordinal());
+	}
+
+	public int getStarvationLimit() {
+		return starvationLimit;
+	}
+
+}
@@ -0,0 +1,245 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+
+/**
+ * A message consumer that hands messages over to a dedicated writer thread instead of writing them
+ * to the output stream in the calling thread.
+ * <p>
+ * Messages are serialized and framed in the calling thread and then put into a bounded lock-free queue.
+ * The writer thread takes all messages that are available, packs them into as few write operations as
+ * possible, and flushes the output stream once when the queue has been drained. Under load this means
+ * that many messages share a single system call instead of paying for one write and one flush each.
+ * <p>
+ * When the queue is full, the calling thread waits until the writer thread has made room. If writing to
+ * the output stream fails, the writer thread stops and all subsequent calls to {@link #consume(Message)}
+ * throw a {@link JsonRpcException} with the original cause. Since the message that failed was already
+ * accepted, the failure is reported to the handler set with {@link #setFailureHandler(Consumer)}.
+ * <p>
+ * The writer thread is started on demand and runs until the consumer is closed. A launcher closes its queued
+ * consumer when listening for incoming messages ends, and fails the pending requests of its remote endpoint
+ * when writing fails.
+ */
+public class QueuedMessageConsumer extends StreamMessageConsumer implements Closeable {
+
+	private static final Logger LOG = Logger.getLogger(QueuedMessageConsumer.class.getName());
+
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * Size of the array in which the writer thread collects frames for a single write operation.
+	 * Frames that do not fit are written separately.
+	 */
+	private static final int BATCH_SIZE = 64 * 1024;
+
+	private static final long FULL_QUEUE_WAIT_NANOS = 100_000;
+
+	private final MpscArrayQueue<MessageOutputBuffer> queue;
+
+	private volatile Thread writerThread;
+	private volatile boolean writerWaiting;
+	private volatile boolean closed;
+	private volatile Throwable failure;
+	private volatile Consumer<Throwable> failureHandler;
+
+	public QueuedMessageConsumer(OutputStream output, MessageJsonHandler jsonHandler) {
+		this(output, StandardCharsets.UTF_8.name(), jsonHandler, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public QueuedMessageConsumer(OutputStream output, MessageJsonHandler jsonHandler, int queueCapacity) {
+		this(output, StandardCharsets.UTF_8.name(), jsonHandler, queueCapacity);
+	}
+
+	public QueuedMessageConsumer(OutputStream output, String encoding, MessageJsonHandler jsonHandler, int queueCapacity) {
+		super(output, encoding, jsonHandler);
+		this.queue = new MpscArrayQueue<>(queueCapacity);
+	}
+
+	/**
+	 * The number of messages that have been queued, but not yet written to the output stream.
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * The maximal number of messages that can be queued before callers of {@link #consume(Message)} have to wait.
+	 */
+	public int getQueueCapacity() {
+		return queue.capacity();
+	}
+
+	@Override
+	public void consume(Message message) {
+		checkOpen();
+		MessageOutputBuffer buffer = serialize(message);
+		while (!offer(message, buffer)) {
+			if (closed || failure != null) {
+				releaseBuffer(buffer);
+				checkOpen();
+			}
+			wakeUpWriter();
+			LockSupport.parkNanos(this, FULL_QUEUE_WAIT_NANOS);
+		}
+		wakeUpWriter();
+	}
+
+	/**
+	 * Set a handler that is called by the writer thread when writing to the output stream has failed. The
+	 * messages that were queued at that point are discarded.
+	 */
+	public void setFailureHandler(Consumer<Throwable> failureHandler) {
+		this.failureHandler = failureHandler;
+	}
+
+	/**
+	 * Add a serialized message to the queue. This method may be called by any thread.
+	 *
+	 * @return {@code false} if the queue is full
+	 */
+	protected boolean offer(Message message, MessageOutputBuffer buffer) {
+		return queue.offer(buffer);
+	}
+
+	/**
+	 * Remove the next message to write from the queue. This method is only called by the writer thread.
+	 *
+	 * @return the next message, or {@code null} if the queue is empty
+	 */
+	protected MessageOutputBuffer poll() {
+		return queue.poll();
+	}
+
+	/**
+	 * Whether no message is waiting to be written.
+	 */
+	protected boolean isQueueEmpty() {
+		return queue.isEmpty();
+	}
+
+	/**
+	 * Stop accepting messages. Messages that have already been queued are still written by the writer thread.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		Thread writer = writerThread;
+		if (writer != null)
+			LockSupport.unpark(writer);
+	}
+
+	private void checkOpen() {
+		Throwable cause = failure;
+		if (cause != null)
+			throw new JsonRpcException(cause);
+		if (closed)
+			throw new JsonRpcException(new IOException("Stream closed"));
+	}
+
+	private void wakeUpWriter() {
+		Thread writer = writerThread;
+		if (writer == null) {
+			synchronized (this) {
+				if (writerThread == null) {
+					writer = new Thread(this::writeMessages, "LSP4J Message Writer");
+					writer.setDaemon(true);
+					writerThread = writer;
+					writer.start();
+				}
+			}
+		} else if (writerWaiting) {
+			LockSupport.unpark(writer);
+		}
+	}
+
+	/**
+	 * The main loop of the writer thread.
+	 */
+	private void writeMessages() {
+		byte[] batch = new byte[BATCH_SIZE];
+		try {
+			while (true) {
+				if (isQueueEmpty()) {
+					if (closed)
+						return;
+					// The flag is checked by producers after they have added a message, so either they see it
+					// and unpark this thread, or this thread sees their message before parking
+					writerWaiting = true;
+					if (isQueueEmpty() && !closed)
+						LockSupport.park(this);
+					writerWaiting = false;
+				} else {
+					writeBatch(batch);
+				}
+			}
+		} catch (Throwable t) {
+			failure = t;
+			Level logLevel = JsonRpcException.indicatesStreamClosed(t) ? Level.INFO : Level.SEVERE;
+			LOG.log(logLevel, "Failed to write queued messages.", t);
+			MessageOutputBuffer buffer;
+			while ((buffer = poll()) != null) {
+				releaseBuffer(buffer);
+			}
+			Consumer<Throwable> handler = failureHandler;
+			if (handler != null) {
+				try {
+					handler.accept(t);
+				} catch (Exception exception) {
+					LOG.log(Level.SEVERE, "The failure handler of queued messages has failed.", exception);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write all queued messages and flush the output stream.
+	 */
+	private void writeBatch(byte[] batch) throws IOException {
+		OutputStream output = getOutput();
+		int batchLength = 0;
+		MessageOutputBuffer buffer;
+		while ((buffer = poll()) != null) {
+			try {
+				int frameLength = buffer.getFrameLength();
+				if (batchLength + frameLength > batch.length) {
+					if (batchLength > 0) {
+						output.write(batch, 0, batchLength);
+						batchLength = 0;
+					}
+					if (frameLength > batch.length) {
+						buffer.writeTo(output);
+						continue;
+					}
+				}
+				batchLength += buffer.writeTo(batch, batchLength);
+			} finally {
+				releaseBuffer(buffer);
+			}
+		}
+		if (batchLength > 0)
+			output.write(batch, 0, batchLength);
+		output.flush();
+	}
+
+}
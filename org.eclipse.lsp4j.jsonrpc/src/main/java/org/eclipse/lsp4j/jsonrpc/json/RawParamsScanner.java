@@ -0,0 +1,181 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json;
+
+/**
+ * Locates the value of the top-level {@code params} property of a message without parsing it. The scanner
+ * only follows the nesting of objects, arrays and strings, so the value is neither checked nor converted.
+ * If the message does not have the expected structure, no value is located and the message is parsed
+ * as usual, which reports the syntax errors.
+ */
+final class RawParamsScanner {
+
+	private static final char[] PARAMS = "params".toCharArray();
+
+	private final char[] chars;
+	private int length;
+
+	private int start = -1;
+	private int end = -1;
+
+	RawParamsScanner(char[] chars, int length) {
+		this.chars = chars;
+		this.length = length;
+	}
+
+	/**
+	 * Scan the top-level object of the message.
+	 *
+	 * @return {@code true} if a {@code params} value other than {@code null} has been found
+	 */
+	boolean scan() {
+		int pos = skipWhitespace(0);
+		if (pos >= length || chars[pos] != '{')
+			return false;
+		pos = skipWhitespace(pos + 1);
+		while (pos < length && chars[pos] == '"') {
+			int nameEnd = skipString(pos);
+			if (nameEnd < 0)
+				return false;
+			boolean isParams = isParams(pos + 1, nameEnd - 1);
+			pos = skipWhitespace(nameEnd);
+			if (pos >= length || chars[pos] != ':')
+				return false;
+			pos = skipWhitespace(pos + 1);
+			int valueEnd = skipValue(pos);
+			if (valueEnd < 0)
+				return false;
+			if (isParams) {
+				if (valueEnd - pos == 4 && chars[pos] == 'n')
+					return false;
+				start = pos;
+				end = valueEnd;
+				return true;
+			}
+			pos = skipWhitespace(valueEnd);
+			if (pos >= length || chars[pos] != ',')
+				return false;
+			pos = skipWhitespace(pos + 1);
+		}
+		return false;
+	}
+
+	/**
+	 * The JSON text of the located value.
+	 */
+	String getValue() {
+		return new String(chars, start, end - start);
+	}
+
+	/**
+	 * Replace the located value by {@code null}, so it is not parsed with the rest of the message. A value
+	 * that is at least as long as {@code null} is replaced in place, a shorter one in a copy of the message.
+	 *
+	 * @return the message without the value, which has {@link #getLength()} characters
+	 */
+	char[] removeValue() {
+		char[] result = chars;
+		if (end - start < 4) {
+			result = new char[length - (end - start) + 4];
+			System.arraycopy(chars, 0, result, 0, start);
+		}
+		System.arraycopy(chars, end, result, start + 4, length - end);
+		result[start] = 'n';
+		result[start + 1] = 'u';
+		result[start + 2] = 'l';
+		result[start + 3] = 'l';
+		length = length - (end - start) + 4;
+		return result;
+	}
+
+	/**
+	 * The length of the message, which changes when the value is removed.
+	 */
+	int getLength() {
+		return length;
+	}
+
+	private boolean isParams(int nameStart, int nameEnd) {
+		if (nameEnd - nameStart != PARAMS.length)
+			return false;
+		for (int i = 0; i < PARAMS.length; i++) {
+			if (chars[nameStart + i] != PARAMS[i])
+				return false;
+		}
+		return true;
+	}
+
+	private int skipWhitespace(int pos) {
+		while (pos < length) {
+			char c = chars[pos];
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+				break;
+			pos++;
+		}
+		return pos;
+	}
+
+	/**
+	 * @return the position after the closing quote, or -1 if the string is not terminated
+	 */
+	private int skipString(int pos) {
+		pos++;
+		while (pos < length) {
+			char c = chars[pos];
+			if (c == '"')
+				return pos + 1;
+			pos += c == '\\' ? 2 : 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the position after the value, or -1 if the value is not terminated
+	 */
+	private int skipValue(int pos) {
+		if (pos >= length)
+			return -1;
+		char first = chars[pos];
+		if (first == '"')
+			return skipString(pos);
+		if (first == '{' || first == '[') {
+			int depth = 0;
+			while (pos < length) {
+				char c = chars[pos];
+				if (c == '"') {
+					pos = skipString(pos);
+					if (pos < 0)
+						return -1;
+					continue;
+				}
+				if (c == '{' || c == '[') {
+					depth++;
+				} else if (c == '}' || c == ']') {
+					depth--;
+					if (depth == 0)
+						return pos + 1;
+				}
+				pos++;
+			}
+			return -1;
+		}
+		int valueStart = pos;
+		while (pos < length) {
+			char c = chars[pos];
+			if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t')
+				break;
+			pos++;
+		}
+		return pos > valueStart ? pos : -1;
+	}
+
+}
@@ -13,24 +13,44 @@ package org.eclipse.lsp4j.jsonrpc.json;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
 import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.RawMessage;
 
 /**
  * A message consumer that serializes messages to JSON and sends them to an output stream.
+ * The content of {@link RawMessage}s is sent as it is, so no {@link MessageJsonHandler} is needed for them.
+ * <p>
+ * Messages are serialized directly into pooled {@link MessageOutputBuffer}s, so the content exists
+ * only once in encoded form and header and content are sent to the output stream with a single write.
  */
 public class StreamMessageConsumer implements MessageConsumer, MessageConstants {
 
+	private static final int BUFFER_POOL_SIZE = 4;
+
+	/**
+	 * Buffers that have been enlarged beyond this size for a single message are not returned to the pool.
+	 */
+	private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
 	private final String encoding;
+	private final Charset charset;
 	private final MessageJsonHandler jsonHandler;
 
+	private final AtomicReferenceArray<MessageOutputBuffer> bufferPool = new AtomicReferenceArray<>(BUFFER_POOL_SIZE);
+
 	private final Object outputLock = new Object();
 
 	private OutputStream output;
 
+	/** Whether a subclass overrides the deprecated methods that construct the header as a string */
+	private final boolean legacyHeader = overridesLegacyHeader(getClass());
+
 	public StreamMessageConsumer(MessageJsonHandler jsonHandler) {
 		this(null, StandardCharsets.UTF_8.name(), jsonHandler);
 	}
@@ -42,6 +62,7 @@ public class StreamMessageConsumer implements MessageConsumer, MessageConstants
 	public StreamMessageConsumer(OutputStream output, String encoding, MessageJsonHandler jsonHandler) {
 		this.output = output;
 		this.encoding = encoding;
+		this.charset = Charset.forName(encoding);
 		this.jsonHandler = jsonHandler;
 	}
 
@@ -55,28 +76,66 @@ public class StreamMessageConsumer implements MessageConsumer, MessageConstants
 
 	@Override
 	public void consume(Message message) {
+		MessageOutputBuffer buffer = serialize(message);
 		try {
-			String content = jsonHandler.serialize(message);
-			byte[] contentBytes = content.getBytes(encoding);
-			int contentLength = contentBytes.length;
-
-			String header = getHeader(contentLength);
-			byte[] headerBytes = header.getBytes(StandardCharsets.US_ASCII);
-
 			synchronized (outputLock) {
-				output.write(headerBytes);
-				output.write(contentBytes);
+				buffer.writeTo(output);
 				output.flush();
 			}
 		} catch (IOException exception) {
 			throw new JsonRpcException(exception);
+		} finally {
+			releaseBuffer(buffer);
+		}
+	}
+
+	/**
+	 * Serialize the given message into a buffer taken from the pool and add the header.
+	 * The caller must return the buffer with {@link #releaseBuffer(MessageOutputBuffer)} after sending it.
+	 */
+	protected MessageOutputBuffer serialize(Message message) {
+		MessageOutputBuffer buffer = acquireBuffer();
+		try {
+			if (message instanceof RawMessage)
+				((RawMessage) message).writeContent(buffer);
+			else
+				jsonHandler.serialize(message, buffer);
+			writeHeader(buffer, buffer.getContentLength());
+			return buffer;
+		} catch (RuntimeException | Error e) {
+			releaseBuffer(buffer);
+			throw e;
+		}
+	}
+
+	/**
+	 * Write a header to be prepended to the actual content. This implementation writes
+	 * {@code Content-Length} and {@code Content-Type} attributes according to the LSP specification.
+	 */
+	protected void writeHeader(MessageOutputBuffer buffer, int contentLength) {
+		if (legacyHeader) {
+			String header = getHeader(contentLength);
+			// The buffer adds the empty line that terminates the header
+			if (header.endsWith(CRLF))
+				header = header.substring(0, header.length() - CRLF.length());
+			buffer.writeHeaderLines(header);
+			return;
+		}
+		buffer.writeHeader(CONTENT_LENGTH_HEADER, contentLength);
+		if (!StandardCharsets.UTF_8.equals(charset)) {
+			buffer.writeHeader(CONTENT_TYPE_HEADER, JSON_MIME_TYPE + "; charset=" + encoding);
 		}
 	}
 
 	/**
 	 * Construct a header to be prepended to the actual content. This implementation writes
 	 * {@code Content-Length} and {@code Content-Type} attributes according to the LSP specification.
+	 *
+	 * @deprecated The header is written directly into the message buffer, so override
+	 *             {@link #writeHeader(MessageOutputBuffer, int)} instead. This method is still called instead of
+	 *             that method if a subclass overrides it or {@link #appendHeader(StringBuilder, String, Object)}.
 	 */
+	@Deprecated
 	protected String getHeader(int contentLength) {
 		final var headerBuilder = new StringBuilder();
 		appendHeader(headerBuilder, CONTENT_LENGTH_HEADER, contentLength).append(CRLF);
@@ -90,9 +149,56 @@ public class StreamMessageConsumer implements MessageConsumer, MessageConstants
 
 	/**
 	 * Append a header attribute to the given builder.
+	 *
+	 * @deprecated Override {@link #writeHeader(MessageOutputBuffer, int)} instead. This method is still called
+	 *             if a subclass overrides it, see {@link #getHeader(int)}.
 	 */
+	@Deprecated
 	protected StringBuilder appendHeader(StringBuilder builder, String name, Object value) {
 		return builder.append(name).append(": ").append(value);
 	}
 
+	private static boolean overridesLegacyHeader(Class<?> type) {
+		for (Class<?> c = type; c != StreamMessageConsumer.class; c = c.getSuperclass()) {
+			if (declaresMethod(c, "getHeader", int.class)
+					|| declaresMethod(c, "appendHeader", StringBuilder.class, String.class, Object.class))
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean declaresMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+		try {
+			type.getDeclaredMethod(name, parameterTypes);
+			return true;
+		} catch (NoSuchMethodException exception) {
+			return false;
+		}
+	}
+
+	/**
+	 * Take a buffer from the pool, or create a new one if the pool is empty.
+	 */
+	protected MessageOutputBuffer acquireBuffer() {
+		for (int i = 0; i < BUFFER_POOL_SIZE; i++) {
+			MessageOutputBuffer buffer = bufferPool.getAndSet(i, null);
+			if (buffer != null)
+				return buffer;
+		}
+		return new MessageOutputBuffer(charset);
+	}
+
+	/**
+	 * Return a buffer to the pool unless the pool is full or the buffer has grown too large to be kept.
+	 */
+	protected void releaseBuffer(MessageOutputBuffer buffer) {
+		if (buffer.capacity() > MAX_POOLED_BUFFER_SIZE)
+			return;
+		buffer.reset();
+		for (int i = 0; i < BUFFER_POOL_SIZE; i++) {
+			if (bufferPool.compareAndSet(i, null, buffer))
+				return;
+		}
+	}
+
 }
@@ -11,30 +11,44 @@
  ******************************************************************************/
 package org.eclipse.lsp4j.jsonrpc.json;
 
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
 import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
-import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
 import org.eclipse.lsp4j.jsonrpc.MessageIssueHandler;
 import org.eclipse.lsp4j.jsonrpc.MessageProducer;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
-import org.eclipse.lsp4j.jsonrpc.util.LimitedInputStream;
 
 /**
  * A message producer that reads from an input stream and parses messages from JSON.
+ * <p>
+ * The input is read in blocks into a reusable buffer. Headers are parsed directly from that buffer,
+ * and the content of each message is decoded from it without reading the bytes again.
  */
 public class StreamMessageProducer implements MessageProducer, Closeable, MessageConstants {
 
 	private static final Logger LOG = Logger.getLogger(StreamMessageProducer.class.getName());
 
+	private static final int INITIAL_BUFFER_SIZE = 8192;
+
+	/**
+	 * Buffers that have been enlarged beyond this size for a single message are released afterwards.
+	 */
+	private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * The largest array size that is supported by all virtual machines.
+	 */
+	private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
 	private final MessageJsonHandler jsonHandler;
 	private final MessageIssueHandler issueHandler;
 
@@ -43,6 +57,15 @@ public class StreamMessageProducer implements MessageProducer, Closeable, Messag
 	private MessageConsumer callback;
 	private boolean keepRunning;
 
+	private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+	private int position;
+	private int limit;
+
+	private final MessageContentDecoder contentDecoder = new MessageContentDecoder();
+
+	/** Whether a subclass overrides the deprecated {@link #handleMessage(InputStream, Headers)} */
+	private final boolean legacyHandleMessage = overridesLegacyHandleMessage(getClass());
+
 	public StreamMessageProducer(InputStream input, MessageJsonHandler jsonHandler) {
 		this(input, jsonHandler, null);
 	}
@@ -59,6 +82,8 @@ public class StreamMessageProducer implements MessageProducer, Closeable, Messag
 
 	public void setInput(InputStream input) {
 		this.input = input;
+		this.position = 0;
+		this.limit = 0;
 	}
 
 	protected static class Headers {
@@ -74,47 +99,30 @@ public class StreamMessageProducer implements MessageProducer, Closeable, Messag
 		this.keepRunning = true;
 		this.callback = callback;
 		try {
-			StringBuilder headerBuilder = null;
-			StringBuilder debugBuilder = null;
-			boolean newLine = false;
-			Headers headers = new Headers();
 			while (keepRunning) {
-				int c = input.read();
-				if (c == -1) {
+				int headerEnd = readHeaders();
+				if (headerEnd < 0) {
 					// End of input stream has been reached
 					keepRunning = false;
 				} else {
-					if (debugBuilder == null)
-						debugBuilder = new StringBuilder();
-					debugBuilder.append((char) c);
-					if (c == '\n') {
-						if (newLine) {
-							// Two consecutive newlines have been read, which signals the start of the message content
-							if (headers.contentLength < 0) {
-								fireError(new IllegalStateException("Missing header " + CONTENT_LENGTH_HEADER
-										+ " in input \"" + debugBuilder + "\""));
-							} else {
-								boolean result = handleMessage(input, headers);
-								if (!result)
-									keepRunning = false;
-								newLine = false;
-							}
-							headers = new Headers();
-							debugBuilder = null;
-						} else {
-							if (headerBuilder != null) {
-								// A single newline ends a header line
-								parseHeader(headerBuilder.toString(), headers);
-								headerBuilder = null;
-							}
-							newLine = true;
-						}
-					} else if (c != '\r') {
-						// Add the input to the current header line
-						if (headerBuilder == null)
-							headerBuilder = new StringBuilder();
-						headerBuilder.append((char) c);
-						newLine = false;
+					Headers headers = new Headers();
+					ByteBuffer headerBuffer = ByteBuffer.wrap(buffer);
+					MessageProducerSupport.parseHeaders(headerBuffer, position, headerEnd, headers,
+							line -> parseHeader(line, headers), this::fireError);
+					if (headers.contentLength < 0) {
+						fireError(MessageProducerSupport.missingContentLength(headerBuffer, position, headerEnd));
+						position = headerEnd;
+					} else {
+						position = headerEnd;
+						int contentLength = readContent(headers.contentLength);
+						int contentStart = position;
+						position += contentLength;
+						boolean result = legacyHandleMessage
+								? handleMessage(new ByteArrayInputStream(buffer, contentStart, contentLength), headers)
+								: handleMessage(buffer, contentStart, contentLength, headers);
+						if (!result || contentLength < headers.contentLength)
+							keepRunning = false;
+						releaseLargeBuffers();
 					}
 				}
 			} // while (keepRunning)
@@ -131,76 +139,174 @@ public class StreamMessageProducer implements MessageProducer, Closeable, Messag
 		}
 	}
 
+	/**
+	 * Read from the input stream until the buffer contains a complete header block, which is terminated by
+	 * two consecutive newlines. The header block starts at the current buffer position.
+	 *
+	 * @return the buffer index after the header block, or -1 if the end of the input stream has been reached
+	 */
+	private int readHeaders() throws IOException {
+		int scanIndex = position;
+		boolean newLine = false;
+		while (true) {
+			while (scanIndex < limit) {
+				byte b = buffer[scanIndex++];
+				if (b == '\n') {
+					if (newLine)
+						return scanIndex;
+					newLine = true;
+				} else if (b != '\r') {
+					newLine = false;
+				}
+			}
+			if (!keepRunning)
+				return -1;
+			int scanOffset = scanIndex - position;
+			// Headers are short, so don't block on more than what the input stream reports to be available
+			if (fill(Math.max(1, available())) < 0)
+				return -1;
+			scanIndex = position + scanOffset;
+		}
+	}
+
+	/**
+	 * Read from the input stream until the buffer contains the given number of content bytes after the current
+	 * buffer position. The buffer is enlarged as the content arrives, so the size of the buffer does not depend
+	 * on the {@code Content-Length} header alone, which is sent by the remote side.
+	 *
+	 * @return the number of content bytes in the buffer, which is less than {@code contentLength} only if
+	 *         the end of the input stream has been reached
+	 */
+	private int readContent(int contentLength) throws IOException {
+		while (limit - position < contentLength) {
+			// Also take what is already available, which is usually the header of the next message
+			int missing = contentLength - (limit - position);
+			if (fill(Math.max(missing, available())) < 0)
+				break;
+		}
+		return Math.min(contentLength, limit - position);
+	}
+
+	/**
+	 * Read at most {@code maxBytes} from the input stream into the free part of the buffer. If the buffer is full,
+	 * its content is moved to the start of the buffer or the buffer is enlarged.
+	 *
+	 * @return the number of bytes read, or -1 if the end of the input stream has been reached
+	 */
+	private int fill(int maxBytes) throws IOException {
+		if (limit == buffer.length) {
+			if (position == 0 && buffer.length == MAX_BUFFER_SIZE)
+				throw new IOException("Message exceeds the maximum buffer size of " + MAX_BUFFER_SIZE + " bytes.");
+			byte[] target = position == 0 ? new byte[(int) Math.min(2L * buffer.length, MAX_BUFFER_SIZE)] : buffer;
+			System.arraycopy(buffer, position, target, 0, limit - position);
+			limit -= position;
+			position = 0;
+			buffer = target;
+		}
+		int count = input.read(buffer, limit, Math.min(maxBytes, buffer.length - limit));
+		if (count > 0)
+			limit += count;
+		return count;
+	}
+
+	private int available() {
+		try {
+			return input.available();
+		} catch (IOException exception) {
+			// The next read operation reports the problem
+			return 0;
+		}
+	}
+
+	/**
+	 * Drop buffers that have been enlarged for a single large message so they are not retained.
+	 */
+	private void releaseLargeBuffers() {
+		if (buffer.length > MAX_RETAINED_BUFFER_SIZE && limit - position <= INITIAL_BUFFER_SIZE) {
+			byte[] target = new byte[INITIAL_BUFFER_SIZE];
+			System.arraycopy(buffer, position, target, 0, limit - position);
+			limit -= position;
+			position = 0;
+			buffer = target;
+		}
+		contentDecoder.releaseLargeBuffers();
+	}
+
 	/**
 	 * Log an error.
 	 */
 	protected void fireError(Throwable error) {
-		String message = error.getMessage() != null ? error.getMessage() : "An error occurred while processing an incoming message.";
-		LOG.log(Level.SEVERE, message, error);
+		MessageProducerSupport.logError(LOG, error);
 	}
 
 	/**
 	 * Report that the stream was closed through an exception.
 	 */
 	protected void fireStreamClosed(Exception cause) {
-		String message = cause.getMessage() != null ? cause.getMessage() : "The input stream was closed.";
-		LOG.log(Level.INFO, message, cause);
+		MessageProducerSupport.logStreamClosed(LOG, cause, "The input stream was closed.");
 	}
 
 	/**
 	 * Parse a header attribute and set the corresponding data in the {@link Headers} fields.
 	 */
 	protected void parseHeader(String line, Headers headers) {
-		int sepIndex = line.indexOf(':');
-		if (sepIndex >= 0) {
-			String key = line.substring(0, sepIndex).trim();
-			switch (key) {
-			case CONTENT_LENGTH_HEADER:
-				try {
-					headers.contentLength = Integer.parseInt(line.substring(sepIndex + 1).trim());
-				} catch (NumberFormatException e) {
-					fireError(e);
-				}
-				break;
-			case CONTENT_TYPE_HEADER: {
-				int charsetIndex = line.indexOf("charset=");
-				if (charsetIndex >= 0)
-					headers.charset = line.substring(charsetIndex + 8).trim();
-				break;
-			}
-			default:
-				// Other headers are ignored
-			}
-		}
+		MessageProducerSupport.parseHeader(line, headers, this::fireError);
 	}
 
 	/**
-	 * Read the JSON content part of a message, parse it, and notify the callback.
+	 * Parse the JSON content part of a message and notify the callback. The content is given as a range
+	 * of the internal read buffer, which is reused after this method returns.
 	 *
 	 * @return {@code true} if we should continue reading from the input stream, {@code false} if we should stop
 	 */
-	protected boolean handleMessage(InputStream input, Headers headers) {
+	protected boolean handleMessage(byte[] content, int offset, int length, Headers headers) {
 		if (callback == null)
 			callback = message -> LOG.log(Level.INFO, "Received message: " + message);
 
+		MessageProducerSupport.handleMessage(() -> parseMessage(content, offset, length, headers), callback, issueHandler,
+				this::fireError);
+		return true;
+	}
+
+	/**
+	 * Read the JSON content part of a message, parse it, and notify the callback.
+	 *
+	 * @return {@code true} if we should continue reading from the input stream, {@code false} if we should stop
+	 * @deprecated The content is read into a buffer before it is handled, so override
+	 *             {@link #handleMessage(byte[], int, int, Headers)} instead. This method is still called instead of
+	 *             that method if a subclass overrides it, with an input stream that contains only the content.
+	 */
+	@Deprecated
+	protected boolean handleMessage(InputStream input, Headers headers) {
+		byte[] content;
 		try {
-			try (final Reader content = new InputStreamReader(new LimitedInputStream(input, headers.contentLength, false), headers.charset)) {
-				Message message = jsonHandler.parseMessage(content);
-				callback.consume(message);
-			} catch (MessageIssueException exception) {
-				// An issue was found while parsing or validating the message
-				if (issueHandler != null)
-					issueHandler.handle(exception.getRpcMessage(), exception.getIssues());
-				else
-					fireError(exception);
-			}
-		} catch (Exception exception) {
-			// UnsupportedEncodingException can be thrown by String constructor
-			// JsonParseException can be thrown by jsonHandler
-			// We also catch arbitrary exceptions that are thrown by message consumers in order to keep this thread alive
+			content = input.readNBytes(headers.contentLength);
+		} catch (IOException exception) {
 			fireError(exception);
+			return true;
+		}
+		return handleMessage(content, 0, content.length, headers);
+	}
+
+	private static boolean overridesLegacyHandleMessage(Class<?> type) {
+		for (Class<?> c = type; c != StreamMessageProducer.class; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod("handleMessage", InputStream.class, Headers.class);
+				return true;
+			} catch (NoSuchMethodException exception) {
+				// Check the superclass
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Parse the JSON content part of a message, which is given as a range of the internal read buffer.
+	 */
+	protected Message parseMessage(byte[] content, int offset, int length, Headers headers) throws IOException {
+		try (final Reader reader = contentDecoder.decode(ByteBuffer.wrap(content, offset, length), headers.charset)) {
+			return jsonHandler.parseMessage(reader);
 		}
-		return true;
 	}
 
 	@Override
@@ -0,0 +1,202 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json.adapters;
+
+import java.io.IOException;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.FieldNamingStrategy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Base class for the type adapters that are generated for classes annotated with {@code @JsonRpcData}.
+ * Subclasses read and write the properties of the target class field by field, so no reflection is needed
+ * after the adapters of the properties have been resolved.
+ * <p>
+ * The read and written JSON is the same as with the reflective type adapter of Gson: unknown properties are
+ * skipped, {@code null} is not assigned to primitive properties, and property values whose runtime class
+ * differs from the declared class are written with the adapter of their runtime class.
+ * <p>
+ * The generated adapters are only used by Gson instances that have been configured with
+ * {@link #enableGeneratedTypeAdapters(GsonBuilder)}, because they do not take exclusion strategies,
+ * {@code @Expose}, {@code @Since} and {@code @Until} into account, and Gson does not expose these settings.
+ * They use the field names as property names, so they are not used either if a Gson instance has been
+ * configured with a {@link FieldNamingStrategy} other than {@link FieldNamingPolicy#IDENTITY}.
+ */
+public abstract class GeneratedTypeAdapter<T> extends TypeAdapter<T> {
+
+	/**
+	 * Marks a Gson instance whose type adapter factories may return generated type adapters.
+	 */
+	private static class Enabled {
+	}
+
+	private static class EnabledMarker extends TypeAdapter<Enabled> {
+
+		@Override
+		public Enabled read(JsonReader in) throws IOException {
+			throw new UnsupportedOperationException("The marker cannot be read from JSON.");
+		}
+
+		@Override
+		public void write(JsonWriter out, Enabled value) throws IOException {
+			throw new UnsupportedOperationException("The marker cannot be written to JSON.");
+		}
+
+	}
+
+	/**
+	 * Let the built Gson instance serialize the classes that have a generated type adapter with that adapter
+	 * instead of the reflective one. The builder must not be configured with exclusion strategies,
+	 * {@link GsonBuilder#excludeFieldsWithoutExposeAnnotation()} or {@link GsonBuilder#setVersion(double)}.
+	 */
+	public static void enableGeneratedTypeAdapters(GsonBuilder builder) {
+		builder.registerTypeAdapter(Enabled.class, new EnabledMarker());
+	}
+
+	/**
+	 * Whether the given Gson instance may use generated type adapters. This is checked by the generated
+	 * type adapter factories.
+	 */
+	public static boolean isEnabled(Gson gson) {
+		if (gson.fieldNamingStrategy() != FieldNamingPolicy.IDENTITY)
+			return false;
+		try {
+			return gson.getAdapter(Enabled.class) instanceof EnabledMarker;
+		} catch (JsonIOException e) {
+			// Without the marker, a reflection access filter may reject the reflective adapter of the marker class
+			return false;
+		}
+	}
+
+	protected final Gson gson;
+
+	protected GeneratedTypeAdapter(Gson gson) {
+		this.gson = gson;
+	}
+
+	/**
+	 * Create a new instance of the target class.
+	 */
+	protected abstract T createInstance();
+
+	/**
+	 * Read the value of the property with the given name into the result.
+	 *
+	 * @return {@code false} if the target class has no such property, in which case the value has not been read
+	 */
+	protected abstract boolean readProperty(JsonReader in, String name, T result) throws IOException;
+
+	/**
+	 * Write all properties of the given value.
+	 */
+	protected abstract void writeProperties(JsonWriter out, T value) throws IOException;
+
+	@Override
+	public T read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		T result = createInstance();
+		in.beginObject();
+		try {
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if (!readProperty(in, name, result))
+					in.skipValue();
+			}
+		} catch (IllegalStateException e) {
+			throw new JsonSyntaxException(e);
+		}
+		in.endObject();
+		return result;
+	}
+
+	@Override
+	public void write(JsonWriter out, T value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginObject();
+		writeProperties(out, value);
+		out.endObject();
+	}
+
+	/**
+	 * Resolve the type adapter of a property.
+	 */
+	protected <V> TypeAdapter<V> getPropertyAdapter(TypeToken<V> type) {
+		return gson.getAdapter(type);
+	}
+
+	/**
+	 * Resolve the type adapter of a property that is annotated with {@link JsonAdapter}. The given class
+	 * must be a {@link TypeAdapter} or a {@link TypeAdapterFactory} with a constructor without parameters.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <V> TypeAdapter<V> getPropertyAdapter(TypeToken<V> type, Class<?> jsonAdapter, boolean nullSafe) {
+		Object instance;
+		try {
+			instance = jsonAdapter.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new JsonIOException("Unable to create an instance of " + jsonAdapter.getName(), e);
+		}
+		TypeAdapter<V> adapter;
+		if (instance instanceof TypeAdapter<?>)
+			adapter = (TypeAdapter<V>) instance;
+		else if (instance instanceof TypeAdapterFactory)
+			adapter = ((TypeAdapterFactory) instance).create(gson, type);
+		else
+			throw new IllegalArgumentException("The JSON adapter " + jsonAdapter.getName() + " of " + type
+					+ " must be a TypeAdapter or a TypeAdapterFactory.");
+		if (adapter == null)
+			return gson.getAdapter(type);
+		return nullSafe ? adapter.nullSafe() : adapter;
+	}
+
+	/**
+	 * Write a property with the type adapter of its declared type.
+	 */
+	protected <V> void writeProperty(JsonWriter out, String name, V value, TypeAdapter<V> adapter) throws IOException {
+		out.name(name);
+		adapter.write(out, value);
+	}
+
+	/**
+	 * Write a property whose declared type is the given class. If the runtime class of the value is
+	 * a subclass, the value is written with the type adapter of its runtime class.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <V> void writeProperty(JsonWriter out, String name, V value, TypeAdapter<V> adapter, Class<?> declaredClass)
+			throws IOException {
+		out.name(name);
+		if (value != null && value.getClass() != declaredClass) {
+			final var runtimeTypeAdapter = (TypeAdapter<V>) gson.getAdapter(value.getClass());
+			runtimeTypeAdapter.write(out, value);
+		} else {
+			adapter.write(out, value);
+		}
+	}
+
+}
@@ -0,0 +1,80 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json.adapters;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.util.IntArrayList;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A type adapter for lists of integers that reads them into an {@link IntArrayList}, so large arrays of numbers
+ * are read and written without boxing. Like {@link CollectionTypeAdapter}, a single value is read as a list with
+ * one element. Use it as argument to a {@link com.google.gson.annotations.JsonAdapter} annotation of
+ * {@code List<Integer>} fields: {@code @JsonAdapter(IntArrayListTypeAdapter.class)}
+ */
+public class IntArrayListTypeAdapter extends TypeAdapter<List<Integer>> {
+
+	@Override
+	public List<Integer> read(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		final var list = new IntArrayList();
+		try {
+			if (peek == JsonToken.BEGIN_ARRAY) {
+				in.beginArray();
+				while (in.hasNext()) {
+					list.addInt(in.nextInt());
+				}
+				in.endArray();
+			} else {
+				list.addInt(in.nextInt());
+			}
+		} catch (IllegalStateException | NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+		return list;
+	}
+
+	@Override
+	public void write(JsonWriter out, List<Integer> value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginArray();
+		if (value instanceof IntArrayList) {
+			final var list = (IntArrayList) value;
+			for (int i = 0, size = list.size(); i < size; i++) {
+				out.value(list.getInt(i));
+			}
+		} else {
+			for (Integer element : value) {
+				if (element == null)
+					out.nullValue();
+				else
+					out.value(element.intValue());
+			}
+		}
+		out.endArray();
+	}
+
+}
@@ -13,6 +13,7 @@ package org.eclipse.lsp4j.jsonrpc.json.adapters;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -21,10 +22,13 @@ import java.util.List;
 
 import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
 import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethodAdapters;
 import org.eclipse.lsp4j.jsonrpc.json.MessageConstants;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
 import org.eclipse.lsp4j.jsonrpc.json.MethodProvider;
+import org.eclipse.lsp4j.jsonrpc.messages.BatchMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.messages.LazyParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.MessageIssue;
 import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
@@ -51,7 +55,7 @@ import com.google.gson.stream.MalformedJsonException;
 
 /**
  * The type adapter for messages dispatches between the different message types: {@link RequestMessage},
- * {@link ResponseMessage}, and {@link NotificationMessage}.
+ * {@link ResponseMessage}, and {@link NotificationMessage}. A JSON array is read as a {@link BatchMessage}.
  */
 public class MessageTypeAdapter extends TypeAdapter<Message> {
 
@@ -89,6 +93,9 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 			in.nextNull();
 			return null;
 		}
+		if (in.peek() == JsonToken.BEGIN_ARRAY) {
+			return readBatch(in);
+		}
 
 		in.beginObject();
 		String jsonrpc = null, method = null;
@@ -149,6 +156,36 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 		}
 	}
 
+	/**
+	 * Read a batch of messages. Each element is read as a JSON tree before it is parsed, so an element that cannot be
+	 * parsed is added to the issues of the batch without affecting the other elements.
+	 */
+	protected BatchMessage readBatch(JsonReader in) throws IOException, JsonIOException, JsonSyntaxException {
+		final var batch = new BatchMessage();
+		batch.setJsonHandler(handler);
+		in.beginArray();
+		while (in.hasNext()) {
+			JsonElement element = JsonParser.parseReader(in);
+			try {
+				Message message = element.isJsonObject() ? fromJsonTree(element) : null;
+				if (message == null)
+					throw new JsonParseException("Batch element is not a message: " + element);
+				batch.getMessages().add(message);
+			} catch (MessageIssueException exception) {
+				batch.addIssue(exception);
+			} catch (JsonParseException exception) {
+				final var issue = new MessageIssue("Invalid request in batch.", ResponseErrorCode.InvalidRequest.getValue(), exception);
+				batch.addIssue(new MessageIssueException(null, issue));
+			}
+		}
+		in.endArray();
+		if (batch.getMessages().isEmpty() && batch.getIssues().isEmpty()) {
+			final var issue = new MessageIssue("Batch must not be empty.", ResponseErrorCode.InvalidRequest.getValue());
+			throw new MessageIssueException(batch, issue);
+		}
+		return batch;
+	}
+
 	/**
 	 * Convert the json input into the result object corresponding to the call made
 	 * by id.
@@ -165,27 +202,13 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 	 *         determined, or a JsonElement representing the result
 	 */
 	protected Object parseResult(JsonReader in, String id) throws JsonIOException, JsonSyntaxException {
-		Type type = null;
-		MethodProvider methodProvider = handler.getMethodProvider();
-		if (methodProvider != null && id != null) {
-			String resolvedMethod = methodProvider.resolveMethod(id);
-			if (resolvedMethod != null) {
-				JsonRpcMethod jsonRpcMethod = handler.getJsonRpcMethod(resolvedMethod);
-				if (jsonRpcMethod != null) {
-					type = jsonRpcMethod.getReturnType();
-					if (jsonRpcMethod.getReturnTypeAdapterFactory() != null) {
-						TypeAdapter<?> typeAdapter = jsonRpcMethod.getReturnTypeAdapterFactory().create(gson, TypeToken.get(type));
-						try {
-							if (typeAdapter != null)
-								return typeAdapter.read(in);
-						} catch (IOException exception) {
-							throw new JsonIOException(exception);
-						}
-					}
-				}
-			}
+		JsonRpcMethodAdapters adapters = id != null ? getResponseMethodAdapters(id) : null;
+		if (adapters != null) {
+			TypeAdapter<?> typeAdapter = adapters.getReturnTypeAdapter();
+			if (typeAdapter != null)
+				return readValue(in, typeAdapter);
 		}
-		return fromJson(in, type);
+		return JsonParser.parseReader(in);
 	}
 
 	/**
@@ -202,27 +225,25 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 	protected Object parseResult(Object result, String id) throws JsonSyntaxException {
 		if (result instanceof JsonElement) {
 			// Type of result could not be resolved - try again with the parsed JSON tree
-			Type type = null;
-			MethodProvider methodProvider = handler.getMethodProvider();
-			if (methodProvider != null) {
-				String resolvedMethod = methodProvider.resolveMethod(id);
-				if (resolvedMethod != null) {
-					JsonRpcMethod jsonRpcMethod = handler.getJsonRpcMethod(resolvedMethod);
-					if (jsonRpcMethod != null) {
-						type = jsonRpcMethod.getReturnType();
-						if (jsonRpcMethod.getReturnTypeAdapterFactory() != null) {
-							TypeAdapter<?> typeAdapter = jsonRpcMethod.getReturnTypeAdapterFactory().create(gson, TypeToken.get(type));
-							if (typeAdapter != null)
-								return typeAdapter.fromJsonTree((JsonElement) result);
-						}
-					}
-				}
-			}
-			return fromJson((JsonElement) result, type);
+			JsonRpcMethodAdapters adapters = getResponseMethodAdapters(id);
+			return fromJson((JsonElement) result, adapters != null ? adapters.getReturnTypeAdapter() : null);
 		}
 		return result;
 	}
 
+	/**
+	 * Resolve the type adapters of the method that was called by the request with the given id.
+	 */
+	protected JsonRpcMethodAdapters getResponseMethodAdapters(String id) {
+		MethodProvider methodProvider = handler.getMethodProvider();
+		if (methodProvider != null) {
+			String resolvedMethod = methodProvider.resolveMethod(id);
+			if (resolvedMethod != null)
+				return handler.getJsonRpcMethodAdapters(resolvedMethod);
+		}
+		return null;
+	}
+
 	/**
 	 * Convert the json input into the parameters object corresponding to the call
 	 * made by method.
@@ -244,7 +265,8 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 			in.nextNull();
 			return null;
 		}
-		Type[] parameterTypes = getParameterTypes(method);
+		JsonRpcMethodAdapters adapters = handler.getJsonRpcMethodAdapters(method);
+		Type[] parameterTypes = adapters != null ? adapters.getParameterTypes() : EMPTY_TYPE_ARRAY;
 		if (parameterTypes.length == 1) {
 			if (next == JsonToken.BEGIN_ARRAY) {
 				/* JsonRPC 2.0: §4.2 Parameter Structures.
@@ -256,19 +278,18 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 				*/
 				// Unwrap by removing the the outermost array.
 				in.beginArray();
-				var singleParameter = fromJson(in, parameterTypes[0]);
+				var singleParameter = fromJson(in, adapters.getParameterTypeAdapter(0));
 				in.endArray();
 				return singleParameter;
 			}
-			return fromJson(in, parameterTypes[0]);
+			return fromJson(in, adapters.getParameterTypeAdapter(0));
 		}
 		if (parameterTypes.length > 1 && next == JsonToken.BEGIN_ARRAY) {
 			final var parameters = new ArrayList<>(parameterTypes.length);
 			int index = 0;
 			in.beginArray();
 			while (in.hasNext()) {
-				Type parameterType = index < parameterTypes.length ? parameterTypes[index] : null;
-				Object parameter = fromJson(in, parameterType);
+				Object parameter = fromJson(in, adapters.getParameterTypeAdapter(index));
 				parameters.add(parameter);
 				index++;
 			}
@@ -307,9 +328,10 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 			return params;
 		}
 		final var rawParams = (JsonElement) params;
-		Type[] parameterTypes = getParameterTypes(method);
+		JsonRpcMethodAdapters adapters = handler.getJsonRpcMethodAdapters(method);
+		Type[] parameterTypes = adapters != null ? adapters.getParameterTypes() : EMPTY_TYPE_ARRAY;
 		if (parameterTypes.length == 1) {
-			return fromJson(rawParams, parameterTypes[0]);
+			return fromJson(rawParams, adapters.getParameterTypeAdapter(0));
 		}
 		if (parameterTypes.length > 1 && rawParams instanceof JsonArray) {
 			JsonArray array = (JsonArray) rawParams;
@@ -317,8 +339,7 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 			int index = 0;
 			Iterator<JsonElement> iterator = array.iterator();
 			while (iterator.hasNext()) {
-				Type parameterType = index < parameterTypes.length ? parameterTypes[index] : null;
-				Object parameter = fromJson(iterator.next(), parameterType);
+				Object parameter = fromJson(iterator.next(), adapters.getParameterTypeAdapter(index));
 				parameters.add(parameter);
 				index++;
 			}
@@ -336,6 +357,29 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 		return rawParams;
 	}
 
+	/**
+	 * Convert the JSON text of parameters that have been left out when the message was read, see
+	 * {@link LazyParams}. The parameters are converted in the same way as if they had been read with the message.
+	 *
+	 * @param json
+	 *            json text of the parameters
+	 * @param method
+	 *            method name of request
+	 */
+	public Object parseRawParams(String json, String method) throws JsonParseException {
+		try {
+			final var in = new JsonReader(new StringReader(json));
+			Object params = parseParams(parseParams(in, method), method);
+			if (in.peek() != JsonToken.END_DOCUMENT)
+				throw new JsonSyntaxException("JSON document was not fully consumed.");
+			return params;
+		} catch (MalformedJsonException | EOFException exception) {
+			throw new JsonSyntaxException(exception);
+		} catch (IOException exception) {
+			throw new JsonIOException(exception);
+		}
+	}
+
 	protected Object fromJson(JsonReader in, Type type) throws JsonIOException {
 		if (isNullOrVoidType(type)) {
 			return JsonParser.parseReader(in);
@@ -357,6 +401,46 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 		return value;
 	}
 
+	/**
+	 * Read a value with a resolved type adapter. If no adapter is given, the value is parsed as a JSON tree.
+	 */
+	protected Object fromJson(JsonReader in, TypeAdapter<?> typeAdapter) throws JsonIOException, JsonSyntaxException {
+		if (typeAdapter == null) {
+			return JsonParser.parseReader(in);
+		}
+		return readValue(in, typeAdapter);
+	}
+
+	/**
+	 * Convert a JSON tree with a resolved type adapter. If no adapter is given, the result is {@code null}.
+	 */
+	protected Object fromJson(JsonElement element, TypeAdapter<?> typeAdapter) throws JsonSyntaxException {
+		if (isNull(element) || typeAdapter == null) {
+			return null;
+		}
+		Object value;
+		try {
+			value = typeAdapter.fromJsonTree(element);
+		} catch (IllegalStateException exception) {
+			throw new JsonSyntaxException(exception);
+		}
+		if (isNull(value)) {
+			return null;
+		}
+		return value;
+	}
+
+	/**
+	 * Read a value with the given type adapter and report errors like {@link Gson#fromJson(JsonReader, Type)}.
+	 */
+	private Object readValue(JsonReader in, TypeAdapter<?> typeAdapter) throws JsonSyntaxException {
+		try {
+			return typeAdapter.read(in);
+		} catch (IllegalStateException | IOException exception) {
+			throw new JsonSyntaxException(exception);
+		}
+	}
+
 	protected boolean isNull(Object value) {
 		return value == null || value instanceof JsonNull;
 	}
@@ -408,6 +492,14 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 
 	@Override
 	public void write(JsonWriter out, Message message) throws IOException {
+		if (message instanceof BatchMessage) {
+			out.beginArray();
+			for (Message element : ((BatchMessage) message).getMessages()) {
+				write(out, element);
+			}
+			out.endArray();
+			return;
+		}
 		out.beginObject();
 		out.name("jsonrpc");
 		out.value(message.getJsonrpc() == null ? MessageConstants.JSONRPC_VERSION : message.getJsonrpc());
@@ -418,10 +510,14 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 			writeId(out, requestMessage.getRawId());
 			out.name("method");
 			out.value(requestMessage.getMethod());
-			Object params = requestMessage.getParams();
-			if (params != null) {
+			Object params = requestMessage.rawParams();
+			if (params instanceof LazyParams && !((LazyParams) params).isDecoded()) {
+				// Parameters that have not been converted are written as they have been read
+				out.name("params");
+				out.jsonValue(((LazyParams) params).json());
+			} else if (params != null) {
 				out.name("params");
-				handleParameter(out, params, requestMessage.getMethod());
+				handleParameter(out, requestMessage.getParams(), requestMessage.getMethod());
 			}
 		} else if (message instanceof ResponseMessage) {
 			final var responseMessage = (ResponseMessage) message;
@@ -442,10 +538,14 @@ public class MessageTypeAdapter extends TypeAdapter<Message> {
 			final var notificationMessage = (NotificationMessage) message;
 			out.name("method");
 			out.value(notificationMessage.getMethod());
-			Object params = notificationMessage.getParams();
-			if (params != null) {
+			Object params = notificationMessage.rawParams();
+			if (params instanceof LazyParams && !((LazyParams) params).isDecoded()) {
+				// Parameters that have not been converted are written as they have been read
+				out.name("params");
+				out.jsonValue(((LazyParams) params).json());
+			} else if (params != null) {
 				out.name("params");
-				handleParameter(out, params, notificationMessage.getMethod());
+				handleParameter(out, notificationMessage.getParams(), notificationMessage.getMethod());
 			}
 		}
 
@@ -0,0 +1,120 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.json.adapters;
+
+import java.io.IOException;
+
+import org.eclipse.lsp4j.jsonrpc.util.StringPool;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A type adapter that reads strings through a {@link StringPool}, so equal strings that are read from many
+ * messages share one instance. This reduces the memory retained by protocol objects that are kept for a long
+ * time, e.g. the URIs of locations and diagnostics.
+ * <p>
+ * The pool is registered per Gson instance with {@link #registerStringPool(GsonBuilder, StringPool)}. Without
+ * a registered pool, fields that use the {@link Factory} are read as usual.
+ */
+public class StringPoolTypeAdapter extends TypeAdapter<String> {
+
+	/**
+	 * Use this factory as argument to a {@link com.google.gson.annotations.JsonAdapter} annotation of string fields
+	 * whose values are typically repeated: {@code @JsonAdapter(StringPoolTypeAdapter.Factory.class)}
+	 */
+	public static class Factory implements TypeAdapterFactory {
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+			if (type.getRawType() != String.class)
+				return null;
+			StringPool pool = getStringPool(gson);
+			if (pool == null)
+				return null;
+			return (TypeAdapter<T>) new StringPoolTypeAdapter(pool);
+		}
+
+	}
+
+	/**
+	 * Makes the pool available through {@link Gson#getAdapter(Class)}, since Gson offers no other way to
+	 * attach configuration to a Gson instance.
+	 */
+	private static class PoolReference extends TypeAdapter<StringPool> {
+
+		private final StringPool pool;
+
+		PoolReference(StringPool pool) {
+			this.pool = pool;
+		}
+
+		@Override
+		public StringPool read(JsonReader in) throws IOException {
+			throw new UnsupportedOperationException("A StringPool cannot be read from JSON.");
+		}
+
+		@Override
+		public void write(JsonWriter out, StringPool value) throws IOException {
+			throw new UnsupportedOperationException("A StringPool cannot be written to JSON.");
+		}
+
+	}
+
+	/**
+	 * Use the given pool for all fields of the built Gson instance that use the {@link Factory}.
+	 */
+	public static void registerStringPool(GsonBuilder builder, StringPool pool) {
+		builder.registerTypeAdapter(StringPool.class, new PoolReference(pool));
+	}
+
+	/**
+	 * The pool that has been registered for the given Gson instance, or {@code null} if there is none.
+	 */
+	public static StringPool getStringPool(Gson gson) {
+		TypeAdapter<StringPool> adapter = gson.getAdapter(StringPool.class);
+		if (adapter instanceof PoolReference)
+			return ((PoolReference) adapter).pool;
+		return null;
+	}
+
+	private final StringPool pool;
+
+	public StringPoolTypeAdapter(StringPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public String read(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+		if (token == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (token == JsonToken.BOOLEAN)
+			return Boolean.toString(in.nextBoolean());
+		return pool.get(in.nextString());
+	}
+
+	@Override
+	public void write(JsonWriter out, String value) throws IOException {
+		out.value(value);
+	}
+
+}
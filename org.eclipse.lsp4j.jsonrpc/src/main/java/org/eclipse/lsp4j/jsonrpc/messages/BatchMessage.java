@@ -0,0 +1,96 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.messages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
+import org.eclipse.lsp4j.jsonrpc.validation.NonNull;
+
+/**
+ * A batch of requests and notifications, or of responses, that is transmitted as a JSON array.
+ * <p>
+ * Elements of a received batch that could not be parsed or validated are not contained in the list of
+ * messages. They are kept as {@linkplain #getIssues() issues} instead, so they can be answered with an error
+ * in the response to the batch.
+ */
+public class BatchMessage extends Message {
+
+	/**
+	 * The messages of the batch.
+	 */
+	@NonNull
+	private List<Message> messages;
+
+	/**
+	 * The elements of the batch that could not be parsed or validated. The message of an issue is
+	 * {@code null} if the element could not be identified as a message.
+	 */
+	private transient List<MessageIssueException> issues;
+
+	public BatchMessage() {
+		this.messages = new ArrayList<>();
+	}
+
+	public BatchMessage(@NonNull List<Message> messages) {
+		this.messages = messages;
+	}
+
+	@NonNull
+	public List<Message> getMessages() {
+		return this.messages;
+	}
+
+	public void setMessages(@NonNull List<Message> messages) {
+		this.messages = messages;
+	}
+
+	public List<MessageIssueException> getIssues() {
+		return this.issues != null ? this.issues : Collections.emptyList();
+	}
+
+	public void addIssue(MessageIssueException issue) {
+		if (this.issues == null)
+			this.issues = new ArrayList<>();
+		this.issues.add(issue);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		if (!super.equals(obj))
+			return false;
+		final var other = (BatchMessage) obj;
+		if (this.messages == null) {
+			if (other.messages != null)
+				return false;
+		} else if (!this.messages.equals(other.messages))
+			return false;
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = super.hashCode();
+		result = prime * result + (this.messages == null ? 0 : this.messages.hashCode());
+		return result;
+	}
+
+}
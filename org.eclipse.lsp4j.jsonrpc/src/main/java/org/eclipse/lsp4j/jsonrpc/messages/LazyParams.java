@@ -0,0 +1,96 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.messages;
+
+import java.util.function.Supplier;
+
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+
+import com.google.gson.JsonParseException;
+
+/**
+ * The parameters of an incoming request or notification, kept as JSON text and converted to the parameter
+ * types of their method when they are first accessed, see {@link MessageJsonHandler#setDecodeParamsLazily(boolean)}.
+ * Messages that are dropped before their parameters are accessed, e.g. requests that are cancelled before
+ * they are handled, are not converted at all.
+ */
+public final class LazyParams {
+
+	private final String json;
+	private final JsonRpcMethod method;
+	private final Supplier<Object> decoder;
+
+	private volatile boolean decoded;
+	private Object value;
+
+	/**
+	 * @param json - the JSON text of the parameters
+	 * @param method - the method whose parameter types the value is converted to, or {@code null} if the method
+	 *			is not known
+	 * @param decoder - converts the JSON text, throwing a {@link JsonParseException} if it does not match
+	 *			the parameter types
+	 */
+	public LazyParams(String json, JsonRpcMethod method, Supplier<Object> decoder) {
+		this.json = json;
+		this.method = method;
+		this.decoder = decoder;
+	}
+
+	/**
+	 * The JSON text of the parameters.
+	 */
+	public String json() {
+		return json;
+	}
+
+	/**
+	 * The method whose parameter types the value is converted to, or {@code null} if the method is not known.
+	 */
+	public JsonRpcMethod method() {
+		return method;
+	}
+
+	public boolean isDecoded() {
+		return decoded;
+	}
+
+	/**
+	 * Convert the JSON text on first access. The result is kept for later calls.
+	 *
+	 * @throws ResponseErrorException with a {@link ResponseErrorCode#ParseError} if the value does not match
+	 *			the parameter types of the method
+	 */
+	public Object get() {
+		if (!decoded) {
+			synchronized (this) {
+				if (!decoded) {
+					try {
+						value = decoder.get();
+					} catch (JsonParseException exception) {
+						throw new ResponseErrorException(new ResponseError(ResponseErrorCode.ParseError,
+								"Message could not be parsed.", exception));
+					}
+					decoded = true;
+				}
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return decoded ? String.valueOf(value) : json;
+	}
+
+}
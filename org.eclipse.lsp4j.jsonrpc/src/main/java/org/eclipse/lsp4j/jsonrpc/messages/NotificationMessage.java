@@ -39,7 +39,26 @@ public class NotificationMessage extends Message {
 	 */
 	private Object params;
 
+	/**
+	 * The parameters of the message. If they are {@link LazyParams}, they are converted on first access.
+	 */
 	public Object getParams() {
+		Object params = this.params;
+		if (params instanceof LazyParams) {
+			params = ((LazyParams) params).get();
+			this.params = params;
+		}
+		return params;
+	}
+
+	// Note: 'getRawParams' is not used as the name of the accessor method
+	// to avoid treating the unconverted parameters as a property of the message
+	// by reflective code such as ReflectiveMessageValidator.
+
+	/**
+	 * The parameters of the message as they have been set, i.e. {@link LazyParams} are not converted.
+	 */
+	public Object rawParams() {
 		return this.params;
 	}
 
@@ -63,10 +82,12 @@ public class NotificationMessage extends Message {
 				return false;
 		} else if (!this.method.equals(other.method))
 			return false;
-		if (this.params == null) {
-			if (other.params != null)
+		Object params = getParams();
+		Object otherParams = other.getParams();
+		if (params == null) {
+			if (otherParams != null)
 				return false;
-		} else if (!this.params.equals(other.params))
+		} else if (!params.equals(otherParams))
 			return false;
 		return true;
 	}
@@ -76,7 +97,8 @@ public class NotificationMessage extends Message {
 		final int prime = 31;
 		int result = super.hashCode();
 		result = prime * result + (this.method == null ? 0 : this.method.hashCode());
-		result = prime * result + (this.params == null ? 0 : this.params.hashCode());
+		Object params = getParams();
+		result = prime * result + (params == null ? 0 : params.hashCode());
 		return result;
 	}
 
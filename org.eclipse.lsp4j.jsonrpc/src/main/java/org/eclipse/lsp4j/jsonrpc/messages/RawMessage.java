@@ -0,0 +1,388 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.messages;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.MessageOutputBuffer;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A message whose JSON content is passed on without converting it to a {@link RequestMessage},
+ * {@link NotificationMessage} or {@link ResponseMessage}. The content is kept as UTF-8 encoded bytes, and
+ * only the properties that are needed for routing the message are read from it: the {@code id} and
+ * {@code method} of the message, and the {@code id} of the cancelled request in {@code $/cancelRequest}
+ * notifications. These ids can be replaced, which copies the content and leaves everything else unchanged.
+ * <p>
+ * Only single messages are supported, the content of a raw message must be a JSON object.
+ */
+public final class RawMessage extends Message {
+
+	private static final byte[] ID = { 'i', 'd' };
+	private static final byte[] METHOD = { 'm', 'e', 't', 'h', 'o', 'd' };
+	private static final byte[] PARAMS = { 'p', 'a', 'r', 'a', 'm', 's' };
+
+	private final byte[] content;
+	private String method;
+	private int idStart = -1;
+	private int idEnd = -1;
+	private int cancelIdStart = -1;
+	private int cancelIdEnd = -1;
+
+	/**
+	 * Read the envelope of a message from the given range of UTF-8 encoded JSON content.
+	 * The content is copied, so the given array can be reused afterwards.
+	 *
+	 * @throws JsonParseException if the content is not a JSON object
+	 */
+	public static RawMessage parse(byte[] content, int offset, int length) throws JsonParseException {
+		final var message = new RawMessage(Arrays.copyOfRange(content, offset, offset + length));
+		message.scan();
+		return message;
+	}
+
+	private RawMessage(byte[] content) {
+		this.content = content;
+	}
+
+	/**
+	 * The method of a request or notification, or {@code null} if this is a response.
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	public boolean isRequest() {
+		return method != null && idStart >= 0;
+	}
+
+	public boolean isNotification() {
+		return method != null && idStart < 0;
+	}
+
+	public boolean isResponse() {
+		return method == null;
+	}
+
+	/**
+	 * The id of the message converted to a string, or {@code null} if the message has no id or the id is {@code null}.
+	 */
+	public String getId() {
+		return toString(getRawId());
+	}
+
+	/**
+	 * The id of the message, or {@code null} if the message has no id or the id is {@code null}.
+	 */
+	public Either<String, Number> getRawId() {
+		return idStart >= 0 ? parseId(idStart, idEnd) : null;
+	}
+
+	/**
+	 * The id of the cancelled request if this is a {@code $/cancelRequest} notification, otherwise {@code null}.
+	 */
+	public String getCancelledId() {
+		return toString(cancelIdStart >= 0 ? parseId(cancelIdStart, cancelIdEnd) : null);
+	}
+
+	/**
+	 * Create a copy of this message with the given id.
+	 *
+	 * @throws IllegalStateException if this message has no id
+	 */
+	public RawMessage withId(Either<String, Number> id) {
+		if (idStart < 0)
+			throw new IllegalStateException("The message has no id: " + this);
+		return replace(idStart, idEnd, id);
+	}
+
+	/**
+	 * Create a copy of this {@code $/cancelRequest} notification with the given id of the cancelled request.
+	 *
+	 * @throws IllegalStateException if this message is not a {@code $/cancelRequest} notification with an id
+	 */
+	public RawMessage withCancelledId(Either<String, Number> id) {
+		if (cancelIdStart < 0)
+			throw new IllegalStateException("The message is not a cancel notification: " + this);
+		return replace(cancelIdStart, cancelIdEnd, id);
+	}
+
+	/**
+	 * The length of the UTF-8 encoded content.
+	 */
+	public int getContentLength() {
+		return content.length;
+	}
+
+	/**
+	 * Write the content to the given buffer as it has been read.
+	 */
+	public void writeContent(MessageOutputBuffer buffer) {
+		buffer.writeUtf8(content, 0, content.length);
+	}
+
+	private RawMessage replace(int start, int end, Either<String, Number> id) {
+		byte[] value = toJson(id).getBytes(StandardCharsets.UTF_8);
+		int shift = value.length - (end - start);
+		final var result = new RawMessage(new byte[content.length + shift]);
+		System.arraycopy(content, 0, result.content, 0, start);
+		System.arraycopy(value, 0, result.content, start, value.length);
+		System.arraycopy(content, end, result.content, end + shift, content.length - end);
+		result.method = method;
+		result.idStart = shiftPosition(idStart, start, shift);
+		result.idEnd = shiftPosition(idEnd, start, shift);
+		result.cancelIdStart = shiftPosition(cancelIdStart, start, shift);
+		result.cancelIdEnd = shiftPosition(cancelIdEnd, start, shift);
+		return result;
+	}
+
+	private static int shiftPosition(int position, int start, int shift) {
+		return position > start ? position + shift : position;
+	}
+
+	/**
+	 * Read the top-level properties of the message. Values are only skipped by following the nesting
+	 * of objects, arrays and strings; since all structural characters of JSON are ASCII, this works
+	 * directly on the UTF-8 encoded bytes.
+	 */
+	private void scan() {
+		int pos = skipWhitespace(0);
+		if (pos >= content.length || content[pos] != '{')
+			throw new JsonSyntaxException("Expected a JSON object as message content.");
+		int paramsStart = -1;
+		pos = skipWhitespace(pos + 1);
+		if (pos < content.length && content[pos] == '}')
+			return;
+		while (true) {
+			int nameEnd = skipString(pos);
+			int valueStart = skipWhitespace(skipColon(nameEnd));
+			int valueEnd = skipValue(valueStart);
+			if (isName(pos, nameEnd, ID)) {
+				idStart = valueStart;
+				idEnd = valueEnd;
+			} else if (isName(pos, nameEnd, METHOD)) {
+				method = content[valueStart] == '"' ? parseString(valueStart, valueEnd) : null;
+			} else if (isName(pos, nameEnd, PARAMS)) {
+				paramsStart = valueStart;
+			}
+			pos = skipWhitespace(valueEnd);
+			if (pos < content.length && content[pos] == '}')
+				break;
+			pos = skipWhitespace(skipComma(pos));
+		}
+		if (paramsStart >= 0 && content[paramsStart] == '{'
+				&& MessageJsonHandler.CANCEL_METHOD.getMethodName().equals(method)) {
+			scanCancelParams(paramsStart);
+		}
+	}
+
+	private void scanCancelParams(int start) {
+		int pos = skipWhitespace(start + 1);
+		if (pos < content.length && content[pos] == '}')
+			return;
+		while (true) {
+			int nameEnd = skipString(pos);
+			int valueStart = skipWhitespace(skipColon(nameEnd));
+			int valueEnd = skipValue(valueStart);
+			if (isName(pos, nameEnd, ID)) {
+				cancelIdStart = valueStart;
+				cancelIdEnd = valueEnd;
+				return;
+			}
+			pos = skipWhitespace(valueEnd);
+			if (pos < content.length && content[pos] == '}')
+				return;
+			pos = skipWhitespace(skipComma(pos));
+		}
+	}
+
+	private boolean isName(int start, int end, byte[] name) {
+		if (end - start != name.length + 2)
+			return false;
+		for (int i = 0; i < name.length; i++) {
+			if (content[start + 1 + i] != name[i])
+				return false;
+		}
+		return true;
+	}
+
+	private int skipWhitespace(int pos) {
+		while (pos < content.length) {
+			byte b = content[pos];
+			if (b != ' ' && b != '\n' && b != '\r' && b != '\t')
+				break;
+			pos++;
+		}
+		return pos;
+	}
+
+	private int skipColon(int pos) {
+		pos = skipWhitespace(pos);
+		if (pos >= content.length || content[pos] != ':')
+			throw syntaxError("Expected ':'", pos);
+		return pos + 1;
+	}
+
+	private int skipComma(int pos) {
+		if (pos >= content.length || content[pos] != ',')
+			throw syntaxError("Expected ',' or '}'", pos);
+		return pos + 1;
+	}
+
+	/**
+	 * @return the position after the closing quote of the string that starts at the given position
+	 */
+	private int skipString(int pos) {
+		if (pos >= content.length || content[pos] != '"')
+			throw syntaxError("Expected a string", pos);
+		pos++;
+		while (pos < content.length) {
+			byte b = content[pos];
+			if (b == '"')
+				return pos + 1;
+			pos += b == '\\' ? 2 : 1;
+		}
+		throw syntaxError("Unterminated string", pos);
+	}
+
+	/**
+	 * @return the position after the value that starts at the given position
+	 */
+	private int skipValue(int pos) {
+		if (pos >= content.length)
+			throw syntaxError("Expected a value", pos);
+		byte first = content[pos];
+		if (first == '"')
+			return skipString(pos);
+		if (first == '{' || first == '[') {
+			int depth = 0;
+			while (pos < content.length) {
+				byte b = content[pos];
+				if (b == '"') {
+					pos = skipString(pos);
+					continue;
+				}
+				if (b == '{' || b == '[') {
+					depth++;
+				} else if (b == '}' || b == ']') {
+					depth--;
+					if (depth == 0)
+						return pos + 1;
+				}
+				pos++;
+			}
+			throw syntaxError("Unterminated value", pos);
+		}
+		int start = pos;
+		while (pos < content.length) {
+			byte b = content[pos];
+			if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t')
+				break;
+			pos++;
+		}
+		if (pos == start)
+			throw syntaxError("Expected a value", pos);
+		return pos;
+	}
+
+	private JsonSyntaxException syntaxError(String message, int pos) {
+		return new JsonSyntaxException(message + " at position " + pos + " of the message content.");
+	}
+
+	private Either<String, Number> parseId(int start, int end) {
+		byte first = content[start];
+		if (first == '"')
+			return Either.forLeft(parseString(start, end));
+		String text = new String(content, start, end - start, StandardCharsets.US_ASCII);
+		if ("null".equals(text))
+			return null;
+		try {
+			return Either.forRight(Integer.parseInt(text));
+		} catch (NumberFormatException e) {
+			try {
+				return Either.forRight(new BigDecimal(text));
+			} catch (NumberFormatException e2) {
+				throw new JsonSyntaxException("Invalid message id: " + text, e2);
+			}
+		}
+	}
+
+	private String parseString(int start, int end) {
+		boolean escaped = false;
+		for (int i = start + 1; i < end - 1; i++) {
+			if (content[i] == '\\') {
+				escaped = true;
+				break;
+			}
+		}
+		if (!escaped)
+			return new String(content, start + 1, end - start - 2, StandardCharsets.UTF_8);
+		try (final var reader = new JsonReader(new StringReader(new String(content, start, end - start, StandardCharsets.UTF_8)))) {
+			return reader.nextString();
+		} catch (IOException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static String toJson(Either<String, Number> id) {
+		if (id == null)
+			return "null";
+		if (id.isRight())
+			return id.getRight().toString();
+		final var writer = new StringWriter();
+		try (final var jsonWriter = new JsonWriter(writer)) {
+			jsonWriter.value(id.getLeft());
+		} catch (IOException e) {
+			throw new JsonIOException(e);
+		}
+		return writer.toString();
+	}
+
+	private static String toString(Either<String, Number> id) {
+		if (id == null)
+			return null;
+		return id.isLeft() ? id.getLeft() : id.getRight().toString();
+	}
+
+	@Override
+	public String toString() {
+		return new String(content, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		return Arrays.equals(this.content, ((RawMessage) obj).content);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(content);
+	}
+
+}
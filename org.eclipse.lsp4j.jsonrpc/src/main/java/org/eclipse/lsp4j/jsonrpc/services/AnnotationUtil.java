@@ -18,6 +18,8 @@ import java.util.Arrays;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import org.eclipse.lsp4j.jsonrpc.ExecutionPolicy;
+
 public final class AnnotationUtil {
 	private AnnotationUtil() {}
 
@@ -90,11 +92,14 @@ public final class AnnotationUtil {
 	protected static MethodInfo createNotificationInfo(Method method, String segment, JsonNotification jsonNotification) {
 		MethodInfo methodInfo = createMethodInfo(method, jsonNotification.useSegment(), segment, jsonNotification.value());
 		methodInfo.isNotification = true;
+		methodInfo.executionPolicy = ExecutionPolicy.of(jsonNotification.execution(), jsonNotification.executor());
 		return methodInfo;
 	}
 
 	protected static MethodInfo createRequestInfo(Method method, String segment, JsonRequest jsonRequest) {
-		return createMethodInfo(method, jsonRequest.useSegment(), segment, jsonRequest.value());
+		MethodInfo methodInfo = createMethodInfo(method, jsonRequest.useSegment(), segment, jsonRequest.value());
+		methodInfo.executionPolicy = ExecutionPolicy.of(jsonRequest.execution(), jsonRequest.executor());
+		return methodInfo;
 	}
 
 	protected static MethodInfo createMethodInfo(Method method, boolean useSegment, String segment, String value) {
@@ -122,6 +127,7 @@ public final class AnnotationUtil {
 		public Method method;
 		public Type[] parameterTypes = EMPTY_TYPE_ARRAY;
 		public boolean isNotification = false;
+		public ExecutionPolicy executionPolicy = ExecutionPolicy.inline();
 	}
 
 	static class DelegateInfo {
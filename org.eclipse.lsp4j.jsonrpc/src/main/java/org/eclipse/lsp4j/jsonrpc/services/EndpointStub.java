@@ -0,0 +1,47 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.services;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+
+/**
+ * The superclass of the classes generated for {@link RemoteStub} interfaces, which implement the
+ * {@link JsonNotification} and {@link JsonRequest} methods of the interface by calling the wrapped endpoint.
+ */
+public abstract class EndpointStub implements Endpoint {
+
+	protected final Endpoint delegate;
+
+	protected EndpointStub(Endpoint delegate) {
+		if (delegate == null)
+			throw new NullPointerException("delegate");
+		this.delegate = delegate;
+	}
+
+	@Override
+	public CompletableFuture<?> request(String method, Object parameter) {
+		return delegate.request(method, parameter);
+	}
+
+	@Override
+	public void notify(String method, Object parameter) {
+		delegate.notify(method, parameter);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " for " + delegate.toString();
+	}
+
+}
@@ -11,22 +11,27 @@
  ******************************************************************************/
 package org.eclipse.lsp4j.jsonrpc.services;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.ExecutionPolicy;
 import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
@@ -41,7 +46,9 @@ public class GenericEndpoint implements Endpoint {
 	private static final Object[] NO_ARGUMENTS = {};
 
 	private final LinkedHashMap<String, Function<Object, CompletableFuture<Object>>> methodHandlers = new LinkedHashMap<>();
+	private final Map<String, ExecutionPolicy> executionPolicies = new HashMap<>();
 	private final List<Object> delegates;
+	private final boolean customArguments = overridesGetArguments();
 
 	public GenericEndpoint(Object delegate) {
 		this.delegates = Collections.singletonList(delegate);
@@ -57,27 +64,13 @@ public class GenericEndpoint implements Endpoint {
 
 	protected void recursiveFindRpcMethods(Object current, Set<Class<?>> visited, Set<Class<?>> visitedForDelegate) {
 		AnnotationUtil.findRpcMethods(current.getClass(), visited, methodInfo -> {
-			@SuppressWarnings("unchecked")
-			Function<Object, CompletableFuture<Object>> handler = arg -> {
-				Method method = methodInfo.method;
-				Object[] arguments = this.getArguments(method, arg);
-				try {
-					return (CompletableFuture<Object>) method.invoke(current, arguments);
-				} catch (InvocationTargetException e) {
-					Throwable cause = e.getCause();
-					if (cause instanceof RuntimeException) {
-						throw (RuntimeException) cause;
-					} else if (cause instanceof Error) {
-						throw (Error) cause;
-					}
-					throw new IllegalStateException("An unexpected exception occurred while executing jsonrpc method " + method, cause);
-				} catch (IllegalAccessException e) {
-					throw new IllegalStateException("Inaccessible jsonrpc method: " + method, e);
-				}
-			};
+			Function<Object, CompletableFuture<Object>> handler = createHandler(current, methodInfo.method);
 			if (methodHandlers.put(methodInfo.name, handler) != null) {
 				throw new IllegalStateException("Multiple methods for name " + methodInfo.name);
 			}
+			if (!methodInfo.executionPolicy.isInline()) {
+				executionPolicies.put(methodInfo.name, methodInfo.executionPolicy);
+			}
 		});
 		AnnotationUtil.findDelegateSegments(current.getClass(), visitedForDelegate, method -> {
 			try {
@@ -93,6 +86,99 @@ public class GenericEndpoint implements Endpoint {
 		});
 	}
 
+	/**
+	 * Create the handler that calls the given JSON-RPC method of a delegate object. Methods with no or one
+	 * parameter are called through generated functions and other methods through method handles, so the JIT
+	 * compiler can inline them into the dispatch. Reflection is used only if a subclass overrides
+	 * {@link #getArguments(Method, Object)} or the method cannot be bound otherwise.
+	 */
+	@SuppressWarnings("unchecked")
+	private Function<Object, CompletableFuture<Object>> createHandler(Object receiver, Method method) {
+		if (!customArguments) {
+			int parameterCount = method.getParameterCount();
+			if (parameterCount == 0) {
+				Supplier<Object> invoker = MethodInvokers.nullary(receiver, method);
+				if (invoker != null) {
+					return arg -> {
+						if (arg != null) {
+							LOG.warning("Unexpected params '" + arg + "' for '" + method + "' is ignored");
+						}
+						try {
+							return (CompletableFuture<Object>) invoker.get();
+						} catch (RuntimeException | Error e) {
+							throw e;
+						} catch (Throwable t) {
+							throw unexpectedException(method, t);
+						}
+					};
+				}
+			} else if (parameterCount == 1) {
+				Function<Object, Object> invoker = MethodInvokers.unary(receiver, method);
+				if (invoker != null) {
+					return arg -> {
+						Object argument = arg instanceof List<?> ? getArguments(method, arg)[0] : arg;
+						try {
+							return (CompletableFuture<Object>) invoker.apply(argument);
+						} catch (RuntimeException | Error e) {
+							throw e;
+						} catch (Throwable t) {
+							throw unexpectedException(method, t);
+						}
+					};
+				}
+			}
+			MethodHandle invoker = MethodInvokers.spreader(receiver, method);
+			if (invoker != null) {
+				return arg -> {
+					Object[] arguments = getArguments(method, arg);
+					try {
+						return (CompletableFuture<Object>) (Object) invoker.invokeExact(arguments);
+					} catch (RuntimeException | Error e) {
+						throw e;
+					} catch (Throwable t) {
+						throw unexpectedException(method, t);
+					}
+				};
+			}
+		}
+		return arg -> {
+			Object[] arguments = getArguments(method, arg);
+			try {
+				return (CompletableFuture<Object>) method.invoke(receiver, arguments);
+			} catch (InvocationTargetException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw unexpectedException(method, cause);
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException("Inaccessible jsonrpc method: " + method, e);
+			}
+		};
+	}
+
+	private static IllegalStateException unexpectedException(Method method, Throwable cause) {
+		return new IllegalStateException("An unexpected exception occurred while executing jsonrpc method " + method, cause);
+	}
+
+	/**
+	 * Whether a subclass overrides {@link #getArguments(Method, Object)}, which the generated handlers do not
+	 * call for all messages.
+	 */
+	private boolean overridesGetArguments() {
+		for (Class<?> type = getClass(); type != GenericEndpoint.class; type = type.getSuperclass()) {
+			try {
+				type.getDeclaredMethod("getArguments", Method.class, Object.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// Continue with the superclass
+			}
+		}
+		return false;
+	}
+
 	protected Object[] getArguments(Method method, Object arg) {
 		int parameterCount = method.getParameterCount();
 		if (parameterCount == 0) {
@@ -181,6 +267,16 @@ public class GenericEndpoint implements Endpoint {
 		}
 	}
 
+	/**
+	 * The execution policy declared by the {@link JsonRequest} or {@link JsonNotification} annotation of the
+	 * method with the given name. {@link org.eclipse.lsp4j.jsonrpc.RemoteEndpoint RemoteEndpoint} calls the
+	 * method according to this policy.
+	 */
+	public ExecutionPolicy getExecutionPolicy(String method) {
+		ExecutionPolicy policy = executionPolicies.get(method);
+		return policy != null ? policy : ExecutionPolicy.inline();
+	}
+
 	protected boolean isOptionalMethod(String method) {
 		return method != null && method.startsWith("$/");
 	}
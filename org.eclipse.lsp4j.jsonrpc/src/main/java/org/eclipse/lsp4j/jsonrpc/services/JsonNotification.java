@@ -16,6 +16,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.eclipse.lsp4j.jsonrpc.ExecutionPolicy;
+
 /**
  * Annotation to mark a notification method on an interface or class.
  * <p>
@@ -49,4 +51,18 @@ public @interface JsonNotification {
 	 * @see JsonSegment
 	 */
 	boolean useSegment() default true;
+
+	/**
+	 * How the annotated method is called when a notification is received. By default it is called in the
+	 * thread that reads the incoming messages.
+	 *
+	 * @see ExecutionPolicy
+	 */
+	ExecutionPolicy.Kind execution() default ExecutionPolicy.Kind.INLINE;
+
+	/**
+	 * The name of the pool or sequential lane in which the annotated method is called, if {@link #execution()}
+	 * is not {@code INLINE}. Methods with the same name share the pool or lane.
+	 */
+	String executor() default "";
 }
@@ -17,6 +17,8 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.lsp4j.jsonrpc.ExecutionPolicy;
+
 /**
  * Annotation to mark a request method on an interface or class.
  * <p>
@@ -52,4 +54,18 @@ public @interface JsonRequest {
 	 * @see JsonSegment
 	 */
 	boolean useSegment() default true;
+
+	/**
+	 * How the annotated method is called when a request is received. By default it is called in the
+	 * thread that reads the incoming messages.
+	 *
+	 * @see ExecutionPolicy
+	 */
+	ExecutionPolicy.Kind execution() default ExecutionPolicy.Kind.INLINE;
+
+	/**
+	 * The name of the pool or sequential lane in which the annotated method is called, if {@link #execution()}
+	 * is not {@code INLINE}. Methods with the same name share the pool or lane.
+	 */
+	String executor() default "";
 }
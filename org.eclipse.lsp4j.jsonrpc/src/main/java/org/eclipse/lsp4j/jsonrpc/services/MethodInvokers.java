@@ -0,0 +1,176 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.services;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Binds JSON-RPC methods to a service object without going through {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * Methods with no or one parameter are bound to a {@link Supplier} or a {@link Function} generated by the
+ * {@link LambdaMetafactory}, which the JIT compiler can inline like a hand-written call. This requires private
+ * access to the class that declares the method, which is granted on the class path but may be denied by the
+ * module system, and parameter and return types that are not primitive. Other methods are bound to a
+ * {@link MethodHandle} that takes the arguments as an array.
+ * <p>
+ * The {@link LambdaMetafactory} spins a hidden class for each method, so its result is cached per method and
+ * only the receiver is bound for each service object.
+ */
+final class MethodInvokers {
+
+	private static final Logger LOG = Logger.getLogger(MethodInvokers.class.getName());
+
+	private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	/**
+	 * The factories of functional interface implementations for the methods of a class, see {@link #factory(Method)}.
+	 * An empty value means that no implementation can be generated for the method.
+	 */
+	private static final ClassValue<Map<Method, Optional<MethodHandle>>> FACTORIES = new ClassValue<>() {
+		@Override
+		protected Map<Method, Optional<MethodHandle>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private MethodInvokers() {}
+
+	/**
+	 * Bind a method without parameters to the given receiver.
+	 *
+	 * @return a supplier that calls the method, or {@code null} if it cannot be generated
+	 */
+	@SuppressWarnings("unchecked")
+	static Supplier<Object> nullary(Object receiver, Method method) {
+		if (method.getParameterCount() != 0 || hasPrimitiveReturnType(method))
+			return null;
+		MethodHandle factory = factory(method);
+		if (factory == null)
+			return null;
+		try {
+			if (method.getReturnType() == void.class) {
+				Runnable runnable = (Runnable) factory.invoke(receiver);
+				return () -> {
+					runnable.run();
+					return null;
+				};
+			}
+			return (Supplier<Object>) factory.invoke(receiver);
+		} catch (Throwable t) {
+			LOG.log(Level.FINE, "Failed to generate an invoker for " + method, t);
+			return null;
+		}
+	}
+
+	/**
+	 * Bind a method with one parameter to the given receiver.
+	 *
+	 * @return a function that calls the method, or {@code null} if it cannot be generated
+	 */
+	@SuppressWarnings("unchecked")
+	static Function<Object, Object> unary(Object receiver, Method method) {
+		if (method.getParameterCount() != 1 || method.getParameterTypes()[0].isPrimitive() || hasPrimitiveReturnType(method))
+			return null;
+		MethodHandle factory = factory(method);
+		if (factory == null)
+			return null;
+		try {
+			if (method.getReturnType() == void.class) {
+				Consumer<Object> consumer = (Consumer<Object>) factory.invoke(receiver);
+				return argument -> {
+					consumer.accept(argument);
+					return null;
+				};
+			}
+			return (Function<Object, Object>) factory.invoke(receiver);
+		} catch (Throwable t) {
+			LOG.log(Level.FINE, "Failed to generate an invoker for " + method, t);
+			return null;
+		}
+	}
+
+	/**
+	 * Bind a method to the given receiver as a method handle of type {@code (Object[])Object}.
+	 *
+	 * @return the method handle, or {@code null} if the method is not accessible
+	 */
+	static MethodHandle spreader(Object receiver, Method method) {
+		try {
+			return MethodHandles.lookup().unreflect(method)
+					.bindTo(receiver)
+					.asSpreader(Object[].class, method.getParameterCount())
+					.asType(SPREAD_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			LOG.log(Level.FINE, "Failed to create a method handle for " + method, e);
+			return null;
+		}
+	}
+
+	private static boolean hasPrimitiveReturnType(Method method) {
+		return method.getReturnType().isPrimitive() && method.getReturnType() != void.class;
+	}
+
+	/**
+	 * The factory for implementations of a functional interface that call the given method on a receiver passed
+	 * to the factory: a {@link Runnable} or {@link Supplier} for methods without parameters, a {@link Consumer}
+	 * or {@link Function} for methods with one parameter.
+	 *
+	 * @return the cached factory, or {@code null} if it cannot be generated
+	 */
+	private static MethodHandle factory(Method method) {
+		return FACTORIES.get(method.getDeclaringClass()).computeIfAbsent(method, m -> {
+			boolean isVoid = m.getReturnType() == void.class;
+			try {
+				if (m.getParameterCount() == 0) {
+					return Optional.of(isVoid
+							? metafactory(m, Runnable.class, "run", MethodType.methodType(void.class))
+							: metafactory(m, Supplier.class, "get", MethodType.methodType(Object.class)));
+				}
+				return Optional.of(isVoid
+						? metafactory(m, Consumer.class, "accept", MethodType.methodType(void.class, Object.class))
+						: metafactory(m, Function.class, "apply", MethodType.methodType(Object.class, Object.class)));
+			} catch (Exception | LinkageError e) {
+				LOG.log(Level.FINE, "Failed to generate an invoker for " + m, e);
+				return Optional.empty();
+			}
+		}).orElse(null);
+	}
+
+	/**
+	 * Create a factory for implementations of a functional interface that call the given method on a receiver
+	 * passed to the factory.
+	 */
+	private static MethodHandle metafactory(Method method, Class<?> functionalInterface, String methodName,
+			MethodType erasedType) throws Exception {
+		Class<?> declaringClass = method.getDeclaringClass();
+		MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+		MethodHandle target = lookup.unreflect(method);
+		MethodType instantiatedType = MethodType.methodType(method.getReturnType(), method.getParameterTypes());
+		CallSite callSite = LambdaMetafactory.metafactory(lookup, methodName,
+				MethodType.methodType(functionalInterface, declaringClass), erasedType, target, instantiatedType);
+		return callSite.getTarget();
+	}
+
+}
@@ -0,0 +1,33 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.services;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Use on a service interface to generate a class that implements the interface by calling
+ * {@link org.eclipse.lsp4j.jsonrpc.Endpoint#request(String, Object) request} and
+ * {@link org.eclipse.lsp4j.jsonrpc.Endpoint#notify(String, Object) notify} of an endpoint with constant method
+ * names. {@link ServiceEndpoints#toServiceObject(org.eclipse.lsp4j.jsonrpc.Endpoint, Class)} uses the generated
+ * class instead of a {@link java.lang.reflect.Proxy} wrapping an {@link EndpointProxy}.
+ * <p>
+ * The class is generated by the annotation processor of the LSP4J generator. It extends {@link EndpointStub}
+ * and is named after the interface with the suffix {@code RemoteStub}, where the names of enclosing types of a
+ * nested interface are joined with {@code _}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RemoteStub {
+}
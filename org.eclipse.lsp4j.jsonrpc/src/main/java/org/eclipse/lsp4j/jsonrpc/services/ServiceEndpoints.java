@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.lsp4j.jsonrpc.services;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
@@ -19,6 +21,7 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
@@ -28,14 +31,41 @@ import com.google.gson.TypeAdapterFactory;
 
 public final class ServiceEndpoints {
 	private ServiceEndpoints() {}
+
+	private static final Logger LOG = Logger.getLogger(ServiceEndpoints.class.getName());
+
+	/**
+	 * The constructors of the generated stub classes of {@link RemoteStub} interfaces, or {@code null} for
+	 * interfaces without a stub class.
+	 */
+	private static final ClassValue<Constructor<?>> STUB_CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected Constructor<?> computeValue(Class<?> type) {
+			return findStubConstructor(type);
+		}
+	};
 	
 	/**
-	 * Wraps a given {@link Endpoint} in the given service interface.
+	 * Wraps a given {@link Endpoint} in the given service interface. If the interface is annotated with
+	 * {@link RemoteStub}, an instance of the generated stub class is returned, otherwise a proxy.
 	 * 
 	 * @return the wrapped service object
 	 */
 	@SuppressWarnings("unchecked")
 	public static <T> T toServiceObject(Endpoint endpoint, Class<T> interface_) {
+		Constructor<?> stubConstructor = STUB_CONSTRUCTORS.get(interface_);
+		if (stubConstructor != null) {
+			try {
+				return (T) stubConstructor.newInstance(endpoint);
+			} catch (InvocationTargetException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException)
+					throw (RuntimeException) cause;
+				throw new IllegalStateException("Failed to create the stub for " + interface_, cause);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException("Failed to create the stub for " + interface_, e);
+			}
+		}
 		Class<?>[] interfArray = new Class[]{interface_, Endpoint.class};
 		EndpointProxy invocationHandler = new EndpointProxy(endpoint, interface_);
 		return (T) Proxy.newProxyInstance(interface_.getClassLoader(), interfArray, invocationHandler);
@@ -54,6 +84,37 @@ public final class ServiceEndpoints {
 		return Proxy.newProxyInstance(classLoader, interfArray, invocationHandler);
 	}
 	
+	/**
+	 * The name of the stub class that is generated for a {@link RemoteStub} interface.
+	 */
+	public static String getStubClassName(Class<?> interface_) {
+		String name = interface_.getName();
+		int packageEnd = name.lastIndexOf('.') + 1;
+		return name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_') + "RemoteStub";
+	}
+
+	private static Constructor<?> findStubConstructor(Class<?> interface_) {
+		if (!interface_.isInterface() || !interface_.isAnnotationPresent(RemoteStub.class))
+			return null;
+		String stubClassName = getStubClassName(interface_);
+		try {
+			Class<?> stubClass = Class.forName(stubClassName, true, interface_.getClassLoader());
+			if (!interface_.isAssignableFrom(stubClass) || !EndpointStub.class.isAssignableFrom(stubClass)) {
+				LOG.warning("The class " + stubClassName + " is not a stub for " + interface_.getName());
+				return null;
+			}
+			return stubClass.getConstructor(Endpoint.class);
+		} catch (ClassNotFoundException e) {
+			// Stubs are optional, e.g. if the annotation processor has not been run
+			LOG.fine("The stub class for " + interface_.getName() + " is missing, a proxy is used instead");
+			return null;
+		} catch (NoSuchMethodException e) {
+			LOG.warning("The class " + stubClassName + " has no constructor that accepts an " + Endpoint.class.getSimpleName()
+					+ ", a proxy is used instead");
+			return null;
+		}
+	}
+	
 	/**
 	 * Wraps a given object with service annotations behind an {@link Endpoint} interface.
 	 * 
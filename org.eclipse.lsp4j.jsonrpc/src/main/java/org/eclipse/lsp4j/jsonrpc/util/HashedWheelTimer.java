@@ -0,0 +1,312 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A timer for a large number of timeouts that are usually cancelled before they expire, such as the deadlines
+ * of pending requests. Timeouts are kept in the buckets of a wheel that is turned by a single thread, one bucket
+ * per tick, so scheduling and cancelling a timeout take constant time and no thread or scheduled task is needed
+ * per timeout. Timeouts expire up to one tick late.
+ * <p>
+ * The timer thread is started when the first timeout is scheduled. Expired tasks are passed to an executor,
+ * so they do not hold up the timer thread.
+ */
+public class HashedWheelTimer {
+
+	private static final Logger LOG = Logger.getLogger(HashedWheelTimer.class.getName());
+
+	private static final int STATE_INIT = 0;
+	private static final int STATE_STARTED = 1;
+	private static final int STATE_STOPPED = 2;
+
+	private static volatile HashedWheelTimer defaultTimer;
+
+	/**
+	 * The timer shared by all remote endpoints, with a tick of 100 milliseconds. Its threads are daemon threads.
+	 */
+	public static HashedWheelTimer getDefault() {
+		HashedWheelTimer timer = defaultTimer;
+		if (timer == null) {
+			synchronized (HashedWheelTimer.class) {
+				timer = defaultTimer;
+				if (timer == null) {
+					ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+						final var thread = new Thread(runnable, "LSP4J Request Timeout");
+						thread.setDaemon(true);
+						return thread;
+					});
+					timer = new HashedWheelTimer(100, TimeUnit.MILLISECONDS, 512, executor);
+					defaultTimer = timer;
+				}
+			}
+		}
+		return timer;
+	}
+
+	/**
+	 * A task scheduled with {@link HashedWheelTimer#schedule(Runnable, long, TimeUnit)}.
+	 */
+	public static final class Timeout {
+
+		private static final int ST_PENDING = 0;
+		private static final int ST_CANCELLED = 1;
+		private static final int ST_EXPIRED = 2;
+
+		private final HashedWheelTimer timer;
+		private final long deadline;
+		private final AtomicInteger state = new AtomicInteger(ST_PENDING);
+		private volatile Runnable task;
+
+		// Accessed by the timer thread only
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout next;
+		private Timeout previous;
+
+		Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+			this.timer = timer;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Cancel the timeout unless it has already expired.
+		 *
+		 * @return {@code true} if the task will not be executed because of this call
+		 */
+		public boolean cancel() {
+			if (!state.compareAndSet(ST_PENDING, ST_CANCELLED))
+				return false;
+			// Release the task right away, the timeout itself is removed from its bucket with the next tick
+			task = null;
+			timer.cancelledTimeouts.add(this);
+			return true;
+		}
+
+		public boolean isCancelled() {
+			return state.get() == ST_CANCELLED;
+		}
+
+		public boolean isExpired() {
+			return state.get() == ST_EXPIRED;
+		}
+
+		void expire() {
+			if (!state.compareAndSet(ST_PENDING, ST_EXPIRED))
+				return;
+			Runnable runnable = task;
+			task = null;
+			try {
+				timer.taskExecutor.execute(runnable);
+			} catch (RejectedExecutionException e) {
+				LOG.log(Level.WARNING, "Failed to execute an expired timeout.", e);
+			}
+		}
+
+	}
+
+	/**
+	 * A doubly linked list of timeouts, accessed by the timer thread only.
+	 */
+	private static final class Bucket {
+
+		private Timeout head;
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.previous = tail;
+				tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			if (timeout.previous != null)
+				timeout.previous.next = timeout.next;
+			else
+				head = timeout.next;
+			if (timeout.next != null)
+				timeout.next.previous = timeout.previous;
+			else
+				tail = timeout.previous;
+			timeout.next = null;
+			timeout.previous = null;
+			timeout.bucket = null;
+		}
+
+		void expireTimeouts(long currentTime) {
+			Timeout timeout = head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				if (timeout.remainingRounds <= 0 && timeout.deadline <= currentTime) {
+					remove(timeout);
+					timeout.expire();
+				} else if (timeout.isCancelled()) {
+					remove(timeout);
+				} else if (timeout.remainingRounds > 0) {
+					timeout.remainingRounds--;
+				}
+				timeout = next;
+			}
+		}
+
+	}
+
+	private final long tickDuration;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final Executor taskExecutor;
+	private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+	private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger workerState = new AtomicInteger(STATE_INIT);
+	private final Thread workerThread;
+
+	private volatile long startTime;
+
+	/**
+	 * @param tickDuration - the time between two ticks of the wheel
+	 * @param unit - the unit of the tick duration
+	 * @param wheelSize - the number of buckets, rounded up to a power of two
+	 * @param taskExecutor - the executor for the tasks of expired timeouts
+	 */
+	public HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize, Executor taskExecutor) {
+		if (tickDuration <= 0)
+			throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+		if (wheelSize <= 0)
+			throw new IllegalArgumentException("wheelSize must be positive: " + wheelSize);
+		if (taskExecutor == null)
+			throw new NullPointerException("taskExecutor");
+		int size = Integer.highestOneBit(wheelSize);
+		if (size < wheelSize)
+			size <<= 1;
+		this.tickDuration = unit.toNanos(tickDuration);
+		this.wheel = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new Bucket();
+		}
+		this.mask = size - 1;
+		this.taskExecutor = taskExecutor;
+		this.workerThread = new Thread(this::run, "LSP4J Request Timer");
+		this.workerThread.setDaemon(true);
+	}
+
+	/**
+	 * Execute the given task after the given delay unless the returned timeout is cancelled before.
+	 */
+	public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		if (task == null)
+			throw new NullPointerException("task");
+		start();
+		long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+		final var timeout = new Timeout(this, task, deadline);
+		pendingTimeouts.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * Stop the timer thread. Pending timeouts are not executed anymore.
+	 */
+	public void stop() {
+		if (workerState.getAndSet(STATE_STOPPED) == STATE_STARTED)
+			workerThread.interrupt();
+	}
+
+	private void start() {
+		switch (workerState.get()) {
+		case STATE_INIT:
+			if (workerState.compareAndSet(STATE_INIT, STATE_STARTED)) {
+				long time = System.nanoTime();
+				// Zero marks a timer that has not been started yet
+				startTime = time != 0 ? time : 1;
+				workerThread.start();
+			}
+			break;
+		case STATE_STARTED:
+			break;
+		default:
+			throw new IllegalStateException("The timer has been stopped.");
+		}
+		// Wait until the thread that started the timer has set the start time
+		while (startTime == 0) {
+			Thread.onSpinWait();
+		}
+	}
+
+	private void run() {
+		long tick = 0;
+		while (workerState.get() == STATE_STARTED) {
+			long currentTime = waitForNextTick(tick);
+			if (currentTime < 0)
+				return;
+			removeCancelledTimeouts();
+			transferPendingTimeouts(tick);
+			wheel[(int) (tick & mask)].expireTimeouts(currentTime);
+			tick++;
+		}
+	}
+
+	/**
+	 * @return the current time relative to the start time, or {@code -1} if the timer has been stopped
+	 */
+	private long waitForNextTick(long tick) {
+		long deadline = tickDuration * (tick + 1);
+		while (true) {
+			long currentTime = System.nanoTime() - startTime;
+			long sleepTime = deadline - currentTime;
+			if (sleepTime <= 0)
+				return currentTime;
+			try {
+				TimeUnit.NANOSECONDS.sleep(sleepTime);
+			} catch (InterruptedException e) {
+				if (workerState.get() == STATE_STOPPED)
+					return -1;
+			}
+		}
+	}
+
+	private void removeCancelledTimeouts() {
+		Timeout timeout;
+		while ((timeout = cancelledTimeouts.poll()) != null) {
+			if (timeout.bucket != null)
+				timeout.bucket.remove(timeout);
+		}
+	}
+
+	private void transferPendingTimeouts(long tick) {
+		Timeout timeout;
+		while ((timeout = pendingTimeouts.poll()) != null) {
+			if (timeout.isCancelled())
+				continue;
+			long expiryTick = timeout.deadline / tickDuration;
+			timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+			// Timeouts that are already due are expired with the current tick
+			long bucketTick = Math.max(expiryTick, tick);
+			wheel[(int) (bucketTick & mask)].add(timeout);
+		}
+	}
+
+}
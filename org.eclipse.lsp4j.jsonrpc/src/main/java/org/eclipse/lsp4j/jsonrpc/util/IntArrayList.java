@@ -0,0 +1,154 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list of integers that is backed by an {@code int} array, so its elements are not boxed. It can be used
+ * wherever a {@code List<Integer>} is expected; the methods of that interface box and unbox the elements, while
+ * {@link #getInt(int)}, {@link #setInt(int, int)}, {@link #addInt(int)} and {@link #toIntArray()} avoid it.
+ * <p>
+ * The list does not accept {@code null} elements. Instances are not thread-safe.
+ */
+public class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+	private static final int[] EMPTY = new int[0];
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private int[] elements;
+	private int size;
+
+	public IntArrayList() {
+		this.elements = EMPTY;
+	}
+
+	public IntArrayList(int initialCapacity) {
+		if (initialCapacity < 0)
+			throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+		this.elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+	}
+
+	/**
+	 * Create a list with a copy of the given values.
+	 */
+	public static IntArrayList of(int... values) {
+		IntArrayList list = new IntArrayList();
+		if (values.length > 0) {
+			list.elements = values.clone();
+			list.size = values.length;
+		}
+		return list;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Integer get(int index) {
+		return getInt(index);
+	}
+
+	public int getInt(int index) {
+		Objects.checkIndex(index, size);
+		return elements[index];
+	}
+
+	@Override
+	public Integer set(int index, Integer element) {
+		return setInt(index, element);
+	}
+
+	/**
+	 * Replace the element at the given position.
+	 *
+	 * @return the previous element
+	 */
+	public int setInt(int index, int element) {
+		Objects.checkIndex(index, size);
+		int previous = elements[index];
+		elements[index] = element;
+		return previous;
+	}
+
+	@Override
+	public boolean add(Integer element) {
+		addInt(element);
+		return true;
+	}
+
+	public void addInt(int element) {
+		if (size == elements.length)
+			grow(size + 1);
+		elements[size++] = element;
+		modCount++;
+	}
+
+	@Override
+	public void add(int index, Integer element) {
+		addInt(index, element);
+	}
+
+	public void addInt(int index, int element) {
+		Objects.checkIndex(index, size + 1);
+		if (size == elements.length)
+			grow(size + 1);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = element;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public Integer remove(int index) {
+		return removeInt(index);
+	}
+
+	/**
+	 * Remove the element at the given position.
+	 *
+	 * @return the removed element
+	 */
+	public int removeInt(int index) {
+		Objects.checkIndex(index, size);
+		int previous = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * A copy of the elements of this list.
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	private void grow(int minCapacity) {
+		int newCapacity = Math.max(Math.max(minCapacity, DEFAULT_CAPACITY), elements.length + (elements.length >> 1));
+		elements = Arrays.copyOf(elements, newCapacity);
+	}
+
+}
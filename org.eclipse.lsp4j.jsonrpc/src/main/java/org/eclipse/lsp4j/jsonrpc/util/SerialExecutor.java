@@ -0,0 +1,120 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An executor that runs its tasks one at a time, in the order in which they were submitted, in the threads
+ * of another executor. No thread is held while the executor has no tasks, so many serial executors can share
+ * one pool of threads.
+ * <p>
+ * If the other executor rejects a task, {@link #execute(Runnable)} throws its {@link RejectedExecutionException}.
+ * Tasks that have already been accepted are never dropped: if they cannot be handed to another thread, the
+ * current thread runs them.
+ */
+public class SerialExecutor implements Executor {
+
+	private static final Logger LOG = Logger.getLogger(SerialExecutor.class.getName());
+
+	/**
+	 * The maximal number of tasks run in a row before the thread is handed back to the underlying executor.
+	 */
+	private static final int BATCH_SIZE = 64;
+
+	private final Executor executor;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	public SerialExecutor(Executor executor) {
+		if (executor == null)
+			throw new NullPointerException("executor");
+		this.executor = executor;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		if (task == null)
+			throw new NullPointerException("task");
+		tasks.add(task);
+		if (pendingCount.getAndIncrement() == 0) {
+			try {
+				executor.execute(this::runTasks);
+			} catch (RejectedExecutionException e) {
+				// Tasks that other threads have added in the meantime rely on this thread to run them
+				tasks.remove(task);
+				if (pendingCount.decrementAndGet() > 0)
+					runTasks();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Whether no task is running or waiting to be run.
+	 */
+	public boolean isIdle() {
+		return pendingCount.get() == 0;
+	}
+
+	private void runTasks() {
+		int count = 0;
+		while (true) {
+			if (++count > BATCH_SIZE) {
+				// Let other work of the underlying executor run before continuing with the remaining tasks
+				if (scheduleTasks())
+					return;
+				count = 1;
+			}
+			Runnable task = tasks.poll();
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				LOG.log(Level.SEVERE, "A task of a serial executor threw an exception.", e);
+			} catch (Error e) {
+				// Keep the remaining tasks running in another thread, or in this one if the executor rejects them
+				if (pendingCount.decrementAndGet() > 0 && !scheduleTasks()) {
+					try {
+						runTasks();
+					} catch (Error e2) {
+						e.addSuppressed(e2);
+					}
+				}
+				throw e;
+			}
+			if (pendingCount.decrementAndGet() == 0)
+				return;
+		}
+	}
+
+	/**
+	 * Continue with the remaining tasks in another thread of the underlying executor.
+	 *
+	 * @return {@code false} if the underlying executor has rejected it, so the current thread has to continue
+	 */
+	private boolean scheduleTasks() {
+		try {
+			executor.execute(this::runTasks);
+			return true;
+		} catch (RejectedExecutionException e) {
+			LOG.log(Level.FINE, "The remaining tasks of a serial executor are run in the current thread.", e);
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.util;
+
+/**
+ * A bounded pool of strings that lets equal strings share one instance, e.g. the URIs that are repeated
+ * in many locations of a message.
+ * <p>
+ * The pool is a table of slots indexed by the hash code of the strings. A string replaces the entry of its
+ * slot if that entry is not equal to it, so each slot keeps the most recently used string that maps to it, and
+ * the number of retained strings never exceeds the capacity. Lookups are not synchronized: a string that is
+ * replaced concurrently may just not be shared.
+ */
+public class StringPool {
+
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	private final String[] entries;
+	private final int mask;
+
+	public StringPool() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity - the number of slots, rounded up to a power of two
+	 */
+	public StringPool(int capacity) {
+		if (capacity <= 0)
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity)
+			size <<= 1;
+		this.entries = new String[size];
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Return the pooled string that is equal to the given one, or add the given string to the pool.
+	 */
+	public String get(String value) {
+		if (value == null)
+			return null;
+		int hash = value.hashCode();
+		int index = (hash ^ (hash >>> 16)) & mask;
+		String entry = entries[index];
+		if (value.equals(entry))
+			return entry;
+		entries[index] = value;
+		return value;
+	}
+
+	/**
+	 * The number of slots of this pool.
+	 */
+	public int capacity() {
+		return entries.length;
+	}
+
+}
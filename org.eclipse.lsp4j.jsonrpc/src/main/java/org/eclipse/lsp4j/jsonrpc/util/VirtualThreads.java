@@ -0,0 +1,43 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.util;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Access to virtual threads, which are available on Java 21 and later.
+ * <p>
+ * This is the implementation for older runtimes, where virtual threads are not available. The JAR contains
+ * another implementation of this class for Java 21 and later in {@code META-INF/versions/21}.
+ */
+public final class VirtualThreads {
+
+	private VirtualThreads() {}
+
+	/**
+	 * Whether the runtime supports virtual threads.
+	 */
+	public static boolean isAvailable() {
+		return false;
+	}
+
+	/**
+	 * Create an executor that starts a new virtual thread for each task.
+	 *
+	 * @param name - the prefix of the thread names, followed by a number
+	 * @throws UnsupportedOperationException if the runtime does not support virtual threads
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(String name) {
+		throw new UnsupportedOperationException("Virtual threads require Java 21 or later.");
+	}
+
+}
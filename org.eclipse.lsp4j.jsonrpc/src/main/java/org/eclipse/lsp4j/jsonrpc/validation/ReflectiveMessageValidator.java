@@ -11,25 +11,34 @@
  ******************************************************************************/
 package org.eclipse.lsp4j.jsonrpc.validation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
 import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
 import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.BatchMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.MessageIssue;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 
 import com.google.gson.JsonElement;
@@ -37,13 +46,20 @@ import com.google.gson.JsonElement;
 /**
  * Validates messages and forwards them to other message consumers. In case an issue is found,
  * a {@link MessageIssueException} is thrown.
+ * <p>
+ * The getters of a class are looked up once, when the first instance of that class is validated,
+ * and are called through method handles afterwards.
  */
 public class ReflectiveMessageValidator implements MessageConsumer {
 
 	private static final Logger LOG = Logger.getLogger(ReflectiveMessageValidator.class.getName());
 
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
 	private final MessageConsumer delegate;
 
+	private final Map<Class<?>, Property[]> properties = new ConcurrentHashMap<>();
+
 	/**
 	 * When created with this constructor, the validator acts as a message sink.
 	 */
@@ -60,6 +76,10 @@ public class ReflectiveMessageValidator implements MessageConsumer {
 
 	@Override
 	public void consume(Message message) throws MessageIssueException, JsonRpcException {
+		if (message instanceof BatchMessage) {
+			consumeBatch((BatchMessage) message);
+			return;
+		}
 		List<MessageIssue> issues = validate(message);
 		if (!issues.isEmpty()) {
 			// Sort the messages in order to get a stable order (otherwise it depends on the JVM's reflection implementation)
@@ -70,6 +90,32 @@ public class ReflectiveMessageValidator implements MessageConsumer {
 		}
 	}
 
+	/**
+	 * Validate the elements of a batch separately. If some elements are invalid, the thrown exception carries
+	 * a batch with the valid elements, and the invalid elements are added to its issues.
+	 */
+	protected void consumeBatch(BatchMessage batch) throws MessageIssueException, JsonRpcException {
+		final var validBatch = new BatchMessage();
+		validBatch.setJsonHandler(batch.jsonHandler());
+		batch.getIssues().forEach(validBatch::addIssue);
+		final var allIssues = new ArrayList<MessageIssue>();
+		for (Message element : batch.getMessages()) {
+			List<MessageIssue> issues = validate(element);
+			if (issues.isEmpty()) {
+				validBatch.getMessages().add(element);
+			} else {
+				Collections.sort(issues, Comparator.comparing(MessageIssue::getText));
+				validBatch.addIssue(new MessageIssueException(element, issues));
+				allIssues.addAll(issues);
+			}
+		}
+		if (!allIssues.isEmpty()) {
+			throw new MessageIssueException(validBatch, allIssues);
+		} else if (delegate != null) {
+			delegate.consume(batch);
+		}
+	}
+
 	/**
 	 * Check whether the given object is valid. If it is not valid, its issues are not reported.
 	 */
@@ -81,7 +127,11 @@ public class ReflectiveMessageValidator implements MessageConsumer {
 	protected List<MessageIssue> validate(Object object) {
 		final var result = new ArrayList<MessageIssue>();
 		try {
-			validate(object, result, new LinkedList<>(), new LinkedList<>());
+			validate(object, result, new IdentityStack(), new ArrayDeque<>());
+		} catch (ResponseErrorException e) {
+			// Lazy parameters of the message could not be converted
+			ResponseError error = e.getResponseError();
+			result.add(new MessageIssue(error.getMessage(), error.getCode(), e));
 		} catch (Exception e) {
 			LOG.log(Level.SEVERE, "Error during message validation: " + e.getMessage(), e);
 			result.add(new MessageIssue("Message validation failed, please check the logs of the remote endpoint.",
@@ -135,24 +185,57 @@ public class ReflectiveMessageValidator implements MessageConsumer {
 						ResponseErrorCode.InvalidParams.getValue()));
 			}
 		} else {
-			for (Method method : object.getClass().getMethods()) {
-				if (isGetter(method)) {
-					accessorStack.push(method);
-					Object value = method.invoke(object);
-					if (value == null && method.getAnnotation(NonNull.class) != null) {
-						issues.add(new MessageIssue("The accessor '" + method.getDeclaringClass().getSimpleName()
-								 + "." + method.getName() + "()' must return a non-null value."
-								 + " Path: " + createPathString(accessorStack),
-								ResponseErrorCode.InvalidParams.getValue()));
-					}
-					validate(value, issues, objectStack, accessorStack);
-					accessorStack.pop();
+			for (Property property : getProperties(object.getClass())) {
+				accessorStack.push(property.method);
+				Object value = property.get(object);
+				if (value == null && property.nonNull) {
+					issues.add(new MessageIssue("The accessor '" + property.method.getDeclaringClass().getSimpleName()
+							 + "." + property.method.getName() + "()' must return a non-null value."
+							 + " Path: " + createPathString(accessorStack),
+							ResponseErrorCode.InvalidParams.getValue()));
 				}
+				if (property.validateValue)
+					validate(value, issues, objectStack, accessorStack);
+				accessorStack.pop();
 			}
 		}
 		objectStack.pop();
 	}
 
+	/**
+	 * The getters of the given class that need to be called for validation.
+	 */
+	private Property[] getProperties(Class<?> type) {
+		return properties.computeIfAbsent(type, this::createProperties);
+	}
+
+	private Property[] createProperties(Class<?> type) {
+		final var result = new ArrayList<Property>();
+		for (Method method : type.getMethods()) {
+			if (isGetter(method)) {
+				boolean nonNull = method.getAnnotation(NonNull.class) != null;
+				boolean validateValue = !isLeafType(method.getReturnType());
+				// Getters that can neither return null nor return an object to validate need not be called
+				if ((nonNull && !method.getReturnType().isPrimitive()) || validateValue)
+					result.add(new Property(method, nonNull, validateValue));
+			}
+		}
+		return result.toArray(new Property[result.size()]);
+	}
+
+	/**
+	 * Whether values of the given type are never validated, see {@link #validate(Object, List, Deque, Deque)}.
+	 */
+	private boolean isLeafType(Class<?> type) {
+		return type.isPrimitive()
+				|| type.isEnum()
+				|| type == String.class
+				|| Number.class.isAssignableFrom(type)
+				|| type == Boolean.class
+				|| JsonElement.class.isAssignableFrom(type)
+				|| Throwable.class.isAssignableFrom(type);
+	}
+
 	protected String createPathString(Deque<Object> accessorStack) {
 		final var result = new StringBuilder("$");
 		Iterator<Object> resultIter = accessorStack.descendingIterator();
@@ -182,4 +265,58 @@ public class ReflectiveMessageValidator implements MessageConsumer {
 		return methodName;
 	}
 
+	private static class Property {
+
+		final Method method;
+		final MethodHandle getter;
+		final boolean nonNull;
+		final boolean validateValue;
+
+		Property(Method method, boolean nonNull, boolean validateValue) {
+			this.method = method;
+			this.nonNull = nonNull;
+			this.validateValue = validateValue;
+			MethodHandle handle;
+			try {
+				handle = MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+			} catch (IllegalAccessException e) {
+				// The getter is invoked reflectively, which reports the same access error for each message
+				handle = null;
+			}
+			this.getter = handle;
+		}
+
+		Object get(Object object) throws Exception {
+			if (getter == null)
+				return method.invoke(object);
+			try {
+				return (Object) getter.invokeExact(object);
+			} catch (Exception | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new UndeclaredThrowableException(t);
+			}
+		}
+
+	}
+
+	/**
+	 * A stack that looks up its elements by identity. This detects references of an object to itself
+	 * without calling the {@code equals} method of the data classes, which compares all properties.
+	 */
+	private static class IdentityStack extends ArrayDeque<Object> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public boolean contains(Object o) {
+			for (Object element : this) {
+				if (element == o)
+					return true;
+			}
+			return false;
+		}
+
+	}
+
 }
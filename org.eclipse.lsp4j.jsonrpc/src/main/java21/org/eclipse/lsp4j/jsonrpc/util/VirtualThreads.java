@@ -0,0 +1,42 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads, which are available on Java 21 and later.
+ * <p>
+ * This is the implementation for Java 21 and later, which is placed in {@code META-INF/versions/21} of the JAR.
+ */
+public final class VirtualThreads {
+
+	private VirtualThreads() {}
+
+	/**
+	 * Whether the runtime supports virtual threads.
+	 */
+	public static boolean isAvailable() {
+		return true;
+	}
+
+	/**
+	 * Create an executor that starts a new virtual thread for each task.
+	 *
+	 * @param name - the prefix of the thread names, followed by a number
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(String name) {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + " ", 1).factory());
+	}
+
+}
@@ -0,0 +1,107 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4j.jsonrpc.CoalescingMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CoalescingMessageConsumerTest {
+
+	private static final long TIMEOUT = 2000;
+
+	private final List<Message> messages = Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * Notifications of the method "state" with parameters "key:value" are coalesced by their key.
+	 */
+	private CoalescingMessageConsumer createConsumer(Duration window) {
+		return new CoalescingMessageConsumer(messages::add,
+				notification -> "state".equals(notification.getMethod()) ? notification.getParams().toString().split(":")[0] : null,
+				window);
+	}
+
+	private static NotificationMessage notification(String method, String params) {
+		NotificationMessage message = new NotificationMessage();
+		message.setMethod(method);
+		message.setParams(params);
+		return message;
+	}
+
+	private List<Object> sentParams() {
+		synchronized (messages) {
+			return messages.stream().map(message -> message instanceof NotificationMessage
+					? ((NotificationMessage) message).getParams() : ((RequestMessage) message).getParams())
+					.collect(Collectors.toList());
+		}
+	}
+
+	@Test
+	public void testCoalesceUntilRequest() {
+		CoalescingMessageConsumer consumer = createConsumer(Duration.ofSeconds(10));
+		consumer.consume(notification("state", "a:1"));
+		consumer.consume(notification("state", "b:1"));
+		consumer.consume(notification("state", "a:2"));
+		consumer.consume(notification("state", "a:3"));
+		Assert.assertTrue(messages.isEmpty());
+		Assert.assertEquals(2, consumer.getPendingCount());
+
+		RequestMessage request = new RequestMessage();
+		request.setId(1);
+		request.setMethod("foo");
+		request.setParams("request");
+		consumer.consume(request);
+		Assert.assertEquals(List.of("a:3", "b:1", "request"), sentParams());
+		Assert.assertEquals(2, consumer.getCoalescedCount());
+		Assert.assertEquals(0, consumer.getPendingCount());
+	}
+
+	@Test
+	public void testOtherNotificationsKeepOrder() {
+		CoalescingMessageConsumer consumer = createConsumer(Duration.ofSeconds(10));
+		consumer.consume(notification("state", "a:1"));
+		consumer.consume(notification("log", "message"));
+		consumer.consume(notification("state", "a:2"));
+		Assert.assertEquals(List.of("a:1", "message"), sentParams());
+
+		consumer.close();
+		Assert.assertEquals(List.of("a:1", "message", "a:2"), sentParams());
+		// After closing notifications are passed on immediately
+		consumer.consume(notification("state", "a:3"));
+		Assert.assertEquals(List.of("a:1", "message", "a:2", "a:3"), sentParams());
+	}
+
+	@Test
+	public void testFlushAfterWindow() throws Exception {
+		CoalescingMessageConsumer consumer = createConsumer(Duration.ofMillis(50));
+		consumer.consume(notification("state", "a:1"));
+		consumer.consume(notification("state", "a:2"));
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (messages.isEmpty()) {
+			if (System.currentTimeMillis() > timeout)
+				Assert.fail("Expected the notification to be sent after the window.");
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(List.of("a:2"), sentParams());
+		Assert.assertEquals(1, consumer.getCoalescedCount());
+	}
+
+}
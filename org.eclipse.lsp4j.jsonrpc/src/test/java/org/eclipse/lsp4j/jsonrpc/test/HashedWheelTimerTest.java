@@ -0,0 +1,91 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.jsonrpc.util.HashedWheelTimer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HashedWheelTimerTest {
+
+	private static final long TIMEOUT = 2000;
+
+	private HashedWheelTimer timer;
+
+	@Before
+	public void setup() {
+		timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8, Runnable::run);
+	}
+
+	@After
+	public void teardown() {
+		timer.stop();
+	}
+
+	@Test
+	public void testExpiry() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+		HashedWheelTimer.Timeout timeout = timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+		assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+		assertTrue(timeout.isExpired());
+		assertFalse(timeout.cancel());
+	}
+
+	@Test
+	public void testExpiryAfterSeveralRounds() throws Exception {
+		// The wheel turns once every 80 ms
+		CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+		timer.schedule(latch::countDown, 250, TimeUnit.MILLISECONDS);
+		assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(250));
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		AtomicInteger expired = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(1);
+		HashedWheelTimer.Timeout timeout = timer.schedule(expired::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+		timer.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+		assertTrue(timeout.cancel());
+		assertTrue(timeout.isCancelled());
+		assertFalse(timeout.cancel());
+		assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(0, expired.get());
+		assertFalse(timeout.isExpired());
+	}
+
+	@Test
+	public void testManyTimeouts() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1000);
+		for (int i = 0; i < 1000; i++) {
+			timer.schedule(latch::countDown, i % 100, TimeUnit.MILLISECONDS);
+		}
+		assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testScheduleAfterStop() {
+		timer.stop();
+		timer.schedule(() -> {}, 10, TimeUnit.MILLISECONDS);
+	}
+
+}
@@ -12,20 +12,33 @@
 package org.eclipse.lsp4j.jsonrpc.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.jsonrpc.json.PriorityMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.GeneratedTypeAdapter;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.util.VirtualThreads;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -164,4 +177,133 @@ public class LauncherTest {
 				out.toString());
 	}
 
+	@Test public void testQueuedMessagesStopWithListening() throws Exception {
+		A a = new A() {
+			@Override
+			public void say(Param p) {
+			}
+		};
+		Launcher<B> launcher = new Launcher.Builder<B>()
+				.queueOutgoingMessages(16)
+				.setLocalService(a)
+				.setRemoteInterface(B.class)
+				.setInput(new ByteArrayInputStream("".getBytes()))
+				.setOutput(new ByteArrayOutputStream())
+				.create();
+		launcher.startListening().get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+		// The writer has been closed when the input stream ended
+		CompletableFuture<String> result = launcher.getRemoteProxy().ask(new Param("foo"));
+		assertTrue(result.isCompletedExceptionally());
+	}
+
+	@Test public void testQueuedMessagesWriteFailure() throws Exception {
+		A a = new A() {
+			@Override
+			public void say(Param p) {
+			}
+		};
+		OutputStream out = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+		Launcher<B> launcher = new Launcher.Builder<B>()
+				.queueOutgoingMessages(16)
+				.setLocalService(a)
+				.setRemoteInterface(B.class)
+				.setInput(new PipedInputStream(new PipedOutputStream()))
+				.setOutput(out)
+				.create();
+		Future<Void> listening = launcher.startListening();
+		try {
+			CompletableFuture<String> result = launcher.getRemoteProxy().ask(new Param("foo"));
+			try {
+				result.get(TIMEOUT, TimeUnit.MILLISECONDS);
+				Assert.fail("Expected the request to fail.");
+			} catch (ExecutionException exception) {
+				assertEquals("Broken pipe", exception.getCause().getCause().getMessage());
+			}
+		} finally {
+			listening.cancel(true);
+		}
+	}
+
+	@Test public void testVirtualThreads() throws Exception {
+		B b = new B() {
+			@Override
+			public CompletableFuture<String> ask(Param p) {
+				return CompletableFutures.computeAsync(cancelChecker -> p.message + " in " + Thread.currentThread().getName());
+			}
+		};
+		String inputMessages = "Content-Length: 69\r\n\r\n"
+			+ "{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"method\":\"ask\",\"params\":{\"message\":\"bar1\"}}";
+		ByteArrayInputStream in = new ByteArrayInputStream(inputMessages.getBytes());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Launcher<A> launcher = new Launcher.Builder<A>()
+				.useVirtualThreads(true)
+				.setLocalService(b)
+				.setRemoteInterface(A.class)
+				.setInput(in)
+				.setOutput(out)
+				.create();
+		// Virtual threads are used if the runtime supports them, otherwise the launcher falls back to platform threads
+		assertEquals(VirtualThreads.isAvailable(), launcher.getRemoteEndpoint().getRequestExecutor() != null);
+
+		launcher.startListening().get(TIMEOUT, TimeUnit.MILLISECONDS);
+		String threadName = VirtualThreads.isAvailable() ? "LSP4J Virtual Thread" : "";
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (!out.toString().contains("\"result\"") && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		assertTrue(out.toString(), out.toString().contains("\"result\":\"bar1 in " + threadName));
+
+		// The executor for computeAsync is only changed for the request handlers of the launcher
+		String thread = CompletableFutures.computeAsync(cancelChecker -> Thread.currentThread().getName())
+				.get(TIMEOUT, TimeUnit.MILLISECONDS);
+		assertFalse(thread, thread.startsWith("LSP4J Virtual Thread"));
+	}
+
+	@Test public void testLowPriorityMethods() throws Exception {
+		A a = new A() {
+			@Override
+			public void say(Param p) {
+			}
+		};
+		List<PriorityMessageConsumer> consumers = new ArrayList<>();
+		new Launcher.Builder<B>()
+				.prioritizeOutgoingMessages(8, Set.of("textDocument/publishDiagnostics"))
+				.wrapMessages(consumer -> {
+					if (consumer instanceof PriorityMessageConsumer)
+						consumers.add((PriorityMessageConsumer) consumer);
+					return consumer;
+				})
+				.setLocalService(a)
+				.setRemoteInterface(B.class)
+				.setInput(new ByteArrayInputStream("".getBytes()))
+				.setOutput(new ByteArrayOutputStream())
+				.create();
+		assertEquals(1, consumers.size());
+		assertEquals(Set.of("textDocument/publishDiagnostics"), consumers.get(0).getLowPriorityMethods());
+		consumers.get(0).close();
+	}
+
+	@Test public void testGeneratedTypeAdapters() throws Exception {
+		A a = new A() {
+			@Override
+			public void say(Param p) {
+			}
+		};
+		Launcher.Builder<B> builder = new Launcher.Builder<B>()
+				.setLocalService(a)
+				.setRemoteInterface(B.class)
+				.setInput(new ByteArrayInputStream("".getBytes()))
+				.setOutput(new ByteArrayOutputStream());
+		assertFalse(GeneratedTypeAdapter.isEnabled(builder.create().getRemoteEndpoint().getJsonHandler().getGson()));
+
+		builder.useGeneratedTypeAdapters(true);
+		assertTrue(GeneratedTypeAdapter.isEnabled(builder.create().getRemoteEndpoint().getJsonHandler().getGson()));
+	}
+
 }
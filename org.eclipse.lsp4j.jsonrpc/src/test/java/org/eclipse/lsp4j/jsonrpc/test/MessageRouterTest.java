@@ -0,0 +1,197 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.MessageRouter;
+import org.eclipse.lsp4j.jsonrpc.json.PassthroughMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.RawMessage;
+import org.junit.Test;
+
+import com.google.gson.JsonParseException;
+
+public class MessageRouterTest {
+
+	private static RawMessage raw(String content) {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		return RawMessage.parse(bytes, 0, bytes.length);
+	}
+
+	@Test
+	public void testRawMessage() {
+		RawMessage request = raw("{\"params\": {\"id\": 7, \"s\": \"}\\\"{\"},\"id\" : \"a\\\"b\", \"method\":\"foo/bar\",\"jsonrpc\":\"2.0\"}");
+		assertTrue(request.isRequest());
+		assertEquals("foo/bar", request.getMethod());
+		assertEquals("a\"b", request.getId());
+		assertEquals(Either.forLeft("a\"b"), request.getRawId());
+		assertNull(request.getCancelledId());
+
+		RawMessage rewritten = request.withId(Either.forRight(42));
+		assertEquals("{\"params\": {\"id\": 7, \"s\": \"}\\\"{\"},\"id\" : 42, \"method\":\"foo/bar\",\"jsonrpc\":\"2.0\"}",
+				rewritten.toString());
+		assertEquals(Either.forRight(42), rewritten.getRawId());
+		assertEquals("a\"b", rewritten.withId(request.getRawId()).getId());
+
+		RawMessage cancel = raw("{\"jsonrpc\":\"2.0\",\"params\":{\"id\":\"1\"},\"method\":\"$/cancelRequest\"}");
+		assertTrue(cancel.isNotification());
+		assertEquals("1", cancel.getCancelledId());
+		assertEquals("{\"jsonrpc\":\"2.0\",\"params\":{\"id\":12},\"method\":\"$/cancelRequest\"}",
+				cancel.withCancelledId(Either.forRight(12)).toString());
+
+		RawMessage response = raw("{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":[\"ü\",{\"method\":\"x\"}]}");
+		assertTrue(response.isResponse());
+		assertEquals("3", response.getId());
+		assertEquals("{\"jsonrpc\":\"2.0\",\"id\":\"ä\",\"result\":[\"ü\",{\"method\":\"x\"}]}",
+				response.withId(Either.forLeft("ä")).toString());
+	}
+
+	@Test
+	public void testInvalidRawMessage() {
+		for (String content : List.of("[]", "{\"id\":1", "{\"id\" 1}", "{\"id\":1 \"method\":\"foo\"}", "{\"id\":\"1}")) {
+			try {
+				raw(content);
+				fail("Expected a JsonParseException for " + content);
+			} catch (JsonParseException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testClientRequests() {
+		List<Message> server = new ArrayList<>();
+		List<Message> client1 = new ArrayList<>();
+		List<Message> client2 = new ArrayList<>();
+		MessageRouter router = new MessageRouter(server::add);
+		MessageRouter.Connection connection1 = router.connect(client1::add);
+		MessageRouter.Connection connection2 = router.connect(client2::add);
+
+		// Both clients use the same request id
+		connection1.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"foo\",\"params\":{\"x\":1}}"));
+		connection2.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"foo\",\"params\":{\"x\":2}}"));
+		assertEquals("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"foo\",\"params\":{\"x\":1}}", server.get(0).toString());
+		assertEquals("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"foo\",\"params\":{\"x\":2}}", server.get(1).toString());
+		assertEquals(1, connection1.getPendingRequestCount());
+
+		router.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"b\"}"));
+		router.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"a\"}"));
+		router.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"c\"}"));
+		assertEquals(List.of("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"a\"}"), toStrings(client1));
+		assertEquals(List.of("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"b\"}"), toStrings(client2));
+		assertEquals(0, connection1.getPendingRequestCount());
+
+		// Notifications are forwarded unchanged
+		connection2.consume(raw("{\"jsonrpc\":\"2.0\",\"method\":\"bar\",\"params\":{\"id\":1}}"));
+		assertEquals("{\"jsonrpc\":\"2.0\",\"method\":\"bar\",\"params\":{\"id\":1}}", server.get(2).toString());
+	}
+
+	@Test
+	public void testClientCancellation() {
+		List<Message> server = new ArrayList<>();
+		MessageRouter router = new MessageRouter(server::add);
+		MessageRouter.Connection connection1 = router.connect(message -> {});
+		MessageRouter.Connection connection2 = router.connect(message -> {});
+
+		connection1.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":\"x\",\"method\":\"foo\"}"));
+		connection2.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":\"x\",\"method\":\"foo\"}"));
+		connection2.consume(raw("{\"jsonrpc\":\"2.0\",\"method\":\"$/cancelRequest\",\"params\":{\"id\":\"x\"}}"));
+		assertEquals("{\"jsonrpc\":\"2.0\",\"method\":\"$/cancelRequest\",\"params\":{\"id\":2}}", server.get(2).toString());
+
+		// Cancellation of unknown requests is dropped
+		connection2.consume(raw("{\"jsonrpc\":\"2.0\",\"method\":\"$/cancelRequest\",\"params\":{\"id\":\"y\"}}"));
+		assertEquals(3, server.size());
+	}
+
+	@Test
+	public void testServerMessages() {
+		List<Message> server = new ArrayList<>();
+		List<Message> client1 = new ArrayList<>();
+		List<Message> client2 = new ArrayList<>();
+		MessageRouter router = new MessageRouter(server::add);
+		MessageRouter.Connection connection1 = router.connect(client1::add);
+		MessageRouter.Connection connection2 = router.connect(client2::add);
+
+		router.consume(raw("{\"jsonrpc\":\"2.0\",\"method\":\"window/logMessage\",\"params\":{}}"));
+		router.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":5,\"method\":\"workspace/configuration\",\"params\":{}}"));
+		router.consume(raw("{\"jsonrpc\":\"2.0\",\"method\":\"$/cancelRequest\",\"params\":{\"id\":5}}"));
+		assertEquals(List.of(
+				"{\"jsonrpc\":\"2.0\",\"method\":\"window/logMessage\",\"params\":{}}",
+				"{\"jsonrpc\":\"2.0\",\"id\":5,\"method\":\"workspace/configuration\",\"params\":{}}",
+				"{\"jsonrpc\":\"2.0\",\"method\":\"$/cancelRequest\",\"params\":{\"id\":5}}"), toStrings(client1));
+		assertEquals(List.of("{\"jsonrpc\":\"2.0\",\"method\":\"window/logMessage\",\"params\":{}}"), toStrings(client2));
+
+		// Only the client that received the request can answer it
+		connection2.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":5,\"result\":[]}"));
+		assertTrue(server.isEmpty());
+		connection1.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":5,\"result\":[]}"));
+		assertEquals(List.of("{\"jsonrpc\":\"2.0\",\"id\":5,\"result\":[]}"), toStrings(server));
+	}
+
+	@Test
+	public void testCloseConnection() {
+		List<Message> server = new ArrayList<>();
+		MessageRouter router = new MessageRouter(server::add);
+		MessageRouter.Connection connection = router.connect(message -> {});
+
+		connection.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"foo\"}"));
+		router.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":\"s1\",\"method\":\"bar\"}"));
+		server.clear();
+		connection.close();
+		assertTrue(router.getConnections().isEmpty());
+		assertEquals(List.of(
+				"{\"jsonrpc\":\"2.0\",\"method\":\"$/cancelRequest\",\"params\":{\"id\":1}}",
+				"{\"jsonrpc\":\"2.0\",\"id\":\"s1\",\"error\":{\"code\":-32800,\"message\":\"The client connection has been closed.\"}}"),
+				toStrings(server));
+
+		// Requests of the server fail without client connections
+		server.clear();
+		router.consume(raw("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"bar\"}"));
+		assertEquals(List.of("{\"jsonrpc\":\"2.0\",\"id\":2,\"error\":{\"code\":-32803,\"message\":\"No client connection for request: bar\"}}"),
+				toStrings(server));
+	}
+
+	@Test
+	public void testPassthroughStreams() {
+		String content = "{\"jsonrpc\":\"2.0\", \"id\": 7, \"method\":\"foo\", \"params\": {\"text\": \"\\u00e4 ö\"}}";
+		String input = "Content-Length: " + content.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n" + content;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		MessageRouter router = new MessageRouter(new StreamMessageConsumer(output, null));
+		MessageRouter.Connection connection = router.connect(message -> {});
+
+		PassthroughMessageProducer producer = new PassthroughMessageProducer(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+		producer.listen(connection);
+
+		// Only the id is replaced, all other content is sent as it has been received
+		String expected = content.replace("\"id\": 7", "\"id\": 1");
+		assertEquals("Content-Length: " + expected.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n" + expected,
+				output.toString(StandardCharsets.UTF_8));
+	}
+
+	private static List<String> toStrings(List<Message> messages) {
+		List<String> result = new ArrayList<>();
+		for (Message message : messages) {
+			result.add(message.toString());
+		}
+		return result;
+	}
+
+}
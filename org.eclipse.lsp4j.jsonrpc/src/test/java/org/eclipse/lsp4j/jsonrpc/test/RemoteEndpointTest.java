@@ -14,6 +14,7 @@ package org.eclipse.lsp4j.jsonrpc.test;
 import static org.junit.Assert.*;
 
 import java.net.SocketException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -22,20 +23,31 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 
+import org.eclipse.lsp4j.jsonrpc.AdmissionControl;
+import org.eclipse.lsp4j.jsonrpc.AdmissionControl.OverloadPolicy;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.ExecutionPolicy;
 import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
 import org.eclipse.lsp4j.jsonrpc.JsonRpcRequestFuture;
 import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
+import org.eclipse.lsp4j.jsonrpc.MethodExecutors;
 import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
 import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.SupersessionPolicy;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.BatchMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.CancelParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.messages.LazyParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.MessageIssue;
 import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
@@ -46,6 +58,8 @@ import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.google.gson.JsonSyntaxException;
+
 public class RemoteEndpointTest {
 
 	private static final long TIMEOUT = 2000;
@@ -632,4 +646,699 @@ public class RemoteEndpointTest {
 			assertEquals(ResponseErrorCode.RequestCancelled.getValue(), ree.getResponseError().getCode());
 		}
 	}
+
+	@Test
+	public void testRequestTimeout() throws Exception {
+		final var endp = new TestEndpoint();
+		final var messages = new ArrayList<Message>();
+		final var endpoint = new RemoteEndpoint(message -> {
+			synchronized (messages) {
+				messages.add(message);
+			}
+		}, endp);
+		endpoint.setRequestTimeout(Duration.ofMillis(50));
+
+		CompletableFuture<Object> future = endpoint.request("foo", "myparam");
+		String requestId = ((RequestMessage) messages.get(0)).getId();
+		assertEquals("foo", endpoint.resolveMethod(requestId));
+		try {
+			future.get(TIMEOUT, TimeUnit.MILLISECONDS);
+			fail("Expected an ExecutionException.");
+		} catch (ExecutionException exception) {
+			assertTrue(exception.getCause() instanceof TimeoutException);
+		}
+		assertNull(endpoint.resolveMethod(requestId));
+		assertEquals(1, endpoint.getExpiredRequestCount());
+
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (true) {
+			synchronized (messages) {
+				if (messages.size() == 2)
+					break;
+			}
+			if (System.currentTimeMillis() > timeout)
+				fail("Expected a cancel notification.");
+			Thread.sleep(10);
+		}
+		NotificationMessage cancelMessage = (NotificationMessage) messages.get(1);
+		assertEquals("$/cancelRequest", cancelMessage.getMethod());
+		assertEquals(requestId, ((CancelParams) cancelMessage.getParams()).getId());
+	}
+
+	@Test
+	public void testRequestTimeoutPerMethod() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		endpoint.setRequestTimeout(Duration.ofMillis(50));
+		endpoint.setRequestTimeout("bar", Duration.ofMinutes(1));
+		assertEquals(Duration.ofMillis(50), endpoint.getRequestTimeout("foo"));
+		assertEquals(Duration.ofMinutes(1), endpoint.getRequestTimeout("bar"));
+		endpoint.setRequestTimeout("bar", null);
+		assertEquals(Duration.ofMillis(50), endpoint.getRequestTimeout("bar"));
+		endpoint.setRequestTimeout(null);
+		assertNull(endpoint.getRequestTimeout("foo"));
+	}
+
+	@Test
+	public void testResponseBeforeRequestTimeout() throws Exception {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+
+		CompletableFuture<Object> future = endpoint.request("foo", "myparam", Duration.ofMillis(200));
+		endpoint.consume(init(new ResponseMessage(), it -> {
+			it.setId(((RequestMessage) consumer.messages.get(0)).getId());
+			it.setResult("success");
+		}));
+		assertEquals("success", future.get(TIMEOUT, TimeUnit.MILLISECONDS));
+
+		Thread.sleep(500);
+		assertEquals(0, endpoint.getExpiredRequestCount());
+		assertEquals(1, consumer.messages.size());
+	}
+
+	@Test
+	public void testPooledRequestDoesNotBlockReader() throws Exception {
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var endp = new TestEndpoint() {
+			@Override
+			public CompletableFuture<Object> request(String method, Object parameter) {
+				if ("slow".equals(method)) {
+					started.countDown();
+					try {
+						release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return CompletableFuture.completedFuture(method);
+			}
+		};
+		final var messages = Collections.synchronizedList(new ArrayList<Message>());
+		final var endpoint = new RemoteEndpoint(messages::add, endp);
+		endpoint.setExecutionPolicy("slow", ExecutionPolicy.pooled("test"));
+
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("1");
+			it.setMethod("slow");
+		}));
+		assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		// The inline request is handled while the pooled request is still running
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("2");
+			it.setMethod("fast");
+		}));
+		assertEquals(1, messages.size());
+		assertEquals("fast", ((ResponseMessage) messages.get(0)).getResult());
+
+		release.countDown();
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (messages.size() < 2) {
+			if (System.currentTimeMillis() > timeout)
+				fail("Expected a response to the pooled request.");
+			Thread.sleep(10);
+		}
+		assertEquals("slow", ((ResponseMessage) messages.get(1)).getResult());
+	}
+
+	@Test
+	public void testPoolRejectsRequestsWhenFull() throws Exception {
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var endp = new TestEndpoint() {
+			@Override
+			public CompletableFuture<Object> request(String method, Object parameter) {
+				started.countDown();
+				try {
+					release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return CompletableFuture.completedFuture(method);
+			}
+		};
+		final var messages = Collections.synchronizedList(new ArrayList<Message>());
+		final var endpoint = new RemoteEndpoint(messages::add, endp);
+		endpoint.setMethodExecutors(new MethodExecutors(null, 1, 1));
+		endpoint.setExecutionPolicy("slow", ExecutionPolicy.pooled("test"));
+
+		endpoint.consume(request("1", "slow"));
+		assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		// The only thread of the pool is busy and its queue holds the second request
+		endpoint.consume(request("2", "slow"));
+		endpoint.consume(request("3", "slow"));
+		assertEquals(1, messages.size());
+		ResponseMessage rejected = (ResponseMessage) messages.get(0);
+		assertEquals("3", rejected.getId());
+		assertEquals(ResponseErrorCode.ServerCancelled.getValue(), rejected.getError().getCode());
+
+		release.countDown();
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (messages.size() < 3) {
+			if (System.currentTimeMillis() > timeout)
+				fail("Expected responses to the queued requests.");
+			Thread.sleep(10);
+		}
+		assertEquals("slow", ((ResponseMessage) messages.get(2)).getResult());
+	}
+
+	@Test
+	public void testCancelQueuedRequest() throws Exception {
+		final var release = new CountDownLatch(1);
+		final var calledMethods = Collections.synchronizedList(new ArrayList<String>());
+		final var endp = new TestEndpoint() {
+			@Override
+			public CompletableFuture<Object> request(String method, Object parameter) {
+				calledMethods.add(method);
+				try {
+					release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return CompletableFuture.completedFuture(method);
+			}
+		};
+		final var messages = Collections.synchronizedList(new ArrayList<Message>());
+		final var endpoint = new RemoteEndpoint(messages::add, endp);
+		endpoint.setExecutionPolicy("foo", ExecutionPolicy.sequential("test"));
+
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("1");
+			it.setMethod("foo");
+		}));
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("2");
+			it.setMethod("foo");
+		}));
+		endpoint.consume(init(new NotificationMessage(), it -> {
+			it.setMethod("$/cancelRequest");
+			it.setParams(init(new CancelParams(), params -> params.setId("2")));
+		}));
+		release.countDown();
+
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (messages.size() < 2) {
+			if (System.currentTimeMillis() > timeout)
+				fail("Expected two responses.");
+			Thread.sleep(10);
+		}
+		Thread.sleep(50);
+		assertEquals(List.of("foo"), calledMethods);
+		for (Message message : messages) {
+			ResponseMessage response = (ResponseMessage) message;
+			if ("2".equals(response.getId()))
+				assertEquals(ResponseErrorCode.RequestCancelled.getValue(), response.getError().getCode());
+			else
+				assertEquals("foo", response.getResult());
+		}
+	}
+
+	@Test
+	public void testSequentialNotificationsKeepOrder() throws Exception {
+		final var notified = new CountDownLatch(100);
+		final var params = Collections.synchronizedList(new ArrayList<Object>());
+		final var endp = new TestEndpoint() {
+			@Override
+			public void notify(String method, Object parameter) {
+				params.add(parameter);
+				notified.countDown();
+			}
+		};
+		final var endpoint = new RemoteEndpoint(new TestMessageConsumer(), endp);
+		endpoint.setExecutionPolicy("didChange", ExecutionPolicy.sequential("documents"));
+		assertEquals(ExecutionPolicy.sequential("documents"), endpoint.getExecutionPolicy("didChange"));
+		assertEquals(ExecutionPolicy.inline(), endpoint.getExecutionPolicy("hover"));
+
+		final var expected = new ArrayList<Object>();
+		for (int i = 0; i < 100; i++) {
+			final int version = i;
+			expected.add(version);
+			endpoint.consume(init(new NotificationMessage(), it -> {
+				it.setMethod("didChange");
+				it.setParams(version);
+			}));
+		}
+		assertTrue(notified.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(expected, params);
+	}
+
+	@Test
+	public void testMessageScheduler() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		final var scheduled = new ArrayList<Runnable>();
+		endpoint.setMessageScheduler((method, parameter) -> "scheduled".equals(parameter) ? scheduled::add : null);
+
+		endpoint.consume(init(new NotificationMessage(), it -> {
+			it.setMethod("foo");
+			it.setParams("scheduled");
+		}));
+		endpoint.consume(init(new NotificationMessage(), it -> {
+			it.setMethod("foo");
+			it.setParams("inline");
+		}));
+		assertEquals(1, scheduled.size());
+		assertEquals(1, endp.notifications.size());
+		assertEquals("inline", endp.notifications.get(0).getParams());
+
+		scheduled.get(0).run();
+		assertEquals(2, endp.notifications.size());
+		assertEquals("scheduled", endp.notifications.get(1).getParams());
+	}
+
+	@Test
+	public void testRequestExecutor() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		final var scheduled = new ArrayList<Runnable>();
+		endpoint.setRequestExecutor(scheduled::add);
+
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("1");
+			it.setMethod("foo");
+		}));
+		endpoint.consume(init(new NotificationMessage(), it -> {
+			it.setMethod("bar");
+		}));
+		// Notifications are not affected by the request executor
+		assertEquals(1, endp.notifications.size());
+		assertTrue(endp.requests.isEmpty());
+		assertEquals(1, scheduled.size());
+
+		scheduled.get(0).run();
+		Entry<RequestMessage, CompletableFuture<Object>> entry = endp.requests.entrySet().iterator().next();
+		assertEquals("foo", entry.getKey().getMethod());
+		entry.getValue().complete("success");
+		assertEquals("success", ((ResponseMessage) consumer.messages.get(0)).getResult());
+	}
+
+	@Test
+	public void testComputeAsyncInRequestExecutor() throws Exception {
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, new Endpoint() {
+			@Override
+			public CompletableFuture<?> request(String method, Object parameter) {
+				return CompletableFutures.computeAsync(cancelChecker -> "computed");
+			}
+
+			@Override
+			public void notify(String method, Object parameter) {
+			}
+		});
+		final var scheduled = new ArrayList<Runnable>();
+		endpoint.setRequestExecutor(scheduled::add);
+
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("1");
+			it.setMethod("foo");
+		}));
+		scheduled.get(0).run();
+		// computeAsync of the request handler runs in the request executor
+		assertEquals(2, scheduled.size());
+		assertTrue(consumer.messages.isEmpty());
+		scheduled.get(1).run();
+		assertEquals("computed", ((ResponseMessage) consumer.messages.get(0)).getResult());
+
+		// computeAsync outside of request handlers is not affected
+		assertEquals("other", CompletableFutures.computeAsync(cancelChecker -> "other").get(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(2, scheduled.size());
+	}
+
+	@Test
+	public void testSupersededRequests() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		// The scope of a parameter "doc:n" is "doc"
+		endpoint.setSupersessionPolicy(new SupersessionPolicy() {
+			@Override
+			public Object getRequestScope(String method, Object parameter) {
+				return "foo".equals(method) ? parameter.toString().split(":")[0] : null;
+			}
+
+			@Override
+			public Object getInvalidatedScope(String method, Object parameter) {
+				return "changed".equals(method) ? parameter : null;
+			}
+		});
+
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("1");
+			it.setMethod("foo");
+			it.setParams("a:1");
+		}));
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("2");
+			it.setMethod("bar");
+			it.setParams("a:2");
+		}));
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("3");
+			it.setMethod("foo");
+			it.setParams("b:3");
+		}));
+		assertTrue(consumer.messages.isEmpty());
+
+		// A newer request with the same method and scope supersedes the first request
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("4");
+			it.setMethod("foo");
+			it.setParams("a:4");
+		}));
+		assertEquals(1, consumer.messages.size());
+		ResponseMessage response = (ResponseMessage) consumer.messages.get(0);
+		assertEquals("1", response.getId());
+		assertEquals(ResponseErrorCode.ContentModified.getValue(), response.getError().getCode());
+		assertEquals(1, endpoint.getSupersededRequestCount());
+
+		// A notification that invalidates the scope supersedes the pending request of that scope
+		endpoint.consume(init(new NotificationMessage(), it -> {
+			it.setMethod("changed");
+			it.setParams("b");
+		}));
+		assertEquals(2, consumer.messages.size());
+		response = (ResponseMessage) consumer.messages.get(1);
+		assertEquals("3", response.getId());
+		assertEquals(ResponseErrorCode.ContentModified.getValue(), response.getError().getCode());
+		assertEquals(2, endpoint.getSupersededRequestCount());
+		assertEquals(1, endp.notifications.size());
+
+		// Completed requests are no longer superseded
+		List<CompletableFuture<Object>> futures = new ArrayList<>(endp.requests.values());
+		futures.get(1).complete("bar");
+		futures.get(3).complete("foo");
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("5");
+			it.setMethod("foo");
+			it.setParams("a:5");
+		}));
+		assertEquals(4, consumer.messages.size());
+		assertEquals("bar", ((ResponseMessage) consumer.messages.get(2)).getResult());
+		assertEquals("foo", ((ResponseMessage) consumer.messages.get(3)).getResult());
+		assertEquals(2, endpoint.getSupersededRequestCount());
+	}
+
+	@Test
+	public void testSupersededRequestInExecutor() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		final var scheduled = new ArrayList<Runnable>();
+		endpoint.setRequestExecutor(scheduled::add);
+		endpoint.setSupersessionPolicy(new SupersessionPolicy() {
+			@Override
+			public Object getRequestScope(String method, Object parameter) {
+				return "doc";
+			}
+
+			@Override
+			public Object getInvalidatedScope(String method, Object parameter) {
+				return null;
+			}
+		});
+
+		endpoint.consume(request("1", "foo"));
+		endpoint.consume(request("2", "foo"));
+
+		// The first request is answered with ContentModified before it is started, and is not cancelled by the client
+		assertEquals(1, consumer.messages.size());
+		ResponseMessage response = (ResponseMessage) consumer.messages.get(0);
+		assertEquals("1", response.getId());
+		assertEquals(ResponseErrorCode.ContentModified.getValue(), response.getError().getCode());
+		assertEquals(1, endpoint.getSupersededRequestCount());
+
+		// A cancel notification of the client is still answered with RequestCancelled
+		endpoint.consume(init(new NotificationMessage(), it -> {
+			it.setMethod(MessageJsonHandler.CANCEL_METHOD.getMethodName());
+			it.setParams(init(new CancelParams(), params -> params.setId("2")));
+		}));
+		assertEquals(2, consumer.messages.size());
+		response = (ResponseMessage) consumer.messages.get(1);
+		assertEquals("2", response.getId());
+		assertEquals(ResponseErrorCode.RequestCancelled.getValue(), response.getError().getCode());
+		scheduled.forEach(Runnable::run);
+		assertTrue(endp.requests.isEmpty());
+	}
+
+	private static RequestMessage request(String id, String method) {
+		return init(new RequestMessage(), it -> {
+			it.setId(id);
+			it.setMethod(method);
+			it.setParams(id);
+		});
+	}
+
+	@Test
+	public void testAdmissionControlRejects() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		final var admission = new AdmissionControl(3).setMaxRequests("foo", 2);
+		endpoint.setAdmissionControl(admission);
+
+		endpoint.consume(request("1", "foo"));
+		endpoint.consume(request("2", "foo"));
+		// The limit of the method is reached
+		endpoint.consume(request("3", "foo"));
+		endpoint.consume(request("4", "bar"));
+		// The overall limit is reached
+		endpoint.consume(request("5", "bar"));
+		assertEquals(3, endp.requests.size());
+		assertEquals(3, admission.getPendingCount());
+		assertEquals(2, admission.getRejectedCount());
+		assertEquals(2, consumer.messages.size());
+		ResponseMessage rejected = (ResponseMessage) consumer.messages.get(0);
+		assertEquals("3", rejected.getId());
+		assertEquals(ResponseErrorCode.ServerCancelled.getValue(), rejected.getError().getCode());
+		assertEquals("5", ((ResponseMessage) consumer.messages.get(1)).getId());
+
+		// Completed requests make room for new requests
+		endp.requests.values().iterator().next().complete("result");
+		assertEquals(2, admission.getPendingCount());
+		assertEquals(1, admission.getPendingCount("foo"));
+		endpoint.consume(request("6", "foo"));
+		assertEquals(4, endp.requests.size());
+		assertEquals(2, admission.getRejectedCount());
+	}
+
+	@Test
+	public void testAdmissionControlDropsOldest() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		final var admission = new AdmissionControl(3)
+				.setMaxRequests("foo", 2)
+				.setOverloadPolicy(OverloadPolicy.DROP_OLDEST)
+				.setRejectionCode(ResponseErrorCode.ContentModified);
+		endpoint.setAdmissionControl(admission);
+
+		endpoint.consume(request("1", "bar"));
+		endpoint.consume(request("2", "foo"));
+		endpoint.consume(request("3", "foo"));
+		// The oldest request of the same method makes room
+		endpoint.consume(request("4", "foo"));
+		assertEquals(1, consumer.messages.size());
+		ResponseMessage dropped = (ResponseMessage) consumer.messages.get(0);
+		assertEquals("2", dropped.getId());
+		assertEquals(ResponseErrorCode.ContentModified.getValue(), dropped.getError().getCode());
+
+		// The oldest request of any method makes room when the overall limit is reached
+		endpoint.consume(request("5", "baz"));
+		assertEquals(2, consumer.messages.size());
+		assertEquals("1", ((ResponseMessage) consumer.messages.get(1)).getId());
+		assertEquals(5, endp.requests.size());
+		assertEquals(3, admission.getPendingCount());
+		assertEquals(2, admission.getDroppedCount());
+		assertEquals(0, admission.getRejectedCount());
+		List<CompletableFuture<Object>> futures = new ArrayList<>(endp.requests.values());
+		assertTrue(futures.get(0).isCancelled());
+		assertTrue(futures.get(1).isCancelled());
+		assertFalse(futures.get(2).isDone());
+	}
+
+	@Test
+	public void testAdmissionControlDuplicateId() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		final var admission = new AdmissionControl(0).setMaxRequests("foo", 2);
+		endpoint.setAdmissionControl(admission);
+
+		endpoint.consume(request("1", "foo"));
+		endpoint.consume(request("1", "foo"));
+		assertEquals(1, endp.requests.size());
+		assertEquals(1, admission.getPendingCount("foo"));
+		assertEquals(0, admission.getRejectedCount());
+		ResponseMessage rejected = (ResponseMessage) consumer.messages.get(0);
+		assertEquals("1", rejected.getId());
+		assertEquals(ResponseErrorCode.InvalidRequest.getValue(), rejected.getError().getCode());
+
+		// The admission of the pending request is released when it is complete
+		endp.requests.values().iterator().next().complete("result");
+		assertEquals(0, admission.getPendingCount("foo"));
+		assertEquals(0, admission.getPendingCount());
+	}
+
+	@Test
+	public void testBatch() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+
+		final var notification = init(new NotificationMessage(), it -> it.setMethod("bar"));
+		endpoint.consume(new BatchMessage(List.of(request("1", "foo"), notification, request("2", "foo"))));
+		assertEquals(2, endp.requests.size());
+		assertEquals(1, endp.notifications.size());
+
+		// The responses are sent in a single batch when all of them are available
+		List<CompletableFuture<Object>> futures = new ArrayList<>(endp.requests.values());
+		futures.get(1).complete("second");
+		assertTrue(consumer.messages.isEmpty());
+		futures.get(0).complete("first");
+		assertEquals(1, consumer.messages.size());
+		List<Message> responses = ((BatchMessage) consumer.messages.get(0)).getMessages();
+		assertEquals(2, responses.size());
+		assertEquals("2", ((ResponseMessage) responses.get(0)).getId());
+		assertEquals("second", ((ResponseMessage) responses.get(0)).getResult());
+		assertEquals("1", ((ResponseMessage) responses.get(1)).getId());
+		assertEquals("first", ((ResponseMessage) responses.get(1)).getResult());
+
+		// Later requests with the same id are answered on their own
+		endpoint.consume(request("1", "baz"));
+		endp.requests.values().stream().skip(2).findFirst().get().complete("third");
+		assertEquals(2, consumer.messages.size());
+		assertEquals("third", ((ResponseMessage) consumer.messages.get(1)).getResult());
+	}
+
+	@Test
+	public void testBatchOfNotifications() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+
+		endpoint.consume(new BatchMessage(List.of(
+				init(new NotificationMessage(), it -> it.setMethod("foo")),
+				init(new NotificationMessage(), it -> it.setMethod("bar")))));
+		assertEquals(2, endp.notifications.size());
+		assertTrue(consumer.messages.isEmpty());
+	}
+
+	@Test
+	public void testBatchIssues() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+
+		final var batch = new BatchMessage(new ArrayList<>(List.of(request("1", "foo"))));
+		batch.addIssue(new MessageIssueException(request("2", "foo"), new MessageIssue("Invalid params.", ResponseErrorCode.InvalidParams.getValue())));
+		batch.addIssue(new MessageIssueException(null, new MessageIssue("Invalid request.", ResponseErrorCode.InvalidRequest.getValue())));
+		endpoint.handle(batch, List.of(new MessageIssue("Invalid params.")));
+		assertEquals(1, endp.requests.size());
+		assertTrue(consumer.messages.isEmpty());
+
+		endp.requests.values().iterator().next().complete("success");
+		assertEquals(1, consumer.messages.size());
+		List<Message> responses = ((BatchMessage) consumer.messages.get(0)).getMessages();
+		assertEquals(3, responses.size());
+		ResponseMessage anonymous = (ResponseMessage) responses.get(0);
+		assertNull(anonymous.getRawId());
+		assertEquals(ResponseErrorCode.InvalidRequest.getValue(), anonymous.getError().getCode());
+		ResponseMessage invalid = (ResponseMessage) responses.get(1);
+		assertEquals("2", invalid.getId());
+		assertEquals(ResponseErrorCode.InvalidParams.getValue(), invalid.getError().getCode());
+		assertEquals("success", ((ResponseMessage) responses.get(2)).getResult());
+	}
+
+	@Test
+	public void testEmptyBatch() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+
+		endpoint.handle(new BatchMessage(), List.of(new MessageIssue("Batch must not be empty.", ResponseErrorCode.InvalidRequest.getValue())));
+		assertEquals(1, consumer.messages.size());
+		ResponseMessage response = (ResponseMessage) consumer.messages.get(0);
+		assertNull(response.getRawId());
+		assertEquals("Batch must not be empty.", response.getError().getMessage());
+	}
+
+	@Test
+	public void testSendBatch() throws Exception {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+
+		RemoteEndpoint.Batch batch = endpoint.newBatch();
+		JsonRpcRequestFuture<Object> first = batch.request("foo", "a");
+		batch.notify("bar", "b");
+		JsonRpcRequestFuture<Object> cancelled = batch.request("foo", "c");
+		cancelled.cancel(true);
+		assertEquals(3, batch.size());
+		batch.send();
+		assertThrows(IllegalStateException.class, batch::send);
+
+		// The cancelled request is left out
+		assertEquals(1, consumer.messages.size());
+		List<Message> messages = ((BatchMessage) consumer.messages.get(0)).getMessages();
+		assertEquals(2, messages.size());
+		RequestMessage request = (RequestMessage) messages.get(0);
+		assertEquals("foo", request.getMethod());
+		assertEquals("bar", ((NotificationMessage) messages.get(1)).getMethod());
+
+		endpoint.consume(new BatchMessage(List.of(init(new ResponseMessage(), it -> {
+			it.setId(request.getId());
+			it.setResult("result");
+		}))));
+		assertEquals("result", first.get(TIMEOUT, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void testLazyParamsOfCancelledRequest() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+		final var tasks = new ArrayList<Runnable>();
+		endpoint.setRequestExecutor(tasks::add);
+
+		final var params = new LazyParams("\"myparam\"", null, () -> "myparam");
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("1");
+			it.setMethod("foo");
+			it.setParams(params);
+		}));
+		endpoint.consume(init(new NotificationMessage(), it -> {
+			it.setMethod("$/cancelRequest");
+			it.setParams(init(new CancelParams(), cancelParams -> cancelParams.setId("1")));
+		}));
+		tasks.forEach(Runnable::run);
+
+		// The parameters of the cancelled request have not been converted
+		assertFalse(params.isDecoded());
+		assertTrue(endp.requests.isEmpty());
+		ResponseMessage response = (ResponseMessage) consumer.messages.get(0);
+		assertEquals(ResponseErrorCode.RequestCancelled.getValue(), response.getError().getCode());
+	}
+
+	@Test
+	public void testLazyParamsParseError() {
+		final var endp = new TestEndpoint();
+		final var consumer = new TestMessageConsumer();
+		final var endpoint = new RemoteEndpoint(consumer, endp);
+
+		endpoint.consume(init(new RequestMessage(), it -> {
+			it.setId("1");
+			it.setMethod("foo");
+			it.setParams(new LazyParams("{}", null, () -> {
+				throw new JsonSyntaxException("Expected a string but was BEGIN_OBJECT");
+			}));
+		}));
+
+		assertTrue(endp.requests.isEmpty());
+		ResponseMessage response = (ResponseMessage) consumer.messages.get(0);
+		assertEquals(ResponseErrorCode.ParseError.getValue(), response.getError().getCode());
+	}
 }
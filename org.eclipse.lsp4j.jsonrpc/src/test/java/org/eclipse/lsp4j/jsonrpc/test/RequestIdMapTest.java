@@ -0,0 +1,139 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.jsonrpc.RequestIdMap;
+import org.junit.Test;
+
+public class RequestIdMapTest {
+
+	@Test
+	public void testNumericIds() {
+		RequestIdMap<String> map = new RequestIdMap<>();
+		map.put("1", "a");
+		map.put("2", "b");
+		assertEquals("a", map.get("1"));
+		assertEquals("b", map.get("2"));
+		assertNull(map.get("3"));
+		assertEquals("a", map.remove("1"));
+		assertNull(map.get("1"));
+		assertNull(map.remove("1"));
+		assertEquals("b", map.get("2"));
+	}
+
+	@Test
+	public void testStringIds() {
+		RequestIdMap<String> map = new RequestIdMap<>();
+		map.put("foo", "a");
+		map.put("01", "b");
+		map.put("-1", "c");
+		map.put("12345678901234567890", "d");
+		map.put(null, "e");
+		map.put("1", "f");
+		assertEquals("a", map.get("foo"));
+		assertEquals("b", map.get("01"));
+		assertEquals("c", map.get("-1"));
+		assertEquals("d", map.get("12345678901234567890"));
+		assertEquals("e", map.get(null));
+		assertEquals("f", map.get("1"));
+		assertEquals("b", map.remove("01"));
+		assertEquals("e", map.remove(null));
+		assertNull(map.get("01"));
+		assertNull(map.get(null));
+		assertEquals("f", map.get("1"));
+	}
+
+	@Test
+	public void testReplace() {
+		RequestIdMap<String> map = new RequestIdMap<>();
+		map.put("1", "a");
+		map.put("1", "b");
+		assertEquals("b", map.remove("1"));
+		assertNull(map.get("1"));
+	}
+
+	@Test
+	public void testSlotCollision() {
+		RequestIdMap<String> map = new RequestIdMap<>(4);
+		for (int i = 0; i < 10; i++) {
+			map.put(String.valueOf(i), "v" + i);
+		}
+		for (int i = 0; i < 10; i++) {
+			assertEquals("v" + i, map.get(String.valueOf(i)));
+		}
+		assertEquals("v1", map.remove("1"));
+		assertEquals("v5", map.get("5"));
+		assertEquals("v5", map.remove("5"));
+		assertEquals("v9", map.get("9"));
+		map.put("13", "v13");
+		assertEquals("v13", map.get("13"));
+		assertEquals("v9", map.remove("9"));
+		for (int i : new int[] { 0, 2, 3, 4, 6, 7, 8 }) {
+			assertEquals("v" + i, map.remove(String.valueOf(i)));
+		}
+		assertEquals("v13", map.remove("13"));
+		for (int i = 0; i < 14; i++) {
+			assertNull(map.get(String.valueOf(i)));
+		}
+	}
+
+	@Test
+	public void testRemoveAll() {
+		RequestIdMap<String> map = new RequestIdMap<>(4);
+		for (int i = 0; i < 6; i++) {
+			map.put(String.valueOf(i), "v" + i);
+		}
+		map.put("foo", "a");
+		List<String> values = map.removeAll();
+		values.sort(null);
+		assertEquals(List.of("a", "v0", "v1", "v2", "v3", "v4", "v5"), values);
+		assertNull(map.get("1"));
+		assertNull(map.get("5"));
+		assertNull(map.get("foo"));
+		assertTrue(map.removeAll().isEmpty());
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		RequestIdMap<Integer> map = new RequestIdMap<>(64);
+		AtomicInteger nextId = new AtomicInteger();
+		AtomicInteger failures = new AtomicInteger();
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 10000; i++) {
+					int id = nextId.incrementAndGet();
+					map.put(String.valueOf(id), id);
+					Integer value = map.get(String.valueOf(id));
+					if (value == null || value != id)
+						failures.incrementAndGet();
+					value = map.remove(String.valueOf(id));
+					if (value == null || value != id)
+						failures.incrementAndGet();
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, failures.get());
+	}
+
+}
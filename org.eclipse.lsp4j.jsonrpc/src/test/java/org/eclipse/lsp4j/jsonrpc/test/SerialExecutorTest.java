@@ -0,0 +1,174 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.eclipse.lsp4j.jsonrpc.util.SerialExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SerialExecutorTest {
+
+	private static final long TIMEOUT = 2000;
+
+	private ExecutorService pool;
+
+	@Before
+	public void setup() {
+		pool = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void teardown() {
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void testOrder() throws Exception {
+		SerialExecutor executor = new SerialExecutor(pool);
+		List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(1000);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			final int value = i;
+			expected.add(value);
+			executor.execute(() -> {
+				result.add(value);
+				latch.countDown();
+			});
+		}
+		assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(expected, result);
+	}
+
+	@Test
+	public void testOneTaskAtATime() throws Exception {
+		SerialExecutor executor = new SerialExecutor(pool);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger overlaps = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(200);
+		for (int i = 0; i < 200; i++) {
+			pool.execute(() -> executor.execute(() -> {
+				if (running.incrementAndGet() > 1)
+					overlaps.incrementAndGet();
+				Thread.yield();
+				running.decrementAndGet();
+				latch.countDown();
+			}));
+		}
+		assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(0, overlaps.get());
+	}
+
+	@Test
+	public void testExceptionDoesNotStopExecutor() throws Exception {
+		final var logMessages = new LogMessageAccumulator();
+		try {
+			// Don't show the exception in the test execution log
+			logMessages.registerTo(SerialExecutor.class);
+
+			SerialExecutor executor = new SerialExecutor(pool);
+			CountDownLatch latch = new CountDownLatch(1);
+			executor.execute(() -> {
+				throw new IllegalStateException("Test exception");
+			});
+			executor.execute(latch::countDown);
+			assertTrue(latch.await(TIMEOUT, TimeUnit.MILLISECONDS));
+			assertNotNull(logMessages.findRecord(Level.SEVERE, "A task of a serial executor threw an exception."));
+		} finally {
+			logMessages.unregister();
+		}
+	}
+
+	@Test
+	public void testRejectedTask() {
+		List<Runnable> scheduled = new ArrayList<>();
+		boolean[] reject = { true };
+		SerialExecutor executor = new SerialExecutor(task -> {
+			if (reject[0])
+				throw new RejectedExecutionException();
+			scheduled.add(task);
+		});
+		List<String> result = new ArrayList<>();
+		try {
+			executor.execute(() -> result.add("rejected"));
+			fail("Expected a RejectedExecutionException");
+		} catch (RejectedExecutionException e) {
+			// expected
+		}
+		assertTrue(executor.isIdle());
+
+		// The executor is not stuck after a rejection
+		reject[0] = false;
+		executor.execute(() -> result.add("accepted"));
+		assertEquals(1, scheduled.size());
+		scheduled.get(0).run();
+		assertEquals(List.of("accepted"), result);
+		assertTrue(executor.isIdle());
+	}
+
+	@Test
+	public void testRejectedTaskWithConcurrentTask() {
+		List<String> result = new ArrayList<>();
+		SerialExecutor[] executor = new SerialExecutor[1];
+		executor[0] = new SerialExecutor(task -> {
+			// Another task is added while the first one is handed to the underlying executor
+			executor[0].execute(() -> result.add("concurrent"));
+			throw new RejectedExecutionException();
+		});
+		try {
+			executor[0].execute(() -> result.add("rejected"));
+			fail("Expected a RejectedExecutionException");
+		} catch (RejectedExecutionException e) {
+			// expected
+		}
+		assertEquals(List.of("concurrent"), result);
+		assertTrue(executor[0].isIdle());
+	}
+
+	@Test
+	public void testRejectedContinuation() {
+		List<Runnable> scheduled = new ArrayList<>();
+		Executor rejectAfterFirst = task -> {
+			if (!scheduled.isEmpty())
+				throw new RejectedExecutionException();
+			scheduled.add(task);
+		};
+		SerialExecutor executor = new SerialExecutor(rejectAfterFirst);
+		List<Integer> result = new ArrayList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			final int value = i;
+			expected.add(value);
+			executor.execute(() -> result.add(value));
+		}
+		assertEquals(1, scheduled.size());
+		scheduled.get(0).run();
+		assertEquals(expected, result);
+		assertTrue(executor.isIdle());
+	}
+
+}
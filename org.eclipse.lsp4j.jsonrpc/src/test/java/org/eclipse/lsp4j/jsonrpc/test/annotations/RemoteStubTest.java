@@ -0,0 +1,153 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.annotations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.services.EndpointStub;
+import org.eclipse.lsp4j.jsonrpc.services.JsonDelegate;
+import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
+import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.eclipse.lsp4j.jsonrpc.test.LogMessageAccumulator;
+import org.junit.Test;
+
+public class RemoteStubTest {
+
+	private static final long TIMEOUT = 2000;
+
+	@RemoteStub
+	@JsonSegment("stubbed")
+	public interface Stubbed {
+		@JsonRequest CompletableFuture<String> doStuff(String arg);
+
+		@JsonRequest CompletableFuture<Void> shutdown();
+
+		@JsonNotification void myNotification(String someArg, Integer someArg2);
+
+		@JsonNotification(value = "custom/exit", useSegment = false) void exit();
+
+		@JsonDelegate StubbedDelegate getDelegate();
+
+		default String getDefault() {
+			return "default";
+		}
+	}
+
+	@RemoteStub
+	public interface StubbedDelegate {
+		@JsonNotification("hubba") void myNotification(String someArg);
+	}
+
+	@RemoteStub
+	public interface WithoutStubClass {
+		@JsonNotification void myNotification(String someArg);
+	}
+
+	private static class RecordingEndpoint implements Endpoint {
+
+		final List<String> messages = new ArrayList<>();
+
+		@Override
+		public CompletableFuture<?> request(String method, Object parameter) {
+			messages.add(method + " " + parameter);
+			return CompletableFuture.completedFuture("result");
+		}
+
+		@Override
+		public void notify(String method, Object parameter) {
+			messages.add(method + " " + parameter);
+		}
+	}
+
+	@Test
+	public void testStub() throws Exception {
+		RecordingEndpoint endpoint = new RecordingEndpoint();
+		Stubbed stubbed = ServiceEndpoints.toServiceObject(endpoint, Stubbed.class);
+		assertTrue(stubbed instanceof EndpointStub);
+
+		assertEquals("result", stubbed.doStuff("param").get(TIMEOUT, TimeUnit.MILLISECONDS));
+		stubbed.shutdown();
+		stubbed.myNotification("notificationParam", 1);
+		stubbed.exit();
+		assertEquals(Arrays.asList(
+				"stubbed/doStuff param",
+				"stubbed/shutdown null",
+				"stubbed/myNotification [notificationParam, 1]",
+				"custom/exit null"), endpoint.messages);
+		assertEquals("default", stubbed.getDefault());
+	}
+
+	@Test
+	public void testDelegate() throws Exception {
+		RecordingEndpoint endpoint = new RecordingEndpoint();
+		Stubbed stubbed = ServiceEndpoints.toServiceObject(endpoint, Stubbed.class);
+		StubbedDelegate delegate = stubbed.getDelegate();
+		assertTrue(delegate instanceof EndpointStub);
+		assertSame(delegate, stubbed.getDelegate());
+
+		delegate.myNotification("notificationParam");
+		assertEquals(Arrays.asList("hubba notificationParam"), endpoint.messages);
+	}
+
+	@Test
+	public void testEndpoint() throws Exception {
+		RecordingEndpoint endpoint = new RecordingEndpoint();
+		Endpoint stubbed = (Endpoint) ServiceEndpoints.toServiceObject(endpoint, Stubbed.class);
+		stubbed.notify("generic", null);
+		assertEquals("result", stubbed.request("generic", "param").get(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(Arrays.asList("generic null", "generic param"), endpoint.messages);
+	}
+
+	@Test
+	public void testMissingStubClass() throws Exception {
+		RecordingEndpoint endpoint = new RecordingEndpoint();
+		LogMessageAccumulator logMessages = new LogMessageAccumulator();
+		WithoutStubClass proxy;
+		try {
+			logMessages.registerTo(ServiceEndpoints.class);
+			proxy = ServiceEndpoints.toServiceObject(endpoint, WithoutStubClass.class);
+		} finally {
+			logMessages.unregister();
+		}
+		assertTrue(Proxy.isProxyClass(proxy.getClass()));
+		// A missing stub is expected if the annotation processor has not been run
+		LogRecord record = logMessages.getRecords().get(0);
+		assertEquals(Level.FINE, record.getLevel());
+		assertNull(record.getThrown());
+
+		proxy.myNotification("notificationParam");
+		assertEquals(Arrays.asList("myNotification notificationParam"), endpoint.messages);
+	}
+
+	@Test
+	public void testStubClassName() {
+		assertEquals("org.eclipse.lsp4j.jsonrpc.test.annotations.RemoteStubTest_StubbedRemoteStub",
+				ServiceEndpoints.getStubClassName(Stubbed.class));
+	}
+
+}
@@ -0,0 +1,31 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.annotations;
+
+/**
+ * Calls the JSON-RPC methods of {@link org.eclipse.lsp4j.jsonrpc.test.annotations.RemoteStubTest.StubbedDelegate} on an endpoint.
+ * <p>
+ * The output of the {@code RemoteStubProcessor} of the LSP4J generator, which does not run for these tests.
+ */
+@SuppressWarnings({ "unchecked", "deprecation" })
+public final class RemoteStubTest_StubbedDelegateRemoteStub extends org.eclipse.lsp4j.jsonrpc.services.EndpointStub implements org.eclipse.lsp4j.jsonrpc.test.annotations.RemoteStubTest.StubbedDelegate {
+
+	public RemoteStubTest_StubbedDelegateRemoteStub(org.eclipse.lsp4j.jsonrpc.Endpoint delegate) {
+		super(delegate);
+	}
+
+	@Override
+	public void myNotification(java.lang.String someArg) {
+		this.delegate.notify("hubba", someArg);
+	}
+
+}
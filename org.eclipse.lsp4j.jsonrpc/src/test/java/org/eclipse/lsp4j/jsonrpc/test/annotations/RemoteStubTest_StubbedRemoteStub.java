@@ -0,0 +1,54 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.annotations;
+
+/**
+ * Calls the JSON-RPC methods of {@link org.eclipse.lsp4j.jsonrpc.test.annotations.RemoteStubTest.Stubbed} on an endpoint.
+ * <p>
+ * The output of the {@code RemoteStubProcessor} of the LSP4J generator, which does not run for these tests.
+ */
+@SuppressWarnings({ "unchecked", "deprecation" })
+public final class RemoteStubTest_StubbedRemoteStub extends org.eclipse.lsp4j.jsonrpc.services.EndpointStub implements org.eclipse.lsp4j.jsonrpc.test.annotations.RemoteStubTest.Stubbed {
+
+	private final org.eclipse.lsp4j.jsonrpc.test.annotations.RemoteStubTest.StubbedDelegate getDelegateStub;
+
+	public RemoteStubTest_StubbedRemoteStub(org.eclipse.lsp4j.jsonrpc.Endpoint delegate) {
+		super(delegate);
+		this.getDelegateStub = org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints.toServiceObject(delegate, org.eclipse.lsp4j.jsonrpc.test.annotations.RemoteStubTest.StubbedDelegate.class);
+	}
+
+	@Override
+	public org.eclipse.lsp4j.jsonrpc.test.annotations.RemoteStubTest.StubbedDelegate getDelegate() {
+		return this.getDelegateStub;
+	}
+
+	@Override
+	public java.util.concurrent.CompletableFuture<java.lang.String> doStuff(java.lang.String arg) {
+		return (java.util.concurrent.CompletableFuture<java.lang.String>) this.delegate.request("stubbed/doStuff", arg);
+	}
+
+	@Override
+	public java.util.concurrent.CompletableFuture<java.lang.Void> shutdown() {
+		return (java.util.concurrent.CompletableFuture<java.lang.Void>) this.delegate.request("stubbed/shutdown", null);
+	}
+
+	@Override
+	public void myNotification(java.lang.String someArg, java.lang.Integer someArg2) {
+		this.delegate.notify("stubbed/myNotification", java.util.Arrays.asList(someArg, someArg2));
+	}
+
+	@Override
+	public void exit() {
+		this.delegate.notify("custom/exit", null);
+	}
+
+}
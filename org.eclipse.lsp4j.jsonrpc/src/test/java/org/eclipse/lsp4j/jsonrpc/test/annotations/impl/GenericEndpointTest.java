@@ -11,11 +11,14 @@
  ******************************************************************************/
 package org.eclipse.lsp4j.jsonrpc.test.annotations.impl;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 
+import org.eclipse.lsp4j.jsonrpc.ExecutionPolicy;
 import org.eclipse.lsp4j.jsonrpc.services.GenericEndpoint;
 import org.eclipse.lsp4j.jsonrpc.services.JsonDelegate;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
@@ -87,6 +90,32 @@ public class GenericEndpointTest {
 		@JsonNotification void myNotification();
 	}
 
+	public static class Scheduled {
+
+		@JsonNotification(execution = ExecutionPolicy.Kind.SEQUENTIAL, executor = "documents")
+		public void didChange() {
+		}
+
+		@JsonRequest(execution = ExecutionPolicy.Kind.POOLED, executor = "queries")
+		public CompletableFuture<String> hover() {
+			return CompletableFuture.completedFuture("hover");
+		}
+
+		@JsonRequest
+		public CompletableFuture<String> shutdown() {
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	@Test
+	public void testExecutionPolicies() {
+		GenericEndpoint endpoint = new GenericEndpoint(new Scheduled());
+		Assert.assertEquals(ExecutionPolicy.sequential("documents"), endpoint.getExecutionPolicy("didChange"));
+		Assert.assertEquals(ExecutionPolicy.pooled("queries"), endpoint.getExecutionPolicy("hover"));
+		Assert.assertEquals(ExecutionPolicy.inline(), endpoint.getExecutionPolicy("shutdown"));
+		Assert.assertEquals(ExecutionPolicy.inline(), endpoint.getExecutionPolicy("unknown"));
+	}
+
 	@Test
 	public void testSimple() {
 		Foo foo = new Foo();
@@ -331,4 +360,76 @@ public class GenericEndpointTest {
 		}
 	}
 
+	public static class Throwing {
+
+		@JsonRequest
+		public CompletableFuture<String> noParams() {
+			throw new UnsupportedOperationException("noParams");
+		}
+
+		@JsonRequest
+		public CompletableFuture<String> oneParam(String value) {
+			throw new UnsupportedOperationException(value);
+		}
+
+		@JsonRequest
+		public CompletableFuture<String> twoParams(String value, Integer count) {
+			throw new UnsupportedOperationException(value + count);
+		}
+
+		@JsonNotification
+		public void checked(String value) throws IOException {
+			throw new IOException(value);
+		}
+	}
+
+	@Test
+	public void testExceptionsAreNotWrapped() {
+		GenericEndpoint endpoint = new GenericEndpoint(new Throwing());
+		try {
+			endpoint.request("noParams", null);
+			Assert.fail();
+		} catch (UnsupportedOperationException e) {
+			Assert.assertEquals("noParams", e.getMessage());
+		}
+		try {
+			endpoint.request("oneParam", "foo");
+			Assert.fail();
+		} catch (UnsupportedOperationException e) {
+			Assert.assertEquals("foo", e.getMessage());
+		}
+		try {
+			endpoint.request("twoParams", Arrays.asList("foo", 1));
+			Assert.fail();
+		} catch (UnsupportedOperationException e) {
+			Assert.assertEquals("foo1", e.getMessage());
+		}
+		try {
+			endpoint.notify("checked", "bar");
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			Assert.assertTrue(e.getCause() instanceof IOException);
+			Assert.assertEquals("bar", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void testOverriddenGetArguments() throws Exception {
+		GenericEndpoint endpoint = new GenericEndpoint(new Object() {
+
+			@JsonRequest
+			public CompletableFuture<String> getStringValue(String stringValue) {
+				return CompletableFuture.completedFuture(stringValue);
+			}
+
+		}) {
+			@Override
+			protected Object[] getArguments(Method method, Object arg) {
+				return new Object[] { "converted " + arg };
+			}
+		};
+
+		Assert.assertEquals("converted foo", endpoint.request("getStringValue", "foo").get());
+	}
+
 }
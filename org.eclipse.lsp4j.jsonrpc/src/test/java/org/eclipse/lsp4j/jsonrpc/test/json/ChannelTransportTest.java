@@ -0,0 +1,466 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousServerSocketChannel;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.jsonrpc.json.AsynchronousChannelMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.AsynchronousChannelMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.ChannelMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.ChannelMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.test.IntegrationTest.MyClient;
+import org.eclipse.lsp4j.jsonrpc.test.IntegrationTest.MyClientImpl;
+import org.eclipse.lsp4j.jsonrpc.test.IntegrationTest.MyParam;
+import org.eclipse.lsp4j.jsonrpc.test.IntegrationTest.MyServer;
+import org.eclipse.lsp4j.jsonrpc.test.IntegrationTest.MyServerImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+
+public class ChannelTransportTest {
+
+	private static final long TIMEOUT = 2000;
+
+	private Level logLevel;
+
+	@Before
+	public void setup() {
+		Logger logger = Logger.getLogger(ChannelMessageProducer.class.getName());
+		logLevel = logger.getLevel();
+		logger.setLevel(Level.SEVERE);
+	}
+
+	@After
+	public void teardown() {
+		Logger logger = Logger.getLogger(ChannelMessageProducer.class.getName());
+		logger.setLevel(logLevel);
+	}
+
+	private static NotificationMessage createNotification(String value) {
+		final var message = new NotificationMessage();
+		message.setMethod("foo");
+		message.setParams(Map.of("value", value));
+		return message;
+	}
+
+	private static String getValue(Message message) {
+		return ((JsonElement) ((NotificationMessage) message).getParams()).getAsJsonObject().get("value").getAsString();
+	}
+
+	/**
+	 * A channel that returns at most three bytes per read operation.
+	 */
+	private static ReadableByteChannel chunkedChannel(byte[] bytes) {
+		ByteBuffer source = ByteBuffer.wrap(bytes);
+		return new ReadableByteChannel() {
+			@Override
+			public int read(ByteBuffer dst) {
+				if (!source.hasRemaining())
+					return -1;
+				int count = Math.min(3, Math.min(dst.remaining(), source.remaining()));
+				for (int i = 0; i < count; i++) {
+					dst.put(source.get());
+				}
+				return count;
+			}
+
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+
+	@Test
+	public void testChannelProducer() {
+		String large = "x".repeat(20_000);
+		var output = new ByteArrayOutputStream();
+		var consumer = new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()));
+		consumer.consume(createNotification("äöü"));
+		consumer.consume(createNotification(large));
+		consumer.consume(createNotification("😀"));
+
+		List<String> values = new ArrayList<>();
+		var producer = new ChannelMessageProducer(chunkedChannel(output.toByteArray()), new MessageJsonHandler(Collections.emptyMap()));
+		producer.listen(message -> values.add(getValue(message)));
+
+		assertEquals(List.of("äöü", large, "😀"), values);
+	}
+
+	@Test
+	public void testChannelProducerHeaders() {
+		String msg1 = "{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{\"value\":\"äöü\"}}";
+		String msg2 = "{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{\"value\":\"bar\"}}";
+		byte[] bytes1 = msg1.getBytes(StandardCharsets.UTF_16);
+		var input = new ByteArrayOutputStream();
+		input.writeBytes(("X-Custom: 1\r\nContent-Length : " + bytes1.length + "\r\n"
+				+ "Content-Type: application/json; charset=UTF-16\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+		input.writeBytes(bytes1);
+		input.writeBytes("X-Custom: 2\n\n".getBytes(StandardCharsets.US_ASCII));
+		input.writeBytes(("Content-Length: " + msg2.length() + "\n\n" + msg2).getBytes(StandardCharsets.US_ASCII));
+
+		List<String> values = new ArrayList<>();
+		List<String> errors = new ArrayList<>();
+		var producer = new ChannelMessageProducer(chunkedChannel(input.toByteArray()), new MessageJsonHandler(Collections.emptyMap())) {
+			@Override
+			protected void fireError(Throwable error) {
+				errors.add(error.getMessage());
+			}
+		};
+		producer.listen(message -> values.add(getValue(message)));
+
+		assertEquals(List.of("äöü", "bar"), values);
+		assertEquals(List.of("Missing header Content-Length in input \"X-Custom: 2\n\n\""), errors);
+	}
+
+	@Test
+	public void testChannelProducerContentLengthLargerThanInput() {
+		// The buffer must not be allocated for the announced content length, but only for the received content
+		byte[] input = "Content-Length: 2000000000\r\n\r\n{\"jsonrpc\":\"2.0\",\"method\":\"foo\"}".getBytes(StandardCharsets.US_ASCII);
+
+		List<Message> messages = new ArrayList<>();
+		var producer = new ChannelMessageProducer(chunkedChannel(input), new MessageJsonHandler(Collections.emptyMap()));
+		producer.listen(messages::add);
+
+		assertEquals(List.of(), messages);
+	}
+
+	/**
+	 * An asynchronous channel whose read operations never complete and whose write operations are completed
+	 * by the test. If a failure is given, all write operations fail immediately.
+	 */
+	private static class ManualChannel implements AsynchronousByteChannel {
+
+		final ByteArrayOutputStream written = new ByteArrayOutputStream();
+		final Throwable failure;
+		ByteBuffer pendingBuffer;
+		CompletionHandler<Integer, ? super Object> pendingHandler;
+
+		ManualChannel(Throwable failure) {
+			this.failure = failure;
+		}
+
+		@Override
+		public <A> void read(ByteBuffer dst, A attachment, CompletionHandler<Integer, ? super A> handler) {
+		}
+
+		@Override
+		public Future<Integer> read(ByteBuffer dst) {
+			return new CompletableFuture<>();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public synchronized <A> void write(ByteBuffer src, A attachment, CompletionHandler<Integer, ? super A> handler) {
+			if (failure != null) {
+				handler.failed(failure, attachment);
+			} else {
+				pendingBuffer = src;
+				pendingHandler = (CompletionHandler<Integer, ? super Object>) handler;
+			}
+		}
+
+		@Override
+		public Future<Integer> write(ByteBuffer src) {
+			throw new UnsupportedOperationException();
+		}
+
+		void completeWrite() {
+			ByteBuffer buffer;
+			CompletionHandler<Integer, ? super Object> handler;
+			synchronized (this) {
+				buffer = pendingBuffer;
+				handler = pendingHandler;
+				pendingBuffer = null;
+				pendingHandler = null;
+			}
+			int count = buffer.remaining();
+			byte[] bytes = new byte[count];
+			buffer.get(bytes);
+			written.writeBytes(bytes);
+			handler.completed(count, null);
+		}
+
+		synchronized boolean isWriting() {
+			return pendingHandler != null;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	@Test
+	public void testChannelConsumer() {
+		var streamOutput = new ByteArrayOutputStream();
+		var streamConsumer = new StreamMessageConsumer(streamOutput, new MessageJsonHandler(Collections.emptyMap()));
+		var channelOutput = new ByteArrayOutputStream();
+		var channelConsumer = new ChannelMessageConsumer(Channels.newChannel(channelOutput), new MessageJsonHandler(Collections.emptyMap()));
+		for (String value : List.of("foo", "äöü", "x".repeat(20_000), "bar")) {
+			streamConsumer.consume(createNotification(value));
+			channelConsumer.consume(createNotification(value));
+		}
+
+		assertEquals(streamOutput.toString(StandardCharsets.UTF_8), channelOutput.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testSocketChannelLauncher() throws Exception {
+		try (var serverChannel = ServerSocketChannel.open()) {
+			serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			try (var clientChannel = SocketChannel.open(serverChannel.getLocalAddress());
+					var serverSideChannel = serverChannel.accept()) {
+				Launcher<MyClient> serverLauncher = new Launcher.Builder<MyClient>()
+						.setLocalService(new MyServerImpl())
+						.setRemoteInterface(MyClient.class)
+						.setChannel(serverSideChannel)
+						.create();
+				Launcher<MyServer> clientLauncher = new Launcher.Builder<MyServer>()
+						.setLocalService(new MyClientImpl())
+						.setRemoteInterface(MyServer.class)
+						.setChannel(clientChannel)
+						.create();
+				Future<Void> serverListening = serverLauncher.startListening();
+				Future<Void> clientListening = clientLauncher.startListening();
+
+				assertRoundTrips(clientLauncher.getRemoteProxy(), serverLauncher.getRemoteProxy());
+
+				serverListening.cancel(true);
+				clientListening.cancel(true);
+			}
+		}
+	}
+
+	@Test
+	public void testAsynchronousSocketChannelLauncher() throws Exception {
+		try (var serverChannel = AsynchronousServerSocketChannel.open()) {
+			serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			Future<AsynchronousSocketChannel> accepted = serverChannel.accept();
+			try (var clientChannel = AsynchronousSocketChannel.open()) {
+				clientChannel.connect(serverChannel.getLocalAddress()).get(TIMEOUT, TimeUnit.MILLISECONDS);
+				try (var serverSideChannel = accepted.get(TIMEOUT, TimeUnit.MILLISECONDS)) {
+					Launcher<MyClient> serverLauncher = new Launcher.Builder<MyClient>()
+							.setLocalService(new MyServerImpl())
+							.setRemoteInterface(MyClient.class)
+							.setChannel(serverSideChannel)
+							.create();
+					Launcher<MyServer> clientLauncher = new Launcher.Builder<MyServer>()
+							.setLocalService(new MyClientImpl())
+							.setRemoteInterface(MyServer.class)
+							.setChannel(clientChannel)
+							.create();
+					Future<Void> serverListening = serverLauncher.startListening();
+					clientLauncher.startListening();
+
+					assertRoundTrips(clientLauncher.getRemoteProxy(), serverLauncher.getRemoteProxy());
+
+					// Closing the client side terminates the server listener
+					clientChannel.close();
+					serverListening.get(TIMEOUT, TimeUnit.MILLISECONDS);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testAsynchronousProducerEndOfInput() throws Exception {
+		try (var serverChannel = AsynchronousServerSocketChannel.open()) {
+			serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			Future<AsynchronousSocketChannel> accepted = serverChannel.accept();
+			try (var clientChannel = AsynchronousSocketChannel.open()) {
+				clientChannel.connect(serverChannel.getLocalAddress()).get(TIMEOUT, TimeUnit.MILLISECONDS);
+				try (var serverSideChannel = accepted.get(TIMEOUT, TimeUnit.MILLISECONDS)) {
+					var output = new ByteArrayOutputStream();
+					var consumer = new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()));
+					consumer.consume(createNotification("first"));
+					consumer.consume(createNotification("second"));
+
+					List<String> values = Collections.synchronizedList(new ArrayList<>());
+					var producer = new AsynchronousChannelMessageProducer(serverSideChannel, new MessageJsonHandler(Collections.emptyMap()));
+					CompletableFuture<Void> result = producer.start(message -> values.add(getValue(message)));
+					clientChannel.write(ByteBuffer.wrap(output.toByteArray())).get(TIMEOUT, TimeUnit.MILLISECONDS);
+					clientChannel.shutdownOutput();
+
+					result.get(TIMEOUT, TimeUnit.MILLISECONDS);
+					assertEquals(List.of("first", "second"), values);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testAsynchronousConsumerQueueCapacity() throws Exception {
+		var channel = new ManualChannel(null);
+		var consumer = new AsynchronousChannelMessageConsumer(channel, new MessageJsonHandler(Collections.emptyMap()), 2);
+		assertEquals(2, consumer.getQueueCapacity());
+
+		// The first message is passed to the channel, the next two fill the queue
+		consumer.consume(createNotification("1"));
+		consumer.consume(createNotification("2"));
+		consumer.consume(createNotification("3"));
+		assertTrue(channel.isWriting());
+		assertEquals(2, consumer.getQueueDepth());
+
+		CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> consumer.consume(createNotification("4")));
+		Thread.sleep(100);
+		assertFalse(blocked.isDone());
+
+		channel.completeWrite();
+		blocked.get(TIMEOUT, TimeUnit.MILLISECONDS);
+		while (channel.isWriting()) {
+			channel.completeWrite();
+		}
+
+		var expected = new ByteArrayOutputStream();
+		var streamConsumer = new StreamMessageConsumer(expected, new MessageJsonHandler(Collections.emptyMap()));
+		for (String value : List.of("1", "2", "3", "4")) {
+			streamConsumer.consume(createNotification(value));
+		}
+		assertEquals(expected.toString(StandardCharsets.UTF_8), channel.written.toString(StandardCharsets.UTF_8));
+		assertEquals(0, consumer.getQueueDepth());
+	}
+
+	@Test
+	public void testAsynchronousConsumerFailure() {
+		Logger logger = Logger.getLogger(AsynchronousChannelMessageConsumer.class.getName());
+		Level oldLevel = logger.getLevel();
+		logger.setLevel(Level.OFF);
+		try {
+			var failure = new IOException("write failed");
+			var channel = new ManualChannel(failure);
+			var consumer = new AsynchronousChannelMessageConsumer(channel, new MessageJsonHandler(Collections.emptyMap()));
+			AtomicReference<Throwable> handled = new AtomicReference<>();
+			consumer.setFailureHandler(handled::set);
+
+			consumer.consume(createNotification("foo"));
+			assertSame(failure, handled.get());
+			JsonRpcException exception = assertThrows(JsonRpcException.class, () -> consumer.consume(createNotification("bar")));
+			assertSame(failure, exception.getCause());
+			assertEquals(0, consumer.getQueueDepth());
+		} finally {
+			logger.setLevel(oldLevel);
+		}
+	}
+
+	@Test
+	public void testAsynchronousConsumerClosed() {
+		var channel = new ManualChannel(null);
+		var consumer = new AsynchronousChannelMessageConsumer(channel, new MessageJsonHandler(Collections.emptyMap()));
+		consumer.consume(createNotification("foo"));
+		consumer.close();
+		assertThrows(JsonRpcException.class, () -> consumer.consume(createNotification("bar")));
+
+		// Messages that were accepted before closing are still written
+		channel.completeWrite();
+		assertTrue(channel.written.toString(StandardCharsets.UTF_8).contains("\"foo\""));
+	}
+
+	@Test
+	public void testAsynchronousChannelWriteFailureFailsPendingRequests() throws Exception {
+		Logger logger = Logger.getLogger(AsynchronousChannelMessageConsumer.class.getName());
+		Level oldLevel = logger.getLevel();
+		logger.setLevel(Level.OFF);
+		try {
+			var failure = new IOException("write failed");
+			Launcher<MyServer> launcher = new Launcher.Builder<MyServer>()
+					.setLocalService(new MyClientImpl())
+					.setRemoteInterface(MyServer.class)
+					.setChannel(new ManualChannel(failure))
+					.create();
+			launcher.startListening();
+
+			CompletableFuture<MyParam> result = launcher.getRemoteProxy().askServer(new MyParam("foo"));
+			ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(TIMEOUT, TimeUnit.MILLISECONDS));
+			assertSame(failure, exception.getCause().getCause());
+		} finally {
+			logger.setLevel(oldLevel);
+		}
+	}
+
+	@Test
+	public void testAsynchronousChannelUnsupportedOptions() {
+		var prioritizing = new Launcher.Builder<MyServer>()
+				.setLocalService(new MyClientImpl())
+				.setRemoteInterface(MyServer.class)
+				.setChannel(new ManualChannel(null))
+				.prioritizeOutgoingMessages(10);
+		assertThrows(IllegalStateException.class, prioritizing::create);
+
+		var parallelDecoding = new Launcher.Builder<MyServer>()
+				.setLocalService(new MyClientImpl())
+				.setRemoteInterface(MyServer.class)
+				.setChannel(new ManualChannel(null))
+				.decodeMessagesInParallel(2);
+		assertThrows(IllegalStateException.class, parallelDecoding::create);
+	}
+
+	private void assertRoundTrips(MyServer server, MyClient client) throws Exception {
+		List<CompletableFuture<MyParam>> results = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			results.add(server.askServer(new MyParam("server" + i)));
+			results.add(client.askClient(new MyParam("client" + i)));
+		}
+		for (int i = 0; i < 100; i++) {
+			assertEquals("server" + i, results.get(2 * i).get(TIMEOUT, TimeUnit.MILLISECONDS).getValue());
+			assertEquals("client" + i, results.get(2 * i + 1).get(TIMEOUT, TimeUnit.MILLISECONDS).getValue());
+		}
+		assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+	}
+
+}
@@ -0,0 +1,223 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.json.adapters.CollectionTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.GeneratedTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.JsonElementTypeAdapter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.ReflectionAccessFilter;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+public class GeneratedTypeAdapterTest {
+
+	protected static class Position {
+		int line;
+		int character;
+	}
+
+	protected static class ExtendedPosition extends Position {
+		String label;
+	}
+
+	@JsonAdapter(value = Item.GeneratedAdapterFactory.class, nullSafe = false)
+	protected static class Item {
+		String name;
+		int count;
+		List<String> tags;
+		Position position;
+		@JsonAdapter(JsonElementTypeAdapter.Factory.class)
+		Object data;
+
+		/**
+		 * Written like the type adapters emitted by the generator for {@code @JsonRpcData} classes.
+		 */
+		static class GeneratedAdapter extends GeneratedTypeAdapter<Item> {
+
+			private static final TypeToken<List<String>> TAGS_TYPE_TOKEN = new TypeToken<List<String>>() {};
+
+			private final TypeAdapter<String> nameAdapter;
+			private final TypeAdapter<Integer> countAdapter;
+			private final TypeAdapter<List<String>> tagsAdapter;
+			private final TypeAdapter<Position> positionAdapter;
+			private final TypeAdapter<Object> dataAdapter;
+
+			GeneratedAdapter(Gson gson) {
+				super(gson);
+				nameAdapter = getPropertyAdapter(TypeToken.get(String.class));
+				countAdapter = getPropertyAdapter(TypeToken.get(Integer.class));
+				tagsAdapter = getPropertyAdapter(TAGS_TYPE_TOKEN);
+				positionAdapter = getPropertyAdapter(TypeToken.get(Position.class));
+				dataAdapter = getPropertyAdapter(TypeToken.get(Object.class), JsonElementTypeAdapter.Factory.class, true);
+			}
+
+			@Override
+			protected Item createInstance() {
+				return new Item();
+			}
+
+			@Override
+			protected boolean readProperty(JsonReader in, String name, Item result) throws IOException {
+				switch (name) {
+				case "name":
+					result.name = nameAdapter.read(in);
+					return true;
+				case "count": {
+					final Integer value = countAdapter.read(in);
+					if (value != null)
+						result.count = value;
+					return true;
+				}
+				case "tags":
+					result.tags = tagsAdapter.read(in);
+					return true;
+				case "position":
+					result.position = positionAdapter.read(in);
+					return true;
+				case "data":
+					result.data = dataAdapter.read(in);
+					return true;
+				default:
+					return false;
+				}
+			}
+
+			@Override
+			protected void writeProperties(JsonWriter out, Item value) throws IOException {
+				writeProperty(out, "name", value.name, nameAdapter);
+				writeProperty(out, "count", value.count, countAdapter);
+				writeProperty(out, "tags", value.tags, tagsAdapter);
+				writeProperty(out, "position", value.position, positionAdapter, Position.class);
+				writeProperty(out, "data", value.data, dataAdapter);
+			}
+
+		}
+
+		static class GeneratedAdapterFactory implements TypeAdapterFactory {
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+				if (typeToken.getRawType() != Item.class || !GeneratedTypeAdapter.isEnabled(gson)) {
+					return null;
+				}
+				return (TypeAdapter<T>) new GeneratedAdapter(gson);
+			}
+
+		}
+
+	}
+
+	protected GsonBuilder createGsonBuilder() {
+		GsonBuilder builder = new GsonBuilder().registerTypeAdapterFactory(new CollectionTypeAdapter.Factory());
+		GeneratedTypeAdapter.enableGeneratedTypeAdapters(builder);
+		return builder;
+	}
+
+	protected Gson createGson() {
+		return createGsonBuilder().create();
+	}
+
+	@Test
+	public void testRead() {
+		Item item = createGson().fromJson("{\"name\":\"foo\",\"count\":3,\"unknown\":{\"a\":[1,2]},\"tags\":[\"a\",\"b\"],"
+				+ "\"position\":{\"line\":1,\"character\":2},\"data\":{\"x\":true}}", Item.class);
+		Assert.assertEquals("foo", item.name);
+		Assert.assertEquals(3, item.count);
+		Assert.assertEquals(Arrays.asList("a", "b"), item.tags);
+		Assert.assertEquals(1, item.position.line);
+		Assert.assertEquals(2, item.position.character);
+		Assert.assertEquals(new JsonPrimitive(true), ((JsonElement) item.data).getAsJsonObject().get("x"));
+	}
+
+	@Test
+	public void testReadNull() {
+		Item item = createGson().fromJson("{\"name\":null,\"count\":null,\"position\":null}", Item.class);
+		Assert.assertNull(item.name);
+		Assert.assertEquals(0, item.count);
+		Assert.assertNull(item.position);
+		Assert.assertNull(createGson().fromJson("null", Item.class));
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void testReadInvalid() {
+		createGson().fromJson("{\"name\":\"foo\"]", Item.class);
+	}
+
+	@Test
+	public void testWrite() {
+		Item item = new Item();
+		item.name = "foo";
+		item.count = 3;
+		item.tags = Arrays.asList("a", "b");
+		item.position = new Position();
+		item.position.line = 1;
+		Assert.assertEquals("{\"name\":\"foo\",\"count\":3,\"tags\":[\"a\",\"b\"],\"position\":{\"line\":1,\"character\":0}}",
+				createGson().toJson(item));
+	}
+
+	@Test
+	public void testWriteRuntimeType() {
+		Item item = new Item();
+		ExtendedPosition position = new ExtendedPosition();
+		position.label = "here";
+		item.position = position;
+		Assert.assertEquals("{\"count\":0,\"position\":{\"label\":\"here\",\"line\":0,\"character\":0}}",
+				createGson().toJson(item));
+	}
+
+	@Test
+	public void testWriteSerializeNulls() {
+		Gson gson = createGsonBuilder().serializeNulls().create();
+		Assert.assertEquals("{\"name\":null,\"count\":0,\"tags\":null,\"position\":null,\"data\":null}", gson.toJson(new Item()));
+	}
+
+	@Test
+	public void testDisabled() {
+		Assert.assertTrue(GeneratedTypeAdapter.isEnabled(createGson()));
+		Assert.assertTrue(createGson().getAdapter(Item.class) instanceof GeneratedTypeAdapter);
+
+		Gson gson = new GsonBuilder().registerTypeAdapterFactory(new CollectionTypeAdapter.Factory()).create();
+		Assert.assertFalse(GeneratedTypeAdapter.isEnabled(gson));
+		Assert.assertFalse(gson.getAdapter(Item.class) instanceof GeneratedTypeAdapter);
+
+		gson = createGsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE).create();
+		Assert.assertFalse(GeneratedTypeAdapter.isEnabled(gson));
+		Item item = new Item();
+		item.name = "foo";
+		Assert.assertEquals("{\"Name\":\"foo\",\"Count\":0}", gson.toJson(item));
+	}
+
+	@Test
+	public void testDisabledWithReflectionAccessFilter() {
+		Gson gson = new GsonBuilder().addReflectionAccessFilter(rawClass -> ReflectionAccessFilter.FilterResult.BLOCK_ALL).create();
+		Assert.assertFalse(GeneratedTypeAdapter.isEnabled(gson));
+	}
+
+}
@@ -0,0 +1,126 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.json;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.IntArrayListTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.util.IntArrayList;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.JsonAdapter;
+
+public class IntArrayListTest {
+
+	public static class Tokens {
+		@JsonAdapter(IntArrayListTypeAdapter.class)
+		public List<Integer> data;
+	}
+
+	private final Gson gson = new MessageJsonHandler(Collections.emptyMap()).getGson();
+
+	@Test
+	public void testList() {
+		IntArrayList list = new IntArrayList();
+		for (int i = 0; i < 100; i++) {
+			list.addInt(i);
+		}
+		assertEquals(100, list.size());
+		assertEquals(42, list.getInt(42));
+		assertEquals(Integer.valueOf(42), list.get(42));
+
+		list.add(0, -1);
+		assertEquals(-1, list.getInt(0));
+		assertEquals(99, list.getInt(100));
+		assertEquals(-1, list.removeInt(0));
+		assertEquals(0, list.setInt(0, 7));
+		assertEquals(Integer.valueOf(7), list.set(0, 0));
+
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			expected.add(i);
+		}
+		assertEquals(expected, list);
+		assertEquals(list, expected);
+		assertEquals(expected.hashCode(), list.hashCode());
+		assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), list.toIntArray());
+
+		list.clear();
+		assertTrue(list.isEmpty());
+		try {
+			list.getInt(0);
+			fail("Expected an exception for an index beyond the size.");
+		} catch (IndexOutOfBoundsException exception) {
+		}
+		try {
+			list.add(null);
+			fail("Expected an exception for a null element.");
+		} catch (NullPointerException exception) {
+		}
+	}
+
+	@Test
+	public void testCopiesValues() {
+		int[] values = { 1, 2, 3 };
+		IntArrayList list = IntArrayList.of(values);
+		values[0] = 0;
+		assertEquals(Arrays.asList(1, 2, 3), list);
+		list.addInt(4);
+		assertEquals(Arrays.asList(1, 2, 3, 4), list);
+	}
+
+	@Test
+	public void testCapacityAndValues() {
+		assertTrue(new IntArrayList(5).isEmpty());
+		assertEquals(Arrays.asList(5), IntArrayList.of(5));
+		assertTrue(IntArrayList.of().isEmpty());
+	}
+
+	@Test
+	public void testAdapter() {
+		Tokens tokens = gson.fromJson("{\"data\":[0,5,3,-1,2147483647]}", Tokens.class);
+		assertTrue(tokens.data instanceof IntArrayList);
+		assertEquals(Arrays.asList(0, 5, 3, -1, Integer.MAX_VALUE), tokens.data);
+		assertEquals("{\"data\":[0,5,3,-1,2147483647]}", gson.toJson(tokens));
+
+		assertEquals(Arrays.asList(4), gson.fromJson("{\"data\":4}", Tokens.class).data);
+		assertNull(gson.fromJson("{\"data\":null}", Tokens.class).data);
+		assertEquals(0, gson.fromJson("{\"data\":[]}", Tokens.class).data.size());
+	}
+
+	@Test
+	public void testAdapterWritesAnyList() {
+		Tokens tokens = new Tokens();
+		tokens.data = Arrays.asList(1, null, 3);
+		assertEquals("{\"data\":[1,null,3]}", gson.toJson(tokens));
+	}
+
+	@Test
+	public void testAdapterParseError() {
+		for (String json : Arrays.asList("{\"data\":[1,\"a\"]}", "{\"data\":[1.5]}", "{\"data\":[1,[2]]}")) {
+			try {
+				gson.fromJson(json, Tokens.class);
+				fail("Expected a syntax error for " + json);
+			} catch (JsonSyntaxException exception) {
+			}
+		}
+	}
+
+}
@@ -0,0 +1,144 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.json;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.MessageOutputBuffer;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.junit.Test;
+
+public class MessageConsumerTest {
+
+	private static NotificationMessage createNotification(String value) {
+		final var message = new NotificationMessage();
+		message.setMethod("foo");
+		message.setParams(Map.of("value", value));
+		return message;
+	}
+
+	private static String expectedContent(String value) {
+		return "{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{\"value\":\"" + value + "\"}}";
+	}
+
+	@Test
+	public void testNonAsciiContent() {
+		// Two-byte, three-byte, and four-byte (surrogate pair) UTF-8 sequences
+		String params = "ä€😀";
+		String content = expectedContent(params);
+		var output = new ByteArrayOutputStream();
+		var consumer = new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()));
+		consumer.consume(createNotification(params));
+		consumer.consume(createNotification(params));
+
+		String expected = "Content-Length: " + content.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n" + content;
+		assertEquals(expected + expected, output.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testMalformedSurrogate() {
+		var output = new ByteArrayOutputStream();
+		var consumer = new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()));
+		consumer.consume(createNotification("a\ud83db"));
+
+		String content = expectedContent("a?b");
+		assertEquals("Content-Length: " + content.length() + "\r\n\r\n" + content, output.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testOtherEncoding() {
+		String content = expectedContent("äöü");
+		var output = new ByteArrayOutputStream();
+		var consumer = new StreamMessageConsumer(output, StandardCharsets.UTF_16.name(), new MessageJsonHandler(Collections.emptyMap()));
+		consumer.consume(createNotification("äöü"));
+
+		byte[] contentBytes = content.getBytes(StandardCharsets.UTF_16);
+		var expected = new ByteArrayOutputStream();
+		expected.writeBytes(("Content-Length: " + contentBytes.length + "\r\n"
+				+ "Content-Type: application/json; charset=UTF-16\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+		expected.writeBytes(contentBytes);
+		assertEquals(expected.toString(StandardCharsets.ISO_8859_1), output.toString(StandardCharsets.ISO_8859_1));
+	}
+
+	@Test
+	public void testLargeContent() {
+		String params = "ä".repeat(100_000);
+		var output = new ByteArrayOutputStream();
+		var consumer = new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()));
+		consumer.consume(createNotification(params));
+		consumer.consume(createNotification("small"));
+
+		String content1 = expectedContent(params);
+		String content2 = expectedContent("small");
+		assertEquals("Content-Length: " + content1.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n" + content1
+				+ "Content-Length: " + content2.length() + "\r\n\r\n" + content2,
+				output.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testLargeHeader() {
+		String trace = "x".repeat(300);
+		var output = new ByteArrayOutputStream();
+		var consumer = new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap())) {
+			@Override
+			protected void writeHeader(MessageOutputBuffer buffer, int contentLength) {
+				super.writeHeader(buffer, contentLength);
+				buffer.writeHeader("X-Trace", trace);
+			}
+		};
+		// The second message reuses the buffer whose header space has been enlarged by the first one
+		consumer.consume(createNotification("bar"));
+		consumer.consume(createNotification("baz"));
+
+		String expected = "";
+		for (String value : new String[] { "bar", "baz" }) {
+			String content = expectedContent(value);
+			expected += "Content-Length: " + content.length() + "\r\nX-Trace: " + trace + "\r\n\r\n" + content;
+		}
+		assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testDeprecatedHeader() {
+		var output = new ByteArrayOutputStream();
+		var consumer = new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap())) {
+			@Override
+			protected String getHeader(int contentLength) {
+				return "X-Custom: 1\r\n" + super.getHeader(contentLength);
+			}
+		};
+		consumer.consume(createNotification("bar"));
+		var appendingConsumer = new StreamMessageConsumer(output, "UTF-16", new MessageJsonHandler(Collections.emptyMap())) {
+			@Override
+			protected StringBuilder appendHeader(StringBuilder builder, String name, Object value) {
+				return super.appendHeader(builder, name.toLowerCase(), value);
+			}
+		};
+		appendingConsumer.consume(createNotification("baz"));
+
+		String content = expectedContent("bar");
+		String utf16Content = expectedContent("baz");
+		assertEquals("X-Custom: 1\r\nContent-Length: " + content.length() + "\r\n\r\n" + content
+				+ "content-length: " + utf16Content.getBytes(StandardCharsets.UTF_16).length
+				+ "\r\ncontent-type: application/json; charset=UTF-16\r\n\r\n",
+				output.toString(StandardCharsets.ISO_8859_1).substring(0, output.size() - utf16Content.getBytes(StandardCharsets.UTF_16).length));
+	}
+
+}
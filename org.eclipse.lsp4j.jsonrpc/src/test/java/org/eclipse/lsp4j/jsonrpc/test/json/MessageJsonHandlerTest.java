@@ -22,22 +22,31 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
 import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.messages.BatchMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.messages.LazyParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
 
 public class MessageJsonHandlerTest {
@@ -417,6 +426,47 @@ public class MessageJsonHandlerTest {
 		Assert.assertEquals(null, message.getParams());
 	}
 	
+	@Test
+	public void testParamsParsing_05() {
+		Map<String, JsonRpcMethod> supportedMethods = new LinkedHashMap<>();
+		supportedMethods.put("foo", JsonRpcMethod.request("foo",
+				new TypeToken<Void>() {}.getType(),
+				new TypeToken<Map<String, List<Location>>>() {}.getType()));
+		MessageJsonHandler handler = new MessageJsonHandler(supportedMethods);
+		handler.setMethodProvider(id -> "foo");
+		
+		RequestMessage message = (RequestMessage) handler.parseMessage("{\"jsonrpc\":\"2.0\","
+				+ "\"params\": {\"a\": [{\"uri\": \"dummy://mymodel.mydsl\"}], \"b\": []},\n"
+				+ "\"id\":\"2\",\n"
+				+ "\"method\":\"foo\"\n"
+				+ "}");
+		@SuppressWarnings("unchecked")
+		Map<String, List<Location>> params = (Map<String, List<Location>>) message.getParams();
+		Assert.assertEquals(Set.of("a", "b"), params.keySet());
+		Assert.assertEquals("dummy://mymodel.mydsl", params.get("a").get(0).uri);
+	}
+
+	@Test
+	public void testParamsParsing_06() {
+		Map<String, JsonRpcMethod> supportedMethods = new LinkedHashMap<>();
+		supportedMethods.put("foo", JsonRpcMethod.request("foo",
+				new TypeToken<Void>() {}.getType(),
+				new TypeToken<Map<Integer, List<String>>>() {}.getType()));
+		MessageJsonHandler handler = new MessageJsonHandler(supportedMethods);
+
+		// The params are recorded before the method is known, and replayed with map keys that are read as numbers
+		RequestMessage message = (RequestMessage) handler.parseMessage("{\"jsonrpc\":\"2.0\","
+				+ "\"params\": {\"1\": [\"a\\\"b\\\\c\\n\\u0001\u00e4\"], \"2\": []},\n"
+				+ "\"id\":\"2\",\n"
+				+ "\"method\":\"foo\"\n"
+				+ "}");
+		@SuppressWarnings("unchecked")
+		Map<Integer, List<String>> params = (Map<Integer, List<String>>) message.getParams();
+		Assert.assertEquals(Set.of(1, 2), params.keySet());
+		Assert.assertEquals(List.of("a\"b\\c\n\u0001\u00e4"), params.get(1));
+		Assert.assertEquals(List.of(), params.get(2));
+	}
+	
 	@Test
 	public void testRawMultiParamsParsing_01() {
 		Map<String, JsonRpcMethod> supportedMethods = new LinkedHashMap<>();
@@ -659,6 +709,34 @@ public class MessageJsonHandlerTest {
 		Assert.assertEquals("c", list.get(2).getAsString());
 	}
 
+	@Test
+	public void testReturnTypeAdapterResolvedOnce() {
+		final var createCount = new AtomicInteger();
+		TypeAdapterFactory returnTypeAdapterFactory = new TypeAdapterFactory() {
+			@Override
+			public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+				createCount.incrementAndGet();
+				return gson.getAdapter(type);
+			}
+		};
+		Map<String, JsonRpcMethod> supportedMethods = new LinkedHashMap<>();
+		supportedMethods.put("foo", JsonRpcMethod.request("foo",
+				new TypeToken<Location>() {}.getType(), returnTypeAdapterFactory));
+		MessageJsonHandler handler = new MessageJsonHandler(supportedMethods);
+		handler.setMethodProvider(id -> "foo");
+
+		for (int i = 0; i < 3; i++) {
+			ResponseMessage message = (ResponseMessage) handler.parseMessage("{\"jsonrpc\":\"2.0\","
+					+ "\"id\":\"" + i + "\",\n"
+					+ "\"result\": {\"uri\": \"dummy://mymodel.mydsl\"}\n"
+					+ "}");
+			Assert.assertEquals("dummy://mymodel.mydsl", ((Location) message.getResult()).uri);
+		}
+		Assert.assertEquals(1, createCount.get());
+		Assert.assertSame(handler.getJsonRpcMethodAdapters("foo"), handler.getJsonRpcMethodAdapters("foo"));
+		Assert.assertNull(handler.getJsonRpcMethodAdapters("bar"));
+	}
+
 	public static final <T> void swap(T[] a, int i, int j) {
 		T t = a[i];
 		a[i] = a[j];
@@ -982,6 +1060,129 @@ public class MessageJsonHandlerTest {
 		assertEquals(List.of(List.of(true, false),"param2"), message.getParams());
 		
 	}
+	@Test
+	public void testParseBatch() {
+		MessageJsonHandler handler = createSimpleRequestHandler(String.class, String.class);
+		var batch = "[\n"
+				+ "  {\"jsonrpc\": \"2.0\", \"id\": 1, \"method\": \"testMethod\", \"params\": [\"a\"]},\n"
+				+ "  {\"jsonrpc\": \"2.0\", \"method\": \"testMethod\", \"params\": [\"b\"]},\n"
+				+ "  1,\n"
+				+ "  {\"jsonrpc\": \"2.0\", \"id\": 2, \"method\": \"testMethod\", \"params\": {\"x\": \"c\"}}\n"
+				+ "]";
+		BatchMessage message = (BatchMessage) handler.parseMessage(batch);
+
+		assertEquals(2, message.getMessages().size());
+		RequestMessage request = (RequestMessage) message.getMessages().get(0);
+		assertEquals(Either.forRight(1), request.getRawId());
+		assertEquals("a", request.getParams());
+		NotificationMessage notification = (NotificationMessage) message.getMessages().get(1);
+		assertEquals("b", notification.getParams());
+
+		// The invalid elements are kept as issues
+		assertEquals(2, message.getIssues().size());
+		MessageIssueException noMessage = message.getIssues().get(0);
+		Assert.assertNull(noMessage.getRpcMessage());
+		assertEquals(ResponseErrorCode.InvalidRequest.getValue(), noMessage.getIssues().get(0).getIssueCode());
+		MessageIssueException invalidParams = message.getIssues().get(1);
+		assertEquals("2", ((RequestMessage) invalidParams.getRpcMessage()).getId());
+		assertEquals(ResponseErrorCode.ParseError.getValue(), invalidParams.getIssues().get(0).getIssueCode());
+	}
+
+	@Test
+	public void testParseEmptyBatch() {
+		MessageJsonHandler handler = createSimpleRequestHandler(String.class, String.class);
+		try {
+			handler.parseMessage("[]");
+			Assert.fail("Expected a MessageIssueException");
+		} catch (MessageIssueException exception) {
+			Assert.assertTrue(exception.getRpcMessage() instanceof BatchMessage);
+			assertEquals(ResponseErrorCode.InvalidRequest.getValue(), exception.getIssues().get(0).getIssueCode());
+		}
+	}
+
+	@Test
+	public void testSerializeBatch() {
+		MessageJsonHandler handler = createSimpleRequestHandler(String.class, String.class);
+		var response = new ResponseMessage();
+		response.setId(1);
+		response.setResult("x");
+		var notification = new NotificationMessage();
+		notification.setMethod("testMethod");
+		notification.setParams("y");
+		var batch = new BatchMessage(List.of(response, notification));
+
+		assertEquals("[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"x\"},"
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"testMethod\",\"params\":[\"y\"]}]",
+				handler.serialize(batch));
+	}
+
+	@Test
+	public void testLazyParams() {
+		MessageJsonHandler handler = createSimpleRequestHandler(String.class, Location.class);
+		handler.setDecodeParamsLazily(true);
+		RequestMessage message = (RequestMessage) handler.parseMessage("{\"jsonrpc\":\"2.0\",\"id\":1,"
+				+ "\"params\": {\"uri\": \"file:///a}]\\\"\"} ,\"method\":\"testMethod\"}");
+
+		LazyParams params = (LazyParams) message.rawParams();
+		assertEquals("{\"uri\": \"file:///a}]\\\"\"}", params.json());
+		assertEquals("testMethod", params.method().getMethodName());
+		Assert.assertFalse(params.isDecoded());
+		// Parameters that have not been converted are written as they have been read
+		assertEquals("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"testMethod\",\"params\":{\"uri\": \"file:///a}]\\\"\"}}",
+				handler.serialize(message));
+
+		Location location = (Location) message.getParams();
+		assertEquals("file:///a}]\"", location.uri);
+		Assert.assertTrue(params.isDecoded());
+		Assert.assertSame(location, message.rawParams());
+	}
+
+	@Test
+	public void testLazyParamsParseError() {
+		MessageJsonHandler handler = createSimpleRequestHandler(String.class, String.class);
+		handler.setDecodeParamsLazily(true);
+		RequestMessage message = (RequestMessage) handler.parseMessage("{\"jsonrpc\":\"2.0\",\"id\":1,"
+				+ "\"method\":\"testMethod\",\"params\":{\"x\":1}}");
+		try {
+			message.getParams();
+			Assert.fail("Expected a ResponseErrorException");
+		} catch (ResponseErrorException exception) {
+			assertEquals(ResponseErrorCode.ParseError.getValue(), exception.getResponseError().getCode());
+		}
+	}
+
+	@Test
+	public void testLazyParamsUnwrapPrimitive() {
+		MessageJsonHandler handler = createSimpleRequestHandler(String.class, String.class);
+		handler.setDecodeParamsLazily(true);
+		NotificationMessage message = (NotificationMessage) handler.parseMessage("{\"jsonrpc\":\"2.0\","
+				+ "\"method\":\"testMethod\",\"params\":[\"param\"]}");
+		assertEquals("param", message.getParams());
+
+		// Messages without parameters are parsed as usual
+		message = (NotificationMessage) handler.parseMessage("{\"jsonrpc\":\"2.0\",\"method\":\"testMethod\",\"params\":null}");
+		Assert.assertNull(message.rawParams());
+	}
+
+	@Test
+	public void testLazyParamsShortValues() {
+		MessageJsonHandler eagerHandler = createSimpleRequestHandler(String.class);
+		MessageJsonHandler lazyHandler = createSimpleRequestHandler(String.class);
+		lazyHandler.setDecodeParamsLazily(true);
+		for (String params : List.of("[]", "{}", "1", "\"\"", "[1]", "true")) {
+			for (String json : List.of(
+					"{\"jsonrpc\":\"2.0\",\"id\":1,\"params\":" + params + ",\"method\":\"testMethod\"}",
+					"{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"testMethod\",\"params\":" + params + "}")) {
+				RequestMessage expected = (RequestMessage) eagerHandler.parseMessage(json);
+				RequestMessage message = (RequestMessage) lazyHandler.parseMessage(json);
+				assertEquals("1", message.getId());
+				assertEquals("testMethod", message.getMethod());
+				assertEquals(params, ((LazyParams) message.rawParams()).json());
+				assertEquals(json, expected.getParams(), message.getParams());
+			}
+		}
+	}
+
 	private static MessageJsonHandler createSimpleRequestHandler(Class<?> returnType, Type... paramType) {
 		JsonRpcMethod requestMethod = JsonRpcMethod.request("testMethod", returnType, paramType);
 		MessageJsonHandler handler = new MessageJsonHandler(Map.of(requestMethod.getMethodName(), requestMethod));
@@ -14,13 +14,16 @@ package org.eclipse.lsp4j.jsonrpc.test.json;
 import static org.junit.Assert.assertEquals;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.net.SocketException;
 import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -31,10 +34,14 @@ import java.util.logging.Logger;
 import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
 import org.eclipse.lsp4j.jsonrpc.json.StreamMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.gson.JsonElement;
+
 public class MessageProducerTest {
 
 	private static final long TIMEOUT = 2000;
@@ -157,6 +164,126 @@ public class MessageProducerTest {
 		}).get(TIMEOUT, TimeUnit.MILLISECONDS);
 	}
 
+	@Test
+	public void testMessagesSplitIntoSmallChunks() throws Exception {
+		executorService.submit(() -> {
+			String msg1 = "{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"params\":\"\u00e4\u00f6\u00fc\u20ac\"}";
+			String msg2 = "{\"jsonrpc\":\"2.0\",\"method\":\"pong\",\"params\":null}";
+			byte[] bytes1 = msg1.getBytes(StandardCharsets.UTF_8);
+			byte[] bytes2 = msg2.getBytes(StandardCharsets.UTF_8);
+			var inputBytes = new ByteArrayOutputStream();
+			inputBytes.writeBytes(header(bytes1.length).getBytes(StandardCharsets.US_ASCII));
+			inputBytes.writeBytes(bytes1);
+			inputBytes.writeBytes(header(bytes2.length).getBytes(StandardCharsets.US_ASCII));
+			inputBytes.writeBytes(bytes2);
+
+			// An input stream that never returns more than three bytes per read
+			InputStream input = new ByteArrayInputStream(inputBytes.toByteArray()) {
+				@Override
+				public synchronized int read(byte[] b, int off, int len) {
+					return super.read(b, off, Math.min(len, 3));
+				}
+			};
+			var jsonHandler = new MessageJsonHandler(Collections.emptyMap());
+			try (var producer = new StreamMessageProducer(input, jsonHandler)) {
+				var received = new ArrayList<Message>();
+				producer.listen(received::add);
+				assertEquals(2, received.size());
+				assertEquals("\u00e4\u00f6\u00fc\u20ac", ((JsonElement) ((NotificationMessage) received.get(0)).getParams()).getAsString());
+				assertEquals("pong", ((NotificationMessage) received.get(1)).getMethod());
+			}
+		}).get(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void testMessageLargerThanBuffer() throws Exception {
+		executorService.submit(() -> {
+			String value = "x".repeat(100_000);
+			String msg1 = "{\"jsonrpc\":\"2.0\",\"method\":\"large\",\"params\":\"" + value + "\"}";
+			String msg2 = "{\"jsonrpc\":\"2.0\",\"method\":\"small\",\"params\":null}";
+			String inputStr = header(msg1.length()) + msg1 + header(msg2.length()) + msg2;
+
+			var jsonHandler = new MessageJsonHandler(Collections.emptyMap());
+			try (var producer = new StreamMessageProducer(new ByteArrayInputStream(inputStr.getBytes()), jsonHandler)) {
+				var received = new ArrayList<Message>();
+				producer.listen(received::add);
+				assertEquals(2, received.size());
+				assertEquals(value, ((JsonElement) ((NotificationMessage) received.get(0)).getParams()).getAsString());
+				assertEquals("small", ((NotificationMessage) received.get(1)).getMethod());
+			}
+		}).get(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void testContentTypeCharset() throws Exception {
+		executorService.submit(() -> {
+			String msg = "{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"params\":\"\u00e4\u00f6\u00fc\"}";
+			byte[] bytes = msg.getBytes(StandardCharsets.UTF_16);
+			var inputBytes = new ByteArrayOutputStream();
+			inputBytes.writeBytes(("Content-Length: " + bytes.length + "\r\n"
+					+ "Content-Type: application/json; charset=UTF-16\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+			inputBytes.writeBytes(bytes);
+
+			var jsonHandler = new MessageJsonHandler(Collections.emptyMap());
+			try (var producer = new StreamMessageProducer(new ByteArrayInputStream(inputBytes.toByteArray()), jsonHandler)) {
+				var received = new ArrayList<Message>();
+				producer.listen(received::add);
+				assertEquals(1, received.size());
+				assertEquals("\u00e4\u00f6\u00fc", ((JsonElement) ((NotificationMessage) received.get(0)).getParams()).getAsString());
+			}
+		}).get(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void testContentLengthLargerThanInput() throws Exception {
+		executorService.submit(() -> {
+			// The buffer must not be allocated for the announced content length, but only for the received content
+			String inputStr = header(Integer.MAX_VALUE) + "{\"jsonrpc\":\"2.0\",\"method\":\"ping\"}";
+
+			var jsonHandler = new MessageJsonHandler(Collections.emptyMap());
+			try (var producer = new StreamMessageProducer(new ByteArrayInputStream(inputStr.getBytes()), jsonHandler)) {
+				var received = new ArrayList<Message>();
+				producer.listen(received::add);
+				assertEquals(1, received.size());
+				assertEquals("ping", ((NotificationMessage) received.get(0)).getMethod());
+			}
+		}).get(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testDeprecatedHandleMessage() throws Exception {
+		executorService.submit(() -> {
+			String msg1 = "{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"params\":\"\u00e4\u00f6\u00fc\"}";
+			String msg2 = "{\"jsonrpc\":\"2.0\",\"method\":\"pong\",\"params\":null}";
+			byte[] bytes1 = msg1.getBytes(StandardCharsets.UTF_8);
+			String inputStr = header(bytes1.length) + msg1 + header(msg2.length()) + msg2;
+
+			var contents = new ArrayList<String>();
+			class TestProducer extends StreamMessageProducer {
+				public TestProducer(InputStream input, MessageJsonHandler jsonHandler) {
+					super(input, jsonHandler);
+				}
+
+				@Override
+				protected boolean handleMessage(InputStream input, Headers headers) {
+					try {
+						contents.add(new String(input.readAllBytes(), headers.charset));
+					} catch (IOException exception) {
+						throw new AssertionError(exception);
+					}
+					return true;
+				}
+			}
+
+			var jsonHandler = new MessageJsonHandler(Collections.emptyMap());
+			try (var producer = new TestProducer(new ByteArrayInputStream(inputStr.getBytes(StandardCharsets.UTF_8)), jsonHandler)) {
+				producer.listen(message -> {});
+				assertEquals(List.of(msg1, msg2), contents);
+			}
+		}).get(TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
 	private static String header(int contentLength) {
 		return "Content-Length: " + contentLength + "\r\n\r\n";
 	}
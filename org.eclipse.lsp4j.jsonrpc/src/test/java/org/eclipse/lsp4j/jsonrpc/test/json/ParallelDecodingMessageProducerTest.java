@@ -0,0 +1,208 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.ParallelDecodingMessageProducer;
+import org.eclipse.lsp4j.jsonrpc.json.StreamMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+
+public class ParallelDecodingMessageProducerTest {
+
+	private static final long TIMEOUT = 2000;
+
+	private ExecutorService executorService;
+
+	@Before
+	public void setup() {
+		executorService = Executors.newCachedThreadPool();
+	}
+
+	@After
+	public void teardown() {
+		executorService.shutdown();
+	}
+
+	/**
+	 * A JSON handler that blocks parsing of messages with the method {@code slow} until it is released.
+	 */
+	private static class BlockingJsonHandler extends MessageJsonHandler {
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		BlockingJsonHandler() {
+			super(Collections.emptyMap());
+		}
+
+		@Override
+		public Message parseMessage(Reader input) {
+			Message message = super.parseMessage(input);
+			if ("slow".equals(describe(message))) {
+				try {
+					release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			}
+			return message;
+		}
+
+	}
+
+	private static Map<String, Object> documentParams(String uri, Object value) {
+		Map<String, Object> params = new LinkedHashMap<>();
+		params.put("textDocument", Map.of("uri", uri));
+		params.put("value", value);
+		return params;
+	}
+
+	private static NotificationMessage notification(String method, Object params) {
+		final var message = new NotificationMessage();
+		message.setMethod(method);
+		message.setParams(params);
+		return message;
+	}
+
+	private static byte[] serialize(List<Message> messages) {
+		var output = new ByteArrayOutputStream();
+		var consumer = new StreamMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()));
+		messages.forEach(consumer::consume);
+		return output.toByteArray();
+	}
+
+	private static String describe(Message message) {
+		if (message instanceof RequestMessage)
+			return ((RequestMessage) message).getMethod();
+		return ((NotificationMessage) message).getMethod();
+	}
+
+	@Test
+	public void testCancellationOvertakesSlowMessage() throws Exception {
+		final var request = new RequestMessage();
+		request.setId("1");
+		request.setMethod("foo");
+		request.setParams(documentParams("file:///b", 1));
+		byte[] input = serialize(List.of(
+				notification("slow", documentParams("file:///a", 0)),
+				request,
+				notification(MessageJsonHandler.CANCEL_METHOD.getMethodName(), Map.of("id", "1")),
+				notification("sameDocument", documentParams("file:///a", 2)),
+				notification("initialized", Map.of())));
+
+		var jsonHandler = new BlockingJsonHandler();
+		List<String> received = Collections.synchronizedList(new ArrayList<>());
+		var firstTwo = new CountDownLatch(2);
+		var producer = new ParallelDecodingMessageProducer(new ByteArrayInputStream(input), jsonHandler, 2);
+		Future<?> listening = executorService.submit(() -> producer.listen(message -> {
+			received.add(describe(message));
+			firstTwo.countDown();
+		}));
+
+		// The request and its cancellation do not wait for the slow message
+		assertTrue(firstTwo.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(List.of("foo", "$/cancelRequest"), new ArrayList<>(received));
+		jsonHandler.release.countDown();
+		listening.get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+		// Messages for the same document and messages without a document keep their position
+		assertEquals(List.of("foo", "$/cancelRequest", "slow", "sameDocument", "initialized"), received);
+	}
+
+	@Test
+	public void testLargeDocumentOvertakenByOtherDocument() throws Exception {
+		// The text exceeds the scanned part of the message, and the id of the request follows it
+		String text = "x".repeat(10_000);
+		String input = frame("{\"jsonrpc\":\"2.0\",\"method\":\"slow\",\"params\":{\"textDocument\":"
+					+ "{\"uri\":\"file:///a\",\"languageId\":\"java\",\"version\":1,\"text\":\"" + text + "\"}},\"id\":\"1\"}")
+				+ frame("{\"jsonrpc\":\"2.0\",\"method\":\"$/cancelRequest\",\"params\":{\"id\":\"1\"}}")
+				+ frame("{\"jsonrpc\":\"2.0\",\"method\":\"otherDocument\",\"params\":{\"textDocument\":{\"uri\":\"file:///b\"}}}")
+				+ frame("{\"jsonrpc\":\"2.0\",\"method\":\"sameDocument\",\"params\":{\"textDocument\":{\"uri\":\"file:///a\"}}}");
+
+		var jsonHandler = new BlockingJsonHandler();
+		List<String> received = Collections.synchronizedList(new ArrayList<>());
+		var first = new CountDownLatch(1);
+		var producer = new ParallelDecodingMessageProducer(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), jsonHandler, 2);
+		Future<?> listening = executorService.submit(() -> producer.listen(message -> {
+			received.add(describe(message));
+			first.countDown();
+		}));
+
+		// The message for another document does not wait for the large message
+		assertTrue(first.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(List.of("otherDocument"), new ArrayList<>(received));
+		jsonHandler.release.countDown();
+		listening.get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+		// The cancellation and the message for the same document keep their position
+		assertEquals(List.of("otherDocument", "slow", "$/cancelRequest", "sameDocument"), received);
+	}
+
+	private static String frame(String content) {
+		return "Content-Length: " + content.getBytes(StandardCharsets.UTF_8).length + "\r\n\r\n" + content;
+	}
+
+	@Test
+	public void testSameDocumentOrder() throws Exception {
+		List<Message> messages = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			String uri = "file:///" + (i % 4);
+			// Vary the message size so that parsing takes different amounts of time
+			String value = i % 7 == 0 ? "x".repeat(50_000) + i : String.valueOf(i);
+			messages.add(notification("change", documentParams(uri, value)));
+		}
+		byte[] input = serialize(messages);
+
+		List<String> received = Collections.synchronizedList(new ArrayList<>());
+		var producer = new ParallelDecodingMessageProducer(new ByteArrayInputStream(input), new MessageJsonHandler(Collections.emptyMap()), 4);
+		executorService.submit(() -> producer.listen(message -> {
+			JsonElement params = (JsonElement) ((NotificationMessage) message).getParams();
+			String uri = params.getAsJsonObject().getAsJsonObject("textDocument").get("uri").getAsString();
+			String value = params.getAsJsonObject().get("value").getAsString();
+			received.add(uri + " " + value.substring(value.lastIndexOf('x') + 1));
+		})).get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+		assertEquals(200, received.size());
+		int[] lastIndex = { -1, -1, -1, -1 };
+		for (String entry : received) {
+			int document = Integer.parseInt(entry.substring("file:///".length(), entry.indexOf(' ')));
+			int index = Integer.parseInt(entry.substring(entry.indexOf(' ') + 1));
+			assertTrue("Message " + index + " was passed too early", index > lastIndex[document]);
+			lastIndex[document] = index;
+		}
+	}
+
+}
@@ -0,0 +1,178 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.PriorityMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.json.PriorityMessageConsumer.Priority;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.junit.Test;
+
+public class PriorityMessageConsumerTest {
+
+	private static final long TIMEOUT = 2000;
+
+	private static NotificationMessage createNotification(String method, String value) {
+		final var message = new NotificationMessage();
+		message.setMethod(method);
+		message.setParams(Map.of("value", value));
+		return message;
+	}
+
+	private static RequestMessage createRequest(String value) {
+		final var message = new RequestMessage();
+		message.setId(value);
+		message.setMethod("bar");
+		message.setParams(Map.of("value", value));
+		return message;
+	}
+
+	private static ResponseMessage createResponse(String value) {
+		final var message = new ResponseMessage();
+		message.setId(value);
+		message.setResult(Map.of("value", value));
+		return message;
+	}
+
+	/**
+	 * An output stream that blocks the first write until it is released.
+	 */
+	private static class BlockingOutputStream extends ByteArrayOutputStream {
+
+		final CountDownLatch writeStarted = new CountDownLatch(1);
+		final CountDownLatch unblock = new CountDownLatch(1);
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) {
+			writeStarted.countDown();
+			try {
+				unblock.await(TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			super.write(b, off, len);
+		}
+
+	}
+
+	private static List<String> awaitValues(BlockingOutputStream output, int expectedCount) throws InterruptedException {
+		long start = System.currentTimeMillis();
+		while (true) {
+			List<String> values = new ArrayList<>();
+			synchronized (output) {
+				Matcher matcher = Pattern.compile("\"value\":\"([^\"]*)\"").matcher(output.toString(StandardCharsets.UTF_8));
+				while (matcher.find()) {
+					values.add(matcher.group(1));
+				}
+			}
+			if (values.size() >= expectedCount)
+				return values;
+			if (System.currentTimeMillis() - start > TIMEOUT)
+				fail("Timeout waiting for messages, received: " + values);
+			Thread.sleep(5);
+		}
+	}
+
+	@Test
+	public void testWriteByPriority() throws Exception {
+		var output = new BlockingOutputStream();
+		var consumer = new PriorityMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()), 16, 10);
+		consumer.consume(createNotification("window/logMessage", "first"));
+		// The writer thread is blocked in the first write, so the following messages pile up in the queues
+		assertTrue(output.writeStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		consumer.consume(createNotification("window/logMessage", "log1"));
+		consumer.consume(createRequest("request"));
+		consumer.consume(createNotification("telemetry/event", "log2"));
+		consumer.consume(createNotification("$/cancelRequest", "cancel"));
+		consumer.consume(createResponse("response"));
+		assertEquals(2, consumer.getQueueDepth(Priority.LOW));
+		assertEquals(3, consumer.getQueueDepth(Priority.NORMAL));
+		assertEquals(5, consumer.getQueueDepth());
+
+		output.unblock.countDown();
+		assertEquals(List.of("first", "request", "cancel", "response", "log1", "log2"), awaitValues(output, 6));
+		consumer.close();
+		assertEquals(3, consumer.getWrittenCount(Priority.LOW));
+		assertEquals(3, consumer.getWrittenCount(Priority.NORMAL));
+		assertEquals(0, consumer.getPromotedCount(Priority.LOW));
+	}
+
+	@Test
+	public void testKeepOrderOfDependentMessages() throws Exception {
+		var output = new BlockingOutputStream();
+		var consumer = new PriorityMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()), 16, 10);
+		consumer.consume(createNotification("window/logMessage", "first"));
+		assertTrue(output.writeStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		consumer.consume(createNotification("textDocument/didChange", "change"));
+		consumer.consume(createRequest("completion"));
+		consumer.consume(createNotification("$/cancelRequest", "cancel"));
+		consumer.consume(createNotification("$/progress", "progress"));
+		consumer.consume(createResponse("response"));
+
+		output.unblock.countDown();
+		assertEquals(List.of("first", "change", "completion", "cancel", "progress", "response"), awaitValues(output, 6));
+		consumer.close();
+	}
+
+	@Test
+	public void testLowPriorityMethods() throws Exception {
+		var output = new BlockingOutputStream();
+		var consumer = new PriorityMessageConsumer(output, StandardCharsets.UTF_8.name(),
+				new MessageJsonHandler(Collections.emptyMap()), 16, 10, Set.of("$/progress"));
+		consumer.consume(createResponse("first"));
+		assertTrue(output.writeStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		consumer.consume(createNotification("$/progress", "progress"));
+		consumer.consume(createNotification("window/logMessage", "log"));
+
+		output.unblock.countDown();
+		assertEquals(List.of("first", "log", "progress"), awaitValues(output, 3));
+		consumer.close();
+	}
+
+	@Test
+	public void testStarvationLimit() throws Exception {
+		var output = new BlockingOutputStream();
+		var consumer = new PriorityMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()), 16, 2);
+		consumer.consume(createResponse("first"));
+		assertTrue(output.writeStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		consumer.consume(createNotification("window/logMessage", "log1"));
+		consumer.consume(createNotification("window/logMessage", "log2"));
+		for (int i = 1; i <= 4; i++) {
+			consumer.consume(createResponse("response" + i));
+		}
+
+		output.unblock.countDown();
+		// After two responses in a row the waiting notification gets its turn
+		assertEquals(List.of("first", "response1", "response2", "log1", "response3", "response4", "log2"), awaitValues(output, 7));
+		consumer.close();
+		assertEquals(1, consumer.getPromotedCount(Priority.LOW));
+	}
+
+}
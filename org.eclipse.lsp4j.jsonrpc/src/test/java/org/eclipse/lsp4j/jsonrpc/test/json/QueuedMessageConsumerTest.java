@@ -0,0 +1,229 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.lsp4j.jsonrpc.JsonRpcException;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.QueuedMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.test.LogMessageAccumulator;
+import org.junit.Test;
+
+public class QueuedMessageConsumerTest {
+
+	private static final long TIMEOUT = 2000;
+
+	private static NotificationMessage createNotification(String value) {
+		final var message = new NotificationMessage();
+		message.setMethod("foo");
+		message.setParams(Map.of("value", value));
+		return message;
+	}
+
+	/**
+	 * An output stream that counts write and flush operations and can be blocked on the first write.
+	 */
+	private static class RecordingOutputStream extends ByteArrayOutputStream {
+
+		final CountDownLatch writeStarted = new CountDownLatch(1);
+		final CountDownLatch unblock = new CountDownLatch(1);
+		int writeCount;
+		int flushCount;
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) {
+			writeCount++;
+			writeStarted.countDown();
+			try {
+				unblock.await(TIMEOUT, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			super.write(b, off, len);
+		}
+
+		@Override
+		public synchronized void flush() {
+			flushCount++;
+		}
+
+	}
+
+	private static void awaitEmptyQueue(QueuedMessageConsumer consumer, ByteArrayOutputStream output, int expectedMessages) throws InterruptedException {
+		long start = System.currentTimeMillis();
+		while (countMessages(output) < expectedMessages) {
+			if (System.currentTimeMillis() - start > TIMEOUT)
+				fail("Timeout waiting for messages, queue depth: " + consumer.getQueueDepth());
+			Thread.sleep(5);
+		}
+	}
+
+	private static int countMessages(ByteArrayOutputStream output) {
+		synchronized (output) {
+			Matcher matcher = Pattern.compile("Content-Length: ").matcher(output.toString(StandardCharsets.UTF_8));
+			int count = 0;
+			while (matcher.find()) {
+				count++;
+			}
+			return count;
+		}
+	}
+
+	@Test
+	public void testSingleMessage() throws Exception {
+		var output = new ByteArrayOutputStream();
+		var consumer = new QueuedMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()));
+		consumer.consume(createNotification("bar"));
+		awaitEmptyQueue(consumer, output, 1);
+		consumer.close();
+
+		String content = "{\"jsonrpc\":\"2.0\",\"method\":\"foo\",\"params\":{\"value\":\"bar\"}}";
+		assertEquals("Content-Length: " + content.length() + "\r\n\r\n" + content, output.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testCoalescedWrites() throws Exception {
+		var output = new RecordingOutputStream();
+		var consumer = new QueuedMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()), 16);
+		consumer.consume(createNotification("first"));
+		// The writer thread is blocked in the first write, so the following messages pile up in the queue
+		assertTrue(output.writeStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		for (int i = 0; i < 10; i++) {
+			consumer.consume(createNotification("message " + i));
+		}
+		assertEquals(10, consumer.getQueueDepth());
+		output.unblock.countDown();
+		awaitEmptyQueue(consumer, output, 11);
+		consumer.close();
+
+		assertEquals(0, consumer.getQueueDepth());
+		synchronized (output) {
+			assertEquals(2, output.writeCount);
+			assertEquals(2, output.flushCount);
+		}
+	}
+
+	@Test
+	public void testConcurrentProducers() throws Exception {
+		var output = new ByteArrayOutputStream();
+		// A small queue forces producers to wait for the writer thread
+		var consumer = new QueuedMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()), 4);
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			final int threadIndex = t;
+			threads.add(new Thread(() -> {
+				for (int i = 0; i < 250; i++) {
+					consumer.consume(createNotification(threadIndex + ":" + i));
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join(TIMEOUT);
+		}
+		awaitEmptyQueue(consumer, output, 1000);
+		consumer.close();
+
+		// Every message must arrive exactly once, and messages of each thread must keep their order
+		Matcher matcher = Pattern.compile("Content-Length: (\\d+)\r\n\r\n\\{[^}]*\"value\":\"(\\d+):(\\d+)\"\\}\\}")
+				.matcher(output.toString(StandardCharsets.UTF_8));
+		int[] lastIndex = { -1, -1, -1, -1 };
+		var seen = new HashSet<String>();
+		while (matcher.find()) {
+			int threadIndex = Integer.parseInt(matcher.group(2));
+			int index = Integer.parseInt(matcher.group(3));
+			assertEquals(lastIndex[threadIndex] + 1, index);
+			lastIndex[threadIndex] = index;
+			seen.add(matcher.group(2) + ":" + matcher.group(3));
+		}
+		assertEquals(1000, seen.size());
+	}
+
+	@Test
+	public void testWriteFailure() throws Exception {
+		var failure = new CountDownLatch(1);
+		OutputStream output = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				write(new byte[] { (byte) b }, 0, 1);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				failure.countDown();
+				throw new IOException("Stream closed");
+			}
+		};
+		final var logMessages = new LogMessageAccumulator();
+		try {
+			// Don't show the exception in the test execution log
+			logMessages.registerTo(QueuedMessageConsumer.class);
+
+			var consumer = new QueuedMessageConsumer(output, new MessageJsonHandler(Collections.emptyMap()));
+			var handledFailure = new CompletableFuture<Throwable>();
+			consumer.setFailureHandler(handledFailure::complete);
+			consumer.consume(createNotification("first"));
+			assertTrue(failure.await(TIMEOUT, TimeUnit.MILLISECONDS));
+			assertEquals("Stream closed", handledFailure.get(TIMEOUT, TimeUnit.MILLISECONDS).getMessage());
+
+			long start = System.currentTimeMillis();
+			while (true) {
+				try {
+					consumer.consume(createNotification("second"));
+				} catch (JsonRpcException exception) {
+					assertTrue(JsonRpcException.indicatesStreamClosed(exception));
+					break;
+				}
+				if (System.currentTimeMillis() - start > TIMEOUT)
+					fail("Expected the write failure to be reported.");
+				Thread.sleep(5);
+			}
+
+			logMessages.await(Level.INFO, "Failed to write queued messages.");
+		} finally {
+			logMessages.unregister();
+		}
+	}
+
+	@Test
+	public void testClosed() {
+		var consumer = new QueuedMessageConsumer(new ByteArrayOutputStream(), new MessageJsonHandler(Collections.emptyMap()));
+		consumer.close();
+		try {
+			consumer.consume(createNotification("bar"));
+			fail("Expected an exception after closing the consumer.");
+		} catch (JsonRpcException exception) {
+			assertTrue(JsonRpcException.indicatesStreamClosed(exception));
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test.json;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.StringPoolTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.util.StringPool;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+
+public class StringPoolTest {
+
+	public static class Item {
+		@JsonAdapter(StringPoolTypeAdapter.Factory.class)
+		public String uri;
+		public String name;
+	}
+
+	private static final String JSON = "[{\"uri\":\"file:///a\",\"name\":\"x\"},{\"uri\":\"file:///a\",\"name\":\"x\"},{\"uri\":null,\"name\":\"y\"}]";
+
+	private static List<Item> parse(Gson gson) {
+		return gson.fromJson(JSON, new TypeToken<List<Item>>() {}.getType());
+	}
+
+	@Test
+	public void testPool() {
+		StringPool pool = new StringPool(3);
+		assertEquals(4, pool.capacity());
+		String a = new String("a");
+		assertSame(a, pool.get(a));
+		assertSame(a, pool.get(new String("a")));
+		assertNull(pool.get(null));
+		for (int i = 0; i < 100; i++) {
+			pool.get("s" + i);
+		}
+		// The pool is bounded, so old entries have been replaced
+		String b = new String("a");
+		assertSame(b, pool.get(b));
+	}
+
+	@Test
+	public void testPooledFields() {
+		StringPool pool = new StringPool();
+		Gson gson = new MessageJsonHandler(Collections.emptyMap(),
+				gsonBuilder -> StringPoolTypeAdapter.registerStringPool(gsonBuilder, pool)).getGson();
+		assertSame(pool, StringPoolTypeAdapter.getStringPool(gson));
+
+		List<Item> items = parse(gson);
+		assertEquals("file:///a", items.get(0).uri);
+		assertSame(items.get(0).uri, items.get(1).uri);
+		assertNotSame(items.get(0).name, items.get(1).name);
+		assertNull(items.get(2).uri);
+		assertEquals(JSON.replace("\"uri\":null,", ""), gson.toJson(items));
+	}
+
+	@Test
+	public void testWithoutPool() {
+		Gson gson = new MessageJsonHandler(Collections.emptyMap()).getGson();
+		assertNull(StringPoolTypeAdapter.getStringPool(gson));
+
+		List<Item> items = parse(gson);
+		assertEquals("file:///a", items.get(0).uri);
+		assertNotSame(items.get(0).uri, items.get(1).uri);
+	}
+
+}
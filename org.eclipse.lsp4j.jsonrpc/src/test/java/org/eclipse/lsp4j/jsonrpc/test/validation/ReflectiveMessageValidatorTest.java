@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.lsp4j.jsonrpc.MessageIssueException;
+import org.eclipse.lsp4j.jsonrpc.messages.BatchMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
 import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
 import org.eclipse.lsp4j.jsonrpc.validation.NonNull;
@@ -115,6 +116,29 @@ public class ReflectiveMessageValidatorTest {
 		}
 	}
 	
+	@Test public void testEqualNestedObjectIsNoRecursion() {
+		ReflectiveMessageValidator validator = new ReflectiveMessageValidator();
+		
+		NotificationMessage message = new NotificationMessage();
+		message.setMethod("foo");
+		Foo foo = new Foo();
+		foo.nonNullString = "test";
+		foo.nested = new Foo() {
+			@Override
+			public boolean equals(Object obj) {
+				return obj instanceof Foo;
+			}
+			
+			@Override
+			public int hashCode() {
+				return 0;
+			}
+		};
+		foo.nested.nonNullString = "test";
+		message.setParams(foo);
+		validator.consume(message);
+	}
+	
 	@Test public void testReflectionOnPropertiesOnly() {
 		ReflectiveMessageValidator validator = new ReflectiveMessageValidator();
 		
@@ -162,4 +186,25 @@ public class ReflectiveMessageValidatorTest {
 		}
 	}
 	
+	@Test public void testBatchValidation() {
+		ReflectiveMessageValidator validator = new ReflectiveMessageValidator();
+		
+		RequestMessage valid = new RequestMessage();
+		valid.setId("1");
+		valid.setMethod("foo");
+		RequestMessage invalid = new RequestMessage();
+		invalid.setId("2");
+		try {
+			validator.consume(new BatchMessage(List.of(valid, invalid)));
+			Assert.fail();
+		} catch (MessageIssueException e) {
+			// The valid elements are kept and the invalid ones are reported as issues of the batch
+			BatchMessage batch = (BatchMessage) e.getRpcMessage();
+			Assert.assertEquals(List.of(valid), batch.getMessages());
+			Assert.assertEquals(1, batch.getIssues().size());
+			Assert.assertSame(invalid, batch.getIssues().get(0).getRpcMessage());
+			Assert.assertEquals("The accessor 'RequestMessage.getMethod()' must return a non-null value. Path: $.method", e.getMessage());
+		}
+	}
+	
 }
@@ -0,0 +1,87 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.jsonrpc.test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+import org.eclipse.lsp4j.jsonrpc.Launcher;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.util.VirtualThreads;
+import org.junit.Test;
+
+/**
+ * Tests the Java 21 implementation of {@link VirtualThreads}, these tests run on Java 21 and later.
+ */
+public class VirtualThreadsTest {
+
+	private static final long TIMEOUT = 2000;
+
+	public static interface Server {
+		@JsonRequest
+		CompletableFuture<String> thread();
+	}
+
+	@Test
+	public void testThreadPerTaskExecutor() throws Exception {
+		assertTrue(VirtualThreads.isAvailable());
+		try (final var executor = VirtualThreads.newThreadPerTaskExecutor("Test Thread")) {
+			Thread first = executor.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.MILLISECONDS);
+			Thread second = executor.submit(Thread::currentThread).get(TIMEOUT, TimeUnit.MILLISECONDS);
+			assertTrue(first.isVirtual());
+			assertNotSame(first, second);
+			assertEquals("Test Thread 1", first.getName());
+			assertEquals("Test Thread 2", second.getName());
+		}
+	}
+
+	@Test
+	public void testLauncher() throws Exception {
+		final var handlerThread = new CompletableFuture<Thread>();
+		Server server = () -> {
+			handlerThread.complete(Thread.currentThread());
+			return CompletableFutures.computeAsync(cancelChecker -> {
+				Thread thread = Thread.currentThread();
+				return thread.getName() + (thread.isVirtual() ? " (virtual)" : "");
+			});
+		};
+		String inputMessages = "Content-Length: 48\r\n\r\n"
+				+ "{\"jsonrpc\":\"2.0\",\"id\":\"1\",\"method\":\"thread\"}";
+		final var in = new ByteArrayInputStream(inputMessages.getBytes());
+		final var out = new ByteArrayOutputStream();
+		Launcher<Server> launcher = new Launcher.Builder<Server>()
+				.useVirtualThreads(true)
+				.setLocalService(server)
+				.setRemoteInterface(Server.class)
+				.setInput(in)
+				.setOutput(out)
+				.create();
+		launcher.startListening().get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+		assertTrue(handlerThread.get(TIMEOUT, TimeUnit.MILLISECONDS).isVirtual());
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (!out.toString().contains("\"result\"") && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		assertTrue(out.toString(), out.toString().matches("(?s).*\"result\":\"LSP4J Virtual Thread \\d+ \\(virtual\\)\".*"));
+
+		// computeAsync outside of the request handlers keeps its default executor
+		assertFalse(CompletableFutures.computeAsync(cancelChecker -> Thread.currentThread().isVirtual())
+				.get(TIMEOUT, TimeUnit.MILLISECONDS));
+	}
+
+}
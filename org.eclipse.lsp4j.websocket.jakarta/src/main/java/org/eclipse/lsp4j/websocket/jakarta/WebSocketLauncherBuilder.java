@@ -52,6 +52,7 @@ public class WebSocketLauncherBuilder<T> extends Launcher.Builder<T> {
 			messageTracer.setJsonHandler(jsonHandler);
 		}
 		RemoteEndpoint remoteEndpoint = createRemoteEndpoint(jsonHandler);
+		configureRemoteEndpoint(remoteEndpoint);
 		addMessageHandlers(jsonHandler, remoteEndpoint);
 		T remoteProxy = createProxy(remoteEndpoint);
 		return createLauncher(null, remoteProxy, remoteEndpoint, null);
@@ -61,6 +62,7 @@ public class WebSocketLauncherBuilder<T> extends Launcher.Builder<T> {
 	protected RemoteEndpoint createRemoteEndpoint(MessageJsonHandler jsonHandler) {
 		MessageConsumer outgoingMessageStream = new WebSocketMessageConsumer(session, jsonHandler);
 		outgoingMessageStream = wrapMessageConsumer(outgoingMessageStream);
+		outgoingMessageStream = wrapNotificationCoalescing(outgoingMessageStream);
 		Endpoint localEndpoint = ServiceEndpoints.toEndpoint(localServices);
 		RemoteEndpoint remoteEndpoint;
 		if (exceptionHandler == null)
@@ -30,11 +30,14 @@ import org.eclipse.lsp4j.adapters.VersionedTextDocumentIdentifierTypeAdapter
 import org.eclipse.lsp4j.adapters.WorkspaceDocumentDiagnosticReportListAdapter
 import org.eclipse.lsp4j.adapters.WorkspaceSymbolLocationTypeAdapter
 import org.eclipse.lsp4j.generator.JsonRpcData
+import org.eclipse.lsp4j.jsonrpc.json.adapters.IntArrayListTypeAdapter
 import org.eclipse.lsp4j.jsonrpc.json.adapters.JsonElementTypeAdapter
+import org.eclipse.lsp4j.jsonrpc.json.adapters.StringPoolTypeAdapter
 import org.eclipse.lsp4j.jsonrpc.messages.Either
 import org.eclipse.lsp4j.jsonrpc.messages.Either3
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode
 import org.eclipse.lsp4j.jsonrpc.messages.Tuple
+import org.eclipse.lsp4j.jsonrpc.util.IntArrayList
 import org.eclipse.lsp4j.jsonrpc.util.Preconditions
 import org.eclipse.lsp4j.jsonrpc.validation.NonNull
 import org.eclipse.lsp4j.jsonrpc.ProtocolDeprecated
@@ -3523,6 +3526,7 @@ class Diagnostic {
 	/**
 	 * A human-readable string describing the source of this diagnostic, e.g. 'typescript' or 'super lint'.
 	 */
+	@JsonAdapter(StringPoolTypeAdapter.Factory)
 	String source
 
 	/**
@@ -5273,6 +5277,7 @@ class ServerInfo {
 @JsonRpcData
 class Location {
 	@NonNull
+	@JsonAdapter(StringPoolTypeAdapter.Factory)
 	String uri
 
 	@NonNull
@@ -5305,6 +5310,7 @@ class LocationLink {
 	 * The target resource identifier of this link.
 	 */
 	@NonNull
+	@JsonAdapter(StringPoolTypeAdapter.Factory)
 	String targetUri
 
 	/**
@@ -5531,6 +5537,7 @@ class PublishDiagnosticsParams {
 	 * The URI for which diagnostic information is reported.
 	 */
 	@NonNull
+	@JsonAdapter(StringPoolTypeAdapter.Factory)
 	String uri
 
 	/**
@@ -6356,10 +6363,11 @@ class SemanticTokens {
 	 * The actual tokens.
 	 */
 	@NonNull
+	@JsonAdapter(IntArrayListTypeAdapter)
 	List<Integer> data
 
 	new() {
-		this.data = new ArrayList()
+		this.data = new IntArrayList()
 	}
 
 	new(@NonNull List<Integer> data) {
@@ -6376,6 +6384,7 @@ class SemanticTokens {
 @JsonRpcData
 class SemanticTokensPartialResult {
 	@NonNull
+	@JsonAdapter(IntArrayListTypeAdapter)
 	List<Integer> data
 
 	new() {
@@ -6430,6 +6439,7 @@ class SemanticTokensEdit {
 	/**
 	 * The elements to insert.
 	 */
+	@JsonAdapter(IntArrayListTypeAdapter)
 	List<Integer> data
 
 	new() {
@@ -6927,6 +6937,7 @@ class WorkspaceSymbolLocation {
 	 * The DocumentUri of this symbol.
 	 */
 	@NonNull
+	@JsonAdapter(StringPoolTypeAdapter.Factory)
 	String uri
 
 	new() {
@@ -7048,6 +7059,7 @@ class TextDocumentIdentifier {
 	 * The text document's uri.
 	 */
 	@NonNull
+	@JsonAdapter(StringPoolTypeAdapter.Factory)
 	String uri
 
 	new() {
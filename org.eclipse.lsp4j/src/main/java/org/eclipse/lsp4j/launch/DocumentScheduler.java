@@ -0,0 +1,146 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.launch;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.jsonrpc.MessageScheduler;
+import org.eclipse.lsp4j.jsonrpc.util.SerialExecutor;
+
+/**
+ * A message scheduler that keeps the messages for each text document in order, while messages for different
+ * documents are handled in parallel.
+ * <p>
+ * The document of a message is given by the {@code textDocument.uri} of its parameters, as in
+ * {@code textDocument/didOpen}, {@code textDocument/didChange} or {@code textDocument/hover}. The messages for one
+ * document are passed to the language server one at a time, in the order in which they were received, by
+ * a queue that exists only while it has messages. All queues share one pool of worker threads.
+ * <p>
+ * Messages without a text document are handled in the thread that reads the incoming messages, so they are
+ * not ordered relative to document messages that are still queued.
+ */
+public class DocumentScheduler implements MessageScheduler {
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	/**
+	 * The queue of a document together with the number of its messages that have not been handled yet.
+	 * The count is only accessed while the queue's entry in the map is locked.
+	 */
+	private static class DocumentQueue {
+		final SerialExecutor executor;
+		int pendingCount;
+
+		DocumentQueue(Executor workers) {
+			this.executor = new SerialExecutor(workers);
+		}
+	}
+
+	private final Executor workers;
+	private final Map<String, DocumentQueue> queues = new ConcurrentHashMap<>();
+
+	/**
+	 * Handle document messages in a pool with one worker thread per available processor.
+	 */
+	public DocumentScheduler() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Handle document messages in a pool with the given number of worker threads.
+	 */
+	public DocumentScheduler(int workerCount) {
+		this(createWorkers(workerCount));
+	}
+
+	/**
+	 * Handle document messages in the threads of the given executor.
+	 */
+	public DocumentScheduler(Executor workers) {
+		if (workers == null)
+			throw new NullPointerException("workers");
+		this.workers = workers;
+	}
+
+	private static Executor createWorkers(int workerCount) {
+		if (workerCount <= 0)
+			throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+		final var threadCount = new AtomicInteger();
+		final var pool = new ThreadPoolExecutor(workerCount, workerCount, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "LSP4J Document Worker " + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+
+	@Override
+	public Executor getExecutor(String method, Object parameter) {
+		String uri = getDocumentUri(parameter);
+		if (uri == null)
+			return null;
+		return task -> execute(uri, task);
+	}
+
+	/**
+	 * The number of documents that currently have messages waiting or being handled.
+	 */
+	public int getActiveDocumentCount() {
+		return queues.size();
+	}
+
+	/**
+	 * Determine the document that the parameters of a message refer to.
+	 *
+	 * @return the {@code textDocument.uri} of the parameters, or {@code null} if there is none
+	 */
+	protected String getDocumentUri(Object parameter) {
+		return DocumentUris.get(parameter);
+	}
+
+	private void execute(String uri, Runnable task) {
+		DocumentQueue queue = queues.compute(uri, (key, current) -> {
+			DocumentQueue result = current != null ? current : new DocumentQueue(workers);
+			result.pendingCount++;
+			return result;
+		});
+		try {
+			queue.executor.execute(() -> {
+				try {
+					task.run();
+				} finally {
+					release(uri);
+				}
+			});
+		} catch (RuntimeException e) {
+			release(uri);
+			throw e;
+		}
+	}
+
+	/**
+	 * Remove the queue of a document once all its messages have been handled. A message that arrives later
+	 * gets a new queue, which cannot overtake the previous one since that has no messages left.
+	 */
+	private void release(String uri) {
+		queues.computeIfPresent(uri, (key, queue) -> --queue.pendingCount == 0 ? null : queue);
+	}
+
+}
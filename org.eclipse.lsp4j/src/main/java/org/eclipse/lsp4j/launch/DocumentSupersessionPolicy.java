@@ -0,0 +1,108 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.launch;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.jsonrpc.SupersessionPolicy;
+
+/**
+ * A supersession policy for requests that clients send again whenever a text document is edited, such as
+ * {@code textDocument/completion} or {@code textDocument/inlayHint}.
+ * <p>
+ * A pending request of such a method is cancelled when a newer request of the same method for the same document
+ * is received, or when a {@code textDocument/didChange} notification raises the version of the document.
+ * Language servers that check for cancellation, for example with a {@code CancelChecker}, then stop computing
+ * results that the client will no longer use.
+ */
+public class DocumentSupersessionPolicy implements SupersessionPolicy {
+
+	/**
+	 * The methods whose requests are superseded unless other methods are given to the constructor.
+	 */
+	public static final List<String> DEFAULT_METHODS = List.of(
+			"textDocument/completion",
+			"textDocument/documentHighlight",
+			"textDocument/semanticTokens/full",
+			"textDocument/semanticTokens/full/delta",
+			"textDocument/semanticTokens/range",
+			"textDocument/inlayHint",
+			"textDocument/codeLens");
+
+	private static final String DID_OPEN = "textDocument/didOpen";
+	private static final String DID_CHANGE = "textDocument/didChange";
+	private static final String DID_CLOSE = "textDocument/didClose";
+
+	private final Set<String> methods;
+	private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+
+	public DocumentSupersessionPolicy() {
+		this(DEFAULT_METHODS);
+	}
+
+	/**
+	 * @param methods - the methods whose requests are superseded
+	 */
+	public DocumentSupersessionPolicy(Collection<String> methods) {
+		this.methods = Set.copyOf(methods);
+	}
+
+	@Override
+	public Object getRequestScope(String method, Object parameter) {
+		if (!methods.contains(method))
+			return null;
+		return DocumentUris.get(parameter);
+	}
+
+	@Override
+	public Object getInvalidatedScope(String method, Object parameter) {
+		if (DID_CHANGE.equals(method) && parameter instanceof DidChangeTextDocumentParams) {
+			final var textDocument = ((DidChangeTextDocumentParams) parameter).getTextDocument();
+			if (textDocument == null || textDocument.getUri() == null)
+				return null;
+			return raiseVersion(textDocument.getUri(), textDocument.getVersion()) ? textDocument.getUri() : null;
+		}
+		if (DID_OPEN.equals(method) && parameter instanceof DidOpenTextDocumentParams) {
+			final var textDocument = ((DidOpenTextDocumentParams) parameter).getTextDocument();
+			if (textDocument != null && textDocument.getUri() != null)
+				versions.put(textDocument.getUri(), textDocument.getVersion());
+		} else if (DID_CLOSE.equals(method) && parameter instanceof DidCloseTextDocumentParams) {
+			final var textDocument = ((DidCloseTextDocumentParams) parameter).getTextDocument();
+			if (textDocument != null && textDocument.getUri() != null)
+				versions.remove(textDocument.getUri());
+		}
+		return null;
+	}
+
+	/**
+	 * Record the version of a changed document.
+	 *
+	 * @return whether the version is higher than the last known version, which is also the case if the version
+	 *			or the last known version is unknown
+	 */
+	private boolean raiseVersion(String uri, Integer version) {
+		if (version == null) {
+			versions.remove(uri);
+			return true;
+		}
+		Integer previous = versions.put(uri, version);
+		return previous == null || version > previous;
+	}
+
+}
@@ -0,0 +1,81 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.launch;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Determines the text document that the parameters of a message refer to.
+ */
+final class DocumentUris {
+
+	private static final Logger LOG = Logger.getLogger(DocumentUris.class.getName());
+
+	private static final ClassValue<Method> TEXT_DOCUMENT_GETTERS = new GetterLookup("getTextDocument");
+	private static final ClassValue<Method> URI_GETTERS = new GetterLookup("getUri");
+
+	/**
+	 * Finds a public getter with the given name, or {@code null} if the class has none.
+	 */
+	private static class GetterLookup extends ClassValue<Method> {
+		private final String name;
+
+		GetterLookup(String name) {
+			this.name = name;
+		}
+
+		@Override
+		protected Method computeValue(Class<?> type) {
+			try {
+				Method method = type.getMethod(name);
+				if (Modifier.isStatic(method.getModifiers()) || method.getReturnType() == void.class)
+					return null;
+				method.setAccessible(true);
+				return method;
+			} catch (NoSuchMethodException | RuntimeException e) {
+				return null;
+			}
+		}
+	}
+
+	private DocumentUris() {}
+
+	/**
+	 * @return the {@code textDocument.uri} of the given parameters, or {@code null} if there is none
+	 */
+	static String get(Object parameter) {
+		if (parameter == null)
+			return null;
+		Object textDocument = invokeGetter(TEXT_DOCUMENT_GETTERS, parameter);
+		if (textDocument == null)
+			return null;
+		Object uri = invokeGetter(URI_GETTERS, textDocument);
+		return uri instanceof String ? (String) uri : null;
+	}
+
+	private static Object invokeGetter(ClassValue<Method> getters, Object object) {
+		Method getter = getters.get(object.getClass());
+		if (getter == null)
+			return null;
+		try {
+			return getter.invoke(object);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			LOG.log(Level.FINE, "Failed to call " + getter, e);
+			return null;
+		}
+	}
+
+}
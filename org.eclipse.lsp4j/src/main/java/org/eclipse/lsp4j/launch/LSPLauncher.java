@@ -14,6 +14,7 @@ package org.eclipse.lsp4j.launch;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
@@ -155,6 +156,39 @@ public final class LSPLauncher {
 	 */
 	public static class Builder<T> extends Launcher.Builder<T> {
 		
+		/**
+		 * Pass the messages for each text document to the local service in the order in which they were received,
+		 * while messages for different documents are handled in parallel by the given number of worker threads.
+		 * 
+		 * @see DocumentScheduler
+		 */
+		public Builder<T> scheduleByDocument(int workerCount) {
+			setMessageScheduler(new DocumentScheduler(workerCount));
+			return this;
+		}
+		
+		/**
+		 * Cancel pending requests such as {@code textDocument/completion} when a newer request of the same method
+		 * for the same document is received, or when the document is changed.
+		 * 
+		 * @see DocumentSupersessionPolicy
+		 */
+		public Builder<T> cancelSupersededRequests() {
+			setSupersessionPolicy(new DocumentSupersessionPolicy());
+			return this;
+		}
+		
+		/**
+		 * Hold back {@code textDocument/publishDiagnostics} and {@code $/progress} reports for the given time window,
+		 * so only the latest diagnostics of a document and the latest report of a progress are sent to the client.
+		 * 
+		 * @see ProtocolNotificationKeys
+		 */
+		public Builder<T> coalesceNotifications(Duration window) {
+			coalesceNotifications(window, new ProtocolNotificationKeys());
+			return this;
+		}
+		
 	}
 
 }
@@ -0,0 +1,52 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.launch;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.WorkDoneProgressReport;
+import org.eclipse.lsp4j.jsonrpc.CoalescingMessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+
+/**
+ * The keys by which a {@link CoalescingMessageConsumer} coalesces outgoing notifications of the Language Server
+ * Protocol: {@code textDocument/publishDiagnostics} by the document and {@code $/progress} by the progress token.
+ * <p>
+ * Only progress reports are coalesced, since the begin and end notifications of a progress and partial results
+ * must all reach the client.
+ */
+public class ProtocolNotificationKeys implements Function<NotificationMessage, Object> {
+
+	private static final String PUBLISH_DIAGNOSTICS = "textDocument/publishDiagnostics";
+	private static final String PROGRESS = "$/progress";
+
+	@Override
+	public Object apply(NotificationMessage notification) {
+		String method = notification.getMethod();
+		Object params = notification.getParams();
+		if (PUBLISH_DIAGNOSTICS.equals(method) && params instanceof PublishDiagnosticsParams) {
+			String uri = ((PublishDiagnosticsParams) params).getUri();
+			return uri != null ? List.of(method, uri) : null;
+		}
+		if (PROGRESS.equals(method) && params instanceof ProgressParams) {
+			final var progress = (ProgressParams) params;
+			if (progress.getToken() != null && progress.getValue() != null && progress.getValue().isLeft()
+					&& progress.getValue().getLeft() instanceof WorkDoneProgressReport)
+				return List.of(method, progress.getToken());
+		}
+		return null;
+	}
+
+}
@@ -34,7 +34,9 @@ import org.eclipse.lsp4j.jsonrpc.ProtocolDraft;
 import org.eclipse.lsp4j.jsonrpc.ProtocolSince;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
 
+@RemoteStub
 public interface LanguageClient {
 	/**
 	 * The {@code workspace/applyEdit} request is sent from the server to the client to modify resource on the client side.
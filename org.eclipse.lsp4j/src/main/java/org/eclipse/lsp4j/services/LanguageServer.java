@@ -23,11 +23,13 @@ import org.eclipse.lsp4j.jsonrpc.ProtocolSince;
 import org.eclipse.lsp4j.jsonrpc.services.JsonDelegate;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
 
 /**
  * Interface for implementations of
  * https://github.com/Microsoft/vscode-languageserver-protocol
  */
+@RemoteStub
 public interface LanguageServer {
 	/**
 	 * The initialize request is sent as the first request from the client to
@@ -19,8 +19,10 @@ import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.jsonrpc.ProtocolSince;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
 
 @JsonSegment("notebookDocument")
+@RemoteStub
 public interface NotebookDocumentService {
 	/**
 	 * The open notification is sent from the client to the server when a notebook document
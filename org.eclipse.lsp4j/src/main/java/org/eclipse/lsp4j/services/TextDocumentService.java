@@ -109,8 +109,10 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either3;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
 
 @JsonSegment("textDocument")
+@RemoteStub
 public interface TextDocumentService {
 	/**
 	 * The Completion request is sent from the client to the server to compute
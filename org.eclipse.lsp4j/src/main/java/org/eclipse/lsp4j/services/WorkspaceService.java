@@ -37,8 +37,10 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+import org.eclipse.lsp4j.jsonrpc.services.RemoteStub;
 
 @JsonSegment("workspace")
+@RemoteStub
 public interface WorkspaceService {
 	/**
 	 * The workspace/executeCommand request is sent from the client to the
@@ -0,0 +1,191 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.test.adapters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.CompletionItemLabelDetails;
+import org.eclipse.lsp4j.CompletionItemTag;
+import org.eclipse.lsp4j.CompletionOptions;
+import org.eclipse.lsp4j.CreateFile;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticRelatedInformation;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.DiagnosticTag;
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.eclipse.lsp4j.InlayHint;
+import org.eclipse.lsp4j.InlayHintKind;
+import org.eclipse.lsp4j.InlayHintLabelPart;
+import org.eclipse.lsp4j.InsertReplaceEdit;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.ServerCapabilities;
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.TextDocumentEdit;
+import org.eclipse.lsp4j.TextDocumentSyncKind;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.GeneratedTypeAdapter;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.util.IntArrayList;
+import org.junit.Test;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Compares the type adapters that are generated for protocol classes with the reflective type adapter of Gson.
+ */
+public class GeneratedTypeAdapterTest {
+
+	private final Gson generated = new MessageJsonHandler(Collections.emptyMap(),
+			GeneratedTypeAdapter::enableGeneratedTypeAdapters).getGson();
+
+	private final Gson reflective = new MessageJsonHandler(Collections.emptyMap()).getGson();
+
+	private static Range range(int line) {
+		return new Range(new Position(line, 2), new Position(line, 8));
+	}
+
+	private static JsonObject data() {
+		final var data = new JsonObject();
+		data.addProperty("id", 42);
+		data.addProperty("name", "foo");
+		return data;
+	}
+
+	private <T> void assertRoundTrip(T value) {
+		Class<?> type = value.getClass();
+		String json = reflective.toJson(value);
+		assertEquals(json, generated.toJson(value));
+		Object parsed = generated.fromJson(json, type);
+		assertEquals(reflective.fromJson(json, type), parsed);
+		assertEquals(json, reflective.toJson(parsed));
+	}
+
+	@Test
+	public void testAdaptersAreGenerated() {
+		assertTrue(generated.getAdapter(CompletionItem.class) instanceof GeneratedTypeAdapter);
+		assertTrue(generated.getAdapter(Diagnostic.class) instanceof GeneratedTypeAdapter);
+		assertFalse(reflective.getAdapter(CompletionItem.class) instanceof GeneratedTypeAdapter);
+		assertFalse(reflective.getAdapter(Diagnostic.class) instanceof GeneratedTypeAdapter);
+	}
+
+	@Test
+	public void testCompletionItem() {
+		final var item = new CompletionItem("foo");
+		item.setKind(CompletionItemKind.Method);
+		item.setTags(List.of(CompletionItemTag.Deprecated));
+		item.setDocumentation(new MarkupContent(MarkupKind.MARKDOWN, "*foo*"));
+		item.setLabelDetails(new CompletionItemLabelDetails());
+		item.getLabelDetails().setDetail("(int)");
+		item.setTextEdit(Either.forRight(new InsertReplaceEdit("foo()", range(1), range(2))));
+		item.setAdditionalTextEdits(List.of(new TextEdit(range(3), "import foo;")));
+		item.setCommitCharacters(List.of("(", "."));
+		item.setPreselect(true);
+		item.setData(data());
+		assertRoundTrip(item);
+
+		final var plain = new CompletionItem("bar");
+		plain.setDocumentation("plain text");
+		plain.setTextEdit(Either.forLeft(new TextEdit(range(4), "bar")));
+		assertRoundTrip(plain);
+	}
+
+	@Test
+	public void testDiagnostics() {
+		final var diagnostic = new Diagnostic(range(1), "Unused variable", DiagnosticSeverity.Warning, "java", "unused");
+		diagnostic.setTags(List.of(DiagnosticTag.Unnecessary));
+		diagnostic.setRelatedInformation(List.of(new DiagnosticRelatedInformation(
+				new Location("file:///foo/Bar.java", range(2)), "declared here")));
+		diagnostic.setData(data());
+		final var numbered = new Diagnostic(range(3), "Syntax error");
+		numbered.setCode(1002);
+		assertRoundTrip(new PublishDiagnosticsParams("file:///foo/Foo.java", List.of(diagnostic, numbered), 3));
+	}
+
+	@Test
+	public void testWorkspaceEdit() {
+		final var edit = new WorkspaceEdit();
+		edit.setChanges(Map.of("file:///foo/Foo.java", List.of(new TextEdit(range(1), "foo"))));
+		edit.setDocumentChanges(List.of(
+				Either.forLeft(new TextDocumentEdit(new VersionedTextDocumentIdentifier("file:///foo/Bar.java", 7),
+						List.of(Either.forLeft(new TextEdit(range(2), "bar"))))),
+				Either.forRight(new CreateFile("file:///foo/Baz.java"))));
+		assertRoundTrip(edit);
+	}
+
+	@Test
+	public void testNestedAndPrimitiveValues() {
+		final var symbol = new DocumentSymbol("Foo", SymbolKind.Class, range(1), range(1));
+		final var child = new DocumentSymbol("bar", SymbolKind.Method, range(2), range(2));
+		child.setDeprecated(true);
+		symbol.setChildren(List.of(child));
+		assertRoundTrip(symbol);
+
+		final var hint = new InlayHint(new Position(1, 2), Either.forRight(List.of(new InlayHintLabelPart("int"))));
+		hint.setKind(InlayHintKind.Type);
+		hint.setPaddingLeft(true);
+		assertRoundTrip(hint);
+
+		assertRoundTrip(new SemanticTokens("1", IntArrayList.of(0, 5, 3, 1, 0, 1, 2, 4, 0, 1)));
+	}
+
+	@Test
+	public void testServerCapabilities() {
+		final var capabilities = new ServerCapabilities();
+		capabilities.setTextDocumentSync(TextDocumentSyncKind.Incremental);
+		capabilities.setHoverProvider(true);
+		capabilities.setCompletionProvider(new CompletionOptions(true, List.of(".")));
+		capabilities.setDefinitionProvider(false);
+		capabilities.setExperimental(data());
+		assertRoundTrip(capabilities);
+	}
+
+	@Test
+	public void testUnknownAndNullProperties() {
+		String json = "{\"label\":\"foo\",\"unknown\":{\"a\":[1,2]},\"kind\":null,\"deprecated\":null,\"sortText\":\"a\"}";
+		CompletionItem item = generated.fromJson(json, CompletionItem.class);
+		assertEquals(reflective.fromJson(json, CompletionItem.class), item);
+		assertEquals("{\"label\":\"foo\",\"sortText\":\"a\"}", generated.toJson(item));
+
+		json = "{\"start\":{\"line\":1,\"character\":null},\"end\":{\"line\":2,\"character\":3}}";
+		assertEquals(reflective.fromJson(json, Range.class), generated.fromJson(json, Range.class));
+	}
+
+	@Test
+	public void testFieldNamingPolicy() {
+		Gson gson = new MessageJsonHandler(Collections.emptyMap(), gsonBuilder -> {
+			GeneratedTypeAdapter.enableGeneratedTypeAdapters(gsonBuilder);
+			gsonBuilder.setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE);
+		}).getGson();
+		assertFalse(gson.getAdapter(Position.class) instanceof GeneratedTypeAdapter);
+		assertEquals("{\"Line\":1,\"Character\":2}", gson.toJson(new Position(1, 2)));
+	}
+
+}
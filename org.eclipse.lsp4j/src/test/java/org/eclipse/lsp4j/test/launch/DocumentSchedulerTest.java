@@ -0,0 +1,101 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.test.launch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.DidChangeConfigurationParams;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.HoverParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.launch.DocumentScheduler;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DocumentSchedulerTest {
+
+	private static final long TIMEOUT = 2000;
+
+	private static DidChangeTextDocumentParams didChange(String uri, int version) {
+		return new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(uri, version), new ArrayList<>());
+	}
+
+	@Test
+	public void testMessagesWithoutDocument() {
+		DocumentScheduler scheduler = new DocumentScheduler(1);
+		Assert.assertNull(scheduler.getExecutor("workspace/didChangeConfiguration", new DidChangeConfigurationParams("settings")));
+		Assert.assertNull(scheduler.getExecutor("shutdown", null));
+		Assert.assertNull(scheduler.getExecutor("foo", "bar"));
+		Assert.assertNotNull(scheduler.getExecutor("textDocument/didChange", didChange("file:///a.txt", 1)));
+		Assert.assertNotNull(scheduler.getExecutor("textDocument/hover",
+				new HoverParams(new TextDocumentIdentifier("file:///a.txt"), new Position(0, 0))));
+	}
+
+	@Test
+	public void testOrderPerDocument() throws Exception {
+		DocumentScheduler scheduler = new DocumentScheduler(4);
+		CountDownLatch releaseA = new CountDownLatch(1);
+		CountDownLatch doneB = new CountDownLatch(1);
+		CountDownLatch doneA = new CountDownLatch(20);
+		List<Integer> versionsA = Collections.synchronizedList(new ArrayList<>());
+		List<Integer> expectedA = new ArrayList<>();
+
+		for (int version = 0; version < 20; version++) {
+			DidChangeTextDocumentParams params = didChange("file:///a.txt", version);
+			Executor executor = scheduler.getExecutor("textDocument/didChange", params);
+			expectedA.add(version);
+			executor.execute(() -> {
+				try {
+					releaseA.await(TIMEOUT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				versionsA.add(params.getTextDocument().getVersion());
+				doneA.countDown();
+			});
+		}
+		HoverParams hoverB = new HoverParams(new TextDocumentIdentifier("file:///b.txt"), new Position(1, 1));
+		scheduler.getExecutor("textDocument/hover", hoverB).execute(doneB::countDown);
+
+		// The message for the other document is not held up by the blocked document
+		Assert.assertTrue(doneB.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		Assert.assertTrue(versionsA.isEmpty());
+
+		releaseA.countDown();
+		Assert.assertTrue(doneA.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		Assert.assertEquals(expectedA, versionsA);
+	}
+
+	@Test
+	public void testQueuesAreRemoved() throws Exception {
+		DocumentScheduler scheduler = new DocumentScheduler(2);
+		CountDownLatch done = new CountDownLatch(10);
+		for (int i = 0; i < 10; i++) {
+			scheduler.getExecutor("textDocument/didChange", didChange("file:///" + (i % 3) + ".txt", i)).execute(done::countDown);
+		}
+		Assert.assertTrue(done.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (scheduler.getActiveDocumentCount() > 0) {
+			if (System.currentTimeMillis() > timeout)
+				Assert.fail("Expected all document queues to be removed.");
+			Thread.sleep(10);
+		}
+	}
+
+}
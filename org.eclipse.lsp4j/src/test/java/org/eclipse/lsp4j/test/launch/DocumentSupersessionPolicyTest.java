@@ -0,0 +1,67 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.test.launch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.HoverParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.launch.DocumentSupersessionPolicy;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DocumentSupersessionPolicyTest {
+
+	private static final String URI = "file:///a.txt";
+
+	private static DidChangeTextDocumentParams didChange(Integer version) {
+		return new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(URI, version), new ArrayList<>());
+	}
+
+	@Test
+	public void testRequestScope() {
+		DocumentSupersessionPolicy policy = new DocumentSupersessionPolicy();
+		Assert.assertEquals(URI, policy.getRequestScope("textDocument/completion",
+				new CompletionParams(new TextDocumentIdentifier(URI), new Position(0, 0))));
+		// Hover requests are not superseded by default
+		HoverParams hover = new HoverParams(new TextDocumentIdentifier(URI), new Position(0, 0));
+		Assert.assertNull(policy.getRequestScope("textDocument/hover", hover));
+		Assert.assertEquals(URI, new DocumentSupersessionPolicy(List.of("textDocument/hover")).getRequestScope("textDocument/hover", hover));
+		Assert.assertNull(policy.getRequestScope("textDocument/completion", null));
+	}
+
+	@Test
+	public void testChangeRaisesVersion() {
+		DocumentSupersessionPolicy policy = new DocumentSupersessionPolicy();
+		Assert.assertNull(policy.getInvalidatedScope("textDocument/didOpen",
+				new DidOpenTextDocumentParams(new TextDocumentItem(URI, "plaintext", 3, ""))));
+		Assert.assertNull(policy.getInvalidatedScope("textDocument/didChange", didChange(3)));
+		Assert.assertEquals(URI, policy.getInvalidatedScope("textDocument/didChange", didChange(4)));
+		Assert.assertNull(policy.getInvalidatedScope("textDocument/didChange", didChange(4)));
+		Assert.assertEquals(URI, policy.getInvalidatedScope("textDocument/didChange", didChange(null)));
+
+		// After the document is closed its version is unknown
+		Assert.assertNull(policy.getInvalidatedScope("textDocument/didClose",
+				new DidCloseTextDocumentParams(new TextDocumentIdentifier(URI))));
+		Assert.assertEquals(URI, policy.getInvalidatedScope("textDocument/didChange", didChange(1)));
+		Assert.assertNull(policy.getInvalidatedScope("textDocument/didSave", didChange(2)));
+	}
+
+}
@@ -0,0 +1,61 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.test.launch;
+
+import java.util.ArrayList;
+
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.WorkDoneProgressBegin;
+import org.eclipse.lsp4j.WorkDoneProgressReport;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.launch.ProtocolNotificationKeys;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ProtocolNotificationKeysTest {
+
+	private final ProtocolNotificationKeys keys = new ProtocolNotificationKeys();
+
+	private static NotificationMessage notification(String method, Object params) {
+		NotificationMessage message = new NotificationMessage();
+		message.setMethod(method);
+		message.setParams(params);
+		return message;
+	}
+
+	@Test
+	public void testDiagnosticsByDocument() {
+		Object keyA1 = keys.apply(notification("textDocument/publishDiagnostics", new PublishDiagnosticsParams("file:///a.txt", new ArrayList<>())));
+		Object keyA2 = keys.apply(notification("textDocument/publishDiagnostics", new PublishDiagnosticsParams("file:///a.txt", new ArrayList<>())));
+		Object keyB = keys.apply(notification("textDocument/publishDiagnostics", new PublishDiagnosticsParams("file:///b.txt", new ArrayList<>())));
+		Assert.assertNotNull(keyA1);
+		Assert.assertEquals(keyA1, keyA2);
+		Assert.assertNotEquals(keyA1, keyB);
+		Assert.assertNull(keys.apply(notification("window/logMessage", "file:///a.txt")));
+	}
+
+	@Test
+	public void testProgressReportsByToken() {
+		Object report1 = keys.apply(notification("$/progress", new ProgressParams(Either.forLeft("token"), Either.forLeft(new WorkDoneProgressReport()))));
+		Object report2 = keys.apply(notification("$/progress", new ProgressParams(Either.forLeft("token"), Either.forLeft(new WorkDoneProgressReport()))));
+		Object otherToken = keys.apply(notification("$/progress", new ProgressParams(Either.forRight(1), Either.forLeft(new WorkDoneProgressReport()))));
+		Assert.assertNotNull(report1);
+		Assert.assertEquals(report1, report2);
+		Assert.assertNotEquals(report1, otherToken);
+		// The begin of a progress and partial results are never coalesced
+		Assert.assertNull(keys.apply(notification("$/progress", new ProgressParams(Either.forLeft("token"), Either.forLeft(new WorkDoneProgressBegin())))));
+		Assert.assertNull(keys.apply(notification("$/progress", new ProgressParams(Either.forLeft("token"), Either.forRight(new ArrayList<>())))));
+	}
+
+}
@@ -0,0 +1,99 @@
+/******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ ******************************************************************************/
+package org.eclipse.lsp4j.test.services;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.DidChangeConfigurationParams;
+import org.eclipse.lsp4j.DidOpenNotebookDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.InitializeParams;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.services.EndpointStub;
+import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.eclipse.lsp4j.launch.LSPLauncher;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.junit.Test;
+
+/**
+ * Checks that the {@code RemoteStubProcessor} has generated stubs for the service interfaces, since
+ * {@link ServiceEndpoints} falls back to a proxy without notice if a stub is missing.
+ */
+public class RemoteStubTest {
+
+	private static class RecordingEndpoint implements Endpoint {
+
+		final List<String> methods = new ArrayList<>();
+
+		@Override
+		public CompletableFuture<?> request(String method, Object parameter) {
+			methods.add(method);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		@Override
+		public void notify(String method, Object parameter) {
+			methods.add(method);
+		}
+	}
+
+	@Test
+	public void testLanguageClientStub() {
+		RecordingEndpoint endpoint = new RecordingEndpoint();
+		LanguageClient client = ServiceEndpoints.toServiceObject(endpoint, LanguageClient.class);
+		assertTrue(client instanceof EndpointStub);
+
+		client.logMessage(new MessageParams());
+		assertEquals(Arrays.asList("window/logMessage"), endpoint.methods);
+	}
+
+	@Test
+	public void testLanguageServerStub() {
+		RecordingEndpoint endpoint = new RecordingEndpoint();
+		LanguageServer server = ServiceEndpoints.toServiceObject(endpoint, LanguageServer.class);
+		assertTrue(server instanceof EndpointStub);
+		assertTrue(server.getTextDocumentService() instanceof EndpointStub);
+		assertTrue(server.getWorkspaceService() instanceof EndpointStub);
+		assertTrue(server.getNotebookDocumentService() instanceof EndpointStub);
+		assertSame(server.getTextDocumentService(), server.getTextDocumentService());
+
+		server.initialize(new InitializeParams());
+		server.getTextDocumentService().didOpen(new DidOpenTextDocumentParams());
+		server.getWorkspaceService().didChangeConfiguration(new DidChangeConfigurationParams());
+		server.getNotebookDocumentService().didOpen(new DidOpenNotebookDocumentParams());
+		assertEquals(Arrays.asList(
+				"initialize",
+				"textDocument/didOpen",
+				"workspace/didChangeConfiguration",
+				"notebookDocument/didOpen"), endpoint.methods);
+	}
+
+	@Test
+	public void testLauncherRemoteProxies() {
+		var in = new ByteArrayInputStream(new byte[0]);
+		var out = new ByteArrayOutputStream();
+		assertTrue(LSPLauncher.createServerLauncher(new MockLanguageServer(), in, out).getRemoteProxy() instanceof EndpointStub);
+		assertTrue(LSPLauncher.createClientLauncher(new MockLanguageClient(), in, out).getRemoteProxy() instanceof EndpointStub);
+	}
+
+}